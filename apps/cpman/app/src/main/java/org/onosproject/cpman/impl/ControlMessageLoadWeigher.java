@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.cpman.impl;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.onosproject.cluster.ClusterService;
+import org.onosproject.cluster.ControllerNode;
+import org.onosproject.cluster.NodeId;
+import org.onosproject.cpman.ControlLoadSnapshot;
+import org.onosproject.cpman.ControlMetricType;
+import org.onosproject.cpman.ControlPlaneMonitorService;
+import org.onosproject.mastership.DeviceLoadWeigher;
+import org.onosproject.mastership.MastershipAdminService;
+import org.onosproject.mastership.MastershipService;
+import org.onosproject.net.DeviceId;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.onosproject.cpman.ControlPlaneMonitorService.TIMEOUT_MILLIS;
+import static org.onosproject.cpman.ControlResource.CONTROL_MESSAGE_METRICS;
+
+/**
+ * Weighs devices by the control messages exchanged with them, so that
+ * device masterships can be balanced by control plane load.
+ */
+@Component(immediate = true)
+public class ControlMessageLoadWeigher implements DeviceLoadWeigher {
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    // Weight of a device without any control message traffic
+    private static final double BASE_WEIGHT = 1;
+
+    @Reference(cardinality = ReferenceCardinality.MANDATORY)
+    protected ControlPlaneMonitorService monitorService;
+
+    @Reference(cardinality = ReferenceCardinality.MANDATORY)
+    protected MastershipService mastershipService;
+
+    @Reference(cardinality = ReferenceCardinality.MANDATORY)
+    protected ClusterService clusterService;
+
+    @Reference(cardinality = ReferenceCardinality.MANDATORY)
+    protected MastershipAdminService mastershipAdminService;
+
+    @Activate
+    protected void activate() {
+        mastershipAdminService.setDeviceLoadWeigher(this);
+        log.info("Started");
+    }
+
+    @Deactivate
+    protected void deactivate() {
+        mastershipAdminService.setDeviceLoadWeigher(null);
+        log.info("Stopped");
+    }
+
+    /**
+     * Returns the base weight of the device plus the average rate of all
+     * the control messages exchanged with it, as measured by its master.
+     *
+     * @param deviceId device identifier
+     * @return weight of the device
+     */
+    @Override
+    public double weight(DeviceId deviceId) {
+        return weights(Lists.newArrayList(deviceId)).get(deviceId);
+    }
+
+    /**
+     * Returns the weight of each device. The loads of all the devices are
+     * requested at once from their masters, and the devices whose master is
+     * not active or does not answer in time get the base weight.
+     *
+     * @param deviceIds device identifiers
+     * @return weight of each device
+     */
+    @Override
+    public Map<DeviceId, Double> weights(Collection<DeviceId> deviceIds) {
+        Map<DeviceId, List<CompletableFuture<ControlLoadSnapshot>>> loads = Maps.newHashMap();
+        for (DeviceId deviceId : deviceIds) {
+            List<CompletableFuture<ControlLoadSnapshot>> futures = Lists.newArrayList();
+            NodeId master = mastershipService.getMasterFor(deviceId);
+            ControllerNode.State state = master != null ? clusterService.getState(master) : null;
+            if (state != null && state.isActive()) {
+                for (ControlMetricType type : CONTROL_MESSAGE_METRICS) {
+                    futures.add(monitorService.getLoad(master, type, Optional.of(deviceId)));
+                }
+            }
+            loads.put(deviceId, futures);
+        }
+
+        CompletableFuture<Void> all = CompletableFuture.allOf(loads.values().stream()
+                .flatMap(List::stream)
+                .toArray(CompletableFuture[]::new));
+        try {
+            all.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.debug("Unable to get the load of all devices", e);
+        }
+
+        Map<DeviceId, Double> weights = Maps.newHashMap();
+        loads.forEach((deviceId, futures) -> {
+            double weight = BASE_WEIGHT;
+            for (CompletableFuture<ControlLoadSnapshot> future : futures) {
+                ControlLoadSnapshot snapshot = future.isDone() && !future.isCompletedExceptionally() ?
+                        future.join() : null;
+                if (snapshot != null) {
+                    weight += snapshot.average();
+                }
+            }
+            weights.put(deviceId, weight);
+        });
+        return weights;
+    }
+}
@@ -66,6 +66,20 @@ public class DhcpRelayCounters {
     private Map<String, Integer> countersMap = new ConcurrentHashMap<>();
     public long lastUpdate;
 
+    public DhcpRelayCounters() {
+    }
+
+    /**
+     * Creates a snapshot of counters with the given values.
+     *
+     * @param counters counter values by name
+     * @param lastUpdate time of the last update of the counters
+     */
+    DhcpRelayCounters(Map<String, Integer> counters, long lastUpdate) {
+        this.countersMap.putAll(counters);
+        this.lastUpdate = lastUpdate;
+    }
+
     public void resetCounters() {
         countersMap.forEach((name, value) -> {
             countersMap.put(name, 0);
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.dhcprelay.store;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+
+/**
+ * DHCP relay counters contributed by a single cluster node. The values of
+ * each counter class only grow, and apply to the reset epoch of the class
+ * they are recorded with. The value of a counter is the sum of the values of
+ * the nodes which are at the latest epoch of its class; a node which learns
+ * of a later epoch starts counting the class afresh.
+ */
+final class DhcpRelayNodeCounters {
+
+    // counter class -> counter name -> total since the reset epoch
+    private final Map<String, Map<String, Long>> values;
+    // counter class -> reset epoch
+    private final Map<String, Long> epochs;
+    private final long lastUpdate;
+
+    DhcpRelayNodeCounters(Map<String, Map<String, Long>> values,
+                          Map<String, Long> epochs, long lastUpdate) {
+        this.values = new HashMap<>();
+        values.forEach((counterClass, classValues) -> this.values.put(counterClass, new HashMap<>(classValues)));
+        this.epochs = new HashMap<>(epochs);
+        this.lastUpdate = lastUpdate;
+    }
+
+    Map<String, Map<String, Long>> values() {
+        return values;
+    }
+
+    Map<String, Long> epochs() {
+        return epochs;
+    }
+
+    long epoch(String counterClass) {
+        return epochs.getOrDefault(counterClass, 0L);
+    }
+
+    long lastUpdate() {
+        return lastUpdate;
+    }
+
+    @Override
+    public String toString() {
+        return toStringHelper(this)
+                .add("values", values)
+                .add("epochs", epochs)
+                .add("lastUpdate", lastUpdate)
+                .toString();
+    }
+}
@@ -16,13 +16,12 @@
 package org.onosproject.dhcprelay.store;
 
 import org.onlab.util.KryoNamespace;
-import org.onosproject.core.ApplicationId;
-import org.onosproject.core.CoreService;
+import org.onosproject.cluster.ClusterService;
+import org.onosproject.cluster.NodeId;
 import org.onosproject.store.serializers.KryoNamespaces;
-import org.onosproject.store.service.ConsistentMap;
-import org.onosproject.store.service.Serializer;
+import org.onosproject.store.service.EventuallyConsistentMap;
 import org.onosproject.store.service.StorageService;
-import org.onosproject.store.service.Versioned;
+import org.onosproject.store.service.WallClockTimestamp;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
@@ -31,97 +30,285 @@ import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.onlab.util.Tools.groupedThreads;
 
+/**
+ * DHCP relay counters store keeping node-local counters, which are merged
+ * across the cluster.
+ * <p>
+ * Packets are counted in local striped counters, with no coordination. The
+ * totals of each node are periodically written to its own entry of an
+ * eventually consistent map, and the cluster-wide value of a counter is the
+ * sum of the entries of all nodes. Resetting a counter class starts a new
+ * reset epoch for it: entries recorded at an older epoch no longer count, and
+ * each node starts counting the class afresh once it learns of the new epoch.
+ * Concurrent resets thus cannot drive the counters below zero.
+ * </p>
+ */
 @Component(immediate = true, service = DhcpRelayCountersStore.class)
 public class DistributedDhcpRelayCountersStore implements DhcpRelayCountersStore {
     private static final KryoNamespace.Builder APP_KYRO = KryoNamespace.newBuilder()
             .register(KryoNamespaces.API)
-            .register(DhcpRelayCounters.class);
+            .register(DhcpRelayNodeCounters.class);
+
+    private static final long FLUSH_INTERVAL_MS = 1000;
+
+    // Time given to anti-entropy to bring back the entry this node shared
+    // before it was restarted; three rounds at the default period
+    private static final long SYNC_WAIT_MS = 15_000;
 
     private Logger log = LoggerFactory.getLogger(getClass());
-    private ConsistentMap<String, DhcpRelayCounters> counters;
+    private EventuallyConsistentMap<NodeId, DhcpRelayNodeCounters> counters;
 
     @Reference(cardinality = ReferenceCardinality.MANDATORY)
     protected StorageService storageService;
 
     @Reference(cardinality = ReferenceCardinality.MANDATORY)
-    protected CoreService coreService;
+    protected ClusterService clusterService;
 
+    private NodeId localNodeId;
+    private ScheduledExecutorService flushExecutor;
+
+    // Counters of this node, by counter class
+    private final Map<String, ClassCounters> localCounters = new ConcurrentHashMap<>();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private volatile long lastUpdate;
+
+    // Whether the totals shared before a restart were carried over, after
+    // which this node owns its entry of the map
+    private volatile boolean synced;
+    private long activatedAt;
+    long syncWaitMs = SYNC_WAIT_MS;
 
     @Activate
     protected void activated() {
-        ApplicationId appId = coreService.getAppId("org.onosproject.Dhcp6HandlerImpl");
-        counters = storageService.<String, DhcpRelayCounters>consistentMapBuilder()
-                .withSerializer(Serializer.using(APP_KYRO.build()))
+        localNodeId = clusterService.getLocalNode().id();
+        counters = storageService.<NodeId, DhcpRelayNodeCounters>eventuallyConsistentMapBuilder()
                 .withName("Dhcp-Relay-Counters")
-                .withApplicationId(appId)
-                .withPurgeOnUninstall()
+                .withSerializer(APP_KYRO)
+                .withTimestampProvider((nodeId, nodeCounters) -> new WallClockTimestamp())
                 .build();
+        activatedAt = System.currentTimeMillis();
+
+        flushExecutor = newSingleThreadScheduledExecutor(
+                groupedThreads("onos/dhcprelay", "counters-flush", log));
+        flushExecutor.scheduleWithFixedDelay(this::flush, FLUSH_INTERVAL_MS,
+                                             FLUSH_INTERVAL_MS, MILLISECONDS);
     }
 
     @Deactivate
     protected void deactivated() {
+        flushExecutor.shutdownNow();
+        flush();
         counters.destroy().join();
     }
+
     @Override
     public void incrementCounter(String coutnerClass, String counterName) {
-        DhcpRelayCounters countersRecord;
-
-        Versioned<DhcpRelayCounters> vCounters = counters.get(coutnerClass);
-        if (vCounters == null) {
-            countersRecord = new DhcpRelayCounters();
-        } else {
-            countersRecord = vCounters.value();
+        if (!DhcpRelayCounters.SUPPORTED_COUNTERS.contains(counterName)) {
+            return;
         }
-        countersRecord.incrementCounter(counterName);
-        counters.put(coutnerClass, countersRecord);
+        localCounters.computeIfAbsent(coutnerClass, k -> new ClassCounters(0))
+                .adder(counterName).increment();
+        lastUpdate = System.currentTimeMillis();
+        dirty.set(true);
     }
 
     @Override
     public Set<Map.Entry<String, DhcpRelayCounters>> getAllCounters() {
-        final Set<Map.Entry<String, DhcpRelayCounters>> result =
-                new HashSet<Map.Entry<String, DhcpRelayCounters>>();
-        Set<Map.Entry<String, Versioned<DhcpRelayCounters>>> tmpCounters = counters.entrySet();
-        tmpCounters.forEach(entry -> {
-            String key = entry.getKey();
-            DhcpRelayCounters value = entry.getValue().value();
-            ConcurrentHashMap<String, DhcpRelayCounters> newMap = new ConcurrentHashMap();
-            newMap.put(key, value);
-
-            for (Map.Entry m: newMap.entrySet()) {
-                result.add(m);
-            }
-        });
-        return  result;
+        final Set<Map.Entry<String, DhcpRelayCounters>> result = new HashSet<>();
+        Map<String, Map<String, Long>> merged = new HashMap<>();
+        long updated = merge(merged);
+        merged.forEach((counterClass, values) -> result.add(
+                new AbstractMap.SimpleImmutableEntry<>(counterClass, toCounters(values, updated))));
+        return result;
     }
+
     @Override
     public Optional<DhcpRelayCounters> getCounters(String counterClass) {
-        DhcpRelayCounters countersRecord;
         checkNotNull(counterClass, "counter class can't be null");
-        Versioned<DhcpRelayCounters> vCounters = counters.get(counterClass);
-        if (vCounters == null) {
+        Map<String, Map<String, Long>> merged = new HashMap<>();
+        long updated = merge(merged);
+        Map<String, Long> values = merged.get(counterClass);
+        if (values == null) {
             return Optional.empty();
         }
-        return Optional.of(vCounters.value());
+        return Optional.of(toCounters(values, updated));
     }
+
     @Override
     public void resetAllCounters() {
-        counters.clear();
+        Map<String, Map<String, Long>> merged = new HashMap<>();
+        merge(merged);
+        merged.keySet().forEach(this::resetCounters);
     }
 
     @Override
     public void resetCounters(String counterClass) {
         checkNotNull(counterClass, "counter class can't be null");
-        DhcpRelayCounters countersRecord = counters.get(counterClass).value();
-        countersRecord.resetCounters();
-        counters.put(counterClass, countersRecord);
+        long epoch = Math.max(remoteEpoch(counterClass), localEpoch(counterClass)) + 1;
+        startEpoch(counterClass, epoch);
+        lastUpdate = System.currentTimeMillis();
+        dirty.set(true);
+        flushExecutor.execute(this::flush);
+    }
+
+    /**
+     * Shares the totals of this node with the rest of the cluster, if they
+     * changed since they were last shared. Until the entry this node shared
+     * before a restart is carried over, or the wait for it is over, nothing
+     * is shared so as not to overwrite it.
+     */
+    void flush() {
+        if (!synced && !sync()) {
+            return;
+        }
+        observeResets();
+        if (dirty.getAndSet(false)) {
+            Map<String, Map<String, Long>> values = new HashMap<>();
+            Map<String, Long> epochs = new HashMap<>();
+            localCounters.forEach((counterClass, classCounters) -> {
+                values.put(counterClass, classCounters.snapshot());
+                epochs.put(counterClass, classCounters.epoch);
+            });
+            counters.put(localNodeId, new DhcpRelayNodeCounters(values, epochs, lastUpdate));
+        }
+    }
+
+    // Carries over the totals this node shared before a restart, once they
+    // are received, and returns whether this node may share its own.
+    private boolean sync() {
+        DhcpRelayNodeCounters previous = counters.get(localNodeId);
+        if (previous != null) {
+            previous.values().forEach((counterClass, values) -> {
+                ClassCounters classCounters = startEpoch(counterClass, previous.epoch(counterClass));
+                if (classCounters.epoch == previous.epoch(counterClass)) {
+                    values.forEach((name, value) -> classCounters.adder(name).add(value));
+                }
+            });
+            previous.epochs().forEach(this::startEpoch);
+            lastUpdate = Math.max(lastUpdate, previous.lastUpdate());
+            dirty.set(true);
+        } else if (System.currentTimeMillis() - activatedAt < syncWaitMs) {
+            return false;
+        }
+        synced = true;
+        return true;
+    }
+
+    // Starts counting afresh the classes reset by other nodes
+    private void observeResets() {
+        remoteEntries().forEach(nodeCounters -> nodeCounters.epochs().forEach((counterClass, epoch) -> {
+            if (epoch > localEpoch(counterClass)) {
+                startEpoch(counterClass, epoch);
+                dirty.set(true);
+            }
+        }));
+    }
+
+    // Moves the given class to the given epoch, unless it is already at a
+    // later one, and returns its counters.
+    private ClassCounters startEpoch(String counterClass, long epoch) {
+        return localCounters.compute(counterClass, (k, classCounters) ->
+                classCounters == null || classCounters.epoch < epoch ? new ClassCounters(epoch) : classCounters);
     }
 
+    private long localEpoch(String counterClass) {
+        ClassCounters classCounters = localCounters.get(counterClass);
+        return classCounters != null ? classCounters.epoch : 0;
+    }
+
+    private long remoteEpoch(String counterClass) {
+        return remoteEntries().stream()
+                .mapToLong(nodeCounters -> nodeCounters.epoch(counterClass))
+                .max().orElse(0);
+    }
+
+    // Entries shared by other nodes, along with the one this node shared
+    // before a restart as long as it was not carried over.
+    private List<DhcpRelayNodeCounters> remoteEntries() {
+        List<DhcpRelayNodeCounters> entries = new ArrayList<>();
+        counters.entrySet().forEach(entry -> {
+            if (!synced || !entry.getKey().equals(localNodeId)) {
+                entries.add(entry.getValue());
+            }
+        });
+        return entries;
+    }
+
+    // Merges the counters of all nodes into the given map, using the local
+    // counters for this node, and returns the time of the last update. Only
+    // the values recorded at the latest epoch of each class count.
+    private long merge(Map<String, Map<String, Long>> merged) {
+        List<DhcpRelayNodeCounters> entries = remoteEntries();
+        Map<String, Map<String, Long>> localValues = new HashMap<>();
+        Map<String, Long> localEpochs = new HashMap<>();
+        localCounters.forEach((counterClass, classCounters) -> {
+            localValues.put(counterClass, classCounters.snapshot());
+            localEpochs.put(counterClass, classCounters.epoch);
+        });
+        entries.add(new DhcpRelayNodeCounters(localValues, localEpochs, lastUpdate));
+
+        Map<String, Long> latest = new HashMap<>();
+        long updated = lastUpdate;
+        for (DhcpRelayNodeCounters nodeCounters : entries) {
+            nodeCounters.epochs().forEach((counterClass, epoch) -> latest.merge(counterClass, epoch, Math::max));
+            nodeCounters.values().keySet().forEach(counterClass -> latest.putIfAbsent(counterClass, 0L));
+            updated = Math.max(updated, nodeCounters.lastUpdate());
+        }
+        latest.keySet().forEach(counterClass -> merged.put(counterClass, new HashMap<>()));
+        for (DhcpRelayNodeCounters nodeCounters : entries) {
+            nodeCounters.values().forEach((counterClass, values) -> {
+                if (nodeCounters.epoch(counterClass) == latest.get(counterClass)) {
+                    Map<String, Long> mergedValues = merged.get(counterClass);
+                    values.forEach((name, value) -> mergedValues.merge(name, value, Long::sum));
+                }
+            });
+        }
+        return updated;
+    }
+
+    private static DhcpRelayCounters toCounters(Map<String, Long> values, long lastUpdate) {
+        Map<String, Integer> counters = new HashMap<>();
+        values.forEach((name, value) -> counters.put(name, value.intValue()));
+        return new DhcpRelayCounters(counters, lastUpdate);
+    }
+
+    /**
+     * Counters of a class on this node, since the given reset epoch.
+     */
+    private static final class ClassCounters {
+        private final long epoch;
+        private final Map<String, LongAdder> values = new ConcurrentHashMap<>();
+
+        private ClassCounters(long epoch) {
+            this.epoch = epoch;
+        }
+
+        private LongAdder adder(String counterName) {
+            return values.computeIfAbsent(counterName, k -> new LongAdder());
+        }
+
+        private Map<String, Long> snapshot() {
+            Map<String, Long> snapshot = new HashMap<>();
+            values.forEach((name, adder) -> snapshot.put(name, adder.sum()));
+            return snapshot;
+        }
+    }
 }
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.dhcprelay.store;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.onlab.junit.TestUtils;
+import org.onosproject.cluster.ClusterServiceAdapter;
+import org.onosproject.cluster.NodeId;
+import org.onosproject.store.service.EventuallyConsistentMap;
+import org.onosproject.store.service.TestStorageService;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.onosproject.dhcprelay.store.DhcpRelayCounters.REQUEST;
+import static org.onosproject.dhcprelay.store.DhcpRelayCounters.SOLICIT;
+
+public class DistributedDhcpRelayCountersStoreTest {
+    private static final String GLOBAL = "global";
+    private static final NodeId LOCAL = new NodeId("local");
+    private static final NodeId REMOTE = new NodeId("remote");
+
+    private DistributedDhcpRelayCountersStore store;
+    private EventuallyConsistentMap<NodeId, DhcpRelayNodeCounters> counters;
+
+    @Before
+    public void setup() {
+        store = new DistributedDhcpRelayCountersStore();
+        store.storageService = new TestStorageService();
+        store.clusterService = new ClusterServiceAdapter();
+        store.syncWaitMs = 0;
+        store.activated();
+        counters = TestUtils.getField(store, "counters");
+    }
+
+    @After
+    public void tearDown() {
+        store.deactivated();
+    }
+
+    private int counter(String counterClass, String name) {
+        return store.getCounters(counterClass).get().getCounters().getOrDefault(name, 0);
+    }
+
+    /**
+     * Counts packets locally and merges the counters shared by other nodes.
+     */
+    @Test
+    public void testIncrementAndMerge() {
+        store.incrementCounter(GLOBAL, SOLICIT);
+        store.incrementCounter(GLOBAL, SOLICIT);
+        store.incrementCounter(GLOBAL, "unsupported");
+        assertEquals(2, counter(GLOBAL, SOLICIT));
+        assertFalse(store.getCounters("direct").isPresent());
+
+        counters.put(REMOTE, new DhcpRelayNodeCounters(
+                ImmutableMap.of(GLOBAL, ImmutableMap.of(SOLICIT, 3L, REQUEST, 1L)),
+                ImmutableMap.of(), 0));
+        assertEquals(5, counter(GLOBAL, SOLICIT));
+        assertEquals(1, counter(GLOBAL, REQUEST));
+        assertFalse(store.getCounters(GLOBAL).get().getCounters().containsKey("unsupported"));
+        assertEquals(1, store.getAllCounters().size());
+
+        store.flush();
+        DhcpRelayNodeCounters local = counters.get(LOCAL);
+        assertEquals(Long.valueOf(2), local.values().get(GLOBAL).get(SOLICIT));
+    }
+
+    /**
+     * Resets the counters of all nodes by starting a new epoch.
+     */
+    @Test
+    public void testReset() {
+        store.incrementCounter(GLOBAL, SOLICIT);
+        counters.put(REMOTE, new DhcpRelayNodeCounters(
+                ImmutableMap.of(GLOBAL, ImmutableMap.of(SOLICIT, 3L)), ImmutableMap.of(), 0));
+
+        store.resetCounters(GLOBAL);
+        assertEquals(0, counter(GLOBAL, SOLICIT));
+        store.incrementCounter(GLOBAL, SOLICIT);
+        assertEquals(1, counter(GLOBAL, SOLICIT));
+
+        store.resetAllCounters();
+        Map<String, Integer> values = store.getCounters(GLOBAL).get().getCounters();
+        assertTrue(values.values().stream().allMatch(value -> value == 0));
+    }
+
+    /**
+     * Resets made concurrently by several nodes do not drive the counters
+     * below zero, and a node starts counting afresh once it learns of a reset.
+     */
+    @Test
+    public void testConcurrentResets() {
+        store.incrementCounter(GLOBAL, SOLICIT);
+        store.resetCounters(GLOBAL);
+
+        // The remote node reset to the same epoch and counted since
+        counters.put(REMOTE, new DhcpRelayNodeCounters(
+                ImmutableMap.of(GLOBAL, ImmutableMap.of(SOLICIT, 3L)), ImmutableMap.of(GLOBAL, 1L), 0));
+        assertEquals(3, counter(GLOBAL, SOLICIT));
+
+        // A later reset from the remote node supersedes the local counts
+        store.incrementCounter(GLOBAL, SOLICIT);
+        assertEquals(4, counter(GLOBAL, SOLICIT));
+        counters.put(REMOTE, new DhcpRelayNodeCounters(
+                ImmutableMap.of(GLOBAL, ImmutableMap.of(SOLICIT, 1L)), ImmutableMap.of(GLOBAL, 2L), 0));
+        assertEquals(1, counter(GLOBAL, SOLICIT));
+        store.flush();
+        DhcpRelayNodeCounters local = counters.get(LOCAL);
+        assertEquals(2L, local.epoch(GLOBAL));
+        assertTrue(local.values().get(GLOBAL).isEmpty());
+    }
+
+    /**
+     * Carries over the totals shared before a restart once they are received,
+     * without overwriting them meanwhile.
+     */
+    @Test
+    public void testSyncBeforeSharing() {
+        store.deactivated();
+        store = new DistributedDhcpRelayCountersStore();
+        store.storageService = new TestStorageService();
+        store.clusterService = new ClusterServiceAdapter();
+        store.syncWaitMs = TimeUnit.MINUTES.toMillis(1);
+        store.activated();
+        counters = TestUtils.getField(store, "counters");
+
+        store.incrementCounter(GLOBAL, SOLICIT);
+        store.flush();
+        assertNull(counters.get(LOCAL));
+
+        // The entry shared before the restart is received
+        counters.put(LOCAL, new DhcpRelayNodeCounters(
+                ImmutableMap.of(GLOBAL, ImmutableMap.of(SOLICIT, 4L)), ImmutableMap.of(), 0));
+        assertEquals(5, counter(GLOBAL, SOLICIT));
+        store.flush();
+        assertEquals(Long.valueOf(5), counters.get(LOCAL).values().get(GLOBAL).get(SOLICIT));
+        assertEquals(5, counter(GLOBAL, SOLICIT));
+    }
+}
@@ -0,0 +1,316 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.k8snetworking.impl;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import com.google.common.collect.SetMultimap;
+import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.api.model.Namespace;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.networking.v1.NetworkPolicy;
+import io.fabric8.kubernetes.api.model.networking.v1.NetworkPolicyPeer;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Inverted index from labels to the kubernetes pods, namespaces and network
+ * policies which carry or select them. It answers the label selector queries
+ * of the network policy handler without walking over every pod and namespace,
+ * and finds the policies which have to be recomputed when a pod changes.
+ * <p>
+ * Selectors keep the semantics of the network policy handler: a selector with
+ * match labels selects the objects carrying any of its labels.
+ * </p>
+ */
+class K8sLabelIndex {
+
+    private final Map<String, Pod> pods = Maps.newHashMap();
+    private final SetMultimap<String, String> podsByNamespace = HashMultimap.create();
+    private final SetMultimap<Label, String> podsByLabel = HashMultimap.create();
+
+    private final Map<String, Namespace> namespaces = Maps.newHashMap();
+    private final SetMultimap<Label, String> namespacesByLabel = HashMultimap.create();
+
+    private final Map<String, NetworkPolicy> policies = Maps.newHashMap();
+    // policies by the pods they apply to
+    private final SetMultimap<String, String> policiesSelectingAll = HashMultimap.create();
+    private final SetMultimap<Label, String> policiesByLabel = HashMultimap.create();
+    // policies by the pods of their ingress and egress peers
+    private final SetMultimap<String, String> peersSelectingAll = HashMultimap.create();
+    private final SetMultimap<Label, String> peersByLabel = HashMultimap.create();
+
+    /**
+     * Adds or updates a pod.
+     *
+     * @param pod kubernetes pod
+     */
+    synchronized void updatePod(Pod pod) {
+        removePod(pod);
+        String key = key(pod.getMetadata().getNamespace(), pod.getMetadata().getName());
+        pods.put(key, pod);
+        podsByNamespace.put(pod.getMetadata().getNamespace(), key);
+        forEachLabel(pod.getMetadata().getNamespace(), pod.getMetadata().getLabels(),
+                     label -> podsByLabel.put(label, key));
+    }
+
+    /**
+     * Removes a pod.
+     *
+     * @param pod kubernetes pod
+     */
+    synchronized void removePod(Pod pod) {
+        String key = key(pod.getMetadata().getNamespace(), pod.getMetadata().getName());
+        Pod old = pods.remove(key);
+        if (old != null) {
+            podsByNamespace.remove(old.getMetadata().getNamespace(), key);
+            forEachLabel(old.getMetadata().getNamespace(), old.getMetadata().getLabels(),
+                         label -> podsByLabel.remove(label, key));
+        }
+    }
+
+    /**
+     * Adds or updates a namespace.
+     *
+     * @param namespace kubernetes namespace
+     */
+    synchronized void updateNamespace(Namespace namespace) {
+        removeNamespace(namespace);
+        String name = namespace.getMetadata().getName();
+        namespaces.put(name, namespace);
+        forEachLabel(null, namespace.getMetadata().getLabels(),
+                     label -> namespacesByLabel.put(label, name));
+    }
+
+    /**
+     * Removes a namespace.
+     *
+     * @param namespace kubernetes namespace
+     */
+    synchronized void removeNamespace(Namespace namespace) {
+        String name = namespace.getMetadata().getName();
+        Namespace old = namespaces.remove(name);
+        if (old != null) {
+            forEachLabel(null, old.getMetadata().getLabels(),
+                         label -> namespacesByLabel.remove(label, name));
+        }
+    }
+
+    /**
+     * Adds or updates a network policy.
+     *
+     * @param policy kubernetes network policy
+     */
+    synchronized void updatePolicy(NetworkPolicy policy) {
+        removePolicy(policy);
+        String namespace = policy.getMetadata().getNamespace();
+        String key = key(namespace, policy.getMetadata().getName());
+        policies.put(key, policy);
+
+        Map<String, String> labels = policy.getSpec().getPodSelector() == null ? null :
+                policy.getSpec().getPodSelector().getMatchLabels();
+        if (labels == null) {
+            policiesSelectingAll.put(namespace, key);
+        } else {
+            forEachLabel(namespace, labels, label -> policiesByLabel.put(label, key));
+        }
+
+        forEachPeerSelector(policy, selector -> {
+            if (selectsAll(selector)) {
+                peersSelectingAll.put(namespace, key);
+            } else {
+                forEachLabel(namespace, selector.getMatchLabels(),
+                             label -> peersByLabel.put(label, key));
+            }
+        });
+    }
+
+    /**
+     * Removes a network policy.
+     *
+     * @param policy kubernetes network policy
+     */
+    synchronized void removePolicy(NetworkPolicy policy) {
+        String key = key(policy.getMetadata().getNamespace(), policy.getMetadata().getName());
+        if (policies.remove(key) != null) {
+            policiesSelectingAll.values().removeIf(key::equals);
+            policiesByLabel.values().removeIf(key::equals);
+            peersSelectingAll.values().removeIf(key::equals);
+            peersByLabel.values().removeIf(key::equals);
+        }
+    }
+
+    /**
+     * Returns the pods of the given namespace.
+     *
+     * @param namespace namespace name
+     * @return set of pods
+     */
+    synchronized Set<Pod> pods(String namespace) {
+        return lookup(pods, podsByNamespace.get(namespace));
+    }
+
+    /**
+     * Returns the pods of the given namespace which carry any of the given labels.
+     *
+     * @param namespace namespace name
+     * @param labels labels
+     * @return set of pods
+     */
+    synchronized Set<Pod> pods(String namespace, Map<String, String> labels) {
+        ImmutableSet.Builder<Pod> builder = ImmutableSet.builder();
+        forEachLabel(namespace, labels, label ->
+                podsByLabel.get(label).forEach(key -> builder.add(pods.get(key))));
+        return builder.build();
+    }
+
+    /**
+     * Returns the namespaces which carry any of the given labels.
+     *
+     * @param labels labels
+     * @return set of namespaces
+     */
+    synchronized Set<Namespace> namespaces(Map<String, String> labels) {
+        ImmutableSet.Builder<Namespace> builder = ImmutableSet.builder();
+        forEachLabel(null, labels, label ->
+                namespacesByLabel.get(label).forEach(name -> builder.add(namespaces.get(name))));
+        return builder.build();
+    }
+
+    /**
+     * Returns the network policies whose pod selector may select the given pod.
+     *
+     * @param pod kubernetes pod
+     * @return set of network policies
+     */
+    synchronized Set<NetworkPolicy> policiesSelecting(Pod pod) {
+        return candidates(pod, policiesSelectingAll, policiesByLabel);
+    }
+
+    /**
+     * Returns the network policies having an ingress or egress peer whose
+     * pod selector may select the given pod.
+     *
+     * @param pod kubernetes pod
+     * @return set of network policies
+     */
+    synchronized Set<NetworkPolicy> policiesWithPeerSelecting(Pod pod) {
+        return candidates(pod, peersSelectingAll, peersByLabel);
+    }
+
+    /**
+     * Returns whether the given peer pod selector selects all the pods of
+     * the namespace of the policy.
+     *
+     * @param selector pod selector
+     * @return true if all pods are selected
+     */
+    static boolean selectsAll(LabelSelector selector) {
+        return selector.getMatchLabels() == null &&
+                (selector.getMatchExpressions() == null ||
+                        selector.getMatchExpressions().isEmpty());
+    }
+
+    private Set<NetworkPolicy> candidates(Pod pod,
+                                          SetMultimap<String, String> selectingAll,
+                                          SetMultimap<Label, String> byLabel) {
+        String namespace = pod.getMetadata().getNamespace();
+        ImmutableSet.Builder<NetworkPolicy> builder = ImmutableSet.builder();
+        builder.addAll(lookup(policies, selectingAll.get(namespace)));
+        forEachLabel(namespace, pod.getMetadata().getLabels(), label ->
+                builder.addAll(lookup(policies, byLabel.get(label))));
+        return builder.build();
+    }
+
+    private static void forEachPeerSelector(NetworkPolicy policy,
+                                            Consumer<LabelSelector> consumer) {
+        if (policy.getSpec().getIngress() != null) {
+            policy.getSpec().getIngress().forEach(rule ->
+                    forEachPodSelector(rule.getFrom(), consumer));
+        }
+        if (policy.getSpec().getEgress() != null) {
+            policy.getSpec().getEgress().forEach(rule ->
+                    forEachPodSelector(rule.getTo(), consumer));
+        }
+    }
+
+    private static void forEachPodSelector(Collection<NetworkPolicyPeer> peers,
+                                           Consumer<LabelSelector> consumer) {
+        if (peers == null) {
+            return;
+        }
+        peers.stream()
+                .map(NetworkPolicyPeer::getPodSelector)
+                .filter(Objects::nonNull)
+                .forEach(consumer);
+    }
+
+    private static void forEachLabel(String namespace, Map<String, String> labels,
+                                     Consumer<Label> consumer) {
+        if (labels != null) {
+            labels.forEach((k, v) -> consumer.accept(new Label(namespace, k, v)));
+        }
+    }
+
+    private static <T> Set<T> lookup(Map<String, T> objects, Set<String> keys) {
+        ImmutableSet.Builder<T> builder = ImmutableSet.builder();
+        keys.forEach(key -> builder.add(objects.get(key)));
+        return builder.build();
+    }
+
+    private static String key(String namespace, String name) {
+        return namespace + "/" + name;
+    }
+
+    /**
+     * Label carried by an object, scoped by the namespace of the object.
+     */
+    private static final class Label {
+        private final String namespace;
+        private final String key;
+        private final String value;
+
+        private Label(String namespace, String key, String value) {
+            this.namespace = namespace;
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj instanceof Label) {
+                Label that = (Label) obj;
+                return Objects.equals(namespace, that.namespace) &&
+                        Objects.equals(key, that.key) &&
+                        Objects.equals(value, that.value);
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(namespace, key, value);
+        }
+    }
+}
@@ -18,7 +18,6 @@ package org.onosproject.k8snetworking.impl;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
-import io.fabric8.kubernetes.api.model.LabelSelectorRequirement;
 import io.fabric8.kubernetes.api.model.Namespace;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.Service;
@@ -170,6 +169,7 @@ public class K8sNetworkPolicyHandler {
             new InternalNetworkPolicyListener();
     private final InternalNamespaceListener internalNamespaceListener =
             new InternalNamespaceListener();
+    private final K8sLabelIndex labelIndex = new K8sLabelIndex();
 
     private ApplicationId appId;
     private NodeId localNodeId;
@@ -184,6 +184,7 @@ public class K8sNetworkPolicyHandler {
         k8sServiceService.addListener(internalServiceListener);
         k8sNetworkPolicyService.addListener(internalNetworkPolicyListener);
         k8sNamespaceService.addListener(internalNamespaceListener);
+        eventExecutor.execute(this::initLabelIndex);
 
         log.info("Started");
     }
@@ -200,10 +201,20 @@ public class K8sNetworkPolicyHandler {
         log.info("Stopped");
     }
 
+    private void initLabelIndex() {
+        k8sNamespaceService.namespaces().forEach(labelIndex::updateNamespace);
+        k8sPodService.pods().forEach(labelIndex::updatePod);
+        k8sNetworkPolicyService.networkPolicies().forEach(labelIndex::updatePolicy);
+    }
+
     private void setBlockRulesByPolicy(NetworkPolicy policy, boolean install) {
         final Map<String, List<String>> filter = Maps.newConcurrentMap();
+        String namespace = policy.getMetadata().getNamespace();
+        Map<String, String> labels = policy.getSpec().getPodSelector().getMatchLabels();
 
-        k8sPodService.pods().forEach(pod ->
+        Set<Pod> pods = labels == null ? labelIndex.pods(namespace) :
+                labelIndex.pods(namespace, labels);
+        pods.forEach(pod ->
             filter.putAll(getBlockRuleFilter(pod, policy)));
 
         setBlockRules(filter, install);
@@ -212,7 +223,8 @@ public class K8sNetworkPolicyHandler {
     private void setBlockRulesByPod(Pod pod, boolean install) {
         final Map<String, List<String>> filter = Maps.newConcurrentMap();
 
-        k8sNetworkPolicyService.networkPolicies().forEach(policy ->
+        // only the policies whose pod selector matches a label of the POD
+        labelIndex.policiesSelecting(pod).forEach(policy ->
             filter.putAll(getBlockRuleFilter(pod, policy)));
 
         setBlockRules(filter, install);
@@ -456,25 +468,11 @@ public class K8sNetworkPolicyHandler {
         Set<Pod> pods = Sets.newConcurrentHashSet();
         if (peer.getPodSelector() != null) {
             Map<String, String> podLabels = peer.getPodSelector().getMatchLabels();
-            List<LabelSelectorRequirement> matchExps = peer.getPodSelector().getMatchExpressions();
 
-            if (podLabels == null && matchExps.size() == 0) {
-                k8sPodService.pods().stream()
-                        .filter(pod -> pod.getMetadata().getNamespace().equals(
-                                namespace))
-                        .forEach(pods::add);
-            } else {
-                k8sPodService.pods().stream()
-                        .filter(pod -> pod.getMetadata().getNamespace().equals(
-                                namespace))
-                        .forEach(pod -> {
-                            pod.getMetadata().getLabels().forEach((k, v) -> {
-                                if (podLabels != null && podLabels.get(k) != null &&
-                                        podLabels.get(k).equals(v)) {
-                                    pods.add(pod);
-                                }
-                            });
-                        });
+            if (K8sLabelIndex.selectsAll(peer.getPodSelector())) {
+                pods.addAll(labelIndex.pods(namespace));
+            } else if (podLabels != null) {
+                pods.addAll(labelIndex.pods(namespace, podLabels));
             }
         }
         return pods;
@@ -484,7 +482,9 @@ public class K8sNetworkPolicyHandler {
         Map<String, Map<String, List<NetworkPolicyPort>>>
                 white = Maps.newConcurrentMap();
         AtomicReference<NetworkPolicy> selectedPolicy = new AtomicReference<>();
-        k8sNetworkPolicyService.networkPolicies().stream()
+        // only the policies having a peer whose pod selector may select the POD
+        Set<NetworkPolicy> policies = labelIndex.policiesWithPeerSelecting(pod);
+        policies.stream()
                 .filter(policy -> policy.getMetadata().getNamespace().equals(
                         pod.getMetadata().getNamespace()))
                 .forEach(policy -> {
@@ -497,9 +497,8 @@ public class K8sNetworkPolicyHandler {
                 i.getFrom().forEach(peer -> {
                     if (peer.getPodSelector() != null) {
                         Map<String, String> podLabels = peer.getPodSelector().getMatchLabels();
-                        List<LabelSelectorRequirement> matchExps = peer.getPodSelector().getMatchExpressions();
 
-                        if (podLabels == null && matchExps.size() == 0 && podIp != null) {
+                        if (K8sLabelIndex.selectsAll(peer.getPodSelector()) && podIp != null) {
                             white.compute(shiftIpDomain(podIp, SHIFTED_IP_PREFIX) +
                                     "/" + HOST_PREFIX, (m, n) -> direction);
                             white.compute(podIp + "/" +
@@ -524,7 +523,7 @@ public class K8sNetworkPolicyHandler {
             });
         });
 
-        k8sNetworkPolicyService.networkPolicies().stream()
+        policies.stream()
                 .filter(policy -> policy.getMetadata().getNamespace().equals(
                         pod.getMetadata().getNamespace()))
                 .forEach(policy -> {
@@ -536,9 +535,8 @@ public class K8sNetworkPolicyHandler {
                 e.getTo().forEach(peer -> {
                     if (peer.getPodSelector() != null) {
                         Map<String, String> podLabels = peer.getPodSelector().getMatchLabels();
-                        List<LabelSelectorRequirement> matchExps = peer.getPodSelector().getMatchExpressions();
 
-                        if (podLabels == null && matchExps.size() == 0 && podIp != null) {
+                        if (K8sLabelIndex.selectsAll(peer.getPodSelector()) && podIp != null) {
                             white.compute(shiftIpDomain(podIp, SHIFTED_IP_PREFIX) +
                                     "/" + HOST_PREFIX, (m, n) -> {
                                 if (n != null) {
@@ -602,16 +600,9 @@ public class K8sNetworkPolicyHandler {
 
     private Set<Namespace> namespacesByLabels(Map<String, String> labels) {
         Set<Namespace> nsSet = Sets.newConcurrentHashSet();
-        k8sNamespaceService.namespaces().forEach(ns -> {
-            if (ns != null && ns.getMetadata() != null &&
-                    ns.getMetadata().getLabels() != null && labels != null) {
-                ns.getMetadata().getLabels().forEach((k, v) -> {
-                    if (labels.get(k) != null && labels.get(k).equals(v)) {
-                        nsSet.add(ns);
-                    }
-                });
-            }
-        });
+        if (labels != null) {
+            nsSet.addAll(labelIndex.namespaces(labels));
+        }
 
         return nsSet;
     }
@@ -925,6 +916,8 @@ public class K8sNetworkPolicyHandler {
         }
 
         private void processPodCreation(Pod pod) {
+            labelIndex.updatePod(pod);
+
             if (!isRelevantHelper()) {
                 return;
             }
@@ -935,6 +928,8 @@ public class K8sNetworkPolicyHandler {
         }
 
         private void processPodRemoval(Pod pod) {
+            labelIndex.removePod(pod);
+
             if (!isRelevantHelper()) {
                 return;
             }
@@ -968,6 +963,8 @@ public class K8sNetworkPolicyHandler {
         }
 
         private void processNetworkPolicyCreation(NetworkPolicy policy) {
+            labelIndex.updatePolicy(policy);
+
             if (!isRelevantHelper()) {
                 return;
             }
@@ -977,6 +974,8 @@ public class K8sNetworkPolicyHandler {
         }
 
         private void processNetworkPolicyRemoval(NetworkPolicy policy) {
+            labelIndex.removePolicy(policy);
+
             if (!isRelevantHelper()) {
                 return;
             }
@@ -999,6 +998,9 @@ public class K8sNetworkPolicyHandler {
                 case K8S_NAMESPACE_CREATED:
                     eventExecutor.execute(() -> processNamespaceCreation(ns));
                     break;
+                case K8S_NAMESPACE_UPDATED:
+                    eventExecutor.execute(() -> labelIndex.updateNamespace(ns));
+                    break;
                 case K8S_NAMESPACE_REMOVED:
                     eventExecutor.execute(() -> processNamespaceRemoval(ns));
                     break;
@@ -1008,6 +1010,8 @@ public class K8sNetworkPolicyHandler {
         }
 
         private void processNamespaceCreation(Namespace namespace) {
+            labelIndex.updateNamespace(namespace);
+
             if (!isRelevantHelper()) {
                 return;
             }
@@ -1017,6 +1021,8 @@ public class K8sNetworkPolicyHandler {
         }
 
         private void processNamespaceRemoval(Namespace namespace) {
+            labelIndex.removeNamespace(namespace);
+
             if (!isRelevantHelper()) {
                 return;
             }
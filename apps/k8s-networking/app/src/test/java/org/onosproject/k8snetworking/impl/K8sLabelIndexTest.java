@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.k8snetworking.impl;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.api.model.Namespace;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.networking.v1.NetworkPolicy;
+import io.fabric8.kubernetes.api.model.networking.v1.NetworkPolicyIngressRule;
+import io.fabric8.kubernetes.api.model.networking.v1.NetworkPolicyPeer;
+import io.fabric8.kubernetes.api.model.networking.v1.NetworkPolicySpec;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for the kubernetes label index.
+ */
+public class K8sLabelIndexTest {
+
+    private static final String NAMESPACE_1 = "ns1";
+    private static final String NAMESPACE_2 = "ns2";
+
+    private static final Map<String, String> LABELS_WEB = ImmutableMap.of("app", "web");
+    private static final Map<String, String> LABELS_DB = ImmutableMap.of("app", "db");
+
+    private K8sLabelIndex index;
+
+    private final Pod web1 = createPod(NAMESPACE_1, "web1", LABELS_WEB);
+    private final Pod db1 = createPod(NAMESPACE_1, "db1", LABELS_DB);
+    private final Pod web2 = createPod(NAMESPACE_2, "web2", LABELS_WEB);
+
+    @Before
+    public void setUp() {
+        index = new K8sLabelIndex();
+        index.updatePod(web1);
+        index.updatePod(db1);
+        index.updatePod(web2);
+    }
+
+    /**
+     * Tests the lookup of pods by namespace and labels.
+     */
+    @Test
+    public void testPods() {
+        assertEquals(ImmutableSet.of(web1, db1), index.pods(NAMESPACE_1));
+        assertEquals(ImmutableSet.of(web1), index.pods(NAMESPACE_1, LABELS_WEB));
+        assertEquals(ImmutableSet.of(web2), index.pods(NAMESPACE_2, LABELS_WEB));
+        assertEquals(ImmutableSet.of(web1, db1), index.pods(NAMESPACE_1,
+                ImmutableMap.of("app", "web", "tier", "db", "other", "db")));
+    }
+
+    /**
+     * Tests that updating the labels of a pod moves it in the index.
+     */
+    @Test
+    public void testPodUpdateAndRemoval() {
+        Pod relabeled = createPod(NAMESPACE_1, "web1", LABELS_DB);
+        index.updatePod(relabeled);
+        assertTrue(index.pods(NAMESPACE_1, LABELS_WEB).isEmpty());
+        assertEquals(ImmutableSet.of(relabeled, db1), index.pods(NAMESPACE_1, LABELS_DB));
+
+        index.removePod(relabeled);
+        assertEquals(ImmutableSet.of(db1), index.pods(NAMESPACE_1));
+    }
+
+    /**
+     * Tests the lookup of namespaces by labels.
+     */
+    @Test
+    public void testNamespaces() {
+        Namespace ns1 = createNamespace(NAMESPACE_1, ImmutableMap.of("team", "a"));
+        Namespace ns2 = createNamespace(NAMESPACE_2, ImmutableMap.of("team", "b"));
+        index.updateNamespace(ns1);
+        index.updateNamespace(ns2);
+
+        assertEquals(ImmutableSet.of(ns1), index.namespaces(ImmutableMap.of("team", "a")));
+
+        index.removeNamespace(ns1);
+        assertTrue(index.namespaces(ImmutableMap.of("team", "a")).isEmpty());
+    }
+
+    /**
+     * Tests the lookup of the policies to recompute when a pod changes.
+     */
+    @Test
+    public void testPolicies() {
+        NetworkPolicy selectWeb = createPolicy(NAMESPACE_1, "select-web", LABELS_WEB, null);
+        NetworkPolicy selectAll = createPolicy(NAMESPACE_1, "select-all", null, null);
+        NetworkPolicy peerDb = createPolicy(NAMESPACE_1, "peer-db", LABELS_WEB, LABELS_DB);
+        index.updatePolicy(selectWeb);
+        index.updatePolicy(selectAll);
+        index.updatePolicy(peerDb);
+
+        assertEquals(ImmutableSet.of(selectWeb, selectAll, peerDb), index.policiesSelecting(web1));
+        assertEquals(ImmutableSet.of(selectAll), index.policiesSelecting(db1));
+        assertTrue(index.policiesSelecting(web2).isEmpty());
+
+        assertEquals(ImmutableSet.of(peerDb), index.policiesWithPeerSelecting(db1));
+        assertTrue(index.policiesWithPeerSelecting(web1).isEmpty());
+
+        index.removePolicy(peerDb);
+        assertTrue(index.policiesWithPeerSelecting(db1).isEmpty());
+        assertEquals(ImmutableSet.of(selectWeb, selectAll), index.policiesSelecting(web1));
+    }
+
+    private static Pod createPod(String namespace, String name, Map<String, String> labels) {
+        ObjectMeta meta = new ObjectMeta();
+        meta.setNamespace(namespace);
+        meta.setName(name);
+        meta.setLabels(labels);
+
+        Pod pod = new Pod();
+        pod.setMetadata(meta);
+        return pod;
+    }
+
+    private static Namespace createNamespace(String name, Map<String, String> labels) {
+        ObjectMeta meta = new ObjectMeta();
+        meta.setName(name);
+        meta.setLabels(labels);
+
+        Namespace namespace = new Namespace();
+        namespace.setMetadata(meta);
+        return namespace;
+    }
+
+    private static NetworkPolicy createPolicy(String namespace, String name,
+                                              Map<String, String> podLabels,
+                                              Map<String, String> peerLabels) {
+        ObjectMeta meta = new ObjectMeta();
+        meta.setNamespace(namespace);
+        meta.setName(name);
+
+        LabelSelector podSelector = new LabelSelector();
+        podSelector.setMatchLabels(podLabels);
+
+        NetworkPolicySpec spec = new NetworkPolicySpec();
+        spec.setPodSelector(podSelector);
+
+        if (peerLabels != null) {
+            LabelSelector peerSelector = new LabelSelector();
+            peerSelector.setMatchLabels(peerLabels);
+            NetworkPolicyPeer peer = new NetworkPolicyPeer();
+            peer.setPodSelector(peerSelector);
+            NetworkPolicyIngressRule rule = new NetworkPolicyIngressRule();
+            rule.setFrom(ImmutableList.of(peer));
+            spec.setIngress(ImmutableList.of(rule));
+        }
+
+        NetworkPolicy policy = new NetworkPolicy();
+        policy.setMetadata(meta);
+        policy.setSpec(spec);
+        return policy;
+    }
+}
@@ -16,6 +16,10 @@
 package org.onosproject.kafkaintegration.api;
 
 import org.onosproject.kafkaintegration.api.dto.OnosEvent;
+import org.onosproject.store.service.Task;
+
+import java.util.Collection;
+import java.util.List;
 
 /**
  * APIs to insert and delete into a local store. This store is used to keep
@@ -36,4 +40,30 @@ public interface KafkaEventStorageService {
      * @return the Onos Event
      */
     OnosEvent consumeEvent();
+
+    /**
+     * Takes up to the given number of Onos Events from the Distributed Work
+     * Queue, in the order they were inserted. The events stay in the queue
+     * until they are completed or retried.
+     *
+     * @param maxEvents maximum number of events to take
+     * @return the tasks of the Onos Events; empty if there are none
+     */
+    List<Task<OnosEvent>> takeEvents(int maxEvents);
+
+    /**
+     * Removes the given Onos Events, once exported, from the Distributed Work
+     * Queue.
+     *
+     * @param tasks tasks of the exported events
+     */
+    void completeEvents(Collection<Task<OnosEvent>> tasks);
+
+    /**
+     * Puts the given Onos Events, which could not be exported, back at the
+     * tail of the Distributed Work Queue.
+     *
+     * @param tasks tasks of the events to export again
+     */
+    void retryEvents(Collection<Task<OnosEvent>> tasks);
 }
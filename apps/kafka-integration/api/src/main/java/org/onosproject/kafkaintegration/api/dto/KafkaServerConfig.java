@@ -37,10 +37,15 @@ public final class KafkaServerConfig {
 
     private final String valueSerializer;
 
+    private final String compressionType;
+
+    private final int lingerMs;
+
     private KafkaServerConfig(String ipAddress, String port, int numOfRetries,
                               int maxInFlightRequestsPerConnection,
                               int requestRequiredAcks, String keySerializer,
-                              String valueSerializer) {
+                              String valueSerializer, String compressionType,
+                              int lingerMs) {
 
         this.ipAddress = checkNotNull(ipAddress, "Ip Address Cannot be null");
         this.port = checkNotNull(port, "Port Number cannot be null");
@@ -50,6 +55,8 @@ public final class KafkaServerConfig {
         this.acksRequired = requestRequiredAcks;
         this.keySerializer = keySerializer;
         this.valueSerializer = valueSerializer;
+        this.compressionType = compressionType;
+        this.lingerMs = lingerMs;
     }
 
     public final String getIpAddress() {
@@ -80,6 +87,14 @@ public final class KafkaServerConfig {
         return valueSerializer;
     }
 
+    public final String getCompressionType() {
+        return compressionType;
+    }
+
+    public final int getLingerMs() {
+        return lingerMs;
+    }
+
     /**
      * To create an instance of the builder.
      *
@@ -107,6 +122,10 @@ public final class KafkaServerConfig {
 
         private String valueSerializer;
 
+        private String compressionType = "none";
+
+        private int lingerMs;
+
         public Builder ipAddress(String ipAddress) {
             this.ipAddress = ipAddress;
             return this;
@@ -143,6 +162,16 @@ public final class KafkaServerConfig {
             return this;
         }
 
+        public Builder compressionType(String compressionType) {
+            this.compressionType = compressionType;
+            return this;
+        }
+
+        public Builder lingerMs(int lingerMs) {
+            this.lingerMs = lingerMs;
+            return this;
+        }
+
         public KafkaServerConfig build() {
             checkNotNull(ipAddress, "App name cannot be null");
             checkNotNull(port, "Subscriber group ID cannot " + "be " + "null");
@@ -150,7 +179,8 @@ public final class KafkaServerConfig {
             return new KafkaServerConfig(ipAddress, port, numOfRetries,
                                          maxInFlightRequestsPerConnection,
                                          acksRequired, keySerializer,
-                                         valueSerializer);
+                                         valueSerializer, compressionType,
+                                         lingerMs);
         }
     }
 }
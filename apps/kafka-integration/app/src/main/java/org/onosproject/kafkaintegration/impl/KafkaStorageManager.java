@@ -15,6 +15,8 @@
  */
 package org.onosproject.kafkaintegration.impl;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
 import org.onosproject.kafkaintegration.api.KafkaEventStorageService;
 import org.onosproject.kafkaintegration.api.dto.OnosEvent;
 import org.onosproject.store.serializers.KryoNamespaces;
@@ -30,9 +32,27 @@ import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.BlockingDeque;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
-
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.onlab.util.Tools.groupedThreads;
+
+/**
+ * Stores the events to export in a distributed work queue. Events are first
+ * buffered locally and appended to the work queue in batches, so that bursts
+ * of events do not cost a round trip to the work queue each. The buffer is
+ * bounded; events arriving while it is full are dropped. Events taken from
+ * the work queue are only removed from it once exported.
+ */
 @Component(service = KafkaEventStorageService.class)
 public class KafkaStorageManager implements KafkaEventStorageService {
 
@@ -43,51 +63,150 @@ public class KafkaStorageManager implements KafkaEventStorageService {
 
     private static final String KAFKA_WORK_QUEUE = "Kafka-Work-Queue";
 
+    private static final int BATCH_SIZE = 500;
+    private static final long FLUSH_INTERVAL_MS = 50;
+    static final int MAX_BUFFERED_EVENTS = 100_000;
+
     private WorkQueue<OnosEvent> queue;
 
+    // Events waiting to be appended to the work queue
+    private final BlockingDeque<OnosEvent> buffer = new LinkedBlockingDeque<>(MAX_BUFFERED_EVENTS);
+    private final AtomicLong droppedEvents = new AtomicLong();
+
+    private ScheduledExecutorService flushExecutor;
+
     @Activate
     protected void activate() {
         queue = storageService.<OnosEvent>getWorkQueue(KAFKA_WORK_QUEUE,
                                                        Serializer.using(KryoNamespaces.API,
                                                                         OnosEvent.class,
                                                                         OnosEvent.Type.class));
+        flushExecutor = newSingleThreadScheduledExecutor(
+                groupedThreads("onos/kafka", "event-buffer-flush", log));
+        flushExecutor.scheduleWithFixedDelay(this::flush, FLUSH_INTERVAL_MS,
+                                             FLUSH_INTERVAL_MS, MILLISECONDS);
 
         log.info("Started");
     }
 
     @Deactivate
     protected void deactivate() {
+        flushExecutor.shutdownNow();
+        flush();
+        if (!buffer.isEmpty()) {
+            log.warn("Dropping {} Events not appended to the Distributed Work Queue", buffer.size());
+            buffer.clear();
+        }
         queue = null;
         log.info("Stopped");
     }
 
     @Override
     public void publishEvent(OnosEvent e) {
-        queue.addOne(e);
-        log.debug("Published {} Event to Distributed Work Queue", e.type());
+        if (!buffer.offerLast(e)) {
+            droppedEvents.incrementAndGet();
+            return;
+        }
+        log.debug("Buffered {} Event for the Distributed Work Queue", e.type());
+    }
+
+    /**
+     * Appends the buffered events to the work queue, in batches. Should a
+     * batch fail, it is put back in front of the buffer and retried on the
+     * next flush.
+     */
+    void flush() {
+        long dropped = droppedEvents.getAndSet(0);
+        if (dropped > 0) {
+            log.warn("Dropped {} Events as the buffer of the Distributed Work Queue is full", dropped);
+        }
+        List<OnosEvent> batch = Lists.newArrayListWithCapacity(BATCH_SIZE);
+        OnosEvent event;
+        while ((event = buffer.pollFirst()) != null) {
+            batch.add(event);
+            if (batch.size() == BATCH_SIZE) {
+                if (!addBatch(batch)) {
+                    return;
+                }
+                batch = Lists.newArrayListWithCapacity(BATCH_SIZE);
+            }
+        }
+        if (!batch.isEmpty()) {
+            addBatch(batch);
+        }
+    }
+
+    // Appends the batch to the work queue, putting it back in front of the
+    // buffer if that fails, and returns whether it was appended.
+    private boolean addBatch(List<OnosEvent> batch) {
+        try {
+            // Waiting for each batch keeps the events in order
+            queue.addMultiple(batch).join();
+            log.debug("Published {} Events to Distributed Work Queue", batch.size());
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Unable to publish {} Events to Distributed Work Queue, will retry", batch.size(), e);
+            for (int i = batch.size() - 1; i >= 0; i--) {
+                if (!buffer.offerFirst(batch.get(i))) {
+                    droppedEvents.incrementAndGet();
+                }
+            }
+            return false;
+        }
     }
 
     @Override
     public OnosEvent consumeEvent() {
-        Task<OnosEvent> task = null;
+        List<Task<OnosEvent>> tasks = takeEvents(1);
+        if (tasks.isEmpty()) {
+            return null;
+        }
+        completeEvents(tasks);
+        return tasks.get(0).payload();
+    }
 
-        CompletableFuture<Task<OnosEvent>> future = queue.take();
+    @Override
+    public List<Task<OnosEvent>> takeEvents(int maxEvents) {
+        Collection<Task<OnosEvent>> tasks = null;
+
+        CompletableFuture<Collection<Task<OnosEvent>>> future = queue.take(maxEvents);
         try {
-            task = future.get();
+            tasks = future.get();
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         } catch (ExecutionException e) {
-            log.warn("consumeEvent()", e);
+            log.warn("takeEvents()", e);
+        }
+
+        if (tasks == null || tasks.isEmpty()) {
+            return ImmutableList.of();
         }
+        log.debug("Took {} Events from Distributed Work Queue", tasks.size());
+        return ImmutableList.copyOf(tasks);
+    }
 
-        if (task != null) {
-            queue.complete(task.taskId());
-            log.debug("Consumed {} Event from Distributed Work Queue with id {}",
-                     task.payload().type(), task.taskId());
-            return task.payload();
+    @Override
+    public void completeEvents(Collection<Task<OnosEvent>> tasks) {
+        if (tasks.isEmpty()) {
+            return;
         }
+        queue.complete(tasks.stream().map(Task::taskId).collect(Collectors.toList()));
+        log.debug("Consumed {} Events from Distributed Work Queue", tasks.size());
+    }
 
-        return null;
+    @Override
+    public void retryEvents(Collection<Task<OnosEvent>> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        try {
+            // The events are requeued before their tasks complete, so that
+            // they cannot be lost in between
+            queue.addMultiple(tasks.stream().map(Task::payload).collect(Collectors.toList())).join();
+            completeEvents(tasks);
+        } catch (RuntimeException e) {
+            log.warn("Unable to requeue {} Events to Distributed Work Queue", tasks.size(), e);
+        }
     }
 
 }
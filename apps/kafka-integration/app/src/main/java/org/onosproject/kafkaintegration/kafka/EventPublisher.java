@@ -15,12 +15,22 @@
  */
 package org.onosproject.kafkaintegration.kafka;
 
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.onlab.metrics.MetricsComponent;
+import org.onlab.metrics.MetricsFeature;
+import org.onlab.metrics.MetricsService;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
 import org.onosproject.cluster.ClusterService;
 import org.onosproject.cluster.LeadershipService;
 import org.onosproject.cluster.NodeId;
@@ -30,13 +40,24 @@ import org.onosproject.kafkaintegration.api.KafkaEventStorageService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.onosproject.kafkaintegration.api.dto.OnosEvent;
+import org.onosproject.store.service.Task;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * Publishes the stored events to Kafka, on the leader node. Events are taken
+ * from the work queue in batches; the records of a batch are grouped per topic
+ * and sent before waiting for their acknowledgements, so that the producer can
+ * pack them into compressed record batches. Events are only removed from the
+ * work queue once Kafka acknowledged them; the others are queued again.
+ */
 @Component(immediate = true)
 public class EventPublisher {
 
@@ -57,18 +78,36 @@ public class EventPublisher {
     @Reference(cardinality = ReferenceCardinality.MANDATORY)
     protected KafkaPublisherService kafkaPublisher;
 
+    @Reference(cardinality = ReferenceCardinality.MANDATORY)
+    protected MetricsService metricsService;
+
     protected ScheduledExecutorService exService;
 
     private static final String SUBSCRIBER_TOPIC = "WORK_QUEUE_SUBSCRIBER";
 
+    // Maximum number of events taken from the work queue at once
+    static final int BATCH_SIZE = 500;
+
     private NodeId localNodeId;
 
     // Thread Scheduler Parameters
     private final long delay = 0;
-    private final long period = 1;
+    private final long period = 100;
 
     private EventCollector eventCollector;
 
+    private static final String EXPORT_LAG = "exportLagMillis";
+    private static final String EXPORTED_EVENTS = "exportedEvents";
+    private static final String FAILED_EVENTS = "failedEvents";
+    private static final String LAST_EXPORT_LAG = "lastExportLagMillis";
+
+    private MetricsComponent metricsComponent;
+    private MetricsFeature metricsFeature;
+    private Histogram exportLag;
+    private Meter exportedEvents;
+    private Counter failedEvents;
+    private volatile long lastExportLag;
+
     @Activate
     protected void activate() {
 
@@ -76,20 +115,42 @@ public class EventPublisher {
 
         localNodeId = clusterService.getLocalNode().id();
 
+        registerMetrics();
+
         startCollector();
 
         log.info("Started");
     }
 
+    // The export lag of an event is the time from its creation to its
+    // acknowledgement by Kafka.
+    void registerMetrics() {
+        metricsComponent = metricsService.registerComponent("KafkaIntegration");
+        metricsFeature = metricsComponent.registerFeature("EventExport");
+        exportLag = metricsService.createHistogram(metricsComponent, metricsFeature, EXPORT_LAG);
+        exportedEvents = metricsService.createMeter(metricsComponent, metricsFeature, EXPORTED_EVENTS);
+        failedEvents = metricsService.createCounter(metricsComponent, metricsFeature, FAILED_EVENTS);
+        metricsService.registerMetric(metricsComponent, metricsFeature, LAST_EXPORT_LAG,
+                                      (Gauge<Long>) () -> lastExportLag);
+    }
+
+    void removeMetrics() {
+        metricsService.removeMetric(metricsComponent, metricsFeature, EXPORT_LAG);
+        metricsService.removeMetric(metricsComponent, metricsFeature, EXPORTED_EVENTS);
+        metricsService.removeMetric(metricsComponent, metricsFeature, FAILED_EVENTS);
+        metricsService.removeMetric(metricsComponent, metricsFeature, LAST_EXPORT_LAG);
+    }
+
     private void startCollector() {
         exService = Executors.newSingleThreadScheduledExecutor();
         eventCollector = new EventCollector();
-        exService.scheduleAtFixedRate(eventCollector, delay, period, TimeUnit.SECONDS);
+        exService.scheduleWithFixedDelay(eventCollector, delay, period, TimeUnit.MILLISECONDS);
     }
 
     @Deactivate
     protected void deactivate() {
         stopCollector();
+        removeMetrics();
         log.info("Stopped");
     }
 
@@ -97,6 +158,56 @@ public class EventPublisher {
         exService.shutdown();
     }
 
+    /**
+     * Publishes the given events to Kafka and waits for their
+     * acknowledgements. Records are sent grouped per topic, keeping the order
+     * of the events of each topic. Acknowledged events are then completed in
+     * the work queue and the others queued again.
+     *
+     * @param tasks work queue tasks of the events to publish
+     * @return true if all the events were acknowledged
+     * @throws InterruptedException if interrupted while waiting
+     */
+    boolean publish(List<Task<OnosEvent>> tasks) throws InterruptedException {
+        Map<String, List<Task<OnosEvent>>> topics = Maps.newLinkedHashMap();
+        tasks.forEach(task -> topics.computeIfAbsent(task.payload().type().toString(),
+                                                     k -> Lists.newArrayList()).add(task));
+
+        List<Future<RecordMetadata>> futures = Lists.newArrayListWithCapacity(tasks.size());
+        List<Task<OnosEvent>> sent = Lists.newArrayListWithCapacity(tasks.size());
+        topics.forEach((topic, topicTasks) -> topicTasks.forEach(task -> {
+            futures.add(kafkaPublisher.send(new ProducerRecord<>(topic, task.payload().subject())));
+            sent.add(task);
+        }));
+
+        List<Task<OnosEvent>> exported = Lists.newArrayListWithCapacity(tasks.size());
+        List<Task<OnosEvent>> failed = Lists.newArrayList();
+        try {
+            for (int i = 0; i < futures.size(); i++) {
+                Task<OnosEvent> task = sent.get(i);
+                try {
+                    futures.get(i).get();
+                    long lag = System.currentTimeMillis() - task.payload().time();
+                    exportLag.update(lag);
+                    lastExportLag = lag;
+                    exportedEvents.mark();
+                    exported.add(task);
+                } catch (ExecutionException e) {
+                    failedEvents.inc();
+                    failed.add(task);
+                    log.error("Cannot publish {} event to Kafka", task.payload().type(), e.getCause());
+                }
+            }
+        } finally {
+            // Events not waited for are left in progress, so that the work
+            // queue hands them out again should this node stop
+            kafkaStore.completeEvents(exported);
+            kafkaStore.retryEvents(failed);
+        }
+        log.debug("Published {} events to Kafka", exported.size());
+        return failed.isEmpty();
+    }
+
     private class EventCollector implements Runnable {
 
         @Override
@@ -110,20 +221,20 @@ public class EventPublisher {
             }
 
             try {
-                OnosEvent onosEvent = kafkaStore.consumeEvent();
-
-                if (onosEvent != null) {
-                    kafkaPublisher.send(new ProducerRecord<>(onosEvent.type().toString(),
-                                                            onosEvent.subject())).get();
-
-                    log.info("Event Type - {}, Subject {} sent successfully.",
-                             onosEvent.type(), onosEvent.subject());
+                // Drain the work queue batch after batch, backing off until
+                // the next run as soon as Kafka fails
+                List<Task<OnosEvent>> tasks = kafkaStore.takeEvents(BATCH_SIZE);
+                while (!tasks.isEmpty()) {
+                    if (!publish(tasks) || tasks.size() < BATCH_SIZE) {
+                        break;
+                    }
+                    tasks = kafkaStore.takeEvents(BATCH_SIZE);
                 }
             } catch (InterruptedException e1) {
                 log.error("Thread interupted");
                 Thread.currentThread().interrupt();
-            } catch (ExecutionException e2) {
-                log.error("Cannot publish data to Kafka - {}", e2);
+            } catch (RuntimeException e2) {
+                log.error("Cannot publish data to Kafka", e2);
             }
         }
     }
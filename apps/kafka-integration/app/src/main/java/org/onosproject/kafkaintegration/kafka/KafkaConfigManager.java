@@ -43,6 +43,8 @@ import static org.onosproject.kafkaintegration.kafka.OsgiPropertyConstants.*;
                 REQUIRED_ACKS + ":Integer=" + REQUIRED_ACKS_DEFAULT,
                 KEY_SERIALIZER + "=" + KEY_SERIALIZER_DEFAULT,
                 VALUE_SERIALIZER + "=" + VALUE_SERIALIZER_DEFAULT,
+                COMPRESSION_TYPE + "=" + COMPRESSION_TYPE_DEFAULT,
+                LINGER_MS + ":Integer=" + LINGER_MS_DEFAULT,
         }
 )
 public class KafkaConfigManager implements KafkaConfigService {
@@ -73,6 +75,12 @@ public class KafkaConfigManager implements KafkaConfigService {
     /** Serializer class for value that implements the Serializer interface. */
     protected String valueSerializer = VALUE_SERIALIZER_DEFAULT;
 
+    /** Compression applied to the batches of records sent to Kafka. */
+    protected String compressionType = COMPRESSION_TYPE_DEFAULT;
+
+    /** Time the producer waits for more records before sending a batch. */
+    protected int lingerMs = LINGER_MS_DEFAULT;
+
     @Activate
     protected void activate(ComponentContext context) {
         componentConfigService.registerProperties(getClass());
@@ -96,6 +104,8 @@ public class KafkaConfigManager implements KafkaConfigService {
             requestRequiredAcks = REQUIRED_ACKS_DEFAULT;
             keySerializer = KEY_SERIALIZER_DEFAULT;
             valueSerializer = VALUE_SERIALIZER_DEFAULT;
+            compressionType = COMPRESSION_TYPE_DEFAULT;
+            lingerMs = LINGER_MS_DEFAULT;
             return;
         }
 
@@ -105,6 +115,8 @@ public class KafkaConfigManager implements KafkaConfigService {
         int newRetries;
         int newMaxInFlightRequestsPerConnection;
         int newRequestRequiredAcks;
+        String newCompressionType;
+        int newLingerMs;
         try {
             String s = get(properties, BOOTSTRAP_SERVERS);
             newBootstrapServers =
@@ -124,13 +136,22 @@ public class KafkaConfigManager implements KafkaConfigService {
                     isNullOrEmpty(s) ? requestRequiredAcks
                                      : Integer.parseInt(s.trim());
 
+            s = get(properties, COMPRESSION_TYPE);
+            newCompressionType =
+                    isNullOrEmpty(s) ? compressionType : s.trim();
+
+            s = get(properties, LINGER_MS);
+            newLingerMs =
+                    isNullOrEmpty(s) ? lingerMs : Integer.parseInt(s.trim());
+
         } catch (NumberFormatException | ClassCastException e) {
             return;
         }
 
         if (configModified(newBootstrapServers, newRetries,
                            newMaxInFlightRequestsPerConnection,
-                           newRequestRequiredAcks)) {
+                           newRequestRequiredAcks, newCompressionType,
+                           newLingerMs)) {
             bootstrapServers = newBootstrapServers;
             String kafkaServerIp = bootstrapServers
                     .substring(0, bootstrapServers.indexOf(":"));
@@ -144,19 +165,27 @@ public class KafkaConfigManager implements KafkaConfigService {
 
             requestRequiredAcks = newRequestRequiredAcks;
 
+            compressionType = newCompressionType;
+
+            lingerMs = newLingerMs;
+
             kafkaPublisherAdminService.restart(KafkaServerConfig.builder()
                     .ipAddress(kafkaServerIp).port(kafkaServerPortNum)
                     .numOfRetries(retries)
                     .maxInFlightRequestsPerConnection(maxInFlightRequestsPerConnection)
                     .acksRequired(requestRequiredAcks)
                     .keySerializer(keySerializer)
-                    .valueSerializer(valueSerializer).build());
+                    .valueSerializer(valueSerializer)
+                    .compressionType(compressionType)
+                    .lingerMs(lingerMs).build());
 
             log.info("Kafka Server Config has been Modified - "
                     + "bootstrapServers {}, retries {}, "
                     + "maxInFlightRequestsPerConnection {}, "
-                    + "requestRequiredAcks {}", bootstrapServers, retries,
-                     maxInFlightRequestsPerConnection, requestRequiredAcks);
+                    + "requestRequiredAcks {}, compressionType {}, "
+                    + "lingerMs {}", bootstrapServers, retries,
+                     maxInFlightRequestsPerConnection, requestRequiredAcks,
+                     compressionType, lingerMs);
         } else {
             return;
         }
@@ -164,12 +193,16 @@ public class KafkaConfigManager implements KafkaConfigService {
 
     private boolean configModified(String newBootstrapServers, int newRetries,
                                    int newMaxInFlightRequestsPerConnection,
-                                   int newRequestRequiredAcks) {
+                                   int newRequestRequiredAcks,
+                                   String newCompressionType,
+                                   int newLingerMs) {
 
         return !newBootstrapServers.equals(bootstrapServers)
                 || newRetries != retries
                 || newMaxInFlightRequestsPerConnection != maxInFlightRequestsPerConnection
-                || newRequestRequiredAcks != requestRequiredAcks;
+                || newRequestRequiredAcks != requestRequiredAcks
+                || !newCompressionType.equals(compressionType)
+                || newLingerMs != lingerMs;
 
     }
 
@@ -182,7 +215,9 @@ public class KafkaConfigManager implements KafkaConfigService {
                 .numOfRetries(retries)
                 .maxInFlightRequestsPerConnection(maxInFlightRequestsPerConnection)
                 .acksRequired(requestRequiredAcks).keySerializer(keySerializer)
-                .valueSerializer(valueSerializer).build();
+                .valueSerializer(valueSerializer)
+                .compressionType(compressionType)
+                .lingerMs(lingerMs).build();
 
     }
 
@@ -41,4 +41,10 @@ public final class OsgiPropertyConstants {
     static final String VALUE_SERIALIZER = "valueSerializer";
     static final String VALUE_SERIALIZER_DEFAULT = "org.apache.kafka.common.serialization.ByteArraySerializer";
 
+    static final String COMPRESSION_TYPE = "compressionType";
+    static final String COMPRESSION_TYPE_DEFAULT = "gzip";
+
+    static final String LINGER_MS = "lingerMs";
+    static final int LINGER_MS_DEFAULT = 20;
+
 }
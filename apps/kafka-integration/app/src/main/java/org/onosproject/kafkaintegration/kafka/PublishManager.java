@@ -72,6 +72,8 @@ public class PublishManager implements KafkaPublisherService, KafkaPublisherAdmi
         prop.put("request.required.acks", config.getAcksRequired());
         prop.put("key.serializer", config.getKeySerializer());
         prop.put("value.serializer", config.getValueSerializer());
+        prop.put("compression.type", config.getCompressionType());
+        prop.put("linger.ms", config.getLingerMs());
 
         kafkaProducer = new KafkaProducer<>(prop);
         log.info("Kafka Producer has started.");
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.kafkaintegration.kafka;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.Before;
+import org.junit.Test;
+import org.onlab.metrics.MetricsManager;
+import org.onosproject.kafkaintegration.api.KafkaEventStorageService;
+import org.onosproject.kafkaintegration.api.dto.OnosEvent;
+import org.onosproject.store.service.Task;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.onosproject.kafkaintegration.api.dto.OnosEvent.Type.DEVICE;
+import static org.onosproject.kafkaintegration.api.dto.OnosEvent.Type.HOST;
+import static org.onosproject.kafkaintegration.api.dto.OnosEvent.Type.LINK;
+
+/**
+ * Unit tests for the event publisher.
+ */
+public class EventPublisherTest {
+
+    private final MockProducer<String, byte[]> producer =
+            new MockProducer<>(true, new StringSerializer(), new ByteArraySerializer());
+    private final MetricsManager metricsService = new MetricsManager();
+    private final TestKafkaStore kafkaStore = new TestKafkaStore();
+    private EventPublisher publisher;
+
+    @Before
+    public void setUp() {
+        publisher = new EventPublisher();
+        publisher.kafkaPublisher = producer::send;
+        publisher.metricsService = metricsService;
+        publisher.kafkaStore = kafkaStore;
+        publisher.registerMetrics();
+    }
+
+    private static Task<OnosEvent> event(OnosEvent.Type type, int id) {
+        return new Task<>(String.valueOf(id), new OnosEvent(type, new byte[]{(byte) id}));
+    }
+
+    private static List<String> ids(List<Task<OnosEvent>> tasks) {
+        return tasks.stream().map(Task::taskId).collect(Collectors.toList());
+    }
+
+    /**
+     * Checks that the records of a batch are grouped per topic, keeping the
+     * order of the events of each topic.
+     */
+    @Test
+    public void testPublishBatch() throws InterruptedException {
+        assertTrue(publisher.publish(ImmutableList.of(event(DEVICE, 1), event(LINK, 2), event(DEVICE, 3),
+                                                      event(HOST, 4), event(LINK, 5))));
+
+        List<ProducerRecord<String, byte[]>> history = producer.history();
+        assertEquals(ImmutableList.of("DEVICE", "DEVICE", "LINK", "LINK", "HOST"),
+                     history.stream().map(ProducerRecord::topic).collect(Collectors.toList()));
+        assertArrayEquals(new byte[]{3}, history.get(1).value());
+        assertArrayEquals(new byte[]{5}, history.get(3).value());
+
+        assertEquals(5, metricsService.getHistograms((name, metric) -> name.contains("exportLagMillis"))
+                .values().iterator().next().getCount());
+        assertEquals(ImmutableList.of("1", "3", "2", "5", "4"), ids(kafkaStore.completed));
+        assertTrue(kafkaStore.retried.isEmpty());
+    }
+
+    /**
+     * Checks that failed records are counted, queued again rather than
+     * completed, and do not prevent the others from being published.
+     */
+    @Test
+    public void testPublishFailure() throws InterruptedException {
+        publisher.kafkaPublisher = record -> {
+            if (record.topic().equals("LINK")) {
+                CompletableFuture<RecordMetadata> failed =
+                        new CompletableFuture<>();
+                failed.completeExceptionally(new IllegalStateException("test"));
+                return failed;
+            }
+            return producer.send(record);
+        };
+        assertFalse(publisher.publish(ImmutableList.of(event(DEVICE, 1), event(LINK, 2), event(HOST, 3))));
+
+        assertEquals(2, producer.history().size());
+        assertEquals(1, metricsService.getCounters((name, metric) -> name.contains("failedEvents"))
+                .values().iterator().next().getCount());
+        assertEquals(2, metricsService.getMeters((name, metric) -> name.contains("exportedEvents"))
+                .values().iterator().next().getCount());
+        assertEquals(ImmutableList.of("1", "3"), ids(kafkaStore.completed));
+        assertEquals(ImmutableList.of("2"), ids(kafkaStore.retried));
+    }
+
+    /**
+     * Checks that the metrics are removed along with the publisher.
+     */
+    @Test
+    public void testRemoveMetrics() {
+        publisher.removeMetrics();
+        assertTrue(metricsService.getMetrics().isEmpty());
+    }
+
+    // Records the events completed and retried by the publisher.
+    private static class TestKafkaStore implements KafkaEventStorageService {
+        private final List<Task<OnosEvent>> completed = Lists.newArrayList();
+        private final List<Task<OnosEvent>> retried = Lists.newArrayList();
+
+        @Override
+        public void publishEvent(OnosEvent e) {
+        }
+
+        @Override
+        public OnosEvent consumeEvent() {
+            return null;
+        }
+
+        @Override
+        public List<Task<OnosEvent>> takeEvents(int maxEvents) {
+            return ImmutableList.of();
+        }
+
+        @Override
+        public void completeEvents(Collection<Task<OnosEvent>> tasks) {
+            completed.addAll(tasks);
+        }
+
+        @Override
+        public void retryEvents(Collection<Task<OnosEvent>> tasks) {
+            retried.addAll(tasks);
+        }
+    }
+}
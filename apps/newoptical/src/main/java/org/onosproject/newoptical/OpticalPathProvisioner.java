@@ -874,9 +874,10 @@ public class OpticalPathProvisioner
                 // which will end up advertising DIRECT links and
                 // DIRECT Link type cannot transition from DIRECT to INDIRECT
                 LinkKey lnkKey = linkKey(packetSrc, packetDst);
-                BasicLinkConfig lnkCfg = networkConfigService
-                        .getConfig(lnkKey, BasicLinkConfig.class);
-                if (lnkCfg == null) {
+                BasicLinkConfig lnkCfg;
+                if (networkConfigService.getConfig(lnkKey, BasicLinkConfig.class) != null) {
+                    lnkCfg = networkConfigService.addConfig(lnkKey, BasicLinkConfig.class);
+                } else {
                     lnkCfg = new BasicLinkConfig(lnkKey);
                 }
                 lnkCfg.isAllowed(true);
@@ -908,7 +909,7 @@ public class OpticalPathProvisioner
             try {
                 // hack to mark link off-line
                 BasicLinkConfig lnkCfg = networkConfigService
-                        .getConfig(linkKey(packetSrc, packetDst),
+                        .addConfig(linkKey(packetSrc, packetDst),
                                    BasicLinkConfig.class);
                 lnkCfg.isAllowed(false);
                 lnkCfg.apply();
@@ -85,6 +85,7 @@ public final class Constants {
     public static final int PRIORITY_DHCP_RULE = 42000;
     public static final int PRIORITY_ADMIN_RULE = 32000;
     public static final int PRIORITY_ACL_RULE = 31000;
+    public static final int PRIORITY_ACL_CONJ_RULE = 30900;
     public static final int PRIORITY_ACL_INGRESS_RULE = 30000;
     public static final int PRIORITY_CT_HOOK_RULE = 30500;
     public static final int PRIORITY_CT_RULE = 32000;
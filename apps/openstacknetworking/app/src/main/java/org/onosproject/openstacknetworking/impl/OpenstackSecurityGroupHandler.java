@@ -17,6 +17,8 @@
 package org.onosproject.openstacknetworking.impl;
 
 import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import org.onlab.packet.Ethernet;
 import org.onlab.packet.IPv4;
@@ -30,6 +32,8 @@ import org.onlab.util.Tools;
 import org.onosproject.cfg.ComponentConfigService;
 import org.onosproject.cfg.ConfigProperty;
 import org.onosproject.cluster.ClusterService;
+import org.onosproject.cluster.LeadershipEvent;
+import org.onosproject.cluster.LeadershipEventListener;
 import org.onosproject.cluster.LeadershipService;
 import org.onosproject.cluster.NodeId;
 import org.onosproject.core.ApplicationId;
@@ -40,6 +44,9 @@ import org.onosproject.net.device.DeviceService;
 import org.onosproject.net.driver.DriverService;
 import org.onosproject.net.flow.DefaultTrafficSelector;
 import org.onosproject.net.flow.DefaultTrafficTreatment;
+import org.onosproject.net.flow.FlowEntry;
+import org.onosproject.net.flow.FlowRuleService;
+import org.onosproject.net.flow.IndexTableId;
 import org.onosproject.net.flow.TrafficSelector;
 import org.onosproject.net.flow.TrafficTreatment;
 import org.onosproject.net.flow.criteria.ExtensionSelector;
@@ -86,7 +93,6 @@ import org.slf4j.Logger;
 
 import java.util.Collections;
 import java.util.Dictionary;
-import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -104,6 +110,7 @@ import static org.onosproject.openstacknetworking.api.Constants.CT_TABLE;
 import static org.onosproject.openstacknetworking.api.Constants.ERROR_TABLE;
 import static org.onosproject.openstacknetworking.api.Constants.JUMP_TABLE;
 import static org.onosproject.openstacknetworking.api.Constants.OPENSTACK_NETWORKING_APP_ID;
+import static org.onosproject.openstacknetworking.api.Constants.PRIORITY_ACL_CONJ_RULE;
 import static org.onosproject.openstacknetworking.api.Constants.PRIORITY_ACL_INGRESS_RULE;
 import static org.onosproject.openstacknetworking.api.Constants.PRIORITY_ACL_RULE;
 import static org.onosproject.openstacknetworking.api.Constants.PRIORITY_CT_DROP_RULE;
@@ -113,11 +120,16 @@ import static org.onosproject.openstacknetworking.api.OpenstackNetwork.Type.GENE
 import static org.onosproject.openstacknetworking.api.OpenstackNetwork.Type.GRE;
 import static org.onosproject.openstacknetworking.api.OpenstackNetwork.Type.VLAN;
 import static org.onosproject.openstacknetworking.api.OpenstackNetwork.Type.VXLAN;
+import static org.onosproject.openstacknetworking.api.InstancePortEvent.Type.OPENSTACK_INSTANCE_PORT_VANISHED;
 import static org.onosproject.openstacknetworking.api.OpenstackNetworkEvent.Type.OPENSTACK_PORT_PRE_REMOVE;
+import static org.onosproject.openstacknetworking.impl.OsgiPropertyConstants.USE_CONJUNCTIVE_MATCH;
+import static org.onosproject.openstacknetworking.impl.OsgiPropertyConstants.USE_CONJUNCTIVE_MATCH_DEFAULT;
 import static org.onosproject.openstacknetworking.impl.OsgiPropertyConstants.USE_SECURITY_GROUP;
 import static org.onosproject.openstacknetworking.impl.OsgiPropertyConstants.USE_SECURITY_GROUP_DEFAULT;
 import static org.onosproject.openstacknetworking.util.OpenstackNetworkingUtil.getPropertyValueAsBoolean;
 import static org.onosproject.openstacknetworking.util.OpenstackNetworkingUtil.swapStaleLocation;
+import static org.onosproject.openstacknetworking.util.RulePopulatorUtil.buildConjIdExtensionSelector;
+import static org.onosproject.openstacknetworking.util.RulePopulatorUtil.buildConjunctionExtension;
 import static org.onosproject.openstacknetworking.util.RulePopulatorUtil.buildPortRangeMatches;
 import static org.onosproject.openstacknetworking.util.RulePopulatorUtil.computeCtMaskFlag;
 import static org.onosproject.openstacknetworking.util.RulePopulatorUtil.computeCtStateFlag;
@@ -131,7 +143,8 @@ import static org.slf4j.LoggerFactory.getLogger;
 @Component(
     immediate = true,
     property = {
-        USE_SECURITY_GROUP + ":Boolean=" + USE_SECURITY_GROUP_DEFAULT
+        USE_SECURITY_GROUP + ":Boolean=" + USE_SECURITY_GROUP_DEFAULT,
+        USE_CONJUNCTIVE_MATCH + ":Boolean=" + USE_CONJUNCTIVE_MATCH_DEFAULT
     }
 )
 public class OpenstackSecurityGroupHandler {
@@ -145,6 +158,9 @@ public class OpenstackSecurityGroupHandler {
     /** Apply OpenStack security group rule for VM traffic. */
     private boolean useSecurityGroup = USE_SECURITY_GROUP_DEFAULT;
 
+    /** Compile remote security group rules into OVS conjunctive flows. */
+    private volatile boolean useConjunctiveMatch = USE_CONJUNCTIVE_MATCH_DEFAULT;
+
     @Reference(cardinality = ReferenceCardinality.MANDATORY)
     protected CoreService coreService;
 
@@ -184,6 +200,9 @@ public class OpenstackSecurityGroupHandler {
     @Reference(cardinality = ReferenceCardinality.MANDATORY)
     protected StorageService storageService;
 
+    @Reference(cardinality = ReferenceCardinality.MANDATORY)
+    protected FlowRuleService flowRuleService;
+
     private static final KryoNamespace SERIALIZER_PORT = KryoNamespace.newBuilder()
             .register(KryoNamespaces.API)
             .register(Port.class)
@@ -204,8 +223,17 @@ public class OpenstackSecurityGroupHandler {
     private final OpenstackSecurityGroupListener securityGroupListener =
                                             new InternalSecurityGroupListener();
     private final OpenstackNodeListener osNodeListener = new InternalNodeListener();
+    private final LeadershipEventListener leadershipListener =
+                                            new InternalLeadershipListener();
 
     private ConsistentMap<String, Port> removedOsPortStore;
+    private ConsistentMap<String, Integer> conjIdStore;
+
+    private final SecurityGroupMembers sgMembers = new SecurityGroupMembers();
+
+    // The state of the conjunctive flows is only kept by the leader
+    private SecurityGroupConjunctions conjunctions;
+    private boolean conjunctionsLeader = false;
 
     private ApplicationId appId;
     private NodeId localNodeId;
@@ -257,6 +285,19 @@ public class OpenstackSecurityGroupHandler {
                 .withApplicationId(appId)
                 .build();
 
+        conjIdStore = storageService.<String, Integer>consistentMapBuilder()
+                .withSerializer(Serializer.using(KryoNamespaces.API))
+                .withName("openstack-sg-conjunction-ids")
+                .withApplicationId(appId)
+                .build();
+        conjunctions = new SecurityGroupConjunctions(
+                new InternalConjunctionFlowWriter(), conjIdStore.asJavaMap());
+        leadershipService.addListener(leadershipListener);
+
+        eventExecutor.execute(this::initSecurityGroupMembers);
+        eventExecutor.execute(() ->
+                processLeaderChange(leadershipService.getLeader(appId.name())));
+
         log.info("Started");
     }
 
@@ -268,11 +309,110 @@ public class OpenstackSecurityGroupHandler {
         osNetService.removeListener(osPortListener);
         configService.unregisterProperties(getClass(), false);
         osNodeService.removeListener(osNodeListener);
+        leadershipService.removeListener(leadershipListener);
         eventExecutor.shutdown();
 
         log.info("Stopped");
     }
 
+    private void initSecurityGroupMembers() {
+        sgMembers.reset(osNetService.ports());
+        removedOsPortStore.asJavaMap().values().forEach(sgMembers::markRemoved);
+    }
+
+    private boolean isLeader() {
+        return Objects.equals(localNodeId, leadershipService.getLeader(appId.name()));
+    }
+
+    private void processLeaderChange(NodeId leader) {
+        boolean leading = Objects.equals(localNodeId, leader);
+        if (leading != conjunctionsLeader) {
+            conjunctionsLeader = leading;
+            rebuildConjunctions();
+        }
+    }
+
+    /**
+     * Rebuilds the state of the conjunctive flows from the security group
+     * members, when this node is the leader, and removes the conjunctive
+     * flows installed before that are not part of it anymore. Other nodes
+     * drop their state, as the flows they installed may change meanwhile.
+     */
+    private void rebuildConjunctions() {
+        if (!isLeader()) {
+            conjunctions.clear();
+            return;
+        }
+
+        if (getUseSecurityGroupFlag() && useConjunctiveMatch) {
+            conjunctions.rebuild(() -> remoteGroupRules()
+                    .forEach(this::securityGroupRuleAdded));
+        } else {
+            conjunctions.clear();
+        }
+
+        Map<DeviceId, Set<TrafficSelector>> conjSelectors = Maps.newHashMap();
+        for (FlowEntry entry : flowRuleService.getFlowEntriesById(appId)) {
+            if (entry.priority() != PRIORITY_ACL_CONJ_RULE) {
+                continue;
+            }
+            DeviceId deviceId = entry.deviceId();
+            int table = ((IndexTableId) entry.table()).id();
+            if (!conjunctions.hasClauseFlow(deviceId, table, entry.selector()) &&
+                    !conjSelectors.computeIfAbsent(deviceId, this::conjunctionSelectors)
+                            .contains(entry.selector())) {
+                flowRuleService.removeFlowRules(entry);
+            }
+        }
+        log.info("Rebuilt conjunctive security group flows");
+    }
+
+    private Set<TrafficSelector> conjunctionSelectors(DeviceId deviceId) {
+        return conjunctions.conjunctionIds(deviceId).stream()
+                .map(conjId -> conjunctionSelector(deviceId, conjId))
+                .collect(Collectors.toSet());
+    }
+
+    private TrafficSelector conjunctionSelector(DeviceId deviceId, int conjId) {
+        return DefaultTrafficSelector.builder()
+                .extension(buildConjIdExtensionSelector(driverService,
+                        deviceId, conjId), deviceId)
+                .build();
+    }
+
+    private List<SecurityGroupRule> remoteGroupRules() {
+        return securityGroupService.securityGroups().stream()
+                .flatMap(securityGroup -> securityGroup.getRules().stream())
+                .filter(this::hasRemoteGroup)
+                .collect(Collectors.toList());
+    }
+
+    private boolean hasRemoteGroup(SecurityGroupRule sgRule) {
+        return sgRule.getRemoteGroupId() != null && !sgRule.getRemoteGroupId().isEmpty();
+    }
+
+    // Rules compiled into conjunctive flows are handled by the leader, which
+    // keeps the state of the flows, rather than by the master of the port.
+    private boolean isConjunctive(SecurityGroupRule sgRule) {
+        return useConjunctiveMatch && hasRemoteGroup(sgRule);
+    }
+
+    /**
+     * Switches between pairwise and conjunctive flows for the rules referring
+     * to a remote security group. Their flows are removed as compiled in the
+     * previous mode, then installed again in the new one.
+     *
+     * @param enabled true to compile the rules into conjunctive flows
+     */
+    private void switchConjunctiveMatch(boolean enabled) {
+        List<SecurityGroupRule> rules = remoteGroupRules();
+        rules.forEach(this::securityGroupRuleRemoved);
+        useConjunctiveMatch = enabled;
+        if (useSecurityGroup) {
+            rules.forEach(this::securityGroupRuleAdded);
+        }
+    }
+
     @Modified
     protected void modified(ComponentContext context) {
         Dictionary<?, ?> properties = context.getProperties();
@@ -288,6 +428,16 @@ public class OpenstackSecurityGroupHandler {
                     useSecurityGroup ? "enabled" : "disabled");
         }
 
+        flag = Tools.isPropertyEnabled(properties, USE_CONJUNCTIVE_MATCH);
+        if (flag == null) {
+            log.info("useConjunctiveMatch is not configured, " +
+                    "using current value of {}", useConjunctiveMatch);
+        } else if (flag != useConjunctiveMatch) {
+            switchConjunctiveMatch(flag);
+            log.info("Configured. useConjunctiveMatch is {}",
+                    useConjunctiveMatch ? "enabled" : "disabled");
+        }
+
         securityGroupService.setSecurityGroupEnabled(useSecurityGroup);
         resetSecurityGroupRules();
     }
@@ -357,7 +507,11 @@ public class OpenstackSecurityGroupHandler {
             return;
         }
 
-        if (sgRule.getRemoteGroupId() != null && !sgRule.getRemoteGroupId().isEmpty()) {
+        if (isConjunctive(sgRule)) {
+            if (isLeader()) {
+                updateConjunctiveSecurityGroupRule(instPort, port, sgRule, install);
+            }
+        } else if (sgRule.getRemoteGroupId() != null && !sgRule.getRemoteGroupId().isEmpty()) {
             getRemoteInstPorts(port, sgRule.getRemoteGroupId(), install)
                     .forEach(rInstPort -> {
                         populateSecurityGroupRule(sgRule, instPort,
@@ -384,6 +538,87 @@ public class OpenstackSecurityGroupHandler {
         }
     }
 
+    /**
+     * Compiles a rule referring to a remote security group into conjunctive
+     * flows: the instance port and the members of the remote group each get
+     * their own clause flows, instead of one flow per pair of ports.
+     *
+     * @param instPort instance port
+     * @param port openstack port
+     * @param sgRule security group rule
+     * @param install true for insertion, false for removal
+     */
+    private void updateConjunctiveSecurityGroupRule(InstancePort instPort, Port port,
+                                                    SecurityGroupRule sgRule,
+                                                    boolean install) {
+        if (!checkProtocol(sgRule.getProtocol())) {
+            return;
+        }
+
+        SecurityGroupRule rSgRule =
+                new NeutronSecurityGroupRule
+                        .SecurityGroupRuleConcreteBuilder()
+                        .from(sgRule)
+                        .direction(sgRule.getDirection()
+                                .equalsIgnoreCase(EGRESS) ? INGRESS : EGRESS)
+                        .build();
+        // members of the remote group match the rule against the members of
+        // this group, which is the very same conjunction for a self reference
+        boolean mirrored = !sgRule.getRemoteGroupId().equals(sgRule.getSecurityGroupId());
+        List<SecurityGroupRule> rules = ImmutableList.of(sgRule, rSgRule);
+
+        if (!install) {
+            rules.forEach(rule -> conjunctions.removeLocal(instPort.deviceId(),
+                    conjunctionId(rule, false), instPort.ipAddress().toIpPrefix()));
+        }
+
+        getRemoteInstPorts(port, sgRule.getRemoteGroupId(), install)
+                .forEach(rInstPort -> rules.forEach(rule -> {
+                    if (install) {
+                        addConjunctivePair(rule, conjunctionId(rule, false),
+                                instPort, rInstPort);
+                        addConjunctivePair(rule, conjunctionId(rule, mirrored),
+                                rInstPort, instPort);
+                    } else {
+                        conjunctions.removeRemote(rInstPort.deviceId(),
+                                conjunctionId(rule, mirrored),
+                                instPort.ipAddress().toIpPrefix());
+                    }
+                }));
+    }
+
+    private void addConjunctivePair(SecurityGroupRule sgRule, int conjId,
+                                    InstancePort local, InstancePort remote) {
+        // if the device is not available we do not perform any action
+        if (local.deviceId() == null || !deviceService.isAvailable(local.deviceId())) {
+            return;
+        }
+
+        Set<TrafficSelector> localSelectors = buildSelectors(sgRule,
+                Ip4Address.valueOf(local.ipAddress().toInetAddress()),
+                null, local.networkId());
+
+        TrafficSelector.Builder sBuilder = DefaultTrafficSelector.builder();
+        buildTunnelId(sBuilder, remote.networkId());
+        buildMatchEthType(sBuilder, sgRule.getEtherType());
+        buildMatchRemoteIp(sBuilder, remote.ipAddress().toIpPrefix(),
+                sgRule.getDirection());
+
+        conjunctions.addPair(local.deviceId(), aclTable(sgRule), conjId,
+                local.ipAddress().toIpPrefix(), localSelectors,
+                remote.ipAddress().toIpPrefix(), sBuilder.build());
+    }
+
+    private int conjunctionId(SecurityGroupRule sgRule, boolean mirrored) {
+        return conjunctions.conjunctionId(sgRule.getId(),
+                sgRule.getDirection().toUpperCase(), mirrored);
+    }
+
+    private int aclTable(SecurityGroupRule sgRule) {
+        return sgRule.getDirection().equalsIgnoreCase(EGRESS) ?
+                ACL_EGRESS_TABLE : ACL_INGRESS_TABLE;
+    }
+
     private boolean checkProtocol(String protocol) {
         if (protocol == null) {
             log.debug("No protocol was specified, use default IP(v4/v6) protocol.");
@@ -553,17 +788,10 @@ public class OpenstackSecurityGroupHandler {
                                                  String sgId, boolean install) {
         Set<InstancePort> remoteInstPorts;
 
-        Set<Port> removedPorts = Sets.newConcurrentHashSet();
-
-        if (!install) {
-            removedPorts = new HashSet<>(removedOsPortStore.asJavaMap().values());
-        }
-
-        remoteInstPorts = Sets.union(osNetService.ports(), removedPorts).stream()
+        // removed ports are only considered when removing the rules
+        remoteInstPorts = sgMembers.members(srcPort.getTenantId(),
+                        srcPort.getNetworkId(), sgId, !install).stream()
                 .filter(port -> !port.getId().equals(srcPort.getId()))
-                .filter(port -> port.getTenantId().equals(srcPort.getTenantId()))
-                .filter(port -> port.getSecurityGroups().contains(sgId))
-                .filter(port -> port.getNetworkId().equals(srcPort.getNetworkId()))
                 .map(port -> instancePortService.instancePort(port.getId()))
                 .filter(instPort -> instPort != null && instPort.ipAddress() != null)
                 .collect(Collectors.toSet());
@@ -811,9 +1039,7 @@ public class OpenstackSecurityGroupHandler {
     }
 
     private void securityGroupRuleAdded(SecurityGroupRule sgRule) {
-        osNetService.ports().stream()
-                .filter(port -> port.getSecurityGroups()
-                        .contains(sgRule.getSecurityGroupId()))
+        sgMembers.members(sgRule.getSecurityGroupId(), false)
                 .forEach(port -> {
                     updateSecurityGroupRule(
                             instancePortService.instancePort(port.getId()),
@@ -824,11 +1050,7 @@ public class OpenstackSecurityGroupHandler {
     }
 
     private void securityGroupRuleRemoved(SecurityGroupRule sgRule) {
-        Set<Port> removedPorts = new HashSet<>(removedOsPortStore.asJavaMap().values());
-
-        Sets.union(osNetService.ports(), removedPorts).stream()
-                .filter(port -> port.getSecurityGroups()
-                        .contains(sgRule.getSecurityGroupId()))
+        sgMembers.members(sgRule.getSecurityGroupId(), true)
                 .forEach(port -> {
                     updateSecurityGroupRule(
                             instancePortService.instancePort(port.getId()),
@@ -838,14 +1060,70 @@ public class OpenstackSecurityGroupHandler {
                 });
     }
 
+    private class InternalConjunctionFlowWriter
+            implements SecurityGroupConjunctions.FlowWriter {
+
+        @Override
+        public void clauseFlow(DeviceId deviceId, int table,
+                               TrafficSelector selector,
+                               Set<SecurityGroupConjunctions.Clause> clauses) {
+            TrafficTreatment.Builder tBuilder = DefaultTrafficTreatment.builder();
+            clauses.forEach(clause -> tBuilder.extension(
+                    buildConjunctionExtension(driverService, deviceId,
+                            clause.conjId(), clause.clause(),
+                            SecurityGroupConjunctions.N_CLAUSES), deviceId));
+
+            osFlowRuleService.setRule(appId,
+                    deviceId,
+                    selector,
+                    tBuilder.build(),
+                    PRIORITY_ACL_CONJ_RULE,
+                    table,
+                    !clauses.isEmpty());
+        }
+
+        @Override
+        public void conjunctionFlow(DeviceId deviceId, int table,
+                                    int conjId, boolean install) {
+            TrafficSelector selector = conjunctionSelector(deviceId, conjId);
+
+            TrafficTreatment.Builder tBuilder = DefaultTrafficTreatment.builder();
+            if (table == ACL_EGRESS_TABLE) {
+                tBuilder.transition(ACL_RECIRC_TABLE);
+            } else {
+                ExtensionTreatment ctTreatment =
+                        niciraConnTrackTreatmentBuilder(driverService, deviceId)
+                                .commit(true)
+                                .build();
+                tBuilder.extension(ctTreatment, deviceId)
+                        .transition(JUMP_TABLE);
+            }
+
+            osFlowRuleService.setRule(appId,
+                    deviceId,
+                    selector,
+                    tBuilder.build(),
+                    PRIORITY_ACL_CONJ_RULE,
+                    table,
+                    install);
+        }
+    }
+
     private class InternalInstancePortListener implements InstancePortListener {
 
         @Override
         public boolean isRelevant(InstancePortEvent event) {
-            return getUseSecurityGroupFlag();
+            // vanished ports are purged from the security group members
+            // even if security groups are disabled
+            return event.type() == OPENSTACK_INSTANCE_PORT_VANISHED ||
+                    getUseSecurityGroupFlag();
         }
 
         private boolean isRelevantHelper(InstancePortEvent event) {
+            return isMaster(event) || (useConjunctiveMatch && isLeader());
+        }
+
+        private boolean isMaster(InstancePortEvent event) {
             return mastershipService.isLocalMaster(event.subject().deviceId());
         }
 
@@ -858,7 +1136,13 @@ public class OpenstackSecurityGroupHandler {
                     eventExecutor.execute(() -> processInstanceMigrationStart(event));
                     break;
                 case OPENSTACK_INSTANCE_PORT_VANISHED:
-                    eventExecutor.execute(() -> processInstancePortVanish(event));
+                    boolean sgEnabled = getUseSecurityGroupFlag();
+                    eventExecutor.execute(() -> {
+                        if (sgEnabled) {
+                            processInstancePortVanish(event);
+                        }
+                        sgMembers.purge(event.subject().portId());
+                    });
                     break;
                 case OPENSTACK_INSTANCE_MIGRATION_ENDED:
                     eventExecutor.execute(() -> processInstanceMigrationEnd(event));
@@ -875,7 +1159,9 @@ public class OpenstackSecurityGroupHandler {
 
             InstancePort instPort = event.subject();
             installSecurityGroupRules(event, instPort);
-            setAclRecircRules(instPort, true);
+            if (isMaster(event)) {
+                setAclRecircRules(instPort, true);
+            }
         }
 
         private void processInstancePortVanish(InstancePortEvent event) {
@@ -885,9 +1171,11 @@ public class OpenstackSecurityGroupHandler {
 
             InstancePort instPort = event.subject();
             Port osPort = removedOsPortStore.asJavaMap().get(instPort.portId());
-            setSecurityGroupRules(instPort, osPort, false);
-            removedOsPortStore.remove(instPort.portId());
-            setAclRecircRules(instPort, false);
+            setSecurityGroupRules(instPort, osPort, false, isMaster(event));
+            if (isMaster(event)) {
+                removedOsPortStore.remove(instPort.portId());
+                setAclRecircRules(instPort, false);
+            }
         }
 
         private void processInstanceMigrationEnd(InstancePortEvent event) {
@@ -898,8 +1186,10 @@ public class OpenstackSecurityGroupHandler {
             InstancePort instPort = event.subject();
             InstancePort revisedInstPort = swapStaleLocation(instPort);
             Port port = osNetService.port(instPort.portId());
-            setSecurityGroupRules(revisedInstPort, port, false);
-            setAclRecircRules(revisedInstPort, false);
+            setSecurityGroupRules(revisedInstPort, port, false, isMaster(event));
+            if (isMaster(event)) {
+                setAclRecircRules(revisedInstPort, false);
+            }
         }
 
         private void installSecurityGroupRules(InstancePortEvent event,
@@ -907,17 +1197,33 @@ public class OpenstackSecurityGroupHandler {
             log.debug("Instance port detected/updated MAC:{} IP:{}",
                     instPort.macAddress(),
                     instPort.ipAddress());
+            boolean master = isMaster(event);
             eventExecutor.execute(() ->
                     setSecurityGroupRules(instPort,
-                            osNetService.port(event.subject().portId()), true));
+                            osNetService.port(event.subject().portId()), true, master));
         }
 
+        /**
+         * Installs or removes the rules of the security groups of a port.
+         * The master of the port handles all its rules but those compiled
+         * into conjunctive flows, which the leader handles.
+         *
+         * @param instPort instance port
+         * @param port openstack port
+         * @param install true for insertion, false for removal
+         * @param master true if this node is the master of the port
+         */
         private void setSecurityGroupRules(InstancePort instPort,
-                                           Port port, boolean install) {
+                                           Port port, boolean install,
+                                           boolean master) {
             Port osPort = port;
 
             if (!install) {
                 Port rmvPort = removedOsPortStore.asJavaMap().get(instPort.portId());
+                if (rmvPort == null) {
+                    // the master may already have forgotten the removed port
+                    rmvPort = sgMembers.port(instPort.portId());
+                }
                 if (osPort == null && rmvPort == null) {
                     return;
                 }
@@ -935,8 +1241,10 @@ public class OpenstackSecurityGroupHandler {
                     log.error("Security Group {} not found", sgId);
                     return;
                 }
-                sg.getRules().forEach(sgRule ->
-                        updateSecurityGroupRule(instPort, finalPort, sgRule, install));
+                sg.getRules().stream()
+                        .filter(sgRule -> master || isConjunctive(sgRule))
+                        .forEach(sgRule ->
+                                updateSecurityGroupRule(instPort, finalPort, sgRule, install));
                 final String action = install ? "Installed " : "Removed ";
                 log.debug(action + "Security Group Rule ID : " + sgId);
             });
@@ -983,14 +1291,16 @@ public class OpenstackSecurityGroupHandler {
 
         @Override
         public boolean isRelevant(OpenstackNetworkEvent event) {
-            if (event.port() == null || Strings.isNullOrEmpty(event.port().getId())) {
-                return false;
-            }
-
-            return getUseSecurityGroupFlag();
+            // the security group members are tracked even if security
+            // groups are disabled
+            return event.port() != null && !Strings.isNullOrEmpty(event.port().getId());
         }
 
         private boolean isRelevantHelper(OpenstackNetworkEvent event) {
+            if (!getUseSecurityGroupFlag()) {
+                return false;
+            }
+
             InstancePort instPort = instancePortService.instancePort(event.port().getId());
 
             if (instPort == null) {
@@ -1004,11 +1314,40 @@ public class OpenstackSecurityGroupHandler {
         public void event(OpenstackNetworkEvent event) {
             log.debug("openstack port event received {}", event);
 
+            eventExecutor.execute(() -> updateSecurityGroupMembers(event));
+
             if (event.type() == OPENSTACK_PORT_PRE_REMOVE) {
                 eventExecutor.execute(() -> processPortPreRemove(event));
             }
         }
 
+        private void updateSecurityGroupMembers(OpenstackNetworkEvent event) {
+            Port osPort = event.port();
+
+            switch (event.type()) {
+                case OPENSTACK_PORT_CREATED:
+                case OPENSTACK_PORT_UPDATED:
+                case OPENSTACK_PORT_SECURITY_GROUP_ADDED:
+                case OPENSTACK_PORT_SECURITY_GROUP_REMOVED:
+                    sgMembers.updatePort(osPort);
+                    break;
+                case OPENSTACK_PORT_PRE_REMOVE:
+                    sgMembers.markRemoved(osPort);
+                    break;
+                case OPENSTACK_PORT_REMOVED:
+                    // ports bound to an instance are purged once the
+                    // instance port vanishes and its rules are removed
+                    if (instancePortService.instancePort(osPort.getId()) == null) {
+                        sgMembers.purge(osPort.getId());
+                    } else {
+                        sgMembers.markRemoved(osPort);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
         private void processPortPreRemove(OpenstackNetworkEvent event) {
             if (!isRelevantHelper(event)) {
                 return;
@@ -1042,7 +1381,8 @@ public class OpenstackSecurityGroupHandler {
                 return false;
             }
 
-            return mastershipService.isLocalMaster(instPort.deviceId());
+            return mastershipService.isLocalMaster(instPort.deviceId()) ||
+                    (useConjunctiveMatch && isLeader());
         }
 
         @Override
@@ -1070,9 +1410,11 @@ public class OpenstackSecurityGroupHandler {
             InstancePort instPort = instancePortService.instancePort(event.port().getId());
             SecurityGroup osSg = securityGroupService.securityGroup(event.securityGroupId());
 
-            osSg.getRules().forEach(sgRule -> {
-                updateSecurityGroupRule(instPort, event.port(), sgRule, true);
-            });
+            boolean master = mastershipService.isLocalMaster(instPort.deviceId());
+            osSg.getRules().stream()
+                    .filter(sgRule -> master || isConjunctive(sgRule))
+                    .forEach(sgRule ->
+                            updateSecurityGroupRule(instPort, event.port(), sgRule, true));
             log.info("Added security group {} to port {}",
                     event.securityGroupId(), event.port().getId());
         }
@@ -1085,9 +1427,11 @@ public class OpenstackSecurityGroupHandler {
             InstancePort instPort = instancePortService.instancePort(event.port().getId());
             SecurityGroup osSg = securityGroupService.securityGroup(event.securityGroupId());
 
-            osSg.getRules().forEach(sgRule -> {
-                updateSecurityGroupRule(instPort, event.port(), sgRule, false);
-            });
+            boolean master = mastershipService.isLocalMaster(instPort.deviceId());
+            osSg.getRules().stream()
+                    .filter(sgRule -> master || isConjunctive(sgRule))
+                    .forEach(sgRule ->
+                            updateSecurityGroupRule(instPort, event.port(), sgRule, false));
             log.info("Removed security group {} from port {}",
                     event.securityGroupId(), event.port().getId());
         }
@@ -1138,6 +1482,9 @@ public class OpenstackSecurityGroupHandler {
 
             SecurityGroupRule sgRuleToRemove = event.securityGroupRule();
             securityGroupRuleRemoved(sgRuleToRemove);
+            if (hasRemoteGroup(sgRuleToRemove)) {
+                conjunctions.releaseConjunctionIds(sgRuleToRemove.getId());
+            }
             log.info("Removed security group rule {} from ports", sgRuleToRemove.getId());
         }
     }
@@ -1201,4 +1548,25 @@ public class OpenstackSecurityGroupHandler {
                     (getUseSecurityGroupFlag() ? " with " : " without") + " Security Group");
         }
     }
+
+    private class InternalLeadershipListener implements LeadershipEventListener {
+
+        @Override
+        public boolean isRelevant(LeadershipEvent event) {
+            return event.subject().topic().equals(appId.name());
+        }
+
+        @Override
+        public void event(LeadershipEvent event) {
+            switch (event.type()) {
+                case LEADER_CHANGED:
+                case LEADER_AND_CANDIDATES_CHANGED:
+                    eventExecutor.execute(() ->
+                            processLeaderChange(event.subject().leaderNodeId()));
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
 }
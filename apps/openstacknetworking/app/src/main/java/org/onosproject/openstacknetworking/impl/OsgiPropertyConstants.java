@@ -35,6 +35,9 @@ public final class OsgiPropertyConstants {
     static final String USE_SECURITY_GROUP = "useSecurityGroup";
     static final boolean USE_SECURITY_GROUP_DEFAULT = false;
 
+    static final String USE_CONJUNCTIVE_MATCH = "useConjunctiveMatch";
+    static final boolean USE_CONJUNCTIVE_MATCH_DEFAULT = false;
+
     static final String DHCP_SERVER_MAC = "dhcpServerMac";
     static final String DHCP_SERVER_MAC_DEFAULT = "fe:00:00:00:00:02";
 }
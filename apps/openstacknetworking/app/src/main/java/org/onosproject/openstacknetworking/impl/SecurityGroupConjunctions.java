@@ -0,0 +1,424 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.openstacknetworking.impl;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.google.common.hash.Hashing;
+import org.onlab.packet.IpPrefix;
+import org.onosproject.net.DeviceId;
+import org.onosproject.net.flow.TrafficSelector;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Compiles security group rules which refer to a remote security group into
+ * OVS conjunctive flows. Instead of one flow per pair of local and remote
+ * ports, a rule is installed on a device as one clause flow per local port,
+ * one clause flow per remote port and a single flow matching the conjunction
+ * identifier. Clause flows with the same match are shared by all the
+ * conjunctions they belong to.
+ * <p>
+ * Conjunction identifiers are allocated in the given map, which is shared by
+ * the nodes of the cluster, so that a rule keeps its identifier across
+ * leadership changes. The state of the installed flows is only kept locally,
+ * and has to be rebuilt when the node starts installing them.
+ */
+final class SecurityGroupConjunctions {
+
+    static final int LOCAL_CLAUSE = 0;
+    static final int REMOTE_CLAUSE = 1;
+    static final int N_CLAUSES = 2;
+
+    private final FlowWriter writer;
+    // Conjunction identifiers, by rule, direction and mirroring
+    private final Map<String, Integer> conjIds;
+
+    // Conjunctions installed on each device, by conjunction identifier
+    private final Map<DeviceId, Map<Integer, Conjunction>> conjunctions = Maps.newHashMap();
+    // Clauses carried by each clause flow installed on each device
+    private final Map<DeviceId, Map<FlowKey, Set<Clause>>> clauseFlows = Maps.newHashMap();
+
+    // Whether flows are written as they change, rather than once rebuilt
+    private boolean writing = true;
+
+    /**
+     * Creates a new conjunction compiler.
+     *
+     * @param writer writer of the resulting flows
+     * @param conjIds map in which to allocate the conjunction identifiers
+     */
+    SecurityGroupConjunctions(FlowWriter writer, Map<String, Integer> conjIds) {
+        this.writer = checkNotNull(writer);
+        this.conjIds = checkNotNull(conjIds);
+    }
+
+    /**
+     * Returns the conjunction identifier of the given security group rule,
+     * allocating it if needed. A new identifier is derived from a hash of
+     * the rule, and probed onwards while already allocated to another rule.
+     *
+     * @param ruleId security group rule identifier
+     * @param direction direction of the rule
+     * @param mirrored true for the conjunction matching the members of the
+     *                 remote group as local ports
+     * @return conjunction identifier
+     */
+    synchronized int conjunctionId(String ruleId, String direction, boolean mirrored) {
+        String key = conjunctionKey(ruleId, direction, mirrored);
+        Integer conjId = conjIds.get(key);
+        if (conjId != null) {
+            return conjId;
+        }
+        int candidate = conjunctionHash(key);
+        while (conjIds.containsValue(candidate)) {
+            candidate++;
+        }
+        conjIds.put(key, candidate);
+        return candidate;
+    }
+
+    /**
+     * Releases the conjunction identifiers allocated to the given security
+     * group rule.
+     *
+     * @param ruleId security group rule identifier
+     */
+    synchronized void releaseConjunctionIds(String ruleId) {
+        conjIds.keySet().stream()
+                .filter(key -> key.startsWith(ruleId + "/"))
+                .collect(Collectors.toList())
+                .forEach(conjIds::remove);
+    }
+
+    static String conjunctionKey(String ruleId, String direction, boolean mirrored) {
+        return ruleId + "/" + direction + "/" + mirrored;
+    }
+
+    static int conjunctionHash(String key) {
+        return Hashing.murmur3_32().hashString(key, UTF_8).asInt();
+    }
+
+    /**
+     * Rebuilds the state of the installed flows. The state is cleared and
+     * the given compilation re-adds the current pairs of ports, after which
+     * all the resulting flows are written at once. Flows installed before
+     * that are not part of the state anymore are left to the caller.
+     *
+     * @param compilation adds the current pairs of ports
+     */
+    synchronized void rebuild(Runnable compilation) {
+        clear();
+        writing = false;
+        try {
+            compilation.run();
+        } finally {
+            writing = true;
+        }
+        conjunctions.forEach((deviceId, deviceConjunctions) ->
+                deviceConjunctions.forEach((conjId, conjunction) ->
+                        writer.conjunctionFlow(deviceId, conjunction.table, conjId, true)));
+        clauseFlows.forEach((deviceId, deviceFlows) ->
+                deviceFlows.forEach((key, clauses) ->
+                        writer.clauseFlow(deviceId, key.table, key.selector,
+                                          ImmutableSet.copyOf(clauses))));
+    }
+
+    /**
+     * Clears the state of the installed flows, without removing them.
+     */
+    synchronized void clear() {
+        conjunctions.clear();
+        clauseFlows.clear();
+    }
+
+    /**
+     * Returns the identifiers of the conjunctions installed on a device.
+     *
+     * @param deviceId device identifier
+     * @return conjunction identifiers
+     */
+    synchronized Set<Integer> conjunctionIds(DeviceId deviceId) {
+        return ImmutableSet.copyOf(conjunctions.getOrDefault(deviceId, ImmutableMap.of()).keySet());
+    }
+
+    /**
+     * Returns whether a clause flow is installed on a device.
+     *
+     * @param deviceId device identifier
+     * @param table table of the flow
+     * @param selector selector of the flow
+     * @return true if the clause flow is installed
+     */
+    synchronized boolean hasClauseFlow(DeviceId deviceId, int table, TrafficSelector selector) {
+        return clauseFlows.getOrDefault(deviceId, ImmutableMap.of())
+                .containsKey(new FlowKey(table, selector));
+    }
+
+    /**
+     * Adds a pair of local and remote ports to a conjunction.
+     *
+     * @param deviceId device identifier
+     * @param table table of the conjunction
+     * @param conjId conjunction identifier
+     * @param local IP prefix of the local port
+     * @param localSelectors selectors of the local clause flows of the port
+     * @param remote IP prefix of the remote port
+     * @param remoteSelector selector of the remote clause flow of the port
+     */
+    synchronized void addPair(DeviceId deviceId, int table, int conjId,
+                              IpPrefix local, Set<TrafficSelector> localSelectors,
+                              IpPrefix remote, TrafficSelector remoteSelector) {
+        Conjunction conjunction = conjunctions
+                .computeIfAbsent(deviceId, id -> Maps.newHashMap())
+                .computeIfAbsent(conjId, id -> {
+                    if (writing) {
+                        writer.conjunctionFlow(deviceId, table, id, true);
+                    }
+                    return new Conjunction(table);
+                });
+
+        if (!conjunction.locals.containsKey(local)) {
+            conjunction.locals.put(local, ImmutableSet.copyOf(localSelectors));
+            localSelectors.forEach(selector -> join(deviceId, table, selector,
+                                                    new Clause(conjId, LOCAL_CLAUSE)));
+        }
+        if (!conjunction.remotes.containsKey(remote)) {
+            conjunction.remotes.put(remote, remoteSelector);
+            join(deviceId, table, remoteSelector, new Clause(conjId, REMOTE_CLAUSE));
+        }
+    }
+
+    /**
+     * Removes a local port from a conjunction. The conjunction is removed
+     * once it has no local port left.
+     *
+     * @param deviceId device identifier
+     * @param conjId conjunction identifier
+     * @param local IP prefix of the local port
+     */
+    synchronized void removeLocal(DeviceId deviceId, int conjId, IpPrefix local) {
+        Conjunction conjunction = conjunction(deviceId, conjId);
+        if (conjunction == null) {
+            return;
+        }
+        Set<TrafficSelector> selectors = conjunction.locals.remove(local);
+        if (selectors == null) {
+            return;
+        }
+        selectors.forEach(selector -> leave(deviceId, conjunction.table, selector,
+                                            new Clause(conjId, LOCAL_CLAUSE)));
+
+        if (conjunction.locals.isEmpty()) {
+            conjunction.remotes.values().forEach(selector ->
+                    leave(deviceId, conjunction.table, selector,
+                          new Clause(conjId, REMOTE_CLAUSE)));
+            conjunctions.get(deviceId).remove(conjId);
+            if (conjunctions.get(deviceId).isEmpty()) {
+                conjunctions.remove(deviceId);
+            }
+            writer.conjunctionFlow(deviceId, conjunction.table, conjId, false);
+        }
+    }
+
+    /**
+     * Removes a remote port from a conjunction.
+     *
+     * @param deviceId device identifier
+     * @param conjId conjunction identifier
+     * @param remote IP prefix of the remote port
+     */
+    synchronized void removeRemote(DeviceId deviceId, int conjId, IpPrefix remote) {
+        Conjunction conjunction = conjunction(deviceId, conjId);
+        if (conjunction == null) {
+            return;
+        }
+        TrafficSelector selector = conjunction.remotes.remove(remote);
+        if (selector != null) {
+            leave(deviceId, conjunction.table, selector, new Clause(conjId, REMOTE_CLAUSE));
+        }
+    }
+
+    /**
+     * Returns the number of flows installed on the given device.
+     *
+     * @param deviceId device identifier
+     * @return number of clause and conjunction flows
+     */
+    synchronized int flowCount(DeviceId deviceId) {
+        return conjunctions.getOrDefault(deviceId, Maps.newHashMap()).size() +
+                clauseFlows.getOrDefault(deviceId, Maps.newHashMap()).size();
+    }
+
+    private Conjunction conjunction(DeviceId deviceId, int conjId) {
+        Map<Integer, Conjunction> deviceConjunctions = conjunctions.get(deviceId);
+        return deviceConjunctions == null ? null : deviceConjunctions.get(conjId);
+    }
+
+    private void join(DeviceId deviceId, int table, TrafficSelector selector, Clause clause) {
+        Set<Clause> clauses = clauseFlows
+                .computeIfAbsent(deviceId, id -> Maps.newHashMap())
+                .computeIfAbsent(new FlowKey(table, selector), key -> Sets.newHashSet());
+        if (clauses.add(clause) && writing) {
+            writer.clauseFlow(deviceId, table, selector, ImmutableSet.copyOf(clauses));
+        }
+    }
+
+    private void leave(DeviceId deviceId, int table, TrafficSelector selector, Clause clause) {
+        Map<FlowKey, Set<Clause>> deviceFlows = clauseFlows.get(deviceId);
+        if (deviceFlows == null) {
+            return;
+        }
+        FlowKey key = new FlowKey(table, selector);
+        Set<Clause> clauses = deviceFlows.get(key);
+        if (clauses == null || !clauses.remove(clause)) {
+            return;
+        }
+        if (clauses.isEmpty()) {
+            deviceFlows.remove(key);
+            if (deviceFlows.isEmpty()) {
+                clauseFlows.remove(deviceId);
+            }
+        }
+        writer.clauseFlow(deviceId, table, selector, ImmutableSet.copyOf(clauses));
+    }
+
+    /**
+     * Writer of the flows of the conjunctions.
+     */
+    interface FlowWriter {
+
+        /**
+         * Installs a clause flow with the given clauses, replacing the
+         * previous version of the flow, or removes it if there is no clause.
+         *
+         * @param deviceId device identifier
+         * @param table table of the flow
+         * @param selector selector of the flow
+         * @param clauses clauses of the flow
+         */
+        void clauseFlow(DeviceId deviceId, int table, TrafficSelector selector,
+                        Set<Clause> clauses);
+
+        /**
+         * Installs or removes the flow matching a conjunction identifier.
+         *
+         * @param deviceId device identifier
+         * @param table table of the flow
+         * @param conjId conjunction identifier
+         * @param install true to install the flow, false to remove it
+         */
+        void conjunctionFlow(DeviceId deviceId, int table, int conjId, boolean install);
+    }
+
+    /**
+     * Clause of a conjunction.
+     */
+    static final class Clause {
+        private final int conjId;
+        private final int clause;
+
+        Clause(int conjId, int clause) {
+            this.conjId = conjId;
+            this.clause = clause;
+        }
+
+        int conjId() {
+            return conjId;
+        }
+
+        int clause() {
+            return clause;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj instanceof Clause) {
+                Clause that = (Clause) obj;
+                return conjId == that.conjId && clause == that.clause;
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(conjId, clause);
+        }
+
+        @Override
+        public String toString() {
+            return toStringHelper(this)
+                    .add("conjId", conjId)
+                    .add("clause", clause)
+                    .toString();
+        }
+    }
+
+    /**
+     * Local and remote ports of a conjunction installed on a device.
+     */
+    private static final class Conjunction {
+        private final int table;
+        private final Map<IpPrefix, Set<TrafficSelector>> locals = Maps.newHashMap();
+        private final Map<IpPrefix, TrafficSelector> remotes = Maps.newHashMap();
+
+        private Conjunction(int table) {
+            this.table = table;
+        }
+    }
+
+    /**
+     * Identity of a clause flow within a device.
+     */
+    private static final class FlowKey {
+        private final int table;
+        private final TrafficSelector selector;
+
+        private FlowKey(int table, TrafficSelector selector) {
+            this.table = table;
+            this.selector = selector;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj instanceof FlowKey) {
+                FlowKey that = (FlowKey) obj;
+                return table == that.table && selector.equals(that.selector);
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(table, selector);
+        }
+    }
+}
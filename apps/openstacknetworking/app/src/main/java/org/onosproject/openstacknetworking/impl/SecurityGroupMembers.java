@@ -0,0 +1,221 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.openstacknetworking.impl;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import com.google.common.collect.SetMultimap;
+import org.openstack4j.model.network.Port;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Index of the members of each security group. Ports are indexed by security
+ * group and by tenant, network and security group, so that the members of a
+ * remote security group are looked up without scanning all ports. Ports which
+ * are about to be removed are kept until their flow rules have been removed.
+ */
+final class SecurityGroupMembers {
+
+    // Known ports, by port identifier
+    private final Map<String, Member> ports = Maps.newHashMap();
+    // Port identifiers, by security group identifier
+    private final SetMultimap<String, String> bySecurityGroup = HashMultimap.create();
+    // Port identifiers, by tenant, network and security group identifiers
+    private final SetMultimap<MemberKey, String> byMemberKey = HashMultimap.create();
+
+    /**
+     * Adds the given port or updates its security groups.
+     *
+     * @param port openstack port
+     */
+    synchronized void updatePort(Port port) {
+        put(port, false);
+    }
+
+    /**
+     * Marks the given port as removed. The port is still returned as a member
+     * of its security groups when removed ports are included.
+     *
+     * @param port openstack port
+     */
+    synchronized void markRemoved(Port port) {
+        put(port, true);
+    }
+
+    /**
+     * Forgets about the given port.
+     *
+     * @param portId port identifier
+     */
+    synchronized void purge(String portId) {
+        Member member = ports.remove(portId);
+        if (member != null) {
+            unindex(member.port);
+        }
+    }
+
+    /**
+     * Replaces the content of the index with the given ports.
+     *
+     * @param livePorts all existing openstack ports
+     */
+    synchronized void reset(Collection<Port> livePorts) {
+        ports.clear();
+        bySecurityGroup.clear();
+        byMemberKey.clear();
+        livePorts.forEach(port -> put(port, false));
+    }
+
+    /**
+     * Returns the given port, even if removed.
+     *
+     * @param portId port identifier
+     * @return openstack port; null if unknown
+     */
+    synchronized Port port(String portId) {
+        Member member = ports.get(portId);
+        return member == null ? null : member.port;
+    }
+
+    /**
+     * Returns the ports which belong to the given security group.
+     *
+     * @param sgId security group identifier
+     * @param includeRemoved true to include the removed ports
+     * @return collection of openstack ports
+     */
+    synchronized Collection<Port> members(String sgId, boolean includeRemoved) {
+        return collect(bySecurityGroup.get(sgId), includeRemoved);
+    }
+
+    /**
+     * Returns the ports of the given tenant and network which belong to the
+     * given security group.
+     *
+     * @param tenantId tenant identifier
+     * @param networkId network identifier
+     * @param sgId security group identifier
+     * @param includeRemoved true to include the removed ports
+     * @return collection of openstack ports
+     */
+    synchronized Collection<Port> members(String tenantId, String networkId,
+                                          String sgId, boolean includeRemoved) {
+        return collect(byMemberKey.get(new MemberKey(tenantId, networkId, sgId)),
+                       includeRemoved);
+    }
+
+    private Collection<Port> collect(Collection<String> portIds, boolean includeRemoved) {
+        ImmutableList.Builder<Port> members = ImmutableList.builder();
+        portIds.forEach(portId -> {
+            Member member = ports.get(portId);
+            if (includeRemoved || !member.removed) {
+                members.add(member.port);
+            }
+        });
+        return members.build();
+    }
+
+    private void put(Port port, boolean removed) {
+        checkNotNull(port);
+        Member old = ports.put(port.getId(), new Member(port, removed));
+        if (old != null) {
+            unindex(old.port);
+        }
+        securityGroups(port).forEach(sgId -> {
+            bySecurityGroup.put(sgId, port.getId());
+            byMemberKey.put(new MemberKey(port.getTenantId(), port.getNetworkId(), sgId),
+                            port.getId());
+        });
+    }
+
+    private void unindex(Port port) {
+        securityGroups(port).forEach(sgId -> {
+            bySecurityGroup.remove(sgId, port.getId());
+            byMemberKey.remove(new MemberKey(port.getTenantId(), port.getNetworkId(), sgId),
+                               port.getId());
+        });
+    }
+
+    private static Collection<String> securityGroups(Port port) {
+        List<String> sgIds = port.getSecurityGroups();
+        return sgIds == null ? ImmutableSet.of() : ImmutableSet.copyOf(sgIds);
+    }
+
+    /**
+     * Indexed port.
+     */
+    private static final class Member {
+        private final Port port;
+        private final boolean removed;
+
+        private Member(Port port, boolean removed) {
+            this.port = port;
+            this.removed = removed;
+        }
+    }
+
+    /**
+     * Tenant, network and security group a port belongs to.
+     */
+    private static final class MemberKey {
+        private final String tenantId;
+        private final String networkId;
+        private final String sgId;
+
+        private MemberKey(String tenantId, String networkId, String sgId) {
+            this.tenantId = tenantId;
+            this.networkId = networkId;
+            this.sgId = sgId;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj instanceof MemberKey) {
+                MemberKey that = (MemberKey) obj;
+                return Objects.equals(tenantId, that.tenantId) &&
+                        Objects.equals(networkId, that.networkId) &&
+                        Objects.equals(sgId, that.sgId);
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(tenantId, networkId, sgId);
+        }
+
+        @Override
+        public String toString() {
+            return toStringHelper(this)
+                    .add("tenantId", tenantId)
+                    .add("networkId", networkId)
+                    .add("sgId", sgId)
+                    .toString();
+        }
+    }
+}
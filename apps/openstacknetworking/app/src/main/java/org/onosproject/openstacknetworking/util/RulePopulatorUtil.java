@@ -42,6 +42,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
+import static org.onosproject.net.flow.instructions.ExtensionTreatmentType.ExtensionTreatmentTypes.NICIRA_CONJUNCTION;
 import static org.onosproject.net.flow.instructions.ExtensionTreatmentType.ExtensionTreatmentTypes.NICIRA_LOAD;
 import static org.onosproject.net.flow.instructions.ExtensionTreatmentType.ExtensionTreatmentTypes.NICIRA_MOV_ARP_SHA_TO_THA;
 import static org.onosproject.net.flow.instructions.ExtensionTreatmentType.ExtensionTreatmentTypes.NICIRA_MOV_ARP_SPA_TO_TPA;
@@ -71,6 +72,10 @@ public final class RulePopulatorUtil {
     private static final String CT_PORT_MIN = "portMin";
     private static final String CT_PORT_MAX = "portMax";
     private static final String CT_NESTED_ACTIONS = "nestedActions";
+    private static final String CONJ_ID = "conjId";
+    private static final String CONJUNCTION_ID = "id";
+    private static final String CONJUNCTION_CLAUSE = "clause";
+    private static final String CONJUNCTION_N_CLAUSES = "nClauses";
 
     public static final int CT_NAT_SRC_FLAG = 0;
     public static final int CT_NAT_DST_FLAG = 1;
@@ -207,6 +212,64 @@ public final class RulePopulatorUtil {
         return extensionSelector;
     }
 
+    /**
+     * Builds OVS conjunction identifier match.
+     *
+     * @param driverService driver service
+     * @param deviceId device ID
+     * @param conjId conjunction identifier
+     * @return OVS conjunction identifier extension match
+     */
+    public static ExtensionSelector buildConjIdExtensionSelector(DriverService driverService,
+                                                                 DeviceId deviceId,
+                                                                 int conjId) {
+        DriverHandler handler = driverService.createHandler(deviceId);
+        ExtensionSelectorResolver esr = handler.behaviour(ExtensionSelectorResolver.class);
+
+        ExtensionSelector extensionSelector = esr.getExtensionSelector(
+                ExtensionSelectorType.ExtensionSelectorTypes.NICIRA_MATCH_CONJ_ID.type());
+        try {
+            extensionSelector.setPropertyValue(CONJ_ID, conjId);
+        } catch (Exception e) {
+            log.error("Failed to set nicira match conjunction id because of {}", e);
+            return null;
+        }
+
+        return extensionSelector;
+    }
+
+    /**
+     * Builds OVS conjunction action.
+     *
+     * @param driverService driver service
+     * @param deviceId device ID
+     * @param conjId conjunction identifier
+     * @param clause zero-based index of the clause matched by the flow
+     * @param nClauses number of clauses of the conjunction
+     * @return OVS conjunction extension treatment
+     */
+    public static ExtensionTreatment buildConjunctionExtension(DriverService driverService,
+                                                               DeviceId deviceId,
+                                                               int conjId,
+                                                               int clause,
+                                                               int nClauses) {
+        DriverHandler handler = driverService.createHandler(deviceId);
+        ExtensionTreatmentResolver etr = handler.behaviour(ExtensionTreatmentResolver.class);
+
+        ExtensionTreatment treatment = etr.getExtensionInstruction(NICIRA_CONJUNCTION.type());
+        try {
+            treatment.setPropertyValue(CONJUNCTION_ID, conjId);
+            treatment.setPropertyValue(CONJUNCTION_CLAUSE, clause);
+            treatment.setPropertyValue(CONJUNCTION_N_CLAUSES, nClauses);
+        } catch (ExtensionPropertyException e) {
+            log.error("Failed to set nicira conjunction extension treatment for {}",
+                    deviceId);
+            return null;
+        }
+
+        return treatment;
+    }
+
     /**
      * Returns the nicira load extension treatment.
      *
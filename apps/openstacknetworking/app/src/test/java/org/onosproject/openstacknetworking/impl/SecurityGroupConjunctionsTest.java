@@ -0,0 +1,228 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.openstacknetworking.impl;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import org.junit.Before;
+import org.junit.Test;
+import org.onlab.packet.Ethernet;
+import org.onlab.packet.IPv4;
+import org.onlab.packet.IpAddress;
+import org.onlab.packet.IpPrefix;
+import org.onlab.packet.TpPort;
+import org.onosproject.net.DeviceId;
+import org.onosproject.net.flow.DefaultTrafficSelector;
+import org.onosproject.net.flow.TrafficSelector;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.onosproject.openstacknetworking.api.Constants.ACL_INGRESS_TABLE;
+import static org.onosproject.openstacknetworking.impl.SecurityGroupConjunctions.LOCAL_CLAUSE;
+import static org.onosproject.openstacknetworking.impl.SecurityGroupConjunctions.REMOTE_CLAUSE;
+
+/**
+ * Unit tests for the compilation of security group rules into conjunctive flows.
+ */
+public class SecurityGroupConjunctionsTest {
+
+    private static final DeviceId DEV_ID = DeviceId.deviceId("of:0000000000000001");
+    private static final int CONJ_ID_1 = 1;
+    private static final int CONJ_ID_2 = 2;
+
+    private final Map<TrafficSelector, Set<SecurityGroupConjunctions.Clause>> clauseFlows =
+            Maps.newHashMap();
+    private final Set<Integer> conjunctionFlows = Sets.newHashSet();
+    private final Map<String, Integer> conjIds = Maps.newHashMap();
+
+    private SecurityGroupConjunctions conjunctions;
+
+    @Before
+    public void setUp() {
+        conjunctions = new SecurityGroupConjunctions(new TestFlowWriter(), conjIds);
+    }
+
+    /**
+     * Compares the number of flows installed for a rule referring to a remote
+     * security group with the number of flows needed without conjunctions.
+     */
+    @Test
+    public void testFlowCount() {
+        int locals = 50;
+        int remotes = 2000;
+        int portRanges = 3;
+
+        for (int local = 0; local < locals; local++) {
+            for (int remote = 0; remote < remotes; remote++) {
+                addPair(CONJ_ID_1, ip(local), portRanges, ip(locals + remote));
+            }
+        }
+
+        int pairwiseFlows = locals * remotes * portRanges;
+        int conjunctiveFlows = locals * portRanges + remotes + 1;
+        assertThat(conjunctions.flowCount(DEV_ID), is(conjunctiveFlows));
+        assertThat(clauseFlows.size() + conjunctionFlows.size(), is(conjunctiveFlows));
+        assertThat(pairwiseFlows / conjunctiveFlows > 50, is(true));
+    }
+
+    /**
+     * Tests that a clause flow is shared by the conjunctions it belongs to.
+     */
+    @Test
+    public void testSharedClauseFlow() {
+        addPair(CONJ_ID_1, ip(1), 1, ip(2));
+        addPair(CONJ_ID_2, ip(1), 1, ip(3));
+
+        assertThat(clauseFlows.get(localSelector(ip(1), 0)),
+                   is(ImmutableSet.of(new SecurityGroupConjunctions.Clause(CONJ_ID_1, LOCAL_CLAUSE),
+                                      new SecurityGroupConjunctions.Clause(CONJ_ID_2, LOCAL_CLAUSE))));
+        assertThat(conjunctions.flowCount(DEV_ID), is(5));
+
+        conjunctions.removeLocal(DEV_ID, CONJ_ID_2, ip(1));
+        assertThat(clauseFlows.get(localSelector(ip(1), 0)),
+                   is(ImmutableSet.of(new SecurityGroupConjunctions.Clause(CONJ_ID_1, LOCAL_CLAUSE))));
+        assertThat(conjunctionFlows, is(ImmutableSet.of(CONJ_ID_1)));
+        assertThat(conjunctions.flowCount(DEV_ID), is(3));
+    }
+
+    /**
+     * Tests that a conjunction is removed along with its last local port,
+     * while removing a remote port only removes its clause.
+     */
+    @Test
+    public void testRemove() {
+        addPair(CONJ_ID_1, ip(1), 1, ip(3));
+        addPair(CONJ_ID_1, ip(2), 1, ip(3));
+        addPair(CONJ_ID_1, ip(2), 1, ip(4));
+        assertThat(conjunctions.flowCount(DEV_ID), is(5));
+
+        conjunctions.removeRemote(DEV_ID, CONJ_ID_1, ip(3));
+        assertThat(clauseFlows.containsKey(remoteSelector(ip(3))), is(false));
+        assertThat(clauseFlows.get(remoteSelector(ip(4))),
+                   is(ImmutableSet.of(new SecurityGroupConjunctions.Clause(CONJ_ID_1, REMOTE_CLAUSE))));
+
+        conjunctions.removeLocal(DEV_ID, CONJ_ID_1, ip(1));
+        assertThat(conjunctionFlows, is(ImmutableSet.of(CONJ_ID_1)));
+        conjunctions.removeLocal(DEV_ID, CONJ_ID_1, ip(2));
+        assertThat(conjunctionFlows.isEmpty(), is(true));
+        assertThat(clauseFlows.isEmpty(), is(true));
+        assertThat(conjunctions.flowCount(DEV_ID), is(0));
+    }
+
+    /**
+     * Tests that a conjunction identifier colliding with the one of another
+     * rule is probed onwards, and released along with its rule.
+     */
+    @Test
+    public void testConjunctionIdCollision() {
+        String key = SecurityGroupConjunctions.conjunctionKey("rule-1", "INGRESS", false);
+        int hash = SecurityGroupConjunctions.conjunctionHash(key);
+        conjIds.put("rule-2/INGRESS/false", hash);
+
+        int conjId = conjunctions.conjunctionId("rule-1", "INGRESS", false);
+        assertThat(conjId, is(hash + 1));
+        assertThat(conjunctions.conjunctionId("rule-1", "INGRESS", false), is(conjId));
+        assertThat(conjunctions.conjunctionId("rule-1", "EGRESS", false) == conjId, is(false));
+
+        conjunctions.releaseConjunctionIds("rule-1");
+        assertThat(conjIds.keySet(), is(ImmutableSet.of("rule-2/INGRESS/false")));
+    }
+
+    /**
+     * Tests that rebuilding the state rewrites the flows of the current pairs
+     * only, with all their clauses, so that later removals find them.
+     */
+    @Test
+    public void testRebuild() {
+        addPair(CONJ_ID_1, ip(1), 1, ip(2));
+        addPair(CONJ_ID_2, ip(3), 1, ip(4));
+
+        // as on a new leader, whose writes replace the flows of the device
+        conjunctionFlows.clear();
+        clauseFlows.clear();
+        conjunctions.rebuild(() -> {
+            addPair(CONJ_ID_1, ip(1), 1, ip(2));
+            addPair(CONJ_ID_1, ip(1), 1, ip(5));
+        });
+
+        assertThat(conjunctionFlows, is(ImmutableSet.of(CONJ_ID_1)));
+        assertThat(clauseFlows.keySet(), is(ImmutableSet.of(localSelector(ip(1), 0),
+                                                            remoteSelector(ip(2)),
+                                                            remoteSelector(ip(5)))));
+        assertThat(conjunctions.conjunctionIds(DEV_ID), is(ImmutableSet.of(CONJ_ID_1)));
+        assertThat(conjunctions.hasClauseFlow(DEV_ID, ACL_INGRESS_TABLE, remoteSelector(ip(4))),
+                   is(false));
+
+        conjunctions.removeLocal(DEV_ID, CONJ_ID_1, ip(1));
+        assertThat(conjunctionFlows.isEmpty(), is(true));
+        assertThat(clauseFlows.isEmpty(), is(true));
+    }
+
+    private void addPair(int conjId, IpPrefix local, int portRanges, IpPrefix remote) {
+        Set<TrafficSelector> localSelectors = Sets.newHashSet();
+        for (int i = 0; i < portRanges; i++) {
+            localSelectors.add(localSelector(local, i));
+        }
+        conjunctions.addPair(DEV_ID, ACL_INGRESS_TABLE, conjId,
+                             local, localSelectors, remote, remoteSelector(remote));
+    }
+
+    private static IpPrefix ip(int index) {
+        return IpAddress.valueOf(0x0a000000 + index).toIpPrefix();
+    }
+
+    private static TrafficSelector localSelector(IpPrefix local, int portRange) {
+        return DefaultTrafficSelector.builder()
+                .matchEthType(Ethernet.TYPE_IPV4)
+                .matchIPDst(local)
+                .matchIPProtocol(IPv4.PROTOCOL_TCP)
+                .matchTcpDst(TpPort.tpPort(1000 + portRange))
+                .build();
+    }
+
+    private static TrafficSelector remoteSelector(IpPrefix remote) {
+        return DefaultTrafficSelector.builder()
+                .matchEthType(Ethernet.TYPE_IPV4)
+                .matchIPSrc(remote)
+                .build();
+    }
+
+    private class TestFlowWriter implements SecurityGroupConjunctions.FlowWriter {
+
+        @Override
+        public void clauseFlow(DeviceId deviceId, int table, TrafficSelector selector,
+                               Set<SecurityGroupConjunctions.Clause> clauses) {
+            if (clauses.isEmpty()) {
+                clauseFlows.remove(selector);
+            } else {
+                clauseFlows.put(selector, clauses);
+            }
+        }
+
+        @Override
+        public void conjunctionFlow(DeviceId deviceId, int table, int conjId, boolean install) {
+            if (install) {
+                conjunctionFlows.add(conjId);
+            } else {
+                conjunctionFlows.remove(conjId);
+            }
+        }
+    }
+}
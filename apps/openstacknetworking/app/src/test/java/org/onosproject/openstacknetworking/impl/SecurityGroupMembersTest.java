@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.openstacknetworking.impl;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Before;
+import org.junit.Test;
+import org.openstack4j.model.network.Port;
+import org.openstack4j.openstack.networking.domain.NeutronPort;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Unit tests for the security group member index.
+ */
+public class SecurityGroupMembersTest {
+
+    private static final String TENANT_1 = "tenant-1";
+    private static final String TENANT_2 = "tenant-2";
+    private static final String NETWORK_1 = "network-1";
+    private static final String NETWORK_2 = "network-2";
+    private static final String SG_1 = "sg-1";
+    private static final String SG_2 = "sg-2";
+
+    private SecurityGroupMembers members;
+
+    @Before
+    public void setUp() {
+        members = new SecurityGroupMembers();
+        members.reset(ImmutableList.of(
+                port("port-1", TENANT_1, NETWORK_1, SG_1),
+                port("port-2", TENANT_1, NETWORK_1, SG_1, SG_2),
+                port("port-3", TENANT_1, NETWORK_2, SG_1),
+                port("port-4", TENANT_2, NETWORK_1, SG_1)));
+    }
+
+    /**
+     * Tests the lookup of the members of a security group.
+     */
+    @Test
+    public void testMembers() {
+        assertThat(ids(members.members(SG_1, false)),
+                   is(ImmutableSet.of("port-1", "port-2", "port-3", "port-4")));
+        assertThat(ids(members.members(SG_2, false)), is(ImmutableSet.of("port-2")));
+        assertThat(ids(members.members(TENANT_1, NETWORK_1, SG_1, false)),
+                   is(ImmutableSet.of("port-1", "port-2")));
+        assertThat(members.members("sg-3", true).isEmpty(), is(true));
+    }
+
+    /**
+     * Tests that updating a port moves it between security groups.
+     */
+    @Test
+    public void testUpdatePort() {
+        members.updatePort(port("port-2", TENANT_1, NETWORK_1, SG_2));
+
+        assertThat(ids(members.members(TENANT_1, NETWORK_1, SG_1, false)),
+                   is(ImmutableSet.of("port-1")));
+        assertThat(ids(members.members(SG_2, false)), is(ImmutableSet.of("port-2")));
+
+        members.updatePort(port("port-5", TENANT_1, NETWORK_1, SG_1));
+        assertThat(ids(members.members(TENANT_1, NETWORK_1, SG_1, false)),
+                   is(ImmutableSet.of("port-1", "port-5")));
+    }
+
+    /**
+     * Tests that removed ports are only returned until they are purged.
+     */
+    @Test
+    public void testRemovedPort() {
+        members.markRemoved(port("port-1", TENANT_1, NETWORK_1, SG_1));
+
+        assertThat(ids(members.members(TENANT_1, NETWORK_1, SG_1, false)),
+                   is(ImmutableSet.of("port-2")));
+        assertThat(ids(members.members(TENANT_1, NETWORK_1, SG_1, true)),
+                   is(ImmutableSet.of("port-1", "port-2")));
+
+        members.purge("port-1");
+        assertThat(ids(members.members(SG_1, true)),
+                   is(ImmutableSet.of("port-2", "port-3", "port-4")));
+    }
+
+    private static Port port(String id, String tenantId, String networkId,
+                             String... sgIds) {
+        NeutronPort.PortConcreteBuilder builder = NeutronPort.builder()
+                .tenantId(tenantId)
+                .networkId(networkId);
+        for (String sgId : sgIds) {
+            builder.securityGroup(sgId);
+        }
+        Port port = builder.build();
+        port.setId(id);
+        return port;
+    }
+
+    private static Set<String> ids(Collection<Port> ports) {
+        return ports.stream().map(Port::getId).collect(Collectors.toSet());
+    }
+}
@@ -119,4 +119,7 @@ public final class OsgiPropertyConstants {
     public static final String PROP_WIN_THRES_ICMP6 = "winThresIcmp6";
     public static final int WIN_THRES_ICMP6_DEFAULT = 10;
 
+    public static final String PROP_PER_SOURCE_THROTTLE = "perSourceThrottle";
+    public static final boolean PER_SOURCE_THROTTLE_DEFAULT = true;
+
 }
@@ -26,6 +26,8 @@ import org.onosproject.cfg.ComponentConfigService;
 import org.onosproject.net.packet.PacketInFilter;
 import org.onosproject.net.packet.PacketService;
 import org.onosproject.net.packet.packetfilter.DefaultPacketInFilter;
+import org.onosproject.net.packet.packetfilter.FairPacketInFilter;
+import org.onosproject.net.packet.PacketInClassifier;
 import org.onosproject.net.packet.packetfilter.ArpPacketClassifier;
 import org.onosproject.net.packet.packetfilter.Dhcp6IndirectPacketClassifier;
 import org.onosproject.net.packet.packetfilter.Dhcp6DirectPacketClassifier;
@@ -99,6 +101,8 @@ import static org.onosproject.packetthrottle.OsgiPropertyConstants.PROP_WIN_THRE
 import static org.onosproject.packetthrottle.OsgiPropertyConstants.WIN_THRES_ICMP_DEFAULT;
 import static org.onosproject.packetthrottle.OsgiPropertyConstants.PROP_WIN_THRES_ICMP6;
 import static org.onosproject.packetthrottle.OsgiPropertyConstants.WIN_THRES_ICMP6_DEFAULT;
+import static org.onosproject.packetthrottle.OsgiPropertyConstants.PROP_PER_SOURCE_THROTTLE;
+import static org.onosproject.packetthrottle.OsgiPropertyConstants.PER_SOURCE_THROTTLE_DEFAULT;
 
 import org.osgi.service.component.ComponentContext;
 import org.slf4j.Logger;
@@ -149,7 +153,8 @@ import static org.onlab.util.Tools.get;
                 PROP_WIN_THRES_DHCP6_DIRECT + ":Integer=" + WIN_THRES_DHCP6_DIRECT_DEFAULT,
                 PROP_WIN_THRES_DHCP6_INDIRECT + ":Integer=" + WIN_THRES_DHCP6_INDIRECT_DEFAULT,
                 PROP_WIN_THRES_ICMP + ":Integer=" + WIN_THRES_ICMP_DEFAULT,
-                PROP_WIN_THRES_ICMP6 + ":Integer=" + WIN_THRES_ICMP6_DEFAULT
+                PROP_WIN_THRES_ICMP6 + ":Integer=" + WIN_THRES_ICMP6_DEFAULT,
+                PROP_PER_SOURCE_THROTTLE + ":Boolean=" + PER_SOURCE_THROTTLE_DEFAULT
         }
 )
 public class PacketThrottleManager implements PacketThrottleService {
@@ -256,6 +261,13 @@ public class PacketThrottleManager implements PacketThrottleService {
 
     private int winThresIcmp6 = WIN_THRES_ICMP6_DEFAULT;
 
+    /**
+     * Enables the sharing of the packet rate of each type between the packet
+     * sources, ingress ports and source MAC addresses, instead of throttling
+     * each type as a whole.
+     */
+    private boolean perSourceThrottle = PER_SOURCE_THROTTLE_DEFAULT;
+
 
 
 
@@ -585,6 +597,7 @@ public class PacketThrottleManager implements PacketThrottleService {
         checkChangeInWinSize(context);
         checkChangeInGuardTime(context);
         checkChangeInWinThres(context);
+        checkChangeInPerSourceThrottle(context);
 
         log.info("Reconfigured ppsArp: {} ppsDhcp: {} ppsNs: {} ppsNa: {} " +
                 "ppsDhcp6Direct: {} ppsDhcp6Indirect: {} ppsIcmp: {} ppsIcmp6: {}",
@@ -607,47 +620,68 @@ public class PacketThrottleManager implements PacketThrottleService {
                  winThresDhcp6Indirect, winThresIcmp, winThresIcmp6);
     }
 
+    private void checkChangeInPerSourceThrottle(ComponentContext context) {
+        Dictionary<?, ?> properties = context.getProperties();
+        String s = get(properties, PROP_PER_SOURCE_THROTTLE);
+        boolean newPerSourceThrottle = isNullOrEmpty(s) ? perSourceThrottle : Boolean.parseBoolean(s.trim());
+        if (newPerSourceThrottle != perSourceThrottle) {
+            perSourceThrottle = newPerSourceThrottle;
+            log.info("Reconfigured perSourceThrottle: {}", perSourceThrottle);
+            removeAllFilters();
+            createAllFilters();
+        }
+    }
+
     /**
      * Create all required filters.
      */
     private void createAllFilters() {
-        DefaultPacketInFilter filter;
+        PacketInFilter filter;
         ArpPacketClassifier arp = new ArpPacketClassifier();
-        filter = new DefaultPacketInFilter(ppsArp, winSizeArp, guardTimeArp, winThresArp, ARP_FILTER, arp);
+        filter = newFilter(ppsArp, winSizeArp, guardTimeArp, winThresArp, ARP_FILTER, arp);
         packetService.addFilter(filter);
         mapCounterFilter.put(filter.name(), filter);
         DhcpPacketClassifier dhcp4 = new DhcpPacketClassifier();
-        filter = new DefaultPacketInFilter(ppsDhcp, winSizeDhcp, guardTimeDhcp, winThresDhcp, DHCP_FILTER, dhcp4);
+        filter = newFilter(ppsDhcp, winSizeDhcp, guardTimeDhcp, winThresDhcp, DHCP_FILTER, dhcp4);
         packetService.addFilter(filter);
         mapCounterFilter.put(filter.name(), filter);
         Dhcp6DirectPacketClassifier dhcp6Direct = new Dhcp6DirectPacketClassifier();
-        filter = new DefaultPacketInFilter(ppsDhcp6Direct, winSizeDhcp6Direct, guardTimeDhcp6Direct,
-                                           winThresDhcp6Direct, DHCP6_DIRECT_FILTER, dhcp6Direct);
+        filter = newFilter(ppsDhcp6Direct, winSizeDhcp6Direct, guardTimeDhcp6Direct,
+                           winThresDhcp6Direct, DHCP6_DIRECT_FILTER, dhcp6Direct);
         packetService.addFilter(filter);
         mapCounterFilter.put(filter.name(), filter);
         Dhcp6IndirectPacketClassifier dhcp6Indirect = new Dhcp6IndirectPacketClassifier();
-        filter = new DefaultPacketInFilter(ppsDhcp6Direct, winSizeDhcp6Direct, guardTimeDhcp6Direct,
-                                           winThresDhcp6Direct, DHCP6_INDIRECT_FILTER, dhcp6Indirect);
+        filter = newFilter(ppsDhcp6Direct, winSizeDhcp6Direct, guardTimeDhcp6Direct,
+                           winThresDhcp6Direct, DHCP6_INDIRECT_FILTER, dhcp6Indirect);
         packetService.addFilter(filter);
         mapCounterFilter.put(filter.name(), filter);
         NAPacketClassifier na = new NAPacketClassifier();
-        filter = new DefaultPacketInFilter(ppsNa, winSizeNa, guardTimeNa, winThresNa, NA_FILTER, na);
+        filter = newFilter(ppsNa, winSizeNa, guardTimeNa, winThresNa, NA_FILTER, na);
         packetService.addFilter(filter);
         mapCounterFilter.put(filter.name(), filter);
         NSPacketClassifier ns = new NSPacketClassifier();
-        filter = new DefaultPacketInFilter(ppsNs, winSizeNs, guardTimeNs, winThresNs, NS_FILTER, ns);
+        filter = newFilter(ppsNs, winSizeNs, guardTimeNs, winThresNs, NS_FILTER, ns);
         packetService.addFilter(filter);
         mapCounterFilter.put(filter.name(), filter);
         IcmpPacketClassifier icmp = new IcmpPacketClassifier();
-        filter = new DefaultPacketInFilter(ppsIcmp, winSizeIcmp, guardTimeIcmp, winThresIcmp, ICMP_FILTER, icmp);
+        filter = newFilter(ppsIcmp, winSizeIcmp, guardTimeIcmp, winThresIcmp, ICMP_FILTER, icmp);
         packetService.addFilter(filter);
         mapCounterFilter.put(filter.name(), filter);
         Icmp6PacketClassifier icmp6 = new Icmp6PacketClassifier();
-        filter = new DefaultPacketInFilter(ppsIcmp6, winSizeIcmp6, guardTimeIcmp6, winThresIcmp6, ICMP6_FILTER, icmp6);
+        filter = newFilter(ppsIcmp6, winSizeIcmp6, guardTimeIcmp6, winThresIcmp6, ICMP6_FILTER, icmp6);
         packetService.addFilter(filter);
         mapCounterFilter.put(filter.name(), filter);
     }
 
+    // Creates a filter of the configured kind
+    private PacketInFilter newFilter(int pps, int winSize, int guardTime, int winThres,
+                                     String counterName, PacketInClassifier classifier) {
+        if (perSourceThrottle) {
+            return new FairPacketInFilter(pps, winSize, guardTime, winThres, counterName, classifier);
+        }
+        return new DefaultPacketInFilter(pps, winSize, guardTime, winThres, counterName, classifier);
+    }
+
     /**
      * Delete all the filters.
      */
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.packetthrottle.cli;
+
+import org.apache.karaf.shell.api.action.Command;
+import org.apache.karaf.shell.api.action.Option;
+import org.apache.karaf.shell.api.action.lifecycle.Service;
+import org.onosproject.cli.AbstractShellCommand;
+import org.onosproject.net.packet.PacketInFilter;
+import org.onosproject.net.packet.packetfilter.FairPacketInFilter;
+import org.onosproject.packetthrottle.api.PacketThrottleService;
+
+/**
+ * Displays the packet sources which sent the most packets of each throttled type.
+ */
+@Service
+@Command(scope = "onos", name = "pkt-stats-top-talkers",
+        description = "Displays the packet sources sending the most packets of each throttled type")
+public class PacketTopTalkersShowCommand extends AbstractShellCommand {
+
+    private static final String TYPE_FORMAT = "PacketType = %s";
+    private static final String FORMAT = "  source=%s, admitted=%d, dropped=%d, blocked=%s";
+
+    @Option(name = "-n", aliases = "--count",
+            description = "Number of sources to display per packet type",
+            required = false, multiValued = false)
+    private int count = 10;
+
+    @Override
+    protected void doExecute() {
+        PacketThrottleService packetThrottleService = get(PacketThrottleService.class);
+        for (PacketInFilter filter : packetThrottleService.filterMap().values()) {
+            if (!(filter instanceof FairPacketInFilter)) {
+                continue;
+            }
+            print(TYPE_FORMAT, filter.name());
+            ((FairPacketInFilter) filter).topTalkers(count).forEach(
+                    stats -> print(FORMAT, stats.source(), stats.admitted(),
+                                   stats.dropped(), stats.blocked()));
+        }
+    }
+}
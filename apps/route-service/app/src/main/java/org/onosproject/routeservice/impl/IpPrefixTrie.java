@@ -0,0 +1,303 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.routeservice.impl;
+
+import com.google.common.collect.ImmutableList;
+import org.onlab.packet.IpAddress;
+import org.onlab.packet.IpPrefix;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Path-compressed binary trie mapping IP prefixes of a single IP version
+ * to values, supporting longest prefix match lookups.
+ * <p>
+ * Updates are serialized on the trie while lookups are lock-free: nodes are
+ * fully built before being linked into the trie, so readers always observe
+ * a consistent structure. Lookups walk the address bits in place and do not
+ * allocate.
+ * </p>
+ *
+ * @param <V> type of the values
+ */
+final class IpPrefixTrie<V> {
+
+    private final IpAddress.Version version;
+    private final int maxLength;
+    private final Node<V> root;
+    private volatile int size;
+
+    /**
+     * Creates a new empty trie for the given IP version.
+     *
+     * @param version IP version of the prefixes stored in the trie
+     */
+    IpPrefixTrie(IpAddress.Version version) {
+        this.version = checkNotNull(version);
+        this.maxLength = version == IpAddress.Version.INET ?
+                IpAddress.INET_BIT_LENGTH : IpAddress.INET6_BIT_LENGTH;
+        // The root stands for the zero length prefix and never compares its key
+        this.root = new Node<>(null, 0, null);
+    }
+
+    /**
+     * Returns the number of prefixes in the trie.
+     *
+     * @return number of prefixes
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Associates a value with the given prefix.
+     *
+     * @param prefix IP prefix
+     * @param value value to store
+     * @return value previously associated with the prefix, or null
+     */
+    synchronized V put(IpPrefix prefix, V value) {
+        checkNotNull(value);
+        checkVersion(prefix.address());
+        IpAddress key = prefix.address();
+        int length = prefix.prefixLength();
+
+        Node<V> node = root;
+        while (node.length < length) {
+            boolean bit = key.isBitSet(node.length);
+            Node<V> child = node.child(bit);
+            if (child == null) {
+                node.setChild(bit, new Node<>(key, length, value));
+                size++;
+                return null;
+            }
+
+            int common = commonLength(child.key, key, node.length + 1, Math.min(child.length, length));
+            if (common == child.length) {
+                // The child is the prefix itself or one of its ancestors
+                node = child;
+                continue;
+            }
+
+            if (common == length) {
+                // The new prefix sits between the node and its child
+                Node<V> inserted = new Node<>(key, length, value);
+                inserted.setChild(child.key.isBitSet(length), child);
+                node.setChild(bit, inserted);
+            } else {
+                // The new prefix and the child diverge below the node
+                Node<V> branch = new Node<>(key, common, null);
+                branch.setChild(key.isBitSet(common), new Node<>(key, length, value));
+                branch.setChild(child.key.isBitSet(common), child);
+                node.setChild(bit, branch);
+            }
+            size++;
+            return null;
+        }
+
+        V old = node.value;
+        node.value = value;
+        if (old == null) {
+            size++;
+        }
+        return old;
+    }
+
+    /**
+     * Removes the value associated with the given prefix.
+     *
+     * @param prefix IP prefix
+     * @return value previously associated with the prefix, or null
+     */
+    synchronized V remove(IpPrefix prefix) {
+        checkVersion(prefix.address());
+        IpAddress key = prefix.address();
+        int length = prefix.prefixLength();
+
+        Node<V> grandParent = null;
+        Node<V> parent = null;
+        Node<V> node = root;
+        while (node.length < length) {
+            Node<V> child = node.child(key.isBitSet(node.length));
+            if (child == null || child.length > length ||
+                    commonLength(child.key, key, node.length + 1, child.length) != child.length) {
+                return null;
+            }
+            grandParent = parent;
+            parent = node;
+            node = child;
+        }
+
+        V old = node.value;
+        if (old == null) {
+            return null;
+        }
+        node.value = null;
+        size--;
+
+        if (parent != null) {
+            // Drop the node if it no longer carries a value or a branch
+            compact(parent, node);
+            if (grandParent != null && parent.value == null && parent.childCount() == 1) {
+                compact(grandParent, parent);
+            }
+        }
+        return old;
+    }
+
+    /**
+     * Returns the value associated with exactly the given prefix.
+     *
+     * @param prefix IP prefix
+     * @return value, or null if there is none
+     */
+    V get(IpPrefix prefix) {
+        if (prefix.address().version() != version) {
+            return null;
+        }
+        IpAddress key = prefix.address();
+        int length = prefix.prefixLength();
+
+        Node<V> node = root;
+        while (node.length < length) {
+            Node<V> child = node.child(key.isBitSet(node.length));
+            if (child == null || child.length > length ||
+                    commonLength(child.key, key, node.length + 1, child.length) != child.length) {
+                return null;
+            }
+            node = child;
+        }
+        return node.value;
+    }
+
+    /**
+     * Returns the value of the most specific prefix containing the address.
+     *
+     * @param address IP address
+     * @return value, or null if no prefix contains the address
+     */
+    V longestPrefixMatch(IpAddress address) {
+        if (address.version() != version) {
+            return null;
+        }
+        V best = root.value;
+        Node<V> node = root;
+        while (node.length < maxLength) {
+            Node<V> child = node.child(address.isBitSet(node.length));
+            if (child == null ||
+                    commonLength(child.key, address, node.length + 1, child.length) != child.length) {
+                break;
+            }
+            V value = child.value;
+            if (value != null) {
+                best = value;
+            }
+            node = child;
+        }
+        return best;
+    }
+
+    /**
+     * Returns all values in the trie, shorter prefixes first and ordered
+     * by prefix bits.
+     *
+     * @return list of values
+     */
+    List<V> values() {
+        ImmutableList.Builder<V> values = ImmutableList.builder();
+        Deque<Node<V>> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            Node<V> node = stack.pop();
+            V value = node.value;
+            if (value != null) {
+                values.add(value);
+            }
+            Node<V> one = node.one;
+            if (one != null) {
+                stack.push(one);
+            }
+            Node<V> zero = node.zero;
+            if (zero != null) {
+                stack.push(zero);
+            }
+        }
+        return values.build();
+    }
+
+    private void checkVersion(IpAddress address) {
+        checkArgument(address.version() == version,
+                      "Expected an %s prefix, got %s", version, address);
+    }
+
+    // Replaces the valueless node with its only child, or unlinks it if it is a leaf
+    private void compact(Node<V> parent, Node<V> node) {
+        if (node.value != null || node.childCount() > 1) {
+            return;
+        }
+        Node<V> replacement = node.zero != null ? node.zero : node.one;
+        parent.setChild(node.key.isBitSet(parent.length), replacement);
+    }
+
+    // Returns the index of the first bit in [from, to) where the keys differ, or to
+    private static int commonLength(IpAddress a, IpAddress b, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (a.isBitSet(i) != b.isBitSet(i)) {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    /**
+     * Trie node covering the first length bits of its key.
+     */
+    private static final class Node<V> {
+        private final IpAddress key;
+        private final int length;
+        private volatile V value;
+        private volatile Node<V> zero;
+        private volatile Node<V> one;
+
+        private Node(IpAddress key, int length, V value) {
+            this.key = key;
+            this.length = length;
+            this.value = value;
+        }
+
+        private Node<V> child(boolean bit) {
+            return bit ? one : zero;
+        }
+
+        private void setChild(boolean bit, Node<V> child) {
+            if (bit) {
+                one = child;
+            } else {
+                zero = child;
+            }
+        }
+
+        private int childCount() {
+            return (zero != null ? 1 : 0) + (one != null ? 1 : 0);
+        }
+    }
+}
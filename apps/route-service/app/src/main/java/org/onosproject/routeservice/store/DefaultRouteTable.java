@@ -21,6 +21,8 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -60,11 +62,18 @@ public class DefaultRouteTable implements RouteTable {
     // the serialized bytes are consistent whether e.g. IpAddress or Ip4Address is used when storing a route.
     private final ConsistentMultimap<String, RawRoute> routes;
 
+    // Local index of the prefixes reachable through each next hop. It is fed by
+    // the route map listener so that next hop lookups do not scan the whole map.
+    // It is only modified on the executor, and replaced whenever it is rebuilt.
+    private volatile Map<IpAddress, Set<String>> nextHopIndex = new ConcurrentHashMap<>();
+
     private final RouteStoreDelegate delegate;
     private final ExecutorService executor;
     private final RouteTableListener listener = new RouteTableListener();
 
     private final Consumer<DistributedPrimitive.Status> statusChangeListener;
+    // Set once the route map is disconnected, as events may then be missed
+    private volatile boolean disconnected = false;
 
     /**
      * Creates a new route table.
@@ -81,21 +90,55 @@ public class DefaultRouteTable implements RouteTable {
         this.routes = buildRouteMap(checkNotNull(storageService));
         this.executor = checkNotNull(executor);
 
+        // The routes are only reloaded when the map comes back after being
+        // disconnected; on start-up, the scan below is enough
         statusChangeListener = status -> {
-            if (status.equals(DistributedPrimitive.Status.ACTIVE)) {
-                executor.execute(this::notifyExistingRoutes);
+            if (!status.equals(DistributedPrimitive.Status.ACTIVE)) {
+                disconnected = true;
+            } else if (disconnected) {
+                disconnected = false;
+                executor.execute(this::loadExistingRoutes);
             }
         };
         routes.addStatusChangeListener(statusChangeListener);
 
-        notifyExistingRoutes();
-
+        // The listener and the scan both run on the executor, so that the
+        // events received meanwhile are applied on top of the rebuilt index
         routes.addListener(listener, executor);
+        executor.execute(this::loadExistingRoutes);
     }
 
-    private void notifyExistingRoutes() {
-        getRoutes().forEach(routeSet -> delegate.notify(
-            new InternalRouteEvent(InternalRouteEvent.Type.ROUTE_ADDED, routeSet)));
+    // Rebuilds the next hop index and notifies the existing routes out of a
+    // single scan of the route map.
+    private void loadExistingRoutes() {
+        Map<IpAddress, Set<String>> rebuiltIndex = new ConcurrentHashMap<>();
+        Map<String, Set<Route>> existingRoutes = new HashMap<>();
+        routes.stream()
+            .map(Map.Entry::getValue)
+            .forEach(route -> {
+                index(rebuiltIndex, route);
+                existingRoutes.computeIfAbsent(route.prefix(), k -> Sets.newHashSet()).add(route.route());
+            });
+        nextHopIndex = rebuiltIndex;
+
+        existingRoutes.forEach((prefix, routeSet) -> delegate.notify(
+            new InternalRouteEvent(InternalRouteEvent.Type.ROUTE_ADDED,
+                                   new RouteSet(id, IpPrefix.valueOf(prefix), routeSet))));
+    }
+
+    private void index(Map<IpAddress, Set<String>> index, RawRoute route) {
+        index.compute(IpAddress.valueOf(route.nextHop()), (nextHop, prefixes) -> {
+            Set<String> updated = prefixes != null ? prefixes : ConcurrentHashMap.newKeySet();
+            updated.add(route.prefix());
+            return updated;
+        });
+    }
+
+    private void unindex(RawRoute route) {
+        nextHopIndex.computeIfPresent(IpAddress.valueOf(route.nextHop()), (nextHop, prefixes) -> {
+            prefixes.remove(route.prefix());
+            return prefixes.isEmpty() ? null : prefixes;
+        });
     }
 
     private ConsistentMultimap<String, RawRoute> buildRouteMap(StorageService storageService) {
@@ -121,6 +164,7 @@ public class DefaultRouteTable implements RouteTable {
     public void shutdown() {
         routes.removeStatusChangeListener(statusChangeListener);
         routes.removeListener(listener);
+        nextHopIndex.clear();
     }
 
     @Override
@@ -191,34 +235,42 @@ public class DefaultRouteTable implements RouteTable {
 
     @Override
     public Collection<Route> getRoutesForNextHop(IpAddress nextHop) {
-        return routes.stream()
-            .map(Map.Entry::getValue)
-            .filter(r -> IpAddress.valueOf(r.nextHop()).equals(nextHop))
+        Set<String> prefixes = nextHopIndex.get(nextHop);
+        if (prefixes == null) {
+            return Collections.emptySet();
+        }
+        String nextHopString = nextHop.toString();
+        return prefixes.stream()
+            .map(prefix -> Versioned.valueOrNull(routes.get(prefix)))
+            .filter(Objects::nonNull)
+            .flatMap(Collection::stream)
+            .filter(r -> r.nextHop().equals(nextHopString))
             .map(RawRoute::route)
             .collect(Collectors.toSet());
     }
 
     @Override
     public Collection<RouteSet> getRoutesForNextHops(Collection<IpAddress> nextHops) {
-        // First create a reduced snapshot of the store iterating one time the map
-        Map<String, Collection<? extends RawRoute>> filteredRouteStore = new HashMap<>();
-        routes.stream()
-                .map(Map.Entry::getValue)
-                .filter(r -> nextHops.contains(IpAddress.valueOf(r.nextHop())))
-                .forEach(r -> filteredRouteStore.computeIfAbsent(r.prefix, k -> {
-                    // We need to get all the routes because the resolve logic
-                    // will use the alternatives as well
-                    Versioned<Collection<? extends RawRoute>> routeSet = routes.get(k);
-                    if (routeSet != null) {
-                        return routeSet.value();
-                    }
-                    return null;
-                }));
-        // Return the collection of the routeSet we have to resolve
-        return filteredRouteStore.entrySet().stream()
-                .map(entry -> new RouteSet(id, IpPrefix.valueOf(entry.getKey()),
-                                           entry.getValue().stream().map(RawRoute::route).collect(Collectors.toSet())))
-                .collect(Collectors.toSet());
+        // Collect the affected prefixes from the index, then fetch every route
+        // of those prefixes because the resolve logic will use the alternatives as well
+        Set<String> prefixes = Sets.newHashSet();
+        nextHops.forEach(nextHop -> {
+            Set<String> indexed = nextHopIndex.get(nextHop);
+            if (indexed != null) {
+                prefixes.addAll(indexed);
+            }
+        });
+        Set<RouteSet> routeSets = Sets.newHashSet();
+        prefixes.forEach(prefix -> {
+            Collection<? extends RawRoute> rawRoutes = Versioned.valueOrNull(routes.get(prefix));
+            // Skip stale index entries whose routes no longer use one of the next hops
+            if (rawRoutes != null && rawRoutes.stream()
+                    .anyMatch(r -> nextHops.contains(IpAddress.valueOf(r.nextHop())))) {
+                routeSets.add(new RouteSet(id, IpPrefix.valueOf(prefix),
+                        rawRoutes.stream().map(RawRoute::route).collect(Collectors.toSet())));
+            }
+        });
+        return routeSets;
     }
 
     private Map<String, Collection<RawRoute>> computeRoutesToAdd(Collection<Route> routesAdded) {
@@ -263,9 +315,11 @@ public class DefaultRouteTable implements RouteTable {
             InternalRouteEvent ire = null;
             switch (event.type()) {
             case INSERT:
+                index(nextHopIndex, event.newValue());
                 ire = createRouteEvent(InternalRouteEvent.Type.ROUTE_ADDED, event);
                 break;
             case REMOVE:
+                unindex(event.oldValue());
                 ire = createRouteEvent(InternalRouteEvent.Type.ROUTE_REMOVED, event);
                 break;
             default:
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.routeservice.impl;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.onlab.packet.Ip4Address;
+import org.onlab.packet.IpAddress;
+import org.onlab.packet.IpPrefix;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit tests for the IP prefix trie.
+ */
+public class IpPrefixTrieTest {
+
+    private IpPrefixTrie<String> trie;
+
+    @Before
+    public void setUp() {
+        trie = new IpPrefixTrie<>(IpAddress.Version.INET);
+    }
+
+    private void put(String prefix) {
+        trie.put(IpPrefix.valueOf(prefix), prefix);
+    }
+
+    private String lookup(String address) {
+        return trie.longestPrefixMatch(IpAddress.valueOf(address));
+    }
+
+    /**
+     * Tests longest prefix match over nested and diverging prefixes.
+     */
+    @Test
+    public void testLongestPrefixMatch() {
+        put("10.0.0.0/8");
+        put("10.1.0.0/16");
+        put("10.1.2.0/24");
+        put("10.128.0.0/9");
+        put("192.168.1.1/32");
+
+        assertThat(lookup("10.1.2.3"), is("10.1.2.0/24"));
+        assertThat(lookup("10.1.3.3"), is("10.1.0.0/16"));
+        assertThat(lookup("10.2.0.1"), is("10.0.0.0/8"));
+        assertThat(lookup("10.200.0.1"), is("10.128.0.0/9"));
+        assertThat(lookup("192.168.1.1"), is("192.168.1.1/32"));
+        assertThat(lookup("192.168.1.2"), is(nullValue()));
+        assertThat(lookup("11.0.0.1"), is(nullValue()));
+
+        put("0.0.0.0/0");
+        assertThat(lookup("11.0.0.1"), is("0.0.0.0/0"));
+        assertThat(trie.size(), is(6));
+    }
+
+    /**
+     * Tests exact lookups, replacement and removal.
+     */
+    @Test
+    public void testGetPutRemove() {
+        put("10.1.0.0/16");
+        put("10.1.2.0/24");
+
+        assertThat(trie.get(IpPrefix.valueOf("10.1.0.0/16")), is("10.1.0.0/16"));
+        assertThat(trie.get(IpPrefix.valueOf("10.0.0.0/8")), is(nullValue()));
+        assertThat(trie.put(IpPrefix.valueOf("10.1.0.0/16"), "other"), is("10.1.0.0/16"));
+        assertThat(trie.size(), is(2));
+
+        assertThat(trie.remove(IpPrefix.valueOf("10.1.0.0/16")), is("other"));
+        assertThat(trie.remove(IpPrefix.valueOf("10.1.0.0/16")), is(nullValue()));
+        assertThat(trie.remove(IpPrefix.valueOf("10.1.2.0/25")), is(nullValue()));
+        assertThat(lookup("10.1.3.1"), is(nullValue()));
+        assertThat(lookup("10.1.2.1"), is("10.1.2.0/24"));
+        assertThat(trie.size(), is(1));
+    }
+
+    /**
+     * Tests that values are returned shorter prefixes first.
+     */
+    @Test
+    public void testValues() {
+        put("10.1.2.0/24");
+        put("10.0.0.0/8");
+        put("10.128.0.0/9");
+        put("10.1.0.0/16");
+
+        assertThat(trie.values(), contains("10.0.0.0/8", "10.1.0.0/16", "10.1.2.0/24", "10.128.0.0/9"));
+    }
+
+    /**
+     * Tests IPv6 prefixes.
+     */
+    @Test
+    public void testIpv6() {
+        IpPrefixTrie<String> trie6 = new IpPrefixTrie<>(IpAddress.Version.INET6);
+        trie6.put(IpPrefix.valueOf("2001:db8::/32"), "a");
+        trie6.put(IpPrefix.valueOf("2001:db8:1::/48"), "b");
+
+        assertThat(trie6.longestPrefixMatch(IpAddress.valueOf("2001:db8:1::1")), is("b"));
+        assertThat(trie6.longestPrefixMatch(IpAddress.valueOf("2001:db8:2::1")), is("a"));
+        assertThat(trie6.longestPrefixMatch(IpAddress.valueOf("10.0.0.1")), is(nullValue()));
+    }
+
+    /**
+     * Tests random prefixes and removals against a linear scan.
+     */
+    @Test
+    public void testAgainstLinearScan() {
+        Random random = new Random(42);
+        Map<IpPrefix, String> reference = new HashMap<>();
+        for (int i = 0; i < 2000; i++) {
+            IpPrefix prefix = IpPrefix.valueOf(Ip4Address.valueOf(random.nextInt() & 0xff0ff000),
+                                               random.nextInt(33));
+            if (random.nextInt(4) == 0) {
+                assertThat(trie.remove(prefix), is(reference.remove(prefix)));
+            } else {
+                trie.put(prefix, prefix.toString());
+                reference.put(prefix, prefix.toString());
+            }
+        }
+        assertThat(trie.size(), is(reference.size()));
+
+        for (int i = 0; i < 2000; i++) {
+            Ip4Address address = Ip4Address.valueOf(random.nextInt() & 0xff0ff0ff);
+            String expected = reference.keySet().stream()
+                    .filter(p -> p.contains(address))
+                    .max((a, b) -> Integer.compare(a.prefixLength(), b.prefixLength()))
+                    .map(IpPrefix::toString)
+                    .orElse(null);
+            assertThat(trie.longestPrefixMatch(address), is(expected));
+        }
+    }
+}
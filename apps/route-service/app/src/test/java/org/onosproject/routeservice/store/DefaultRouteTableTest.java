@@ -0,0 +1,303 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.routeservice.store;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Multimap;
+import com.google.common.util.concurrent.MoreExecutors;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.onlab.packet.Ip4Address;
+import org.onlab.packet.Ip4Prefix;
+import org.onlab.packet.IpAddress;
+import org.onlab.packet.IpPrefix;
+import org.onosproject.routeservice.InternalRouteEvent;
+import org.onosproject.routeservice.Route;
+import org.onosproject.routeservice.RouteSet;
+import org.onosproject.routeservice.RouteTableId;
+import org.onosproject.store.service.AsyncConsistentMultimap;
+import org.onosproject.store.service.ConsistentMultimap;
+import org.onosproject.store.service.ConsistentMultimapBuilder;
+import org.onosproject.store.service.DistributedPrimitive;
+import org.onosproject.store.service.MultimapEvent;
+import org.onosproject.store.service.MultimapEventListener;
+import org.onosproject.store.service.TestConsistentMultimap;
+import org.onosproject.store.service.TestStorageService;
+import org.onosproject.store.service.Versioned;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Unit tests for the next hop index of the default route table.
+ */
+public class DefaultRouteTableTest {
+
+    private static final RouteTableId TABLE_ID = new RouteTableId("ipv4");
+
+    private static final IpPrefix PREFIX1 = Ip4Prefix.valueOf("1.1.1.0/24");
+    private static final IpPrefix PREFIX2 = Ip4Prefix.valueOf("2.2.2.0/24");
+    private static final IpPrefix PREFIX3 = Ip4Prefix.valueOf("3.3.3.0/24");
+
+    private static final IpAddress NEXT_HOP1 = Ip4Address.valueOf("192.168.10.1");
+    private static final IpAddress NEXT_HOP2 = Ip4Address.valueOf("192.168.20.1");
+    private static final IpAddress NEXT_HOP3 = Ip4Address.valueOf("192.168.30.1");
+
+    private static final Route ROUTE1 = new Route(Route.Source.STATIC, PREFIX1, NEXT_HOP1);
+    private static final Route ROUTE1_ALT = new Route(Route.Source.STATIC, PREFIX1, NEXT_HOP2);
+    private static final Route ROUTE2 = new Route(Route.Source.STATIC, PREFIX2, NEXT_HOP1);
+    private static final Route ROUTE3 = new Route(Route.Source.STATIC, PREFIX3, NEXT_HOP3);
+
+    private final ExecutorService executor = MoreExecutors.newDirectExecutorService();
+
+    private final List<InternalRouteEvent> events = Lists.newArrayList();
+    private TestRouteStorageService storageService;
+    private DefaultRouteTable routeTable;
+
+    @Before
+    public void setUp() {
+        storageService = new TestRouteStorageService();
+        routeTable = new DefaultRouteTable(TABLE_ID, events::add, storageService, executor);
+    }
+
+    @After
+    public void tearDown() {
+        routeTable.shutdown();
+    }
+
+    /**
+     * Tests that routes are found through the next hop index.
+     */
+    @Test
+    public void testGetRoutesForNextHop() {
+        routeTable.update(ImmutableList.of(ROUTE1, ROUTE1_ALT, ROUTE2, ROUTE3));
+
+        assertThat(routeTable.getRoutesForNextHop(NEXT_HOP1), containsInAnyOrder(ROUTE1, ROUTE2));
+        assertThat(routeTable.getRoutesForNextHop(NEXT_HOP2), containsInAnyOrder(ROUTE1_ALT));
+        assertThat(routeTable.getRoutesForNextHop(Ip4Address.valueOf("10.0.0.1")), is(empty()));
+    }
+
+    /**
+     * Tests that route sets for the next hops include the alternative routes.
+     */
+    @Test
+    public void testGetRoutesForNextHops() {
+        routeTable.update(ImmutableList.of(ROUTE1, ROUTE1_ALT, ROUTE2, ROUTE3));
+
+        Collection<RouteSet> routeSets = routeTable.getRoutesForNextHops(ImmutableSet.of(NEXT_HOP2, NEXT_HOP3));
+        assertThat(routeSets, containsInAnyOrder(
+                new RouteSet(TABLE_ID, PREFIX1, ImmutableSet.of(ROUTE1, ROUTE1_ALT)),
+                new RouteSet(TABLE_ID, PREFIX3, ImmutableSet.of(ROUTE3))));
+    }
+
+    /**
+     * Tests that withdrawn routes are removed from the next hop index.
+     */
+    @Test
+    public void testRemoveUpdatesIndex() {
+        routeTable.update(ImmutableList.of(ROUTE1, ROUTE1_ALT, ROUTE2));
+        routeTable.remove(ROUTE1);
+
+        assertThat(routeTable.getRoutesForNextHop(NEXT_HOP1), containsInAnyOrder(ROUTE2));
+        assertThat(routeTable.getRoutesForNextHops(ImmutableSet.of(NEXT_HOP1)), hasSize(1));
+
+        routeTable.remove(ImmutableList.of(ROUTE2, ROUTE1_ALT));
+
+        assertThat(routeTable.getRoutesForNextHop(NEXT_HOP1), is(empty()));
+        assertThat(routeTable.getRoutesForNextHops(ImmutableSet.of(NEXT_HOP1, NEXT_HOP2)), is(empty()));
+    }
+
+    /**
+     * Tests that rebuilding the index drops the entries of the routes which
+     * were removed while the events were not received, and that the existing
+     * routes are notified once per prefix.
+     */
+    @Test
+    public void testRebuildReplacesIndex() {
+        routeTable.update(ImmutableList.of(ROUTE1, ROUTE1_ALT, ROUTE2, ROUTE3));
+
+        // Routes removed without any event, as when the map is partitioned
+        ListenableMultimap<String, ?> multimap = storageService.multimap;
+        multimap.removeSilently(PREFIX2.toString());
+        multimap.removeSilently(PREFIX3.toString());
+        events.clear();
+
+        multimap.changeStatus(DistributedPrimitive.Status.SUSPENDED);
+        multimap.changeStatus(DistributedPrimitive.Status.ACTIVE);
+
+        assertThat(routeTable.getRoutesForNextHop(NEXT_HOP1), containsInAnyOrder(ROUTE1));
+        assertThat(routeTable.getRoutesForNextHop(NEXT_HOP3), is(empty()));
+        assertThat(events, hasSize(1));
+        assertThat(events.get(0).subject(),
+                   is(new RouteSet(TABLE_ID, PREFIX1, ImmutableSet.of(ROUTE1, ROUTE1_ALT))));
+    }
+
+    /**
+     * Tests that the existing routes are indexed and notified on start-up.
+     */
+    @Test
+    public void testExistingRoutesLoaded() {
+        routeTable.update(ImmutableList.of(ROUTE1, ROUTE2));
+        routeTable.shutdown();
+        events.clear();
+
+        routeTable = new DefaultRouteTable(TABLE_ID, events::add, storageService, executor);
+
+        assertThat(routeTable.getRoutesForNextHop(NEXT_HOP1), containsInAnyOrder(ROUTE1, ROUTE2));
+        assertThat(events, hasSize(2));
+
+        // The map turning active without having been disconnected does not
+        // cause another scan
+        storageService.multimap.changeStatus(DistributedPrimitive.Status.ACTIVE);
+        assertThat(events, hasSize(2));
+    }
+
+    /**
+     * Storage service handing out a multimap which notifies its listeners.
+     * The same multimap is handed out for every table.
+     */
+    private static class TestRouteStorageService extends TestStorageService {
+        private ListenableMultimap<String, ?> multimap;
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <K, V> ConsistentMultimapBuilder<K, V> consistentMultimapBuilder() {
+            return new ConsistentMultimapBuilder<K, V>() {
+                @Override
+                public AsyncConsistentMultimap<K, V> buildMultimap() {
+                    return null;
+                }
+
+                @Override
+                public ConsistentMultimap<K, V> build() {
+                    if (multimap == null) {
+                        multimap = new ListenableMultimap<>();
+                    }
+                    return (ConsistentMultimap<K, V>) multimap;
+                }
+            };
+        }
+    }
+
+    /**
+     * Multimap which synchronously notifies listeners of inserts and removals.
+     */
+    private static class ListenableMultimap<K, V> extends TestConsistentMultimap<K, V> {
+
+        private final Multimap<K, V> entries = HashMultimap.create();
+        private final List<MultimapEventListener<K, V>> listeners = Lists.newCopyOnWriteArrayList();
+        private final List<Consumer<Status>> statusListeners = Lists.newCopyOnWriteArrayList();
+
+        private void removeSilently(K key) {
+            entries.removeAll(key);
+        }
+
+        private void changeStatus(Status status) {
+            statusListeners.forEach(listener -> listener.accept(status));
+        }
+
+        private void notifyListeners(K key, V newValue, V oldValue) {
+            MultimapEvent<K, V> event = new MultimapEvent<>(name(), key, newValue, oldValue);
+            listeners.forEach(listener -> listener.event(event));
+        }
+
+        @Override
+        public boolean put(K key, V value) {
+            if (entries.put(key, value)) {
+                notifyListeners(key, value, null);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean remove(K key, V value) {
+            if (entries.remove(key, value)) {
+                notifyListeners(key, null, value);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean putAll(Map<K, Collection<? extends V>> mapping) {
+            boolean result = false;
+            for (Map.Entry<K, Collection<? extends V>> entry : mapping.entrySet()) {
+                for (V value : entry.getValue()) {
+                    result |= put(entry.getKey(), value);
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public boolean removeAll(Map<K, Collection<? extends V>> mapping) {
+            boolean result = false;
+            for (Map.Entry<K, Collection<? extends V>> entry : mapping.entrySet()) {
+                for (V value : entry.getValue()) {
+                    result |= remove(entry.getKey(), value);
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public Versioned<Collection<? extends V>> get(K key) {
+            return entries.containsKey(key) ? new Versioned<>(ImmutableSet.copyOf(entries.get(key)), 0) : null;
+        }
+
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            return ImmutableList.copyOf(entries.entries()).iterator();
+        }
+
+        @Override
+        public void addListener(MultimapEventListener<K, V> listener, Executor executor) {
+            listeners.add(listener);
+        }
+
+        @Override
+        public void removeListener(MultimapEventListener<K, V> listener) {
+            listeners.remove(listener);
+        }
+
+        @Override
+        public void addStatusChangeListener(Consumer<Status> listener) {
+            statusListeners.add(listener);
+        }
+
+        @Override
+        public void removeStatusChangeListener(Consumer<Status> listener) {
+            statusListeners.remove(listener);
+        }
+    }
+}
@@ -85,6 +85,7 @@ public class AddPeerCommand extends AbstractShellCommand {
             return;
         }
 
+        config = configService.addConfig(appId, BgpConfig.class);
         addPeerToSpeakerConf(config);
         configService.applyConfig(appId, BgpConfig.class, config.node());
 
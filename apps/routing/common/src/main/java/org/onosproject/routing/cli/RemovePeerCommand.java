@@ -69,6 +69,7 @@ public class RemovePeerCommand extends AbstractShellCommand {
             return;
         }
 
+        config = configService.addConfig(appId, BgpConfig.class);
         removePeerFromSpeakerConf(speaker, config);
         configService.applyConfig(appId, BgpConfig.class, config.node());
 
@@ -70,6 +70,7 @@ public class RemoveSpeakerCommand extends AbstractShellCommand {
             }
         }
 
+        config = configService.addConfig(appId, BgpConfig.class);
         removeSpeakerFromConf(config);
         configService.applyConfig(appId, BgpConfig.class, config.node());
 
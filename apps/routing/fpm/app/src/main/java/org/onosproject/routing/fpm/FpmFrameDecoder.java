@@ -35,6 +35,18 @@ public class FpmFrameDecoder extends FrameDecoder {
             return null;
         }
 
+        return decodeFrame(buffer);
+    }
+
+    /**
+     * Decodes the next FPM message from the buffer, if a complete one is
+     * available. This allows recorded FPM streams to be decoded offline.
+     *
+     * @param buffer buffer holding the FPM stream
+     * @return FPM message, or null if the buffer does not hold a whole message
+     * @throws Exception if the message cannot be decoded
+     */
+    static FpmHeader decodeFrame(ChannelBuffer buffer) throws Exception {
         if (buffer.readableBytes() < FpmHeader.FPM_HEADER_LENGTH) {
             return null;
         }
@@ -51,4 +51,24 @@ public interface FpmInfoService {
      */
     void updateAcceptRouteFlag(Collection<FpmPeerAcceptRoutes> peers);
 
+    /**
+     * Returns the route ingestion statistics of the peers that sent routes
+     * to this node.
+     *
+     * @return a map of FPM peer with its ingestion statistics
+     */
+    Map<FpmPeer, FpmIngestionInfo> ingestionInfo();
+
+    /**
+     * Feeds a recorded FPM stream through the route ingestion pipeline as if
+     * it had been received from the given peer. This is a dry run: the
+     * resulting route updates are discarded instead of being pushed to the
+     * route store.
+     *
+     * @param peer peer the recorded routes are attributed to
+     * @param stream raw bytes of the recorded FPM stream
+     * @return number of FPM messages processed
+     */
+    int replay(FpmPeer peer, byte[] stream);
+
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.routing.fpm;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+
+/**
+ * Statistics about the routes received from an FPM peer on this node.
+ */
+public class FpmIngestionInfo {
+
+    private final int pendingPrefixes;
+    private final long receivedUpdates;
+    private final double updateRate;
+    private final long batches;
+    private final long routesPushed;
+
+    /**
+     * Class constructor.
+     *
+     * @param pendingPrefixes number of prefixes waiting to be pushed to the route store
+     * @param receivedUpdates number of route updates received from the peer
+     * @param updateRate recent rate of route updates per second
+     * @param batches number of batches pushed to the route store
+     * @param routesPushed number of route updates pushed to the route store
+     */
+    public FpmIngestionInfo(int pendingPrefixes, long receivedUpdates, double updateRate,
+                            long batches, long routesPushed) {
+        this.pendingPrefixes = pendingPrefixes;
+        this.receivedUpdates = receivedUpdates;
+        this.updateRate = updateRate;
+        this.batches = batches;
+        this.routesPushed = routesPushed;
+    }
+
+    /**
+     * Returns the number of prefixes waiting to be pushed to the route store.
+     *
+     * @return number of pending prefixes
+     */
+    public int pendingPrefixes() {
+        return pendingPrefixes;
+    }
+
+    /**
+     * Returns the number of route updates received from the peer.
+     *
+     * @return number of route updates
+     */
+    public long receivedUpdates() {
+        return receivedUpdates;
+    }
+
+    /**
+     * Returns the recent rate of route updates received from the peer.
+     *
+     * @return route updates per second
+     */
+    public double updateRate() {
+        return updateRate;
+    }
+
+    /**
+     * Returns the number of batches pushed to the route store.
+     *
+     * @return number of batches
+     */
+    public long batches() {
+        return batches;
+    }
+
+    /**
+     * Returns the number of route updates pushed to the route store, after
+     * updates for the same prefix have been coalesced.
+     *
+     * @return number of route updates
+     */
+    public long routesPushed() {
+        return routesPushed;
+    }
+
+    @Override
+    public String toString() {
+        return toStringHelper(this)
+                .add("pendingPrefixes", pendingPrefixes)
+                .add("receivedUpdates", receivedUpdates)
+                .add("updateRate", updateRate)
+                .add("batches", batches)
+                .add("routesPushed", routesPushed)
+                .toString();
+    }
+}
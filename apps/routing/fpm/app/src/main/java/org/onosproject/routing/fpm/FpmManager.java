@@ -19,6 +19,8 @@ package org.onosproject.routing.fpm;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import org.jboss.netty.bootstrap.ServerBootstrap;
+import org.jboss.netty.buffer.ChannelBuffer;
+import org.jboss.netty.buffer.ChannelBuffers;
 import org.jboss.netty.channel.Channel;
 import org.jboss.netty.channel.ChannelException;
 import org.jboss.netty.channel.ChannelFactory;
@@ -89,9 +91,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Iterator;
+import java.util.Timer;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static java.util.concurrent.Executors.newCachedThreadPool;
@@ -174,6 +178,10 @@ public class FpmManager implements FpmInfoService {
 
     private Map<FpmPeer, Map<IpPrefix, Route>> fpmRoutes = new ConcurrentHashMap<>();
 
+    // Batches the route store updates of each peer
+    private Map<FpmPeer, FpmRouteAccumulator> routeAccumulators = new ConcurrentHashMap<>();
+    private Timer routeBatchTimer;
+
     //Local cache for peers to be used in case of cluster partition.
     private Map<FpmPeer, Set<FpmConnectionInfo>> localPeers = new ConcurrentHashMap<>();
 
@@ -242,6 +250,7 @@ public class FpmManager implements FpmInfoService {
                 .build();
 
         modified(context);
+        routeBatchTimer = new Timer("onos-fpm-route-batching", true);
         startServer();
 
         appId = coreService.registerApplication(APP_NAME, peers::destroy);
@@ -262,6 +271,12 @@ public class FpmManager implements FpmInfoService {
 
         stopServer();
         fpmRoutes.clear();
+        routeAccumulators.values().forEach(accumulator -> {
+            accumulator.flush();
+            accumulator.destroy();
+        });
+        routeAccumulators.clear();
+        routeBatchTimer.cancel();
         componentConfigService.unregisterProperties(getClass(), false);
 
         clusterService.removeListener(clusterListener);
@@ -440,6 +455,13 @@ public class FpmManager implements FpmInfoService {
     }
 
     private void fpmMessage(FpmPeer peer, FpmHeader fpmMessage) {
+        ingest(fpmMessage, fpmRoutes.get(peer), () -> routeAccumulator(peer));
+    }
+
+    // Queues the route updates carried by the message to the accumulator,
+    // keeping track of the routes of the peer in the given map.
+    private void ingest(FpmHeader fpmMessage, Map<IpPrefix, Route> peerRoutes,
+                        Supplier<FpmRouteAccumulator> accumulator) {
         if (fpmMessage.type() == FpmHeader.FPM_TYPE_KEEPALIVE) {
             return;
         }
@@ -501,7 +523,7 @@ public class FpmManager implements FpmInfoService {
             route = new Route(Route.Source.FPM, prefix, gateway, clusterService.getLocalNode().id());
 
 
-            Route oldRoute = fpmRoutes.get(peer).put(prefix, route);
+            Route oldRoute = peerRoutes.put(prefix, route);
 
             if (oldRoute != null) {
                 log.trace("Swapping {} with {}", oldRoute, route);
@@ -510,7 +532,7 @@ public class FpmManager implements FpmInfoService {
             updates.add(route);
             break;
         case RTM_DELROUTE:
-            Route existing = fpmRoutes.get(peer).remove(prefix);
+            Route existing = peerRoutes.remove(prefix);
             if (existing == null) {
                 log.warn("Got delete for non-existent prefix");
                 return;
@@ -525,7 +547,12 @@ public class FpmManager implements FpmInfoService {
             break;
         }
 
-        updateRouteStore(updates, withdraws);
+        accumulator.get().add(withdraws, updates);
+    }
+
+    private FpmRouteAccumulator routeAccumulator(FpmPeer peer) {
+        return routeAccumulators.computeIfAbsent(peer,
+                p -> new FpmRouteAccumulator(routeBatchTimer, this::updateRouteStore));
     }
 
     private synchronized void updateRouteStore(Collection<Route> routesToAdd, Collection<Route> routesToRemove) {
@@ -533,11 +560,27 @@ public class FpmManager implements FpmInfoService {
         routeService.update(routesToAdd);
     }
 
+    // Pushes the pending updates of the peer and releases its accumulator.
+    private void releaseRouteAccumulator(FpmPeer peer) {
+        FpmRouteAccumulator accumulator = routeAccumulators.remove(peer);
+        if (accumulator != null) {
+            accumulator.flush();
+            accumulator.destroy();
+        }
+    }
+
     private void clearRoutes(FpmPeer peer) {
         log.info("Clearing all routes for peer {}", peer);
         Map<IpPrefix, Route> routes = fpmRoutes.remove(peer);
         if (routes != null) {
-            updateRouteStore(Lists.newArrayList(), routes.values());
+            // Queue behind the pending updates of the peer so that none of
+            // them can bring a withdrawn route back
+            FpmRouteAccumulator accumulator = routeAccumulators.get(peer);
+            if (accumulator != null) {
+                accumulator.add(routes.values(), Collections.emptyList());
+            } else {
+                updateRouteStore(Lists.newArrayList(), routes.values());
+            }
         }
     }
 
@@ -676,6 +719,40 @@ public class FpmManager implements FpmInfoService {
         return pdPushEnabled;
     }
 
+    @Override
+    public Map<FpmPeer, FpmIngestionInfo> ingestionInfo() {
+        return routeAccumulators.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().info()));
+    }
+
+    @Override
+    public int replay(FpmPeer peer, byte[] stream) {
+        // The replay runs against scratch state whose batches are discarded,
+        // so that it can never change the routes of the route store
+        Map<IpPrefix, Route> replayRoutes = new ConcurrentHashMap<>();
+        FpmRouteAccumulator replayAccumulator =
+                new FpmRouteAccumulator(routeBatchTimer, (updates, withdraws) -> { });
+        ChannelBuffer buffer = ChannelBuffers.wrappedBuffer(stream);
+        int messages = 0;
+        try {
+            FpmHeader fpmMessage;
+            while ((fpmMessage = FpmFrameDecoder.decodeFrame(buffer)) != null) {
+                ingest(fpmMessage, replayRoutes, () -> replayAccumulator);
+                messages++;
+            }
+        } catch (Exception e) {
+            log.warn("Unable to decode recorded FPM message {} for {}", messages, peer, e);
+        } finally {
+            replayAccumulator.flush();
+            replayAccumulator.destroy();
+        }
+        if (buffer.readable()) {
+            log.warn("Ignoring {} trailing bytes of recorded FPM stream", buffer.readableBytes());
+        }
+        log.info("Replayed {} FPM messages for {}: {}", messages, peer, replayAccumulator.info());
+        return messages;
+    }
+
     private FpmPeerInfo toFpmInfo(FpmPeer peer, Collection<FpmConnectionInfo> connections) {
         return new FpmPeerInfo(connections,
                 fpmRoutes.getOrDefault(peer, Collections.emptyMap()).size());
@@ -759,6 +836,7 @@ public class FpmManager implements FpmInfoService {
             if (clearRoutes) {
                 clearRoutes(peer);
             }
+            releaseRouteAccumulator(peer);
 
             peers.compute(peer, (p, infos) -> {
                 if (infos == null) {
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.routing.fpm;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import org.onlab.packet.IpPrefix;
+import org.onlab.util.AbstractAccumulator;
+import org.onlab.util.SlidingWindowCounter;
+import org.onosproject.routeservice.Route;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Timer;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Accumulates the route updates received from an FPM peer and pushes them to
+ * the route store in batches. Updates for the same prefix are coalesced so that
+ * only the last state of each prefix within a batch reaches the route store.
+ */
+class FpmRouteAccumulator extends AbstractAccumulator<FpmRouteAccumulator.RouteUpdate> {
+
+    static final int DEFAULT_MAX_UPDATES = 10000;
+    static final int DEFAULT_MAX_IDLE_MS = 50;
+    static final int DEFAULT_MAX_BATCH_MS = 500;
+
+    private static final int RATE_WINDOW_SECS = 10;
+
+    private final BiConsumer<Collection<Route>, Collection<Route>> routeStoreUpdater;
+
+    // Pending state per prefix, in arrival order; guarded by this
+    private Map<IpPrefix, PrefixUpdate> pending = Maps.newLinkedHashMap();
+    // Keeps the batches in order without holding the monitor used by add()
+    // while the route store is updated
+    private final Object pushLock = new Object();
+
+    private final SlidingWindowCounter updateCounter = new SlidingWindowCounter(RATE_WINDOW_SECS);
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong routesPushed = new AtomicLong();
+
+    /**
+     * Creates a new route accumulator.
+     *
+     * @param timer timer used to trigger the batches
+     * @param routeStoreUpdater consumer of the routes to add and the routes
+     *                          to withdraw of each batch
+     */
+    FpmRouteAccumulator(Timer timer,
+                        BiConsumer<Collection<Route>, Collection<Route>> routeStoreUpdater) {
+        super(timer, DEFAULT_MAX_UPDATES, DEFAULT_MAX_BATCH_MS, DEFAULT_MAX_IDLE_MS);
+        this.routeStoreUpdater = checkNotNull(routeStoreUpdater);
+    }
+
+    /**
+     * Queues the given routes to be withdrawn and then added.
+     *
+     * @param withdraws routes to withdraw
+     * @param updates routes to add or update
+     */
+    void add(Collection<Route> withdraws, Collection<Route> updates) {
+        withdraws.forEach(route -> add(new RouteUpdate(route, true)));
+        updates.forEach(route -> add(new RouteUpdate(route, false)));
+    }
+
+    @Override
+    public void add(RouteUpdate update) {
+        synchronized (this) {
+            pending.computeIfAbsent(update.route.prefix(), p -> new PrefixUpdate()).merge(update);
+        }
+        updateCounter.incrementCount();
+        super.add(update);
+    }
+
+    @Override
+    public void processItems(List<RouteUpdate> items) {
+        // The coalesced state is kept aside; the items only drive the batching
+        flush();
+    }
+
+    /**
+     * Pushes all pending updates to the route store right away.
+     */
+    void flush() {
+        synchronized (pushLock) {
+            Map<IpPrefix, PrefixUpdate> batch;
+            synchronized (this) {
+                if (pending.isEmpty()) {
+                    return;
+                }
+                batch = pending;
+                pending = Maps.newLinkedHashMap();
+            }
+
+            List<Route> withdraws = Lists.newArrayList();
+            List<Route> updates = Lists.newArrayList();
+            batch.values().forEach(update -> {
+                withdraws.addAll(update.withdrawn);
+                if (update.route != null) {
+                    updates.add(update.route);
+                }
+            });
+            routeStoreUpdater.accept(updates, withdraws);
+            batches.incrementAndGet();
+            routesPushed.addAndGet(withdraws.size() + updates.size());
+        }
+    }
+
+    /**
+     * Returns a snapshot of the ingestion statistics.
+     *
+     * @return ingestion statistics
+     */
+    synchronized FpmIngestionInfo info() {
+        return new FpmIngestionInfo(pending.size(), updateCounter.getOverallCount(),
+                                    updateCounter.getWindowRate(), batches.get(), routesPushed.get());
+    }
+
+    /**
+     * Releases the resources of the accumulator.
+     */
+    void destroy() {
+        updateCounter.destroy();
+    }
+
+    /**
+     * Route added or withdrawn by the peer.
+     */
+    static final class RouteUpdate {
+        private final Route route;
+        private final boolean withdraw;
+
+        private RouteUpdate(Route route, boolean withdraw) {
+            this.route = checkNotNull(route);
+            this.withdraw = withdraw;
+        }
+    }
+
+    /**
+     * Net effect of the updates received for a prefix within a batch.
+     */
+    private static final class PrefixUpdate {
+        private Route route;
+        private final Set<Route> withdrawn = Sets.newLinkedHashSet();
+
+        private void merge(RouteUpdate update) {
+            if (update.withdraw) {
+                if (update.route.equals(route)) {
+                    route = null;
+                }
+                withdrawn.add(update.route);
+            } else {
+                withdrawn.remove(update.route);
+                route = update.route;
+            }
+        }
+    }
+}
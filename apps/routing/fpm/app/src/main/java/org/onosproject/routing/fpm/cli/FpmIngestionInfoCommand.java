@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.routing.fpm.cli;
+
+import org.apache.karaf.shell.api.action.Command;
+import org.apache.karaf.shell.api.action.lifecycle.Service;
+import org.onlab.packet.IpAddress;
+import org.onosproject.cli.AbstractShellCommand;
+import org.onosproject.routing.fpm.FpmInfoService;
+import org.onosproject.routing.fpm.FpmIngestionInfo;
+import org.onosproject.routing.fpm.FpmPeer;
+
+import java.util.Comparator;
+import java.util.Map;
+
+/**
+ * Displays the route ingestion statistics of the FPM peers.
+ */
+@Service
+@Command(scope = "onos", name = "fpm-ingestion",
+        description = "Displays the route ingestion statistics of the FPM peers")
+public class FpmIngestionInfoCommand extends AbstractShellCommand {
+
+    private static final String FORMAT = "peer %s:%s pending=%d received=%d rate=%.1f/s batches=%d pushed=%d";
+
+    @Override
+    protected void doExecute() {
+        FpmInfoService fpmInfo = get(FpmInfoService.class);
+
+        fpmInfo.ingestionInfo().entrySet().stream()
+                .sorted(Comparator.<Map.Entry<FpmPeer, FpmIngestionInfo>, IpAddress>comparing(
+                        e -> e.getKey().address())
+                        .thenComparing(e -> e.getKey().port()))
+                .forEach(e -> print(FORMAT, e.getKey().address(), e.getKey().port(),
+                                    e.getValue().pendingPrefixes(), e.getValue().receivedUpdates(),
+                                    e.getValue().updateRate(), e.getValue().batches(),
+                                    e.getValue().routesPushed()));
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.routing.fpm.cli;
+
+import org.apache.karaf.shell.api.action.Argument;
+import org.apache.karaf.shell.api.action.Command;
+import org.apache.karaf.shell.api.action.lifecycle.Service;
+import org.onlab.packet.IpAddress;
+import org.onosproject.cli.AbstractShellCommand;
+import org.onosproject.routing.fpm.FpmInfoService;
+import org.onosproject.routing.fpm.FpmPeer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/**
+ * Replays a recorded FPM stream through the route ingestion pipeline, without
+ * pushing the resulting routes to the route store.
+ */
+@Service
+@Command(scope = "onos", name = "fpm-replay",
+        description = "Replays a recorded FPM stream through the route ingestion pipeline (dry run)")
+public class FpmReplayCommand extends AbstractShellCommand {
+
+    private static final int REPLAY_PORT = 0;
+
+    @Argument(index = 0, name = "file", description = "File holding the raw FPM stream",
+            required = true, multiValued = false)
+    String file = null;
+
+    @Argument(index = 1, name = "peerAddress", description = "Peer Ip address the routes are attributed to",
+            required = false, multiValued = false)
+    String peerAddress = "127.0.0.1";
+
+    @Override
+    protected void doExecute() {
+        FpmInfoService fpmInfo = get(FpmInfoService.class);
+
+        byte[] stream;
+        try {
+            stream = Files.readAllBytes(Paths.get(file));
+        } catch (IOException e) {
+            error("Unable to read %s: %s", file, e.getMessage());
+            return;
+        }
+
+        FpmPeer peer = new FpmPeer(IpAddress.valueOf(peerAddress), REPLAY_PORT);
+        long start = System.nanoTime();
+        int messages = fpmInfo.replay(peer, stream);
+        double elapsedSecs = (System.nanoTime() - start) / 1e9;
+        print("Replayed %d FPM messages (%d bytes) in %.3f s, %.1f messages/s",
+              messages, stream.length, elapsedSecs, elapsedSecs > 0 ? messages / elapsedSecs : 0);
+    }
+}
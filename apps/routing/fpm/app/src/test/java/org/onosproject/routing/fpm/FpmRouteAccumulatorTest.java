@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.routing.fpm;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.onlab.packet.Ip4Address;
+import org.onlab.packet.Ip4Prefix;
+import org.onlab.packet.IpAddress;
+import org.onlab.packet.IpPrefix;
+import org.onosproject.routeservice.Route;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Timer;
+import java.util.TimerTask;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Unit tests for the coalescing of FPM route updates.
+ */
+public class FpmRouteAccumulatorTest {
+
+    private static final IpPrefix PREFIX1 = Ip4Prefix.valueOf("1.1.1.0/24");
+    private static final IpPrefix PREFIX2 = Ip4Prefix.valueOf("2.2.2.0/24");
+    private static final IpAddress NEXT_HOP1 = Ip4Address.valueOf("192.168.10.1");
+    private static final IpAddress NEXT_HOP2 = Ip4Address.valueOf("192.168.20.1");
+
+    private static final Route ROUTE1 = new Route(Route.Source.FPM, PREFIX1, NEXT_HOP1);
+    private static final Route ROUTE1_NEW = new Route(Route.Source.FPM, PREFIX1, NEXT_HOP2);
+    private static final Route ROUTE2 = new Route(Route.Source.FPM, PREFIX2, NEXT_HOP1);
+
+    private final List<Batch> batches = Lists.newArrayList();
+    private ManualTimer timer;
+    private FpmRouteAccumulator accumulator;
+
+    @Before
+    public void setUp() {
+        timer = new ManualTimer();
+        accumulator = new FpmRouteAccumulator(timer, (updates, withdraws) ->
+                batches.add(new Batch(updates, withdraws)));
+    }
+
+    @After
+    public void tearDown() {
+        accumulator.destroy();
+        timer.cancel();
+    }
+
+    /**
+     * Tests that only the last route of a prefix is pushed.
+     */
+    @Test
+    public void testUpdatesCoalesced() {
+        accumulator.add(ImmutableList.of(), ImmutableList.of(ROUTE1));
+        accumulator.add(ImmutableList.of(), ImmutableList.of(ROUTE2));
+        accumulator.add(ImmutableList.of(ROUTE1), ImmutableList.of(ROUTE1_NEW));
+        accumulator.flush();
+
+        assertThat(batches, hasSize(1));
+        assertThat(batches.get(0).updates, containsInAnyOrder(ROUTE1_NEW, ROUTE2));
+        assertThat(batches.get(0).withdraws, contains(ROUTE1));
+    }
+
+    /**
+     * Tests that a route added and withdrawn within a batch is only withdrawn.
+     */
+    @Test
+    public void testAddThenWithdraw() {
+        accumulator.add(ImmutableList.of(), ImmutableList.of(ROUTE1));
+        accumulator.add(ImmutableList.of(ROUTE1), ImmutableList.of());
+        accumulator.flush();
+
+        assertThat(batches, hasSize(1));
+        assertThat(batches.get(0).updates, is(empty()));
+        assertThat(batches.get(0).withdraws, contains(ROUTE1));
+    }
+
+    /**
+     * Tests that a route withdrawn and added again within a batch is not withdrawn.
+     */
+    @Test
+    public void testWithdrawThenAdd() {
+        accumulator.add(ImmutableList.of(ROUTE1), ImmutableList.of());
+        accumulator.add(ImmutableList.of(), ImmutableList.of(ROUTE1));
+        accumulator.flush();
+
+        assertThat(batches, hasSize(1));
+        assertThat(batches.get(0).updates, contains(ROUTE1));
+        assertThat(batches.get(0).withdraws, is(empty()));
+    }
+
+    /**
+     * Tests that the batches are triggered by the timer and counted.
+     */
+    @Test
+    public void testBatchesAndInfo() {
+        accumulator.add(ImmutableList.of(), ImmutableList.of(ROUTE1, ROUTE2));
+        assertThat(accumulator.info().pendingPrefixes(), is(2));
+
+        timer.runTasks();
+        accumulator.flush();
+
+        assertThat(batches, hasSize(1));
+        FpmIngestionInfo info = accumulator.info();
+        assertThat(info.pendingPrefixes(), is(0));
+        assertThat(info.receivedUpdates(), is(2L));
+        assertThat(info.batches(), is(1L));
+        assertThat(info.routesPushed(), is(2L));
+    }
+
+    /**
+     * Routes pushed to the route store in one batch.
+     */
+    private static final class Batch {
+        private final Collection<Route> updates;
+        private final Collection<Route> withdraws;
+
+        private Batch(Collection<Route> updates, Collection<Route> withdraws) {
+            this.updates = updates;
+            this.withdraws = withdraws;
+        }
+    }
+
+    /**
+     * Timer whose tasks only run when requested.
+     */
+    private static final class ManualTimer extends Timer {
+        private final List<TimerTask> tasks = Lists.newArrayList();
+
+        @Override
+        public void schedule(TimerTask task, long delay) {
+            tasks.add(task);
+        }
+
+        private void runTasks() {
+            List<TimerTask> scheduled = ImmutableList.copyOf(tasks);
+            tasks.clear();
+            scheduled.forEach(TimerTask::run);
+        }
+    }
+}
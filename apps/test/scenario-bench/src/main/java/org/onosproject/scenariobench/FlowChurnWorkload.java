@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.scenariobench;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.Lists;
+import org.onlab.packet.MacAddress;
+import org.onosproject.core.ApplicationId;
+import org.onosproject.net.Device;
+import org.onosproject.net.PortNumber;
+import org.onosproject.net.device.DeviceService;
+import org.onosproject.net.flow.DefaultFlowRule;
+import org.onosproject.net.flow.DefaultTrafficSelector;
+import org.onosproject.net.flow.DefaultTrafficTreatment;
+import org.onosproject.net.flow.FlowRule;
+import org.onosproject.net.flow.FlowRuleOperations;
+import org.onosproject.net.flow.FlowRuleOperationsContext;
+import org.onosproject.net.flow.FlowRuleService;
+import org.slf4j.Logger;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Workload adding and then removing batches of flow rules, round after round.
+ * The latency of each batch is the time from its submission to the completion
+ * of its operations.
+ */
+final class FlowChurnWorkload implements Workload {
+
+    private final Logger log = getLogger(getClass());
+
+    private static final int PRIORITY = 100;
+
+    private final FlowRuleService flowRuleService;
+    private final DeviceService deviceService;
+    private final ApplicationId appId;
+    private final int flows;
+    private final int batchSize;
+    private final int rounds;
+    private final int timeoutSec;
+
+    private long macIndex;
+
+    /**
+     * Creates a new flow churn workload.
+     *
+     * @param flowRuleService flow rule service
+     * @param deviceService   device service
+     * @param appId           application owning the flow rules
+     * @param params          workload parameters: flows, batchSize, rounds
+     *                        and timeoutSec
+     */
+    FlowChurnWorkload(FlowRuleService flowRuleService, DeviceService deviceService,
+                      ApplicationId appId, JsonNode params) {
+        this.flowRuleService = flowRuleService;
+        this.deviceService = deviceService;
+        this.appId = appId;
+        this.flows = params.path("flows").asInt(10000);
+        this.batchSize = Math.max(params.path("batchSize").asInt(500), 1);
+        this.rounds = params.path("rounds").asInt(1);
+        this.timeoutSec = params.path("timeoutSec").asInt(60);
+    }
+
+    @Override
+    public void run(LatencyRecorder recorder) throws InterruptedException {
+        List<Device> devices = Lists.newArrayList(deviceService.getAvailableDevices());
+        if (devices.isEmpty()) {
+            log.warn("No available devices, skipping flow churn");
+            recorder.fail(flows * rounds * 2);
+            return;
+        }
+
+        recorder.start();
+        for (int round = 0; round < rounds; round++) {
+            List<FlowRule> rules = Lists.newArrayListWithCapacity(flows);
+            for (int i = 0; i < flows; i++) {
+                rules.add(flowRule(devices.get(i % devices.size())));
+            }
+            apply(rules, true, recorder);
+            apply(rules, false, recorder);
+        }
+        recorder.stop();
+    }
+
+    // Submits all batches and waits for their completion. Each batch is
+    // counted once, either when it completes or when the wait times out.
+    private void apply(List<FlowRule> rules, boolean add, LatencyRecorder recorder)
+            throws InterruptedException {
+        List<List<FlowRule>> batches = Lists.partition(rules, batchSize);
+        List<AtomicBoolean> done = Lists.newArrayListWithCapacity(batches.size());
+        CountDownLatch latch = new CountDownLatch(batches.size());
+
+        for (List<FlowRule> batch : batches) {
+            AtomicBoolean batchDone = new AtomicBoolean();
+            done.add(batchDone);
+            FlowRuleOperations.Builder ops = FlowRuleOperations.builder();
+            batch.forEach(add ? ops::add : ops::remove);
+            long start = System.nanoTime();
+            flowRuleService.apply(ops.build(new FlowRuleOperationsContext() {
+                @Override
+                public void onSuccess(FlowRuleOperations ops) {
+                    if (batchDone.compareAndSet(false, true)) {
+                        recorder.record(System.nanoTime() - start, batch.size());
+                    }
+                    latch.countDown();
+                }
+
+                @Override
+                public void onError(FlowRuleOperations ops) {
+                    if (batchDone.compareAndSet(false, true)) {
+                        recorder.fail(batch.size());
+                    }
+                    latch.countDown();
+                }
+            }));
+        }
+
+        if (!latch.await(timeoutSec, TimeUnit.SECONDS)) {
+            // Batches completing from now on are no longer counted
+            int timedOut = 0;
+            for (int i = 0; i < batches.size(); i++) {
+                if (done.get(i).compareAndSet(false, true)) {
+                    timedOut += batches.get(i).size();
+                }
+            }
+            log.warn("Timed out waiting for {} flow rule operations", timedOut);
+            recorder.fail(timedOut);
+        }
+    }
+
+    private FlowRule flowRule(Device device) {
+        long srcMac = ++macIndex;
+        return DefaultFlowRule.builder()
+                .forDevice(device.id())
+                .withSelector(DefaultTrafficSelector.builder()
+                                      .matchEthSrc(MacAddress.valueOf(srcMac))
+                                      .matchEthDst(MacAddress.valueOf(srcMac + 1))
+                                      .matchInPort(PortNumber.portNumber(2))
+                                      .build())
+                .withTreatment(DefaultTrafficTreatment.builder()
+                                       .setOutput(PortNumber.portNumber(3))
+                                       .build())
+                .withPriority(PRIORITY)
+                .fromApp(appId)
+                .makePermanent()
+                .build();
+    }
+}
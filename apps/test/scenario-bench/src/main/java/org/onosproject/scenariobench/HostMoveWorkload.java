@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.scenariobench;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.Lists;
+import org.onosproject.net.ConnectPoint;
+import org.onosproject.net.Host;
+import org.onosproject.net.HostId;
+import org.onosproject.net.HostLocation;
+import org.onosproject.net.host.HostEvent;
+import org.onosproject.net.host.HostListener;
+import org.onosproject.net.host.HostService;
+import org.onosproject.provider.nil.NullProviders;
+import org.slf4j.Logger;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Workload moving hosts to other edge ports. The latency of each move is the
+ * time from its detection by the provider to the host moved event.
+ */
+final class HostMoveWorkload implements Workload {
+
+    private final Logger log = getLogger(getClass());
+
+    private static final long SEED = 42;
+
+    private final HostService hostService;
+    private final NullProviders nullProviders;
+    private final int moves;
+    private final int timeoutSec;
+
+    private final PendingOperations<HostId> pending = new PendingOperations<>();
+
+    /**
+     * Creates a new host move workload.
+     *
+     * @param hostService   host service
+     * @param nullProviders null providers
+     * @param params        workload parameters: moves and timeoutSec
+     */
+    HostMoveWorkload(HostService hostService, NullProviders nullProviders, JsonNode params) {
+        this.hostService = hostService;
+        this.nullProviders = nullProviders;
+        this.moves = params.path("moves").asInt(200);
+        this.timeoutSec = params.path("timeoutSec").asInt(30);
+    }
+
+    @Override
+    public void run(LatencyRecorder recorder) throws InterruptedException {
+        List<Host> hosts = Lists.newArrayList(hostService.getHosts());
+        List<ConnectPoint> locations = hosts.stream()
+                .map(host -> new ConnectPoint(host.location().elementId(), host.location().port()))
+                .distinct()
+                .collect(Collectors.toList());
+        if (locations.size() < 2) {
+            log.warn("Not enough host locations, skipping host moves");
+            recorder.fail(moves);
+            return;
+        }
+
+        HostListener listener = event -> {
+            if (event.type() == HostEvent.Type.HOST_MOVED) {
+                pending.complete(event.subject().id(), recorder);
+            }
+        };
+        hostService.addListener(listener);
+        try {
+            Random random = new Random(SEED);
+            recorder.start();
+            // Each host moves at most once per pass, so that the moved events
+            // can be matched with the moves.
+            for (int done = 0; done < moves; done += hosts.size()) {
+                int count = Math.min(hosts.size(), moves - done);
+                for (Host host : hosts.subList(0, count)) {
+                    Host currentHost = hostService.getHost(host.id());
+                    if (currentHost == null) {
+                        recorder.fail(1);
+                        continue;
+                    }
+                    ConnectPoint current = currentHost.location();
+                    ConnectPoint target;
+                    do {
+                        target = locations.get(random.nextInt(locations.size()));
+                    } while (target.deviceId().equals(current.deviceId())
+                            && target.port().equals(current.port()));
+                    pending.start(host.id());
+                    nullProviders.moveHost(host.id(), new HostLocation(target, System.currentTimeMillis()));
+                }
+                int notMoved = pending.await(timeoutSec);
+                if (notMoved > 0) {
+                    log.warn("{} host moves were not notified in time", notMoved);
+                    recorder.fail(notMoved);
+                }
+            }
+            recorder.stop();
+        } finally {
+            hostService.removeListener(listener);
+        }
+    }
+}
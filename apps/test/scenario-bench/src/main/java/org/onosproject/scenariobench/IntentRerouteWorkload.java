@@ -0,0 +1,196 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.scenariobench;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import org.onosproject.core.ApplicationId;
+import org.onosproject.net.Host;
+import org.onosproject.net.Link;
+import org.onosproject.net.LinkKey;
+import org.onosproject.net.host.HostService;
+import org.onosproject.net.intent.HostToHostIntent;
+import org.onosproject.net.intent.Intent;
+import org.onosproject.net.intent.IntentEvent;
+import org.onosproject.net.intent.IntentListener;
+import org.onosproject.net.intent.IntentService;
+import org.onosproject.net.intent.Key;
+import org.onosproject.net.link.LinkService;
+import org.onosproject.provider.nil.NullProviders;
+import org.slf4j.Logger;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Workload installing host-to-host intents and then failing, one at a time,
+ * links used by some of them. The latency of each affected intent is the time
+ * from the link failure to its re-installation.
+ */
+final class IntentRerouteWorkload implements Workload {
+
+    private final Logger log = getLogger(getClass());
+
+    private static final long SEED = 42;
+
+    private final IntentService intentService;
+    private final HostService hostService;
+    private final LinkService linkService;
+    private final NullProviders nullProviders;
+    private final ApplicationId appId;
+    private final int intents;
+    private final int failures;
+    private final int timeoutSec;
+
+    private final PendingOperations<Key> pending = new PendingOperations<>();
+    private volatile LatencyRecorder recorder;
+
+    /**
+     * Creates a new intent reroute workload.
+     *
+     * @param intentService intent service
+     * @param hostService   host service
+     * @param linkService   link service
+     * @param nullProviders null providers
+     * @param appId         application owning the intents
+     * @param params        workload parameters: intents, failures and
+     *                      timeoutSec
+     */
+    IntentRerouteWorkload(IntentService intentService, HostService hostService,
+                          LinkService linkService, NullProviders nullProviders,
+                          ApplicationId appId, JsonNode params) {
+        this.intentService = intentService;
+        this.hostService = hostService;
+        this.linkService = linkService;
+        this.nullProviders = nullProviders;
+        this.appId = appId;
+        this.intents = params.path("intents").asInt(100);
+        this.failures = params.path("failures").asInt(3);
+        this.timeoutSec = params.path("timeoutSec").asInt(30);
+    }
+
+    @Override
+    public void run(LatencyRecorder recorder) throws InterruptedException {
+        List<Host> hosts = Lists.newArrayList(hostService.getHosts());
+        if (hosts.size() < 2) {
+            log.warn("Not enough hosts, skipping intent reroute");
+            recorder.fail(failures);
+            return;
+        }
+
+        IntentListener listener = new InternalIntentListener();
+        intentService.addListener(listener);
+        List<Intent> installed = Lists.newArrayList();
+        try {
+            Random random = new Random(SEED);
+            for (int i = 0; i < intents; i++) {
+                Host one = hosts.get(random.nextInt(hosts.size()));
+                Host two = hosts.get(random.nextInt(hosts.size()));
+                if (one.equals(two)) {
+                    continue;
+                }
+                Intent intent = HostToHostIntent.builder()
+                        .appId(appId)
+                        .key(Key.of(i, appId))
+                        .one(one.id())
+                        .two(two.id())
+                        .build();
+                installed.add(intent);
+                pending.start(intent.key());
+                intentService.submit(intent);
+            }
+            int notInstalled = pending.await(timeoutSec);
+            if (notInstalled > 0) {
+                log.warn("{} intents were not installed in time", notInstalled);
+            }
+
+            this.recorder = recorder;
+            recorder.start();
+            for (int i = 0; i < failures; i++) {
+                if (!failLink(random, installed)) {
+                    log.warn("No link used by the intents, stopping after {} failures", i);
+                    break;
+                }
+            }
+            recorder.stop();
+        } finally {
+            this.recorder = null;
+            installed.forEach(intentService::withdraw);
+            TimeUnit.SECONDS.sleep(1);
+            installed.forEach(intentService::purge);
+            intentService.removeListener(listener);
+        }
+    }
+
+    // Fails a random link used by at least one intent and waits for the
+    // affected intents to be re-installed, then repairs the link.
+    private boolean failLink(Random random, List<Intent> installed) throws InterruptedException {
+        Map<LinkKey, Set<Key>> usage = Maps.newHashMap();
+        installed.forEach(intent ->
+            intentService.getInstallableIntents(intent.key()).forEach(installable ->
+                installable.resources().stream()
+                        .filter(resource -> resource instanceof Link)
+                        .forEach(resource -> usage.computeIfAbsent(
+                                LinkKey.linkKey((Link) resource), k -> Sets.newHashSet())
+                                .add(intent.key()))));
+        if (usage.isEmpty()) {
+            return false;
+        }
+
+        List<LinkKey> links = Lists.newArrayList(usage.keySet());
+        links.sort((a, b) -> a.toString().compareTo(b.toString()));
+        LinkKey link = links.get(random.nextInt(links.size()));
+        usage.get(link).forEach(pending::start);
+        nullProviders.severLink(link.src(), link.dst());
+        int notRerouted = pending.await(timeoutSec);
+        if (notRerouted > 0) {
+            log.warn("{} intents were not re-installed in time after failing {}",
+                     notRerouted, link);
+            recorder.fail(notRerouted);
+        }
+
+        nullProviders.repairLink(link.src(), link.dst());
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSec);
+        while (linkService.getLink(link.src(), link.dst()) == null && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        return true;
+    }
+
+    private class InternalIntentListener implements IntentListener {
+        @Override
+        public void event(IntentEvent event) {
+            if (event.type() == IntentEvent.Type.INSTALLED) {
+                pending.complete(event.subject().key(), recorder);
+            } else if (event.type() == IntentEvent.Type.FAILED) {
+                pending.fail(event.subject().key(), recorder);
+            }
+        }
+
+        @Override
+        public boolean isRelevant(IntentEvent event) {
+            return appId.equals(event.subject().appId());
+        }
+    }
+}
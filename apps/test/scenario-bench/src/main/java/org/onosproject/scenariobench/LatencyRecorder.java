@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.scenariobench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the latency of the operations of a workload and summarizes them as
+ * throughput and latency percentiles.
+ */
+final class LatencyRecorder {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+    private static final String[] PERCENTILE_NAMES = {"p50", "p90", "p99", "p999"};
+
+    private long[] samples = new long[1024];
+    private int sampleCount;
+    private long operations;
+    private long failures;
+    // System.nanoTime() may be any value, so it can not tell whether the run
+    // was started or stopped
+    private boolean started;
+    private boolean stopped;
+    private long startNanos;
+    private long stopNanos;
+
+    /**
+     * Marks the start of the measured run.
+     */
+    synchronized void start() {
+        started = true;
+        stopped = false;
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Marks the end of the measured run.
+     */
+    synchronized void stop() {
+        stopped = true;
+        stopNanos = System.nanoTime();
+    }
+
+    /**
+     * Records the latency of a single operation.
+     *
+     * @param latencyNanos latency in nanoseconds
+     */
+    void record(long latencyNanos) {
+        record(latencyNanos, 1);
+    }
+
+    /**
+     * Records the latency of a batch of operations completed together.
+     *
+     * @param latencyNanos latency in nanoseconds
+     * @param batchSize    number of operations in the batch
+     */
+    synchronized void record(long latencyNanos, int batchSize) {
+        if (sampleCount == samples.length) {
+            samples = Arrays.copyOf(samples, samples.length * 2);
+        }
+        samples[sampleCount++] = latencyNanos;
+        operations += batchSize;
+    }
+
+    /**
+     * Records operations which failed or did not complete in time.
+     *
+     * @param count number of operations
+     */
+    synchronized void fail(int count) {
+        failures += count;
+    }
+
+    /**
+     * Returns the summary of the recorded operations.
+     *
+     * @param mapper object mapper
+     * @return JSON summary
+     */
+    synchronized ObjectNode toJson(ObjectMapper mapper) {
+        long end = stopped ? stopNanos : System.nanoTime();
+        long durationNanos = started ? end - startNanos : 0;
+
+        ObjectNode result = mapper.createObjectNode();
+        result.put("operations", operations);
+        result.put("failures", failures);
+        result.put("durationMs", TimeUnit.NANOSECONDS.toMillis(durationNanos));
+        result.put("throughput", durationNanos > 0 ?
+                operations * (double) TimeUnit.SECONDS.toNanos(1) / durationNanos : 0);
+
+        ObjectNode latency = result.putObject("latencyMs");
+        latency.put("samples", sampleCount);
+        if (sampleCount > 0) {
+            long[] sorted = Arrays.copyOf(samples, sampleCount);
+            Arrays.sort(sorted);
+            latency.put("min", millis(sorted[0]));
+            latency.put("mean", millis(Arrays.stream(sorted).sum() / sampleCount));
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                latency.put(PERCENTILE_NAMES[i], millis(sorted[rank(PERCENTILES[i], sampleCount)]));
+            }
+            latency.put("max", millis(sorted[sampleCount - 1]));
+        }
+        return result;
+    }
+
+    // Nearest-rank index of the given percentile; the epsilon keeps rounding
+    // errors of fractional percentiles (e.g. 99.9) from skipping a rank.
+    private static int rank(double percentile, int count) {
+        int rank = (int) Math.ceil(percentile * count / 100 - 1e-9);
+        return Math.min(Math.max(rank, 1), count) - 1;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+}
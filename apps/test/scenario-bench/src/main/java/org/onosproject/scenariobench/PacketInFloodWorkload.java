@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.scenariobench;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.onosproject.net.packet.PacketProcessor;
+import org.onosproject.net.packet.PacketService;
+import org.onosproject.provider.nil.NullProviders;
+import org.slf4j.Logger;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.onlab.util.Tools.groupedThreads;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Workload flooding the packet processing pipeline with packet-ins from
+ * several threads. The latency of each packet is the time spent processing it
+ * in the injecting thread.
+ */
+final class PacketInFloodWorkload implements Workload {
+
+    private final Logger log = getLogger(getClass());
+
+    private final PacketService packetService;
+    private final NullProviders nullProviders;
+    private final int packets;
+    private final int threads;
+    private final int timeoutSec;
+
+    /**
+     * Creates a new packet-in flood workload.
+     *
+     * @param packetService packet service
+     * @param nullProviders null providers
+     * @param params        workload parameters: packets, threads and
+     *                      timeoutSec
+     */
+    PacketInFloodWorkload(PacketService packetService, NullProviders nullProviders,
+                          JsonNode params) {
+        this.packetService = packetService;
+        this.nullProviders = nullProviders;
+        this.packets = params.path("packets").asInt(100000);
+        this.threads = Math.max(params.path("threads").asInt(4), 1);
+        this.timeoutSec = params.path("timeoutSec").asInt(60);
+    }
+
+    @Override
+    public void run(LatencyRecorder recorder) throws InterruptedException {
+        AtomicLong received = new AtomicLong();
+        PacketProcessor processor = context -> received.incrementAndGet();
+        packetService.addProcessor(processor, PacketProcessor.observer(1));
+
+        AtomicInteger remaining = new AtomicInteger(packets);
+        ExecutorService injectors = Executors.newFixedThreadPool(
+                threads, groupedThreads("onos/scenario-bench", "packet-injector-%d", log));
+        try {
+            recorder.start();
+            for (int i = 0; i < threads; i++) {
+                injectors.execute(() -> {
+                    while (remaining.getAndDecrement() > 0) {
+                        long start = System.nanoTime();
+                        if (nullProviders.injectPacketIn()) {
+                            recorder.record(System.nanoTime() - start);
+                        } else {
+                            recorder.fail(1);
+                        }
+                    }
+                });
+            }
+            injectors.shutdown();
+            if (!injectors.awaitTermination(timeoutSec, TimeUnit.SECONDS)) {
+                log.warn("Timed out injecting packets");
+                injectors.shutdownNow();
+                recorder.fail(Math.max(remaining.get(), 0));
+            }
+            recorder.stop();
+            log.info("Injected {} packets, {} reached the processors", packets, received.get());
+        } finally {
+            injectors.shutdownNow();
+            packetService.removeProcessor(processor);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.scenariobench;
+
+import com.google.common.collect.Maps;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Operations started by a workload and waiting for the event which marks their
+ * completion.
+ *
+ * @param <K> type of the operation keys
+ */
+final class PendingOperations<K> {
+
+    private final Map<K, Long> pending = Maps.newConcurrentMap();
+
+    /**
+     * Marks the start of the operation with the given key.
+     *
+     * @param key operation key
+     */
+    void start(K key) {
+        pending.put(key, System.nanoTime());
+    }
+
+    /**
+     * Marks the completion of the operation with the given key, if pending,
+     * and records its latency.
+     *
+     * @param key      operation key
+     * @param recorder latency recorder; null to not record the latency
+     */
+    void complete(K key, LatencyRecorder recorder) {
+        Long start = pending.remove(key);
+        if (start != null && recorder != null) {
+            recorder.record(System.nanoTime() - start);
+        }
+        signalIfDone();
+    }
+
+    /**
+     * Marks the failure of the operation with the given key, if pending.
+     *
+     * @param key      operation key
+     * @param recorder latency recorder; null to not record the failure
+     */
+    void fail(K key, LatencyRecorder recorder) {
+        if (pending.remove(key) != null && recorder != null) {
+            recorder.fail(1);
+        }
+        signalIfDone();
+    }
+
+    /**
+     * Waits for the completion of all pending operations. The ones which are
+     * still pending after the timeout are dropped.
+     *
+     * @param timeoutSec timeout in seconds
+     * @return number of operations dropped
+     * @throws InterruptedException if interrupted while waiting
+     */
+    synchronized int await(int timeoutSec) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSec);
+        long remaining;
+        while (!pending.isEmpty() && (remaining = deadline - System.nanoTime()) > 0) {
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        int dropped = pending.size();
+        pending.clear();
+        return dropped;
+    }
+
+    private void signalIfDone() {
+        if (pending.isEmpty()) {
+            synchronized (this) {
+                notifyAll();
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.scenariobench;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Benchmark scenario: a null provider topology and the workloads to run on it,
+ * in order.
+ * <p>
+ * Scenarios are described in JSON, for example:
+ * <pre>
+ * {
+ *   "name": "spine-leaf",
+ *   "topology": { "shape": "spineleaf,2,4", "deviceCount": 6, "hostCount": 5 },
+ *   "workloads": [
+ *     { "type": "flow-churn", "flows": 20000, "batchSize": 500, "rounds": 3 },
+ *     { "type": "intent-reroute", "intents": 100, "failures": 3 },
+ *     { "type": "host-move", "moves": 200 },
+ *     { "type": "packet-in-flood", "packets": 100000, "threads": 4 }
+ *   ]
+ * }
+ * </pre>
+ */
+final class Scenario {
+
+    private static final String DEFAULT_SHAPE = "configured";
+    private static final int DEFAULT_DEVICE_COUNT = 10;
+    private static final int DEFAULT_HOST_COUNT = 5;
+
+    private final String name;
+    private final String topoShape;
+    private final int deviceCount;
+    private final int hostCount;
+    private final List<ObjectNode> workloads;
+
+    private Scenario(String name, String topoShape, int deviceCount, int hostCount,
+                     List<ObjectNode> workloads) {
+        this.name = name;
+        this.topoShape = topoShape;
+        this.deviceCount = deviceCount;
+        this.hostCount = hostCount;
+        this.workloads = workloads;
+    }
+
+    /**
+     * Parses a scenario from its JSON description.
+     *
+     * @param json JSON description
+     * @return scenario
+     * @throws IllegalArgumentException if the description is invalid
+     */
+    static Scenario parse(JsonNode json) {
+        checkArgument(json.isObject(), "Scenario must be a JSON object");
+        JsonNode topology = json.path("topology");
+        ImmutableList.Builder<ObjectNode> workloads = ImmutableList.builder();
+        json.path("workloads").forEach(workload -> {
+            checkArgument(workload.isObject() && workload.hasNonNull("type"),
+                          "Workloads must be JSON objects with a type");
+            workloads.add((ObjectNode) workload);
+        });
+        return new Scenario(json.path("name").asText("unnamed"),
+                            topology.path("shape").asText(DEFAULT_SHAPE),
+                            topology.path("deviceCount").asInt(DEFAULT_DEVICE_COUNT),
+                            topology.path("hostCount").asInt(DEFAULT_HOST_COUNT),
+                            workloads.build());
+    }
+
+    /**
+     * Returns the scenario name.
+     *
+     * @return name
+     */
+    String name() {
+        return name;
+    }
+
+    /**
+     * Returns the null provider topology shape.
+     *
+     * @return topology shape
+     */
+    String topoShape() {
+        return topoShape;
+    }
+
+    /**
+     * Returns the number of devices, for shapes which do not imply it.
+     *
+     * @return device count
+     */
+    int deviceCount() {
+        return deviceCount;
+    }
+
+    /**
+     * Returns the number of hosts per device, for shapes which do not imply it.
+     *
+     * @return host count
+     */
+    int hostCount() {
+        return hostCount;
+    }
+
+    /**
+     * Returns the workload descriptions, each with a type and its parameters.
+     *
+     * @return workload descriptions
+     */
+    List<ObjectNode> workloads() {
+        return workloads;
+    }
+}
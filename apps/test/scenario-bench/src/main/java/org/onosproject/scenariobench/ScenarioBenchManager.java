@@ -0,0 +1,229 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.scenariobench;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.onosproject.cfg.ComponentConfigService;
+import org.onosproject.cluster.ClusterService;
+import org.onosproject.core.ApplicationId;
+import org.onosproject.core.CoreService;
+import org.onosproject.net.device.DeviceService;
+import org.onosproject.net.flow.FlowRuleService;
+import org.onosproject.net.host.HostService;
+import org.onosproject.net.intent.IntentService;
+import org.onosproject.net.link.LinkService;
+import org.onosproject.net.packet.PacketService;
+import org.onosproject.provider.nil.NullProviders;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.slf4j.Logger;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.onosproject.provider.nil.OsgiPropertyConstants.DEVICE_COUNT;
+import static org.onosproject.provider.nil.OsgiPropertyConstants.ENABLED;
+import static org.onosproject.provider.nil.OsgiPropertyConstants.HOST_COUNT;
+import static org.onosproject.provider.nil.OsgiPropertyConstants.MUTATION_RATE;
+import static org.onosproject.provider.nil.OsgiPropertyConstants.PACKET_RATE;
+import static org.onosproject.provider.nil.OsgiPropertyConstants.TOPO_SHAPE;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Runs benchmark scenarios: sets up the null provider topology of the scenario
+ * and runs its workloads in order, producing a machine-readable report with
+ * the throughput and latency percentiles of each workload.
+ * <p>
+ * Scenarios run against the instance on which they are started; when that
+ * instance is part of a cluster, the report records the cluster size so that
+ * results of different deployments are not mixed up.
+ * </p>
+ */
+@Component(immediate = true, service = ScenarioBenchManager.class)
+public class ScenarioBenchManager {
+
+    private final Logger log = getLogger(getClass());
+
+    private static final String APP_NAME = "org.onosproject.scenariobench";
+    private static final String NULL_PROVIDERS = NullProviders.class.getName();
+    private static final int TOPOLOGY_TIMEOUT_SEC = 120;
+    private static final int SETTLE_MS = 1000;
+
+    @Reference(cardinality = ReferenceCardinality.MANDATORY)
+    protected CoreService coreService;
+
+    @Reference(cardinality = ReferenceCardinality.MANDATORY)
+    protected ClusterService clusterService;
+
+    @Reference(cardinality = ReferenceCardinality.MANDATORY)
+    protected ComponentConfigService cfgService;
+
+    @Reference(cardinality = ReferenceCardinality.MANDATORY)
+    protected NullProviders nullProviders;
+
+    @Reference(cardinality = ReferenceCardinality.MANDATORY)
+    protected DeviceService deviceService;
+
+    @Reference(cardinality = ReferenceCardinality.MANDATORY)
+    protected LinkService linkService;
+
+    @Reference(cardinality = ReferenceCardinality.MANDATORY)
+    protected HostService hostService;
+
+    @Reference(cardinality = ReferenceCardinality.MANDATORY)
+    protected FlowRuleService flowRuleService;
+
+    @Reference(cardinality = ReferenceCardinality.MANDATORY)
+    protected IntentService intentService;
+
+    @Reference(cardinality = ReferenceCardinality.MANDATORY)
+    protected PacketService packetService;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private ApplicationId appId;
+
+    @Activate
+    protected void activate() {
+        appId = coreService.registerApplication(APP_NAME);
+        log.info("Started");
+    }
+
+    @Deactivate
+    protected void deactivate() {
+        log.info("Stopped");
+    }
+
+    /**
+     * Runs the given scenario. Scenarios are run one at a time.
+     *
+     * @param json JSON description of the scenario to run
+     * @return report of the run
+     * @throws IllegalArgumentException if the scenario is invalid
+     * @throws IllegalStateException if the topology cannot be set up in time
+     * @throws InterruptedException if interrupted while running the scenario
+     */
+    public synchronized ObjectNode run(JsonNode json) throws InterruptedException {
+        Scenario scenario = Scenario.parse(json);
+        scenario.workloads().forEach(params -> createWorkload(params.get("type").asText(), params));
+        log.info("Running scenario {}", scenario.name());
+        setUpTopology(scenario);
+
+        ObjectNode report = mapper.createObjectNode();
+        report.put("scenario", scenario.name());
+        report.put("version", coreService.version().toString());
+        report.put("timestamp", Instant.now().toString());
+        report.put("clusterSize", clusterService.getNodes().size());
+        ObjectNode topology = report.putObject("topology");
+        topology.put("shape", scenario.topoShape());
+        topology.put("devices", deviceService.getAvailableDeviceCount());
+        topology.put("links", linkService.getLinkCount());
+        topology.put("hosts", hostService.getHostCount());
+
+        ArrayNode results = report.putArray("workloads");
+        for (ObjectNode params : scenario.workloads()) {
+            String type = params.get("type").asText();
+            Workload workload = createWorkload(type, params);
+            LatencyRecorder recorder = new LatencyRecorder();
+            log.info("Running {} workload", type);
+            workload.run(recorder);
+
+            ObjectNode result = recorder.toJson(mapper);
+            result.put("type", type);
+            result.set("params", params);
+            results.add(result);
+            log.info("Completed {} workload: {}", type, result);
+        }
+        log.info("Completed scenario {}", scenario.name());
+        return report;
+    }
+
+    private Workload createWorkload(String type, ObjectNode params) {
+        switch (type) {
+            case "flow-churn":
+                return new FlowChurnWorkload(flowRuleService, deviceService, appId, params);
+            case "intent-reroute":
+                return new IntentRerouteWorkload(intentService, hostService, linkService,
+                                                 nullProviders, appId, params);
+            case "host-move":
+                return new HostMoveWorkload(hostService, nullProviders, params);
+            case "packet-in-flood":
+                return new PacketInFloodWorkload(packetService, nullProviders, params);
+            default:
+                throw new IllegalArgumentException("Unknown workload type " + type);
+        }
+    }
+
+    // Restarts the null provider simulation with the scenario topology and
+    // waits for it to settle.
+    private void setUpTopology(Scenario scenario) throws InterruptedException {
+        cfgService.setProperty(NULL_PROVIDERS, ENABLED, "false");
+        awaitCondition(() -> nullProviders.currentSimulator() == null,
+                       "null providers to stop");
+        cfgService.setProperty(NULL_PROVIDERS, TOPO_SHAPE, scenario.topoShape());
+        cfgService.setProperty(NULL_PROVIDERS, DEVICE_COUNT, String.valueOf(scenario.deviceCount()));
+        cfgService.setProperty(NULL_PROVIDERS, HOST_COUNT, String.valueOf(scenario.hostCount()));
+        cfgService.setProperty(NULL_PROVIDERS, PACKET_RATE, "0");
+        cfgService.setProperty(NULL_PROVIDERS, MUTATION_RATE, "0");
+        cfgService.setProperty(NULL_PROVIDERS, ENABLED, "true");
+        awaitCondition(() -> nullProviders.currentSimulator() != null,
+                       "null providers to start");
+
+        // The topology is considered settled when it stops changing.
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TOPOLOGY_TIMEOUT_SEC);
+        String previous = null;
+        String current = topologySize();
+        while (!Objects.equals(previous, current)) {
+            if (System.nanoTime() >= deadline) {
+                throw new IllegalStateException(String.format(
+                        "Topology %s did not settle within %d seconds (last %s devices/links/hosts)",
+                        scenario.topoShape(), TOPOLOGY_TIMEOUT_SEC, current));
+            }
+            TimeUnit.MILLISECONDS.sleep(SETTLE_MS);
+            previous = current;
+            current = topologySize();
+        }
+        log.info("Topology {} settled with {} devices, links and hosts",
+                 scenario.topoShape(), current);
+    }
+
+    private String topologySize() {
+        return String.format("%d/%d/%d", deviceService.getAvailableDeviceCount(),
+                             linkService.getLinkCount(), hostService.getHostCount());
+    }
+
+    // Waits for the given condition, failing if it does not hold in time.
+    private void awaitCondition(BooleanSupplier condition, String description)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TOPOLOGY_TIMEOUT_SEC);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() >= deadline) {
+                throw new IllegalStateException(String.format(
+                        "Timed out after %d seconds waiting for %s",
+                        TOPOLOGY_TIMEOUT_SEC, description));
+            }
+            TimeUnit.MILLISECONDS.sleep(100);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.scenariobench;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.karaf.shell.api.action.Argument;
+import org.apache.karaf.shell.api.action.Command;
+import org.apache.karaf.shell.api.action.Option;
+import org.apache.karaf.shell.api.action.lifecycle.Service;
+import org.onosproject.cli.AbstractShellCommand;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Runs a benchmark scenario and prints its report.
+ */
+@Service
+@Command(scope = "onos", name = "scenario-bench-run",
+        description = "Runs a benchmark scenario on the null providers and prints its JSON report")
+public class ScenarioBenchRunCommand extends AbstractShellCommand {
+
+    private static final String DEFAULT_SCENARIO = "/default-scenario.json";
+
+    @Argument(index = 0, name = "scenario",
+            description = "JSON file describing the scenario; a built-in spine-leaf " +
+                    "scenario is run if omitted",
+            required = false, multiValued = false)
+    String scenarioFile = null;
+
+    @Option(name = "-o", aliases = "--output",
+            description = "File to write the JSON report to",
+            required = false, multiValued = false)
+    String outputFile = null;
+
+    @Override
+    protected void doExecute() {
+        try {
+            JsonNode scenario;
+            if (scenarioFile == null) {
+                try (InputStream stream = getClass().getResourceAsStream(DEFAULT_SCENARIO)) {
+                    scenario = mapper().readTree(stream);
+                }
+            } else {
+                scenario = mapper().readTree(new File(scenarioFile));
+            }
+
+            ObjectNode report = get(ScenarioBenchManager.class).run(scenario);
+            if (outputFile != null) {
+                mapper().writerWithDefaultPrettyPrinter().writeValue(new File(outputFile), report);
+            }
+            print("%s", mapper().writerWithDefaultPrettyPrinter().writeValueAsString(report));
+        } catch (IOException e) {
+            error("Unable to read scenario or write report: %s", e.getMessage());
+        } catch (IllegalArgumentException e) {
+            error("Invalid scenario: %s", e.getMessage());
+        } catch (IllegalStateException e) {
+            error("Scenario failed: %s", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            error("Interrupted while running the scenario");
+        }
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.scenariobench;
+
+/**
+ * Scripted workload run as part of a benchmark scenario.
+ */
+interface Workload {
+
+    /**
+     * Runs the workload, recording the latency of its operations.
+     *
+     * @param recorder latency recorder
+     * @throws InterruptedException if interrupted while waiting for the
+     *                              operations to complete
+     */
+    void run(LatencyRecorder recorder) throws InterruptedException;
+}
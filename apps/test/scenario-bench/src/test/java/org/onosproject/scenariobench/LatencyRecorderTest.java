@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.scenariobench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of the latency recorder.
+ */
+public class LatencyRecorderTest {
+
+    private static final double DELTA = 1e-9;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    public void percentiles() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        recorder.start();
+        // Record 1 to 2000 ms, out of order, forcing the samples to grow.
+        for (int i = 2000; i > 0; i--) {
+            recorder.record(TimeUnit.MILLISECONDS.toNanos(i));
+        }
+        recorder.stop();
+
+        ObjectNode result = recorder.toJson(mapper);
+        assertEquals("incorrect operations", 2000, result.get("operations").asLong());
+        assertEquals("incorrect failures", 0, result.get("failures").asLong());
+        ObjectNode latency = (ObjectNode) result.get("latencyMs");
+        assertEquals("incorrect samples", 2000, latency.get("samples").asInt());
+        assertEquals("incorrect min", 1, latency.get("min").asDouble(), DELTA);
+        assertEquals("incorrect mean", 1000.5, latency.get("mean").asDouble(), DELTA);
+        assertEquals("incorrect p50", 1000, latency.get("p50").asDouble(), DELTA);
+        assertEquals("incorrect p90", 1800, latency.get("p90").asDouble(), DELTA);
+        assertEquals("incorrect p99", 1980, latency.get("p99").asDouble(), DELTA);
+        assertEquals("incorrect p999", 1998, latency.get("p999").asDouble(), DELTA);
+        assertEquals("incorrect max", 2000, latency.get("max").asDouble(), DELTA);
+    }
+
+    @Test
+    public void batchesAndFailures() throws InterruptedException {
+        LatencyRecorder recorder = new LatencyRecorder();
+        recorder.start();
+        recorder.record(TimeUnit.MILLISECONDS.toNanos(5), 100);
+        recorder.record(TimeUnit.MILLISECONDS.toNanos(7), 50);
+        recorder.fail(3);
+        TimeUnit.MILLISECONDS.sleep(10);
+        recorder.stop();
+
+        ObjectNode result = recorder.toJson(mapper);
+        assertEquals("incorrect operations", 150, result.get("operations").asLong());
+        assertEquals("incorrect failures", 3, result.get("failures").asLong());
+        assertEquals("incorrect samples", 2, result.get("latencyMs").get("samples").asInt());
+        assertTrue("duration should be measured", result.get("durationMs").asLong() >= 10);
+        assertTrue("throughput should be positive", result.get("throughput").asDouble() > 0);
+    }
+
+    @Test
+    public void empty() {
+        ObjectNode result = new LatencyRecorder().toJson(mapper);
+        assertEquals("incorrect operations", 0, result.get("operations").asLong());
+        assertEquals("incorrect throughput", 0, result.get("throughput").asDouble(), DELTA);
+        assertEquals("incorrect samples", 0, result.get("latencyMs").get("samples").asInt());
+        assertFalse("no percentiles expected", result.get("latencyMs").has("p50"));
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.scenariobench;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of the scenario parsing.
+ */
+public class ScenarioTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    public void parse() throws IOException {
+        Scenario scenario = Scenario.parse(mapper.readTree(
+                "{\"name\": \"test\"," +
+                        " \"topology\": {\"shape\": \"linear\", \"deviceCount\": 3, \"hostCount\": 2}," +
+                        " \"workloads\": [{\"type\": \"flow-churn\", \"flows\": 10}," +
+                        "                 {\"type\": \"host-move\"}]}"));
+        assertEquals("incorrect name", "test", scenario.name());
+        assertEquals("incorrect shape", "linear", scenario.topoShape());
+        assertEquals("incorrect device count", 3, scenario.deviceCount());
+        assertEquals("incorrect host count", 2, scenario.hostCount());
+        assertEquals("incorrect workloads", 2, scenario.workloads().size());
+        assertEquals("incorrect workload type", "flow-churn",
+                     scenario.workloads().get(0).get("type").asText());
+        assertEquals("incorrect workload parameter", 10,
+                     scenario.workloads().get(0).get("flows").asInt());
+    }
+
+    @Test
+    public void defaults() throws IOException {
+        Scenario scenario = Scenario.parse(mapper.readTree("{}"));
+        assertEquals("incorrect name", "unnamed", scenario.name());
+        assertEquals("incorrect shape", "configured", scenario.topoShape());
+        assertEquals("incorrect device count", 10, scenario.deviceCount());
+        assertEquals("incorrect host count", 5, scenario.hostCount());
+        assertTrue("no workloads expected", scenario.workloads().isEmpty());
+    }
+
+    @Test
+    public void defaultScenario() throws IOException {
+        try (InputStream stream = getClass().getResourceAsStream("/default-scenario.json")) {
+            JsonNode json = mapper.readTree(stream);
+            Scenario scenario = Scenario.parse(json);
+            assertFalse("workloads expected", scenario.workloads().isEmpty());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void notAnObject() throws IOException {
+        Scenario.parse(mapper.readTree("[]"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void workloadWithoutType() throws IOException {
+        Scenario.parse(mapper.readTree("{\"workloads\": [{\"flows\": 10}]}"));
+    }
+}
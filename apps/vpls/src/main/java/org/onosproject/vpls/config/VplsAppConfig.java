@@ -54,10 +54,9 @@ public class VplsAppConfig extends Config<ApplicationId> {
             String name = jsonNode.get(NAME).asText();
 
             Set<String> ifaces = Sets.newHashSet();
+            // A missing interface list is read as empty, without adding it
+            // to the config
             JsonNode vplsIfaces = jsonNode.path(INTERFACE);
-            if (vplsIfaces.toString().isEmpty()) {
-                vplsIfaces = ((ObjectNode) jsonNode).putArray(INTERFACE);
-            }
             vplsIfaces.forEach(ifacesNode -> ifaces.add(ifacesNode.asText()));
 
             String encap = null;
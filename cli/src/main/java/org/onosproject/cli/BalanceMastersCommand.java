@@ -16,8 +16,10 @@
 package org.onosproject.cli;
 
 import org.apache.karaf.shell.api.action.Command;
+import org.apache.karaf.shell.api.action.Option;
 import org.apache.karaf.shell.api.action.lifecycle.Service;
 import org.onosproject.mastership.MastershipAdminService;
+import org.onosproject.mastership.MastershipBalanceReport;
 
 /**
  * Forces device mastership rebalancing.
@@ -27,9 +29,33 @@ import org.onosproject.mastership.MastershipAdminService;
         description = "Forces device mastership rebalancing")
 public class BalanceMastersCommand extends AbstractShellCommand {
 
+    @Option(name = "-l", aliases = "--load",
+            description = "Balance the load of the devices rather than their number",
+            required = false, multiValued = false)
+    private boolean byLoad = false;
+
+    @Option(name = "-n", aliases = "--dry-run",
+            description = "Only report the moves of a load balancing, without applying them",
+            required = false, multiValued = false)
+    private boolean dryRun = false;
+
     @Override
     protected void doExecute() {
-        get(MastershipAdminService.class).balanceRoles();
+        MastershipAdminService service = get(MastershipAdminService.class);
+        if (!byLoad && !dryRun) {
+            service.balanceRoles();
+            return;
+        }
+
+        MastershipBalanceReport report = service.balanceRolesByLoad(dryRun);
+        report.loadsBefore().forEach((nodeId, load) ->
+                print("%s: load=%.2f, balancedLoad=%.2f", nodeId, load,
+                      report.loadsAfter().get(nodeId)));
+        for (MastershipBalanceReport.Move move : report.moves()) {
+            print("%s: %s -> %s, weight=%.2f", move.deviceId(), move.from(), move.to(),
+                  move.weight());
+        }
+        print("%d moves %s", report.moves().size(), dryRun ? "planned" : "applied");
     }
 
 }
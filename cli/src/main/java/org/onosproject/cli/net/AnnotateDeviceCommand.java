@@ -65,8 +65,10 @@ public class AnnotateDeviceCommand extends AbstractShellCommand {
             print("[ERROR] Annotation key not specified.");
             return;
         }
-        DeviceAnnotationConfig cfg = netcfgService.getConfig(deviceId, DeviceAnnotationConfig.class);
-        if (cfg == null) {
+        DeviceAnnotationConfig cfg;
+        if (netcfgService.getConfig(deviceId, DeviceAnnotationConfig.class) != null) {
+            cfg = netcfgService.addConfig(deviceId, DeviceAnnotationConfig.class);
+        } else {
             cfg = new DeviceAnnotationConfig(deviceId);
         }
         if (removeCfg) {
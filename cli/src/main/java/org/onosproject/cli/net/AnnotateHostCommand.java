@@ -65,8 +65,10 @@ public class AnnotateHostCommand extends AbstractShellCommand {
             print("[ERROR] Annotation key not specified.");
             return;
         }
-        HostAnnotationConfig cfg = netcfgService.getConfig(hostId, HostAnnotationConfig.class);
-        if (cfg == null) {
+        HostAnnotationConfig cfg;
+        if (netcfgService.getConfig(hostId, HostAnnotationConfig.class) != null) {
+            cfg = netcfgService.addConfig(hostId, HostAnnotationConfig.class);
+        } else {
             cfg = new HostAnnotationConfig(hostId);
         }
         if (removeCfg) {
@@ -76,7 +76,7 @@ public class RegionAddPeerLocCommand extends AbstractShellCommand {
         RegionId regionId = RegionId.regionId(id);
 
         NetworkConfigService cfgService = get(NetworkConfigService.class);
-        BasicRegionConfig cfg = cfgService.getConfig(regionId, BasicRegionConfig.class);
+        BasicRegionConfig cfg = cfgService.addConfig(regionId, BasicRegionConfig.class);
 
         cfg.addPeerLocMapping(peerId, locType, latOrY, longOrX)
                 .apply();
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.mastership;
+
+import com.google.common.collect.Maps;
+import org.onosproject.net.DeviceId;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Estimates the control-plane cost of mastering a device, so that device
+ * masterships can be balanced by load rather than by number of devices.
+ */
+@FunctionalInterface
+public interface DeviceLoadWeigher {
+
+    /**
+     * Returns the cost of mastering the given device, relative to the cost
+     * of mastering other devices.
+     *
+     * @param deviceId device identifier
+     * @return non-negative weight of the device
+     */
+    double weight(DeviceId deviceId);
+
+    /**
+     * Returns the cost of mastering each of the given devices. Weighers that
+     * need remote calls to weigh a device should override this to issue them
+     * together rather than one device at a time.
+     *
+     * @param deviceIds device identifiers
+     * @return non-negative weight of each device
+     */
+    default Map<DeviceId, Double> weights(Collection<DeviceId> deviceIds) {
+        Map<DeviceId, Double> weights = Maps.newHashMap();
+        deviceIds.forEach(deviceId -> weights.put(deviceId, weight(deviceId)));
+        return weights;
+    }
+}
@@ -18,6 +18,8 @@ package org.onosproject.mastership;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import org.onlab.util.Tools;
 import org.onosproject.cluster.NodeId;
 import org.onosproject.net.DeviceId;
@@ -58,4 +60,27 @@ public interface MastershipAdminService {
      */
     void balanceRoles();
 
+    /**
+     * Balances the mastership so that the load of the devices, as estimated
+     * by the device load weigher, is shared as evenly as possible by all
+     * online instances. Roles are moved in rate-limited steps, in the
+     * background. The default implementation moves nothing and returns an
+     * empty report.
+     *
+     * @param dryRun true to only plan the moves, without applying them
+     * @return report of the balancing
+     */
+    default MastershipBalanceReport balanceRolesByLoad(boolean dryRun) {
+        return new MastershipBalanceReport(dryRun, ImmutableMap.of(), ImmutableMap.of(), ImmutableList.of());
+    }
+
+    /**
+     * Sets the weigher used to estimate the load of devices when balancing
+     * the mastership by load. The default implementation ignores the weigher.
+     *
+     * @param weigher device load weigher; null to weigh all devices equally
+     */
+    default void setDeviceLoadWeigher(DeviceLoadWeigher weigher) {
+    }
+
 }
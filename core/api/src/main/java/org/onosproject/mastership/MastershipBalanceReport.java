@@ -0,0 +1,194 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.mastership;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.onosproject.cluster.NodeId;
+import org.onosproject.net.DeviceId;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+
+/**
+ * Outcome of a load-aware balancing of device masterships: the load of each
+ * online instance before and after balancing, along with the mastership
+ * moves needed to get there.
+ */
+public final class MastershipBalanceReport {
+
+    private final boolean dryRun;
+    private final Map<NodeId, Double> loadsBefore;
+    private final Map<NodeId, Double> loadsAfter;
+    private final List<Move> moves;
+
+    /**
+     * Creates a new balance report.
+     *
+     * @param dryRun      whether the moves were only planned
+     * @param loadsBefore load of each instance before balancing
+     * @param loadsAfter  load of each instance after balancing
+     * @param moves       mastership moves, in the order they are applied
+     */
+    public MastershipBalanceReport(boolean dryRun, Map<NodeId, Double> loadsBefore,
+                                   Map<NodeId, Double> loadsAfter, List<Move> moves) {
+        this.dryRun = dryRun;
+        this.loadsBefore = ImmutableMap.copyOf(loadsBefore);
+        this.loadsAfter = ImmutableMap.copyOf(loadsAfter);
+        this.moves = ImmutableList.copyOf(moves);
+    }
+
+    /**
+     * Returns whether the moves were only planned and not applied.
+     *
+     * @return true for a dry run
+     */
+    public boolean dryRun() {
+        return dryRun;
+    }
+
+    /**
+     * Returns the load of each online instance before balancing.
+     *
+     * @return map of instance to load
+     */
+    public Map<NodeId, Double> loadsBefore() {
+        return loadsBefore;
+    }
+
+    /**
+     * Returns the load of each online instance after balancing.
+     *
+     * @return map of instance to load
+     */
+    public Map<NodeId, Double> loadsAfter() {
+        return loadsAfter;
+    }
+
+    /**
+     * Returns the mastership moves, in the order they are applied.
+     *
+     * @return list of moves
+     */
+    public List<Move> moves() {
+        return moves;
+    }
+
+    @Override
+    public String toString() {
+        return toStringHelper(this)
+                .add("dryRun", dryRun)
+                .add("loadsBefore", loadsBefore)
+                .add("loadsAfter", loadsAfter)
+                .add("moves", moves)
+                .toString();
+    }
+
+    /**
+     * Move of the mastership of a device from an instance to another.
+     */
+    public static final class Move {
+
+        private final DeviceId deviceId;
+        private final NodeId from;
+        private final NodeId to;
+        private final double weight;
+
+        /**
+         * Creates a new mastership move.
+         *
+         * @param deviceId device identifier
+         * @param from     current master, or null if the device has no online master
+         * @param to       new master
+         * @param weight   weight of the device
+         */
+        public Move(DeviceId deviceId, NodeId from, NodeId to, double weight) {
+            this.deviceId = deviceId;
+            this.from = from;
+            this.to = to;
+            this.weight = weight;
+        }
+
+        /**
+         * Returns the device whose mastership moves.
+         *
+         * @return device identifier
+         */
+        public DeviceId deviceId() {
+            return deviceId;
+        }
+
+        /**
+         * Returns the current master of the device.
+         *
+         * @return node identifier, or null if the device has no online master
+         */
+        public NodeId from() {
+            return from;
+        }
+
+        /**
+         * Returns the new master of the device.
+         *
+         * @return node identifier
+         */
+        public NodeId to() {
+            return to;
+        }
+
+        /**
+         * Returns the weight of the device.
+         *
+         * @return device weight
+         */
+        public double weight() {
+            return weight;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(deviceId, from, to, weight);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj instanceof Move) {
+                Move that = (Move) obj;
+                return Objects.equals(deviceId, that.deviceId) &&
+                        Objects.equals(from, that.from) &&
+                        Objects.equals(to, that.to) &&
+                        weight == that.weight;
+            }
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return toStringHelper(this)
+                    .add("deviceId", deviceId)
+                    .add("from", from)
+                    .add("to", to)
+                    .add("weight", weight)
+                    .toString();
+        }
+    }
+}
@@ -127,6 +127,19 @@ public interface MastershipService
      */
     MastershipInfo getMastershipFor(DeviceId deviceId);
 
+    /**
+     * Returns the mastership info for the given device, as currently known
+     * to the cluster rather than to the local node. Meant for callers which
+     * cannot act on a view that lags behind briefly; this may be more costly
+     * than {@link #getMastershipFor(DeviceId)}.
+     *
+     * @param deviceId the device for which to return the mastership info
+     * @return the mastership info for the given device
+     */
+    default MastershipInfo getConsistentMastershipFor(DeviceId deviceId) {
+        return getMastershipFor(deviceId);
+    }
+
     /**
      * Returns the devices for which a controller is master.
      * <p>
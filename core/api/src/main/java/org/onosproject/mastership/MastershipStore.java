@@ -99,6 +99,18 @@ public interface MastershipStore extends Store<MastershipEvent, MastershipStoreD
      */
     MastershipInfo getMastership(DeviceId deviceId);
 
+    /**
+     * Returns the mastership info for the given device, as currently known
+     * to the cluster rather than to the local node. This may be more costly
+     * than {@link #getMastership(DeviceId)}, which can lag behind briefly.
+     *
+     * @param deviceId the device for which to return the mastership info
+     * @return the mastership info for the given device
+     */
+    default MastershipInfo getConsistentMastership(DeviceId deviceId) {
+        return getMastership(deviceId);
+    }
+
     /**
      * Sets a controller instance's mastership role to STANDBY for a device.
      * If the role is MASTER, another controller instance will be selected
@@ -95,7 +95,9 @@ public interface NetworkConfigService
 
     /**
      * Returns the configuration for the specified subject and configuration
-     * class if one is available; null otherwise.
+     * class if one is available; null otherwise. The returned configuration
+     * may be shared with other callers and can not be modified; use
+     * {@link #addConfig(Object, Class)} to get a configuration to modify.
      *
      * @param subject     configuration subject
      * @param configClass configuration class
@@ -82,6 +82,8 @@ public interface NetworkConfigStore extends Store<NetworkConfigEvent, NetworkCon
 
     /**
      * Get the configuration of the given class and for the specified subject.
+     * The returned configuration may be shared and its JSON is read-only; use
+     * {@link #createConfig(Object, Class)} to get a configuration to modify.
      *
      * @param subject     configuration subject
      * @param configClass configuration class
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.net.driver;
+
+import org.slf4j.Logger;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Creates instances of behaviour implementations. The no-argument constructor
+ * of each implementation class is bound to a factory once, instead of being
+ * looked up reflectively on every instantiation.
+ */
+public final class BehaviourFactory {
+
+    private static final Logger log = getLogger(BehaviourFactory.class);
+
+    private static final ClassValue<Supplier<?>> FACTORIES = new ClassValue<Supplier<?>>() {
+        @Override
+        protected Supplier<?> computeValue(Class<?> type) {
+            return bind(type);
+        }
+    };
+
+    private static final LongAdder CREATIONS = new LongAdder();
+    private static final LongAdder CREATION_NANOS = new LongAdder();
+
+    // Prohibit instantiation
+    private BehaviourFactory() {
+    }
+
+    /**
+     * Creates a new instance of the given behaviour implementation.
+     *
+     * @param implementation behaviour implementation class
+     * @return new behaviour instance
+     * @throws IllegalArgumentException if the behaviour cannot be instantiated
+     */
+    static Behaviour create(Class<? extends Behaviour> implementation) {
+        long start = System.nanoTime();
+        Behaviour behaviour = (Behaviour) FACTORIES.get(implementation).get();
+        CREATION_NANOS.add(System.nanoTime() - start);
+        CREATIONS.increment();
+        return behaviour;
+    }
+
+    /**
+     * Returns the number of behaviours created so far.
+     *
+     * @return number of behaviours created
+     */
+    public static long creations() {
+        return CREATIONS.sum();
+    }
+
+    /**
+     * Returns the time spent creating behaviours so far.
+     *
+     * @return time in nanoseconds
+     */
+    public static long creationNanos() {
+        return CREATION_NANOS.sum();
+    }
+
+    // Binds the no-argument constructor of the class to a supplier
+    private static Supplier<?> bind(Class<?> implementation) {
+        MethodHandle constructor;
+        try {
+            // Same access rules as for reflective instantiation
+            if (Modifier.isAbstract(implementation.getModifiers())) {
+                throw new InstantiationException(implementation.getName() + " is abstract");
+            }
+            constructor = MethodHandles.publicLookup()
+                    .findConstructor(implementation, MethodType.methodType(void.class))
+                    .asType(MethodType.methodType(Object.class));
+        } catch (ReflectiveOperationException e) {
+            return () -> {
+                throw new IllegalArgumentException("Unable to create behaviour " +
+                                                           implementation.getName(), e);
+            };
+        }
+
+        try {
+            // Lambda factories are defined next to the implementation class
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(implementation, MethodHandles.lookup());
+            CallSite site = LambdaMetafactory.metafactory(
+                    lookup, "get", MethodType.methodType(Supplier.class),
+                    MethodType.methodType(Object.class),
+                    lookup.findConstructor(implementation, MethodType.methodType(void.class)),
+                    MethodType.methodType(implementation));
+            return (Supplier<?>) site.getTarget().invoke();
+        } catch (Throwable e) {
+            log.debug("Unable to bind a lambda factory for {}, using its constructor handle",
+                      implementation.getName(), e);
+        }
+        return () -> {
+            try {
+                return constructor.invokeExact();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalArgumentException("Unable to create behaviour " +
+                                                           implementation.getName(), e);
+            }
+        };
+    }
+}
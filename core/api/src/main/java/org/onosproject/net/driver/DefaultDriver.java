@@ -222,12 +222,7 @@ public class DefaultDriver implements Driver {
     @SuppressWarnings("unchecked")
     private <T extends Behaviour> T createBehaviour(Class<T> behaviourClass,
                                                     Class<? extends Behaviour> implementation) {
-        try {
-            return (T) implementation.newInstance();
-        } catch (InstantiationException | IllegalAccessException e) {
-            // TODO: add a specific unchecked exception
-            throw new IllegalArgumentException("Unable to create behaviour", e);
-        }
+        return (T) BehaviourFactory.create(implementation);
     }
 
     @Override
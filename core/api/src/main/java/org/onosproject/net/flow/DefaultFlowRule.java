@@ -15,10 +15,6 @@
  */
 package org.onosproject.net.flow;
 
-import com.google.common.hash.Funnel;
-import com.google.common.hash.HashCode;
-import com.google.common.hash.HashFunction;
-import com.google.common.hash.Hashing;
 import org.onosproject.core.ApplicationId;
 import org.onosproject.core.GroupId;
 import org.onosproject.net.DeviceId;
@@ -35,6 +31,9 @@ import static org.onosproject.net.flow.TableId.Type.INDEX;
  */
 public class DefaultFlowRule implements FlowRule {
 
+    // Hash function of flow identifiers, fixed at startup
+    private static final FlowIdHashing.HashFunction FLOW_ID_HASHING = FlowIdHashing.configured();
+
     private final DeviceId deviceId;
     private final int priority;
     private final TrafficSelector selector;
@@ -256,6 +255,7 @@ public class DefaultFlowRule implements FlowRule {
         private Boolean permanent;
         private Integer hardTimeout = 0;
         private FlowRemoveReason reason = FlowRemoveReason.NO_REASON;
+        private FlowIdHashing.HashFunction hashFunction = FLOW_ID_HASHING;
 
         @Override
         public FlowRule.Builder withCookie(long cookie) {
@@ -365,21 +365,21 @@ public class DefaultFlowRule implements FlowRule {
                                    | (hash() & 0xffffffffL));
         }
 
+        /**
+         * Sets the hash function computing the flow identifier of rules
+         * built on behalf of an application, in place of the one selected at
+         * startup.
+         *
+         * @param hashFunction hash function
+         * @return this builder
+         */
+        Builder withHashFunction(FlowIdHashing.HashFunction hashFunction) {
+            this.hashFunction = checkNotNull(hashFunction);
+            return this;
+        }
+
         private int hash() {
-            // Guava documentation recommends using putUnencodedChars to hash raw character bytes within any encoding
-            // unless cross-language compatibility is needed. See the Hasher.putString documentation for more info.
-            Funnel<TrafficSelector> selectorFunnel = (from, into) -> from.criteria()
-                    .forEach(c -> into.putUnencodedChars(c.toString()));
-
-            HashFunction hashFunction = Hashing.murmur3_32();
-            HashCode hashCode = hashFunction.newHasher()
-                    .putUnencodedChars(deviceId.toString())
-                    .putObject(selector, selectorFunnel)
-                    .putInt(priority)
-                    .putUnencodedChars(tableId.toString())
-                    .hash();
-
-            return hashCode.asInt();
+            return hashFunction.hash(deviceId, selector, priority, tableId);
         }
     }
 }
@@ -61,6 +61,9 @@ public final class DefaultTrafficTreatment implements TrafficTreatment {
             = new DefaultTrafficTreatment(ImmutableList.of(Instructions.createNoAction()));
     private final Set<Instructions.MeterInstruction> meter;
 
+    // Lazily computed hash code, 0 until first needed
+    private transient int hash;
+
     /**
      * Creates a new traffic treatment from the specified list of instructions.
      *
@@ -186,7 +189,12 @@ public final class DefaultTrafficTreatment implements TrafficTreatment {
     //FIXME: Order of instructions may affect hashcode
     @Override
     public int hashCode() {
-        return Objects.hash(immediate, deferred, table, meta);
+        int h = hash;
+        if (h == 0) {
+            h = Objects.hash(immediate, deferred, table, meta);
+            hash = h;
+        }
+        return h;
     }
 
     @Override
@@ -0,0 +1,354 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.net.flow;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import org.onlab.packet.IpAddress;
+import org.onlab.packet.IpPrefix;
+import org.onlab.packet.MacAddress;
+import org.onlab.packet.TpPort;
+import org.onosproject.net.DeviceId;
+import org.onosproject.net.flow.criteria.ArpHaCriterion;
+import org.onosproject.net.flow.criteria.ArpOpCriterion;
+import org.onosproject.net.flow.criteria.ArpPaCriterion;
+import org.onosproject.net.flow.criteria.Criterion;
+import org.onosproject.net.flow.criteria.EthCriterion;
+import org.onosproject.net.flow.criteria.EthTypeCriterion;
+import org.onosproject.net.flow.criteria.IPCriterion;
+import org.onosproject.net.flow.criteria.IPDscpCriterion;
+import org.onosproject.net.flow.criteria.IPEcnCriterion;
+import org.onosproject.net.flow.criteria.IPProtocolCriterion;
+import org.onosproject.net.flow.criteria.IPv6ExthdrFlagsCriterion;
+import org.onosproject.net.flow.criteria.IPv6FlowLabelCriterion;
+import org.onosproject.net.flow.criteria.IPv6NDLinkLayerAddressCriterion;
+import org.onosproject.net.flow.criteria.IPv6NDTargetAddressCriterion;
+import org.onosproject.net.flow.criteria.IcmpCodeCriterion;
+import org.onosproject.net.flow.criteria.IcmpTypeCriterion;
+import org.onosproject.net.flow.criteria.Icmpv6CodeCriterion;
+import org.onosproject.net.flow.criteria.Icmpv6TypeCriterion;
+import org.onosproject.net.flow.criteria.MetadataCriterion;
+import org.onosproject.net.flow.criteria.MplsBosCriterion;
+import org.onosproject.net.flow.criteria.MplsCriterion;
+import org.onosproject.net.flow.criteria.MplsTcCriterion;
+import org.onosproject.net.flow.criteria.PbbIsidCriterion;
+import org.onosproject.net.flow.criteria.PortCriterion;
+import org.onosproject.net.flow.criteria.SctpPortCriterion;
+import org.onosproject.net.flow.criteria.TcpFlagsCriterion;
+import org.onosproject.net.flow.criteria.TcpPortCriterion;
+import org.onosproject.net.flow.criteria.TunnelIdCriterion;
+import org.onosproject.net.flow.criteria.UdpPortCriterion;
+import org.onosproject.net.flow.criteria.VlanIdCriterion;
+import org.onosproject.net.flow.criteria.VlanPcpCriterion;
+
+import static org.onosproject.net.flow.TableId.Type.INDEX;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Hash functions used to compute the flow identifier of flow rules built
+ * on behalf of an application.
+ * <p>
+ * The legacy function hashes the string representation of the device, of
+ * each criterion and of the table. The binary function hashes a compact
+ * canonical encoding of the same fields instead, which avoids formatting a
+ * string per criterion. The binary encoding starts with a version marker,
+ * to be bumped whenever the encoding changes. Both functions hash equal
+ * rules to the same value, but they produce different values from each
+ * other, so all the nodes of a cluster must use the same one.
+ * </p>
+ * <p>
+ * The function used by flow rule builders is selected once, at startup, by
+ * the {@value #HASHING_PROPERTY} system property: {@value #LEGACY} (the
+ * default, which keeps the flow identifiers of earlier releases) or
+ * {@value #BINARY}.
+ * </p>
+ */
+final class FlowIdHashing {
+
+    /**
+     * Version of the binary canonical encoding.
+     */
+    static final byte BINARY_ENCODING_VERSION = 1;
+
+    /**
+     * System property selecting the hash function used by flow rule builders.
+     */
+    static final String HASHING_PROPERTY = "onos.flow.id.hashing";
+    static final String LEGACY = "legacy";
+    static final String BINARY = "binary";
+
+    private static final byte ABSENT = 0;
+    private static final byte PRESENT = 1;
+
+    // Prevent instantiation
+    private FlowIdHashing() {
+    }
+
+    /**
+     * Hash function of the fields identifying a flow rule.
+     */
+    @FunctionalInterface
+    interface HashFunction {
+        /**
+         * Hashes the given fields of a flow rule.
+         *
+         * @param deviceId device identifier
+         * @param selector traffic selector
+         * @param priority priority
+         * @param tableId  table identifier
+         * @return 32-bit hash
+         */
+        int hash(DeviceId deviceId, TrafficSelector selector, int priority, TableId tableId);
+    }
+
+    /**
+     * Returns the hash function selected by the {@value #HASHING_PROPERTY}
+     * system property.
+     *
+     * @return hash function
+     */
+    static HashFunction configured() {
+        return forName(System.getProperty(HASHING_PROPERTY, LEGACY));
+    }
+
+    /**
+     * Returns the hash function with the given name, falling back to the
+     * legacy one for unknown names.
+     *
+     * @param name {@value #LEGACY} or {@value #BINARY}
+     * @return hash function
+     */
+    static HashFunction forName(String name) {
+        if (BINARY.equalsIgnoreCase(name)) {
+            return FlowIdHashing::binaryHash;
+        }
+        if (!LEGACY.equalsIgnoreCase(name)) {
+            getLogger(FlowIdHashing.class).warn("Unknown {} {}, using {}",
+                                                HASHING_PROPERTY, name, LEGACY);
+        }
+        return FlowIdHashing::legacyHash;
+    }
+
+    /**
+     * Hashes the given fields of a flow rule using their string representation.
+     *
+     * @param deviceId device identifier
+     * @param selector traffic selector
+     * @param priority priority
+     * @param tableId  table identifier
+     * @return 32-bit hash
+     */
+    static int legacyHash(DeviceId deviceId, TrafficSelector selector,
+                          int priority, TableId tableId) {
+        // Guava documentation recommends using putUnencodedChars to hash raw character bytes within any encoding
+        // unless cross-language compatibility is needed. See the Hasher.putString documentation for more info.
+        Hasher hasher = Hashing.murmur3_32().newHasher()
+                .putUnencodedChars(deviceId.toString());
+        for (Criterion c : selector.criteria()) {
+            hasher.putUnencodedChars(c.toString());
+        }
+        return hasher.putInt(priority)
+                .putUnencodedChars(tableId.toString())
+                .hash()
+                .asInt();
+    }
+
+    /**
+     * Hashes the given fields of a flow rule using their binary canonical
+     * encoding.
+     *
+     * @param deviceId device identifier
+     * @param selector traffic selector
+     * @param priority priority
+     * @param tableId  table identifier
+     * @return 32-bit hash
+     */
+    static int binaryHash(DeviceId deviceId, TrafficSelector selector,
+                          int priority, TableId tableId) {
+        Hasher hasher = Hashing.murmur3_32().newHasher()
+                .putByte(BINARY_ENCODING_VERSION)
+                .putUnencodedChars(deviceId.toString())
+                .putInt(selector.criteria().size());
+        for (Criterion c : selector.criteria()) {
+            putCriterion(hasher, c);
+        }
+        hasher.putInt(priority);
+        if (tableId.type() == INDEX) {
+            hasher.putByte((byte) INDEX.ordinal())
+                    .putInt(((IndexTableId) tableId).id());
+        } else {
+            hasher.putByte((byte) tableId.type().ordinal())
+                    .putUnencodedChars(tableId.toString());
+        }
+        return hasher.hash().asInt();
+    }
+
+    // Criteria without a dedicated encoding, such as extensions and
+    // protocol-independent criteria, fall back to their string representation.
+    private static void putCriterion(Hasher hasher, Criterion c) {
+        // Names of enum constants are stable, unlike their ordinals
+        hasher.putInt(c.type().name().hashCode());
+        switch (c.type()) {
+            case IN_PORT:
+            case IN_PHY_PORT:
+                hasher.putLong(((PortCriterion) c).port().toLong());
+                break;
+            case METADATA:
+                hasher.putLong(((MetadataCriterion) c).metadata());
+                break;
+            case ETH_DST:
+            case ETH_DST_MASKED:
+            case ETH_SRC:
+            case ETH_SRC_MASKED:
+                putMac(hasher, ((EthCriterion) c).mac());
+                putMac(hasher, ((EthCriterion) c).mask());
+                break;
+            case ETH_TYPE:
+                hasher.putShort(((EthTypeCriterion) c).ethType().toShort());
+                break;
+            case VLAN_VID:
+            case INNER_VLAN_VID:
+                hasher.putShort(((VlanIdCriterion) c).vlanId().toShort());
+                break;
+            case VLAN_PCP:
+            case INNER_VLAN_PCP:
+                hasher.putByte(((VlanPcpCriterion) c).priority());
+                break;
+            case IP_DSCP:
+                hasher.putByte(((IPDscpCriterion) c).ipDscp());
+                break;
+            case IP_ECN:
+                hasher.putByte(((IPEcnCriterion) c).ipEcn());
+                break;
+            case IP_PROTO:
+                hasher.putShort(((IPProtocolCriterion) c).protocol());
+                break;
+            case IPV4_SRC:
+            case IPV4_DST:
+            case IPV6_SRC:
+            case IPV6_DST:
+                putPrefix(hasher, ((IPCriterion) c).ip());
+                break;
+            case TCP_SRC:
+            case TCP_SRC_MASKED:
+            case TCP_DST:
+            case TCP_DST_MASKED:
+                putTpPort(hasher, ((TcpPortCriterion) c).tcpPort());
+                putTpPort(hasher, ((TcpPortCriterion) c).mask());
+                break;
+            case UDP_SRC:
+            case UDP_SRC_MASKED:
+            case UDP_DST:
+            case UDP_DST_MASKED:
+                putTpPort(hasher, ((UdpPortCriterion) c).udpPort());
+                putTpPort(hasher, ((UdpPortCriterion) c).mask());
+                break;
+            case SCTP_SRC:
+            case SCTP_SRC_MASKED:
+            case SCTP_DST:
+            case SCTP_DST_MASKED:
+                putTpPort(hasher, ((SctpPortCriterion) c).sctpPort());
+                putTpPort(hasher, ((SctpPortCriterion) c).mask());
+                break;
+            case ICMPV4_TYPE:
+                hasher.putShort(((IcmpTypeCriterion) c).icmpType());
+                break;
+            case ICMPV4_CODE:
+                hasher.putShort(((IcmpCodeCriterion) c).icmpCode());
+                break;
+            case ICMPV6_TYPE:
+                hasher.putShort(((Icmpv6TypeCriterion) c).icmpv6Type());
+                break;
+            case ICMPV6_CODE:
+                hasher.putShort(((Icmpv6CodeCriterion) c).icmpv6Code());
+                break;
+            case ARP_OP:
+                hasher.putInt(((ArpOpCriterion) c).arpOp());
+                break;
+            case ARP_SPA:
+            case ARP_TPA:
+                putAddress(hasher, ((ArpPaCriterion) c).ip());
+                break;
+            case ARP_SHA:
+            case ARP_THA:
+                putMac(hasher, ((ArpHaCriterion) c).mac());
+                break;
+            case IPV6_FLABEL:
+                hasher.putInt(((IPv6FlowLabelCriterion) c).flowLabel());
+                break;
+            case IPV6_ND_TARGET:
+                putAddress(hasher, ((IPv6NDTargetAddressCriterion) c).targetAddress());
+                break;
+            case IPV6_ND_SLL:
+            case IPV6_ND_TLL:
+                putMac(hasher, ((IPv6NDLinkLayerAddressCriterion) c).mac());
+                break;
+            case MPLS_LABEL:
+                hasher.putInt(((MplsCriterion) c).label().toInt());
+                break;
+            case MPLS_TC:
+                hasher.putByte(((MplsTcCriterion) c).tc());
+                break;
+            case MPLS_BOS:
+                hasher.putBoolean(((MplsBosCriterion) c).mplsBos());
+                break;
+            case PBB_ISID:
+                hasher.putInt(((PbbIsidCriterion) c).pbbIsid());
+                break;
+            case TUNNEL_ID:
+                hasher.putLong(((TunnelIdCriterion) c).tunnelId());
+                break;
+            case IPV6_EXTHDR:
+                hasher.putInt(((IPv6ExthdrFlagsCriterion) c).exthdrFlags());
+                break;
+            case TCP_FLAGS:
+                hasher.putInt(((TcpFlagsCriterion) c).flags());
+                break;
+            default:
+                hasher.putUnencodedChars(c.toString());
+                break;
+        }
+    }
+
+    private static void putMac(Hasher hasher, MacAddress mac) {
+        if (mac == null) {
+            hasher.putByte(ABSENT);
+        } else {
+            hasher.putByte(PRESENT).putLong(mac.toLong());
+        }
+    }
+
+    private static void putTpPort(Hasher hasher, TpPort port) {
+        if (port == null) {
+            hasher.putByte(ABSENT);
+        } else {
+            hasher.putByte(PRESENT).putInt(port.toInt());
+        }
+    }
+
+    private static void putPrefix(Hasher hasher, IpPrefix prefix) {
+        putAddress(hasher, prefix.address());
+        hasher.putInt(prefix.prefixLength());
+    }
+
+    private static void putAddress(Hasher hasher, IpAddress address) {
+        if (address.isIp4()) {
+            hasher.putInt(address.getIp4Address().toInt());
+        } else {
+            hasher.putBytes(address.toOctets());
+        }
+    }
+}
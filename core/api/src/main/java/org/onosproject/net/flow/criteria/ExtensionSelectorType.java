@@ -43,6 +43,7 @@ public class ExtensionSelectorType {
         NICIRA_MATCH_CONNTRACK_ZONE(8),
         NICIRA_MATCH_CONNTRACK_MARK(9),
         NICIRA_MATCH_CONNTRACK_LABEL(10),
+        NICIRA_MATCH_CONJ_ID(11),
         OFDPA_MATCH_VLAN_VID(16),
         OFDPA_MATCH_OVID(17),
         OFDPA_MATCH_MPLS_L2_PORT(18),
@@ -52,6 +52,7 @@ public final class ExtensionTreatmentType {
         NICIRA_CT(40),
         NICIRA_NAT(41),
         NICIRA_CT_CLEAR(42),
+        NICIRA_CONJUNCTION(43),
         OFDPA_SET_VLAN_ID(64),
         OFDPA_SET_MPLS_TYPE(65),
         OFDPA_SET_OVID(66),
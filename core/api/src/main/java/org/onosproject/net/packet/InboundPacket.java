@@ -17,6 +17,7 @@ package org.onosproject.net.packet;
 
 import org.onosproject.net.ConnectPoint;
 import org.onlab.packet.Ethernet;
+import org.onlab.packet.PacketView;
 
 import java.nio.ByteBuffer;
 import java.util.Optional;
@@ -48,6 +49,17 @@ public interface InboundPacket {
      */
     ByteBuffer unparsed();
 
+    /**
+     * Returns a view of the packet headers, read in place from the unparsed
+     * packet data. Cheaper than {@link #parsed()} when only a few header
+     * fields are needed.
+     *
+     * @return packet view
+     */
+    default PacketView view() {
+        return PacketView.wrap(unparsed());
+    }
+
     /**
      * Returns the cookie in the packet in message.
      *
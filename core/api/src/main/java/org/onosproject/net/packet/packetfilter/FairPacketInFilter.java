@@ -0,0 +1,475 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.net.packet.packetfilter;
+
+import com.google.common.collect.ImmutableList;
+import org.onlab.packet.MacAddress;
+import org.onlab.packet.PacketView;
+import org.onosproject.net.ConnectPoint;
+import org.onosproject.net.packet.PacketContext;
+import org.onosproject.net.packet.PacketInClassifier;
+import org.onosproject.net.packet.PacketInFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Packet-in filter sharing the accepted packet rate fairly between sources.
+ * <p>
+ * Unlike {@link DefaultPacketInFilter}, which counts the packets of its type
+ * for the whole node, this filter keeps a token bucket per ingress connect
+ * point and per source MAC address. The accepted rate is split between the
+ * sources active in the last window, in proportion to the weight of their
+ * connect point, so that a storm on one edge port is throttled on its own and
+ * does not starve the same type of traffic coming from other ports. A source
+ * exceeding its share for more than the threshold of consecutive windows is
+ * blocked for the guard time.
+ * </p>
+ * <p>
+ * A node-wide bucket sits behind the per-source ones and caps the total
+ * accepted rate, so that a burst of packets from many new sources, each of
+ * which starts with a full bucket, is not accepted beyond the rate of the
+ * filter.
+ * </p>
+ * <p>
+ * The number of tracked sources is bounded; packets from sources beyond the
+ * bound share a single bucket. Buckets are refilled lazily, so the filter
+ * does not need any thread of its own.
+ * </p>
+ */
+public class FairPacketInFilter implements PacketInFilter {
+
+    /**
+     * Maximum number of tracked sources of each kind.
+     */
+    public static final int MAX_SOURCES = 4096;
+
+    // Time after which an idle source is forgotten
+    private static final long IDLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    // Shared key of the sources beyond MAX_SOURCES
+    private static final String OTHER_SOURCES = "other";
+
+    // Key of the node-wide bucket
+    private static final String ALL_SOURCES = "all";
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final String counterName;
+    private final PacketInClassifier classifier;
+    private final LongSupplier clock;
+
+    private volatile int pps;
+    private volatile int winSize;
+    private volatile int guardTime;
+    private volatile int winThres;
+
+    private final Map<Object, SourceBucket> portBuckets = new ConcurrentHashMap<>();
+    private final Map<Object, SourceBucket> macBuckets = new ConcurrentHashMap<>();
+    private final Map<ConnectPoint, Integer> weights = new ConcurrentHashMap<>();
+    private final SourceBucket nodeBucket;
+
+    // Computed at the end of each window
+    private volatile double activePortWeight = 1;
+    private volatile int activeMacs = 1;
+
+    private final AtomicLong windowStart;
+    private final AtomicInteger windowCounter = new AtomicInteger();
+    private final AtomicInteger overFlowCounter = new AtomicInteger();
+
+    /**
+     * Only one filter object per packet type to be associated.
+     * Multiple filter types will result in undefined behavior.
+     *
+     * @param pps Aggregate rate at which the packets are accepted, in packets
+     *            per second
+     * @param winSize Size of window in milli seconds within which the rate
+     *                of each source is analyzed
+     * @param guardTime Time duration in seconds for which the packets of a
+     *                  source are dropped once it crossed its rate in more
+     *                  than winThres continuous windows
+     * @param winThres Continuous window threshold after which guardTime is
+     *                 activated for a source
+     * @param counterName Name of the counter
+     * @param classifier Packet classification
+     */
+    public FairPacketInFilter(int pps, int winSize, int guardTime, int winThres,
+                              String counterName, PacketInClassifier classifier) {
+        this(pps, winSize, guardTime, winThres, counterName, classifier, System::nanoTime);
+    }
+
+    FairPacketInFilter(int pps, int winSize, int guardTime, int winThres,
+                       String counterName, PacketInClassifier classifier, LongSupplier clock) {
+        this.pps = pps;
+        this.winSize = winSize;
+        this.guardTime = guardTime;
+        this.winThres = winThres;
+        this.counterName = counterName;
+        this.classifier = classifier;
+        this.clock = clock;
+        this.windowStart = new AtomicLong(clock.getAsLong());
+        this.nodeBucket = new SourceBucket(ALL_SOURCES);
+    }
+
+    @Override
+    public FilterAction preProcess(PacketContext packet) {
+        if (!classifier.match(packet)) {
+            return FilterAction.FILTER_INVALID;
+        }
+        if (pps == 0) {
+            log.trace("{}: Filter is disabled", counterName);
+            return FilterAction.FILTER_DISABLED;
+        }
+
+        long now = clock.getAsLong();
+        maybeEndWindow(now);
+
+        ConnectPoint port = packet.inPacket().receivedFrom();
+        // Only the source MAC is needed, read it without parsing the packet
+        long sourceMac = packet.inPacket().view().sourceMac();
+        MacAddress mac = sourceMac != PacketView.NONE ? MacAddress.valueOf(sourceMac) : null;
+
+        int weight = weight(port);
+        SourceBucket portBucket = bucket(portBuckets, port);
+        if (!portBucket.tryAcquire(now, share(weight, Math.max(activePortWeight, weight)))) {
+            return deny(portBucket);
+        }
+        SourceBucket macBucket = mac != null ? bucket(macBuckets, mac) : null;
+        if (macBucket != null && !macBucket.tryAcquire(now, share(1, activeMacs))) {
+            portBucket.release();
+            return deny(macBucket);
+        }
+        if (!nodeBucket.tryAcquire(now, pps)) {
+            portBucket.release();
+            if (macBucket != null) {
+                macBucket.release();
+            }
+            return deny(nodeBucket);
+        }
+        windowCounter.incrementAndGet();
+        return FilterAction.PACKET_ALLOW;
+    }
+
+    private FilterAction deny(SourceBucket bucket) {
+        if (overFlowCounter.incrementAndGet() < 0) {
+            overFlowCounter.set(0);
+        }
+        log.trace("{}: Packet from {} dropped", counterName, bucket.source);
+        return FilterAction.PACKET_DENY;
+    }
+
+    // Rate granted to a source of the given weight, in packets per second
+    private double share(double weight, double totalWeight) {
+        return pps * weight / Math.max(totalWeight, 1);
+    }
+
+    private SourceBucket bucket(Map<Object, SourceBucket> buckets, Object source) {
+        if (source == null) {
+            source = OTHER_SOURCES;
+        }
+        SourceBucket bucket = buckets.get(source);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= MAX_SOURCES) {
+            return buckets.computeIfAbsent(OTHER_SOURCES, SourceBucket::new);
+        }
+        return buckets.computeIfAbsent(source, SourceBucket::new);
+    }
+
+    // Closes the current window if it elapsed: updates the number of active
+    // sources, the per-source guard state and forgets about idle sources.
+    private void maybeEndWindow(long now) {
+        long start = windowStart.get();
+        long windowNanos = TimeUnit.MILLISECONDS.toNanos(winSize);
+        if (now - start < windowNanos || !windowStart.compareAndSet(start, now)) {
+            return;
+        }
+        windowCounter.set(0);
+        double portWeight = 0;
+        for (SourceBucket bucket : portBuckets.values()) {
+            if (bucket.endWindow(now, start)) {
+                portWeight += bucket.source instanceof ConnectPoint ?
+                        weight((ConnectPoint) bucket.source) : 1;
+            }
+        }
+        int macs = 0;
+        for (SourceBucket bucket : macBuckets.values()) {
+            if (bucket.endWindow(now, start)) {
+                macs++;
+            }
+        }
+        activePortWeight = Math.max(portWeight, 1);
+        activeMacs = Math.max(macs, 1);
+        portBuckets.values().removeIf(b -> b.isIdle(now));
+        macBuckets.values().removeIf(b -> b.isIdle(now));
+    }
+
+    /**
+     * Sets the weight of the given ingress connect point. Sources with a
+     * higher weight get a larger share of the accepted rate. The default
+     * weight is 1.
+     *
+     * @param port ingress connect point
+     * @param weight weight of the connect point, 1 or more
+     */
+    public void setWeight(ConnectPoint port, int weight) {
+        checkArgument(weight > 0, "weight must be greater than 0");
+        if (weight == 1) {
+            weights.remove(port);
+        } else {
+            weights.put(port, weight);
+        }
+    }
+
+    private int weight(ConnectPoint port) {
+        return port == null ? 1 : weights.getOrDefault(port, 1);
+    }
+
+    /**
+     * Returns the statistics of the sources which sent the most packets of
+     * this type, ingress connect points and source MAC addresses alike.
+     *
+     * @param count maximum number of sources to return
+     * @return statistics of the top talkers, by decreasing number of packets
+     */
+    public List<SourceStats> topTalkers(int count) {
+        return Stream.concat(portBuckets.values().stream(), macBuckets.values().stream())
+                .map(SourceBucket::stats)
+                .sorted(Comparator.comparingLong(SourceStats::packets).reversed())
+                .limit(count)
+                .collect(ImmutableList.toImmutableList());
+    }
+
+    @Override
+    public String name() {
+        return counterName;
+    }
+
+    @Override
+    public int pendingPackets() {
+        return windowCounter.get();
+    }
+
+    @Override
+    public int droppedPackets() {
+        return overFlowCounter.get();
+    }
+
+    @Override
+    public void setPps(int pps) {
+        this.pps = pps;
+    }
+
+    @Override
+    public void setWinSize(int winSize) {
+        this.winSize = winSize;
+    }
+
+    @Override
+    public void setGuardTime(int guardTime) {
+        this.guardTime = guardTime;
+    }
+
+    @Override
+    public void setWinThres(int winThres) {
+        this.winThres = winThres;
+    }
+
+    @Override
+    public void stop() {
+        portBuckets.clear();
+        macBuckets.clear();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        FairPacketInFilter that = (FairPacketInFilter) o;
+        return pps == that.pps &&
+                winSize == that.winSize &&
+                guardTime == that.guardTime &&
+                winThres == that.winThres &&
+                counterName.equals(that.counterName) &&
+                classifier.equals(that.classifier);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(pps, winSize, guardTime, winThres, counterName, classifier);
+    }
+
+    /**
+     * Token bucket of a packet source.
+     */
+    private final class SourceBucket {
+        private final Object source;
+        private double tokens = -1;
+        private long lastRefill;
+        private long lastSeen;
+        private long admitted;
+        private long dropped;
+        private boolean droppedInWindow;
+        private int droppedWindows;
+        private long blockedUntil;
+
+        private SourceBucket(Object source) {
+            this.source = source;
+            this.blockedUntil = clock.getAsLong();
+        }
+
+        // Takes a token, refilling the bucket at the given rate first
+        private synchronized boolean tryAcquire(long now, double rate) {
+            double burst = Math.max(1, rate * winSize / 1000);
+            if (tokens < 0) {
+                tokens = burst;
+            } else {
+                tokens = Math.min(burst, tokens + rate * (now - lastRefill) / TimeUnit.SECONDS.toNanos(1));
+            }
+            lastRefill = now;
+            lastSeen = now;
+            if (now - blockedUntil < 0 || tokens < 1) {
+                dropped++;
+                droppedInWindow = true;
+                return false;
+            }
+            tokens--;
+            admitted++;
+            return true;
+        }
+
+        // Gives back a token taken for a packet dropped by another bucket;
+        // the drop does not count against the guard threshold of the source
+        private synchronized void release() {
+            tokens++;
+            admitted--;
+            dropped++;
+        }
+
+        // Returns whether the source was active during the window which
+        // started at the given time and is not blocked.
+        private synchronized boolean endWindow(long now, long start) {
+            if (droppedInWindow && ++droppedWindows > winThres) {
+                log.debug("{}: Blocking packets from {} for {} seconds", counterName, source, guardTime);
+                blockedUntil = now + TimeUnit.SECONDS.toNanos(guardTime);
+                droppedWindows = 0;
+            } else if (!droppedInWindow) {
+                droppedWindows = 0;
+            }
+            droppedInWindow = false;
+            return lastSeen - start >= 0 && now - blockedUntil >= 0;
+        }
+
+        private synchronized boolean isIdle(long now) {
+            return now - lastSeen > IDLE_NANOS && now - blockedUntil >= 0;
+        }
+
+        private synchronized SourceStats stats() {
+            return new SourceStats(source.toString(), admitted, dropped, blockedUntil - clock.getAsLong() > 0);
+        }
+    }
+
+    /**
+     * Packet statistics of a source.
+     */
+    public static final class SourceStats {
+        private final String source;
+        private final long admitted;
+        private final long dropped;
+        private final boolean blocked;
+
+        private SourceStats(String source, long admitted, long dropped, boolean blocked) {
+            this.source = source;
+            this.admitted = admitted;
+            this.dropped = dropped;
+            this.blocked = blocked;
+        }
+
+        /**
+         * Returns the source: an ingress connect point or a source MAC address.
+         *
+         * @return source description
+         */
+        public String source() {
+            return source;
+        }
+
+        /**
+         * Returns the number of packets of the source accepted for processing.
+         *
+         * @return number of accepted packets
+         */
+        public long admitted() {
+            return admitted;
+        }
+
+        /**
+         * Returns the number of packets of the source which were dropped.
+         *
+         * @return number of dropped packets
+         */
+        public long dropped() {
+            return dropped;
+        }
+
+        /**
+         * Returns the number of packets received from the source.
+         *
+         * @return number of packets
+         */
+        public long packets() {
+            return admitted + dropped;
+        }
+
+        /**
+         * Returns whether the source is currently blocked for the guard time.
+         *
+         * @return true if the source is blocked
+         */
+        public boolean blocked() {
+            return blocked;
+        }
+
+        @Override
+        public String toString() {
+            return toStringHelper(this)
+                    .add("source", source)
+                    .add("admitted", admitted)
+                    .add("dropped", dropped)
+                    .add("blocked", blocked)
+                    .toString();
+        }
+    }
+}
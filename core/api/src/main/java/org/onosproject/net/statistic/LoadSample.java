@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.net.statistic;
+
+import com.google.common.base.MoreObjects;
+
+import java.util.Objects;
+
+/**
+ * Average rate observed on a port over an interval of time.
+ */
+public final class LoadSample {
+
+    private final long time;
+    private final long interval;
+    private final long rate;
+
+    /**
+     * Creates a new load sample.
+     *
+     * @param time     end of the interval, as epoch time in milliseconds
+     * @param interval duration of the interval in milliseconds
+     * @param rate     average rate over the interval, per second
+     */
+    public LoadSample(long time, long interval, long rate) {
+        this.time = time;
+        this.interval = interval;
+        this.rate = rate;
+    }
+
+    /**
+     * Returns the end of the interval covered by the sample.
+     *
+     * @return epoch time in milliseconds
+     */
+    public long time() {
+        return time;
+    }
+
+    /**
+     * Returns the duration of the interval covered by the sample.
+     *
+     * @return duration in milliseconds
+     */
+    public long interval() {
+        return interval;
+    }
+
+    /**
+     * Returns the average rate over the interval.
+     *
+     * @return rate per second
+     */
+    public long rate() {
+        return rate;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(time, interval, rate);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof LoadSample)) {
+            return false;
+        }
+        LoadSample that = (LoadSample) obj;
+        return time == that.time && interval == that.interval && rate == that.rate;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("time", time)
+                .add("interval", interval)
+                .add("rate", rate)
+                .toString();
+    }
+}
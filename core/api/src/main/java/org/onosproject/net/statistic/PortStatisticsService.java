@@ -16,8 +16,11 @@
 package org.onosproject.net.statistic;
 
 import com.google.common.annotations.Beta;
+import com.google.common.collect.ImmutableList;
 import org.onosproject.net.ConnectPoint;
 
+import java.util.List;
+
 /**
  * Service for obtaining statistic information about device ports.
  */
@@ -52,4 +55,19 @@ public interface PortStatisticsService {
         return load(connectPoint);
     }
 
+    /**
+     * Obtain the history of the load for the given port in terms of the
+     * specified metric. Recent samples are kept at the poll resolution and
+     * older ones are averaged over longer intervals; the samples are given
+     * at the finest resolution still covering the requested time.
+     *
+     * @param connectPoint the port to query
+     * @param metricType   metric type
+     * @param since        epoch time in milliseconds of the oldest sample to return
+     * @return load samples, oldest first
+     */
+    default List<LoadSample> loadHistory(ConnectPoint connectPoint, MetricType metricType, long since) {
+        return ImmutableList.of();
+    }
+
 }
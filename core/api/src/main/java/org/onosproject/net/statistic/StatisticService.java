@@ -15,6 +15,7 @@
  */
 package org.onosproject.net.statistic;
 
+import com.google.common.collect.ImmutableList;
 import org.onosproject.core.ApplicationId;
 import org.onosproject.core.GroupId;
 import org.onosproject.net.ConnectPoint;
@@ -22,6 +23,7 @@ import org.onosproject.net.Link;
 import org.onosproject.net.Path;
 import org.onosproject.net.flow.FlowRule;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -82,4 +84,18 @@ public interface StatisticService {
      * @return {@link Load Load}
      */
     Load load(Link link, ApplicationId appId, Optional<GroupId> groupId);
+
+    /**
+     * Obtain the history of the load for the given port, as derived from
+     * the flow statistics. Recent samples are kept at the poll resolution
+     * and older ones are averaged over longer intervals; the samples are
+     * given at the finest resolution still covering the requested time.
+     *
+     * @param connectPoint the port to query
+     * @param since        epoch time in milliseconds of the oldest sample to return
+     * @return load samples in bytes per second, oldest first
+     */
+    default List<LoadSample> loadHistory(ConnectPoint connectPoint, long since) {
+        return ImmutableList.of();
+    }
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.net.driver;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit tests for the behaviour factory.
+ */
+public class BehaviourFactoryTest {
+
+    /**
+     * Tests that each creation gives a new instance and is accounted for.
+     */
+    @Test
+    public void create() {
+        long creations = BehaviourFactory.creations();
+        Behaviour one = BehaviourFactory.create(TestBehaviourImpl.class);
+        Behaviour two = BehaviourFactory.create(TestBehaviourImpl.class);
+        assertThat(one, instanceOf(TestBehaviourImpl.class));
+        assertThat(two, instanceOf(TestBehaviourImpl.class));
+        assertThat(one, not(sameInstance(two)));
+        assertThat(BehaviourFactory.creations() - creations, is(2L));
+    }
+
+    /**
+     * Tests that behaviours without accessible constructor are rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void noConstructor() {
+        BehaviourFactory.create(TestBehaviourNoConstructorImpl.class);
+    }
+
+    /**
+     * Tests that abstract behaviours are rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void abstractBehaviour() {
+        BehaviourFactory.create(AbstractTestBehaviour.class);
+    }
+
+    /**
+     * Abstract test behaviour.
+     */
+    public abstract static class AbstractTestBehaviour extends AbstractBehaviour implements TestBehaviour {
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.net.flow;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.hash.Funnel;
+import com.google.common.hash.Hashing;
+import org.junit.Test;
+import org.onlab.packet.EthType;
+import org.onlab.packet.Ip4Prefix;
+import org.onlab.packet.Ip6Address;
+import org.onlab.packet.IpPrefix;
+import org.onlab.packet.MacAddress;
+import org.onlab.packet.MplsLabel;
+import org.onlab.packet.TpPort;
+import org.onlab.packet.VlanId;
+import org.onosproject.net.DeviceId;
+import org.onosproject.net.PortNumber;
+import org.onosproject.net.flow.criteria.PiCriterion;
+import org.onosproject.net.pi.model.PiMatchFieldId;
+import org.onosproject.net.pi.model.PiTableId;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.onosproject.net.NetTestTools.APP_ID;
+
+/**
+ * Unit tests for the flow identifier hash functions.
+ */
+public class FlowIdHashingTest {
+
+    private static final DeviceId DID1 = DeviceId.deviceId("of:0000000000000001");
+    private static final DeviceId DID2 = DeviceId.deviceId("of:0000000000000002");
+    private static final List<TableId> TABLES = ImmutableList.of(
+            IndexTableId.of(0), IndexTableId.of(10), PiTableId.of("ingress.acl"));
+
+    // Distinct selectors, covering the criteria with a binary encoding and
+    // some falling back to their string representation
+    private static List<TrafficSelector> selectors() {
+        return ImmutableList.of(
+                DefaultTrafficSelector.emptySelector(),
+                DefaultTrafficSelector.builder().matchInPort(PortNumber.portNumber(1)).build(),
+                DefaultTrafficSelector.builder().matchInPort(PortNumber.portNumber(2)).build(),
+                DefaultTrafficSelector.builder().matchInPhyPort(PortNumber.portNumber(1)).build(),
+                DefaultTrafficSelector.builder().matchMetadata(1).build(),
+                DefaultTrafficSelector.builder()
+                        .matchEthDst(MacAddress.valueOf("00:00:00:00:00:01")).build(),
+                DefaultTrafficSelector.builder()
+                        .matchEthSrc(MacAddress.valueOf("00:00:00:00:00:01")).build(),
+                DefaultTrafficSelector.builder()
+                        .matchEthDstMasked(MacAddress.valueOf("00:00:00:00:00:01"),
+                                           MacAddress.valueOf("ff:ff:ff:00:00:00")).build(),
+                DefaultTrafficSelector.builder().matchEthType(EthType.EtherType.IPV4.ethType().toShort())
+                        .matchIPSrc(IpPrefix.valueOf("10.0.0.0/8"))
+                        .matchIPDst(IpPrefix.valueOf("10.1.0.0/16")).build(),
+                DefaultTrafficSelector.builder().matchEthType(EthType.EtherType.IPV4.ethType().toShort())
+                        .matchIPSrc(IpPrefix.valueOf("10.0.0.0/16"))
+                        .matchIPDst(IpPrefix.valueOf("10.1.0.0/16")).build(),
+                DefaultTrafficSelector.builder().matchEthType(EthType.EtherType.IPV4.ethType().toShort())
+                        .matchIPProtocol((byte) 6)
+                        .matchTcpSrc(TpPort.tpPort(80))
+                        .matchTcpDstMasked(TpPort.tpPort(1024), TpPort.tpPort(0xfc00)).build(),
+                DefaultTrafficSelector.builder().matchEthType(EthType.EtherType.IPV4.ethType().toShort())
+                        .matchIPProtocol((byte) 17)
+                        .matchUdpSrc(TpPort.tpPort(80)).build(),
+                DefaultTrafficSelector.builder().matchEthType(EthType.EtherType.IPV6.ethType().toShort())
+                        .matchIPv6Src(IpPrefix.valueOf("2001:db8::/32"))
+                        .matchIPv6NDTargetAddress(Ip6Address.valueOf("2001:db8::1")).build(),
+                DefaultTrafficSelector.builder().matchVlanId(VlanId.vlanId((short) 10))
+                        .matchVlanPcp((byte) 3).build(),
+                DefaultTrafficSelector.builder().matchVlanId(VlanId.vlanId((short) 11)).build(),
+                DefaultTrafficSelector.builder().matchMplsLabel(MplsLabel.mplsLabel(100))
+                        .matchMplsBos(true).build(),
+                DefaultTrafficSelector.builder().matchTunnelId(5).build(),
+                DefaultTrafficSelector.builder()
+                        .matchArpSpa(Ip4Prefix.valueOf("10.0.0.1/32").address()).build(),
+                DefaultTrafficSelector.builder().matchIPDscp((byte) 46).build(),
+                DefaultTrafficSelector.builder()
+                        .matchPi(PiCriterion.builder()
+                                         .matchExact(PiMatchFieldId.of("hdr.ethernet.dst_addr"), 1)
+                                         .build()).build(),
+                DefaultTrafficSelector.builder()
+                        .matchPi(PiCriterion.builder()
+                                         .matchExact(PiMatchFieldId.of("hdr.ethernet.dst_addr"), 2)
+                                         .build()).build());
+    }
+
+    // Flow identifier hash as computed by earlier releases
+    private static int referenceHash(DeviceId deviceId, TrafficSelector selector,
+                                     int priority, TableId tableId) {
+        Funnel<TrafficSelector> selectorFunnel = (from, into) -> from.criteria()
+                .forEach(c -> into.putUnencodedChars(c.toString()));
+        return Hashing.murmur3_32().newHasher()
+                .putUnencodedChars(deviceId.toString())
+                .putObject(selector, selectorFunnel)
+                .putInt(priority)
+                .putUnencodedChars(tableId.toString())
+                .hash()
+                .asInt();
+    }
+
+    private static FlowRule rule(DeviceId deviceId, TrafficSelector selector,
+                                 int priority, TableId tableId) {
+        return DefaultFlowRule.builder()
+                .forDevice(deviceId)
+                .withSelector(selector)
+                .withPriority(priority)
+                .forTable(tableId)
+                .fromApp(APP_ID)
+                .makePermanent()
+                .build();
+    }
+
+    private static DefaultFlowRule.Builder builder() {
+        return (DefaultFlowRule.Builder) DefaultFlowRule.builder();
+    }
+
+    /**
+     * Tests that the legacy hashing computes the same flow identifiers as
+     * earlier releases.
+     */
+    @Test
+    public void testLegacyHashingIsStable() {
+        for (TrafficSelector selector : selectors()) {
+            for (TableId tableId : TABLES) {
+                int expected = referenceHash(DID1, selector, 10, tableId);
+                assertThat(FlowIdHashing.legacyHash(DID1, selector, 10, tableId), is(expected));
+
+                FlowId expectedId = FlowId.valueOf((((long) APP_ID.id()) << 48) | (expected & 0xffffffffL));
+                assertThat(rule(DID1, selector, 10, tableId).id(), is(expectedId));
+            }
+        }
+    }
+
+    /**
+     * Tests that the legacy and binary hashing tell apart the same rules,
+     * i.e. that the binary encoding keeps all the fields that identify a rule.
+     */
+    @Test
+    public void testLegacyAndBinaryHashingAgree() {
+        List<TrafficSelector> selectors = selectors();
+        List<DeviceId> devices = ImmutableList.of(DID1, DID2);
+        List<Integer> priorities = ImmutableList.of(10, 40000);
+
+        ImmutableList.Builder<Integer> legacy = ImmutableList.builder();
+        ImmutableList.Builder<Integer> binary = ImmutableList.builder();
+        for (DeviceId deviceId : devices) {
+            for (TrafficSelector selector : selectors) {
+                for (int priority : priorities) {
+                    for (TableId tableId : TABLES) {
+                        legacy.add(FlowIdHashing.legacyHash(deviceId, selector, priority, tableId));
+                        binary.add(FlowIdHashing.binaryHash(deviceId, selector, priority, tableId));
+                    }
+                }
+            }
+        }
+        List<Integer> legacyHashes = legacy.build();
+        List<Integer> binaryHashes = binary.build();
+        for (int i = 0; i < legacyHashes.size(); i++) {
+            for (int j = i + 1; j < legacyHashes.size(); j++) {
+                assertThat(legacyHashes.get(i).equals(legacyHashes.get(j)),
+                           is(binaryHashes.get(i).equals(binaryHashes.get(j))));
+            }
+        }
+    }
+
+    /**
+     * Tests that equal rules get the same binary hash, regardless of the
+     * order in which the criteria were added.
+     */
+    @Test
+    public void testBinaryHashingIsCanonical() {
+        TrafficSelector selector1 = DefaultTrafficSelector.builder()
+                .matchInPort(PortNumber.portNumber(1))
+                .matchEthType(EthType.EtherType.IPV4.ethType().toShort())
+                .matchIPDst(IpPrefix.valueOf("10.1.0.0/16"))
+                .build();
+        TrafficSelector selector2 = DefaultTrafficSelector.builder()
+                .matchIPDst(IpPrefix.valueOf("10.1.0.0/16"))
+                .matchEthType(EthType.EtherType.IPV4.ethType().toShort())
+                .matchInPort(PortNumber.portNumber(1))
+                .build();
+        for (TableId tableId : TABLES) {
+            assertThat(FlowIdHashing.binaryHash(DID1, selector1, 10, tableId),
+                       is(FlowIdHashing.binaryHash(DID1, selector2, 10, tableId)));
+        }
+    }
+
+    /**
+     * Tests that the builder uses the legacy hash function by default and the
+     * one it is given otherwise.
+     */
+    @Test
+    public void testBuilderHashing() {
+        TrafficSelector selector = selectors().get(8);
+        FlowId legacyId = rule(DID1, selector, 10, TABLES.get(0)).id();
+        int legacyHash = FlowIdHashing.legacyHash(DID1, selector, 10, TABLES.get(0));
+        assertThat(legacyId,
+                   is(FlowId.valueOf((((long) APP_ID.id()) << 48) | (legacyHash & 0xffffffffL))));
+
+        FlowRule binaryRule = builder()
+                .withHashFunction(FlowIdHashing.forName(FlowIdHashing.BINARY))
+                .forDevice(DID1)
+                .withSelector(selector)
+                .withPriority(10)
+                .forTable(TABLES.get(0))
+                .fromApp(APP_ID)
+                .makePermanent()
+                .build();
+        int binaryHash = FlowIdHashing.binaryHash(DID1, selector, 10, TABLES.get(0));
+        assertThat(binaryRule.id(),
+                   is(FlowId.valueOf((((long) APP_ID.id()) << 48) | (binaryHash & 0xffffffffL))));
+        assertThat(binaryRule.id(), is(not(legacyId)));
+        assertThat(binaryRule.appId(), is(APP_ID.id()));
+    }
+
+    /**
+     * Tests the selection of the hash function by name.
+     */
+    @Test
+    public void testHashFunctionByName() {
+        TrafficSelector selector = selectors().get(8);
+        int legacyHash = FlowIdHashing.legacyHash(DID1, selector, 10, TABLES.get(0));
+        int binaryHash = FlowIdHashing.binaryHash(DID1, selector, 10, TABLES.get(0));
+        assertThat(FlowIdHashing.forName(FlowIdHashing.LEGACY).hash(DID1, selector, 10, TABLES.get(0)),
+                   is(legacyHash));
+        assertThat(FlowIdHashing.forName("BINARY").hash(DID1, selector, 10, TABLES.get(0)),
+                   is(binaryHash));
+        assertThat(FlowIdHashing.forName("unknown").hash(DID1, selector, 10, TABLES.get(0)),
+                   is(legacyHash));
+        assertThat(FlowIdHashing.configured().hash(DID1, selector, 10, TABLES.get(0)),
+                   is(legacyHash));
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.net.packet.packetfilter;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.onlab.packet.Ethernet;
+import org.onlab.packet.MacAddress;
+import org.onosproject.net.ConnectPoint;
+import org.onosproject.net.packet.DefaultInboundPacket;
+import org.onosproject.net.packet.PacketContext;
+import org.onosproject.net.packet.PacketContextAdapter;
+import org.onosproject.net.packet.PacketInFilter.FilterAction;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.onosproject.net.NetTestTools.connectPoint;
+
+/**
+ * Unit tests for the fair packet-in filter.
+ */
+public class FairPacketInFilterTest {
+
+    private static final ConnectPoint CP1 = connectPoint("d1", 1);
+    private static final ConnectPoint CP2 = connectPoint("d2", 1);
+    private static final MacAddress MAC1 = MacAddress.valueOf("00:00:00:00:00:01");
+    private static final MacAddress MAC2 = MacAddress.valueOf("00:00:00:00:00:02");
+
+    private final AtomicLong clock = new AtomicLong();
+    private FairPacketInFilter filter;
+
+    @Before
+    public void setUp() {
+        filter = new FairPacketInFilter(100, 500, 10, 2, "test", packet -> true, clock::get);
+    }
+
+    private static PacketContext packet(ConnectPoint cp, MacAddress mac) {
+        Ethernet eth = new Ethernet()
+                .setDestinationMACAddress(MacAddress.BROADCAST)
+                .setSourceMACAddress(mac)
+                .setEtherType(Ethernet.TYPE_ARP);
+        return new PacketContextAdapter(0, new DefaultInboundPacket(cp, eth, ByteBuffer.wrap(eth.serialize())),
+                                        null, false);
+    }
+
+    private void advance(long millis) {
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    // Sends the given number of packets and returns how many were allowed
+    private int send(ConnectPoint cp, MacAddress mac, int count) {
+        int allowed = 0;
+        for (int i = 0; i < count; i++) {
+            if (filter.preProcess(packet(cp, mac)) == FilterAction.PACKET_ALLOW) {
+                allowed++;
+            }
+        }
+        return allowed;
+    }
+
+    /**
+     * Checks that a storm on one port does not starve another port.
+     */
+    @Test
+    public void stormIsolation() {
+        // The storm takes what is left of the burst of the window
+        assertThat(send(CP2, MAC2, 1), is(1));
+        assertThat(send(CP1, MAC1, 100), is(49));
+
+        // Both sources were active; the storm is limited to its share
+        advance(500);
+        assertThat(send(CP1, MAC1, 100), is(25));
+        assertThat(send(CP2, MAC2, 10), is(10));
+        assertThat(filter.droppedPackets(), is(126));
+
+        List<FairPacketInFilter.SourceStats> top = filter.topTalkers(2);
+        assertThat(top.size(), is(2));
+        assertThat(top.get(0).packets(), is(200L));
+        assertThat(top.get(0).admitted(), is(74L));
+    }
+
+    /**
+     * Checks that new sources, each starting with a full bucket, are not
+     * accepted beyond the rate of the filter.
+     */
+    @Test
+    public void nodeWideRate() {
+        int allowed = 0;
+        for (int i = 1; i <= 10; i++) {
+            allowed += send(connectPoint("d3", i), MacAddress.valueOf(i), 20);
+        }
+        assertThat(allowed, is(50));
+
+        // The node-wide bucket refills at the rate of the filter
+        advance(100);
+        assertThat(send(CP1, MAC1, 20), is(10));
+    }
+
+    /**
+     * Checks that a source dropping packets in more than the threshold of
+     * consecutive windows is blocked for the guard time.
+     */
+    @Test
+    public void guardTime() {
+        for (int i = 0; i < 3; i++) {
+            send(CP1, MAC1, 100);
+            advance(500);
+        }
+        // The window closed by this packet was the third one with drops
+        assertThat(send(CP1, MAC1, 1), is(0));
+        assertTrue(filter.topTalkers(1).get(0).blocked());
+        assertThat(send(CP2, MAC2, 1), is(1));
+
+        advance(10_000);
+        assertThat(send(CP1, MAC1, 1), is(1));
+        assertFalse(filter.topTalkers(1).get(0).blocked());
+    }
+
+    /**
+     * Checks that the rate is shared according to the port weights.
+     */
+    @Test
+    public void weights() {
+        filter.setWeight(CP1, 3);
+        send(CP1, MAC1, 1);
+        send(CP2, MAC2, 1);
+        advance(500);
+        // Port shares are 75 and 25 pps, while each MAC may send 50 pps
+        assertThat(send(CP1, MAC1, 100), is(25));
+        assertThat(send(CP1, MacAddress.valueOf("00:00:00:00:00:03"), 100), is(12));
+        assertThat(send(CP2, MAC2, 100), is(12));
+    }
+
+    /**
+     * Checks that a zero rate disables the filter.
+     */
+    @Test
+    public void disabled() {
+        filter.setPps(0);
+        assertThat(filter.preProcess(packet(CP1, MAC1)), is(FilterAction.FILTER_DISABLED));
+    }
+}
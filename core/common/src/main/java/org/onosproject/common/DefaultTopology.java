@@ -22,8 +22,10 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSetMultimap;
 import com.google.common.collect.ImmutableSetMultimap.Builder;
+import org.onlab.graph.AllPairsShortestPaths;
+import org.onlab.graph.CompactDijkstraGraphSearch;
+import org.onlab.graph.CompactGraph;
 import org.onlab.graph.DefaultEdgeWeigher;
-import org.onlab.graph.DijkstraGraphSearch;
 import org.onlab.graph.DisjointPathPair;
 import org.onlab.graph.GraphPathSearch;
 import org.onlab.graph.GraphPathSearch.Result;
@@ -63,6 +65,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -82,8 +85,8 @@ public class DefaultTopology extends AbstractModel implements Topology {
 
     private static final Logger log = LoggerFactory.getLogger(DefaultTopology.class);
 
-    private static final DijkstraGraphSearch<TopologyVertex, TopologyEdge> DIJKSTRA =
-            new DijkstraGraphSearch<>();
+    private static final CompactDijkstraGraphSearch<TopologyVertex, TopologyEdge> DIJKSTRA =
+            new CompactDijkstraGraphSearch<>();
     private static final TarjanGraphSearch<TopologyVertex, TopologyEdge> TARJAN =
             new TarjanGraphSearch<>();
     private static final SuurballeGraphSearch<TopologyVertex, TopologyEdge> SUURBALLE =
@@ -102,8 +105,10 @@ public class DefaultTopology extends AbstractModel implements Topology {
     private final long creationTime;
     private final long computeCost;
     private final TopologyGraph graph;
+    private final Supplier<CompactGraph<TopologyVertex, TopologyEdge>> compactGraph;
 
     private final LinkWeigher hopCountWeigher;
+    private volatile PrecomputedPaths precomputedPaths;
 
     private final Supplier<SccResult<TopologyVertex, TopologyEdge>> clusterResults;
     private final Supplier<ImmutableMap<ClusterId, TopologyCluster>> clusters;
@@ -166,6 +171,7 @@ public class DefaultTopology extends AbstractModel implements Topology {
         // Build the graph
         this.graph = new DefaultTopologyGraph(description.vertexes(),
                                               description.edges());
+        this.compactGraph = Suppliers.memoize(() -> CompactGraph.copyOf(graph));
 
         this.clusterResults = Suppliers.memoize(this::searchForClusters);
         this.clusters = Suppliers.memoize(this::buildTopologyClusters);
@@ -375,7 +381,7 @@ public class DefaultTopology extends AbstractModel implements Topology {
      * destination devices, the set of returned paths will be no more than,
      * maxPaths in size.  The first {@code maxPaths} paths will be returned
      * maintaining any ordering guarantees provided by the underlying
-     * (default or if no default is specified {@link DijkstraGraphSearch})
+     * (default or if no default is specified {@link CompactDijkstraGraphSearch})
      * search. If returning all paths of a given length would exceed
      * {@code maxPaths} a subset of paths of that length will be returned,
      * which paths will be returned depends on the currently specified
@@ -397,15 +403,61 @@ public class DefaultTopology extends AbstractModel implements Topology {
             return ImmutableSet.of();
         }
 
-        GraphPathSearch.Result<TopologyVertex, TopologyEdge> result =
-                graphPathSearch().search(graph, srcV, dstV, weigher, maxPaths);
+        Set<org.onlab.graph.Path<TopologyVertex, TopologyEdge>> paths;
+        PrecomputedPaths precomputed = precomputedPaths;
+        if (precomputed != null && precomputed.weigher == weigher &&
+                defaultGraphPathSearch == null) {
+            paths = precomputed.paths.paths(srcV, dstV, maxPaths);
+        } else {
+            paths = graphPathSearch().search(compactGraph.get(), srcV, dstV,
+                                             weigher, maxPaths).paths();
+        }
         ImmutableSet.Builder<Path> builder = ImmutableSet.builder();
-        for (org.onlab.graph.Path<TopologyVertex, TopologyEdge> path : result.paths()) {
+        for (org.onlab.graph.Path<TopologyVertex, TopologyEdge> path : paths) {
             builder.add(networkPath(path));
         }
         return builder.build();
     }
 
+    /**
+     * Computes the shortest paths between all pairs of devices using the
+     * current default link weight function. Later requests for shortest paths
+     * using that same function are then served from the precomputed paths,
+     * as long as no other default path search algorithm is set. The
+     * destinations are processed in parallel on the given pool, while the
+     * calling thread waits for the computation to complete.
+     *
+     * @param pool fork-join pool on which the paths are computed
+     * @return precomputed paths
+     * @throws IllegalArgumentException if the link weight function does not
+     *                                  produce scalar weights
+     */
+    public AllPairsShortestPaths<TopologyVertex, TopologyEdge> precomputePaths(ForkJoinPool pool) {
+        LinkWeigher weigher = linkWeight();
+        AllPairsShortestPaths<TopologyVertex, TopologyEdge> paths =
+                AllPairsShortestPaths.compute(compactGraph.get(), weigher, pool);
+        precomputedPaths = new PrecomputedPaths(weigher, paths);
+        return paths;
+    }
+
+    /**
+     * Returns the shortest paths precomputed between all pairs of devices.
+     *
+     * @return precomputed paths; null if none
+     */
+    public AllPairsShortestPaths<TopologyVertex, TopologyEdge> precomputedPaths() {
+        PrecomputedPaths precomputed = precomputedPaths;
+        return precomputed == null ? null : precomputed.paths;
+    }
+
+    /**
+     * Drops the shortest paths precomputed between all pairs of devices.
+     * Later requests for shortest paths are computed on demand again.
+     */
+    public void clearPrecomputedPaths() {
+        precomputedPaths = null;
+    }
+
     /**
      * Computes on-demand the k-shortest paths between source and
      * destination devices.
@@ -699,7 +751,7 @@ public class DefaultTopology extends AbstractModel implements Topology {
                                         Builder<ClusterId, ConnectPoint> builder) {
         // Use the graph root search results to build the broadcast set.
         Result<TopologyVertex, TopologyEdge> result =
-                DIJKSTRA.search(graph, cluster.root(), null, hopCountWeigher, 1);
+                DIJKSTRA.search(compactGraph.get(), cluster.root(), null, hopCountWeigher, 1);
         for (Map.Entry<TopologyVertex, Set<TopologyEdge>> entry :
                 result.parents().entrySet()) {
             TopologyVertex vertex = entry.getKey();
@@ -791,6 +843,19 @@ public class DefaultTopology extends AbstractModel implements Topology {
         }
     }
 
+    // Shortest paths between all devices along with the weigher they were
+    // computed with.
+    private static final class PrecomputedPaths {
+        private final LinkWeigher weigher;
+        private final AllPairsShortestPaths<TopologyVertex, TopologyEdge> paths;
+
+        private PrecomputedPaths(LinkWeigher weigher,
+                                 AllPairsShortestPaths<TopologyVertex, TopologyEdge> paths) {
+            this.weigher = weigher;
+            this.paths = paths;
+        }
+    }
+
     static final class ClusterIndexes {
         final ImmutableMap<DeviceId, TopologyCluster> clustersByDevice;
         final ImmutableSetMultimap<TopologyCluster, DeviceId> devicesByCluster;
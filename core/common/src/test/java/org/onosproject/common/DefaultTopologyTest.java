@@ -40,6 +40,8 @@ import org.onosproject.net.topology.TopologyEdge;
 import org.onosproject.net.topology.TopologyVertex;
 
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
 import static com.google.common.collect.ImmutableSet.of;
 import static org.junit.Assert.*;
 import static org.onosproject.net.DeviceId.deviceId;
@@ -128,6 +130,31 @@ public class DefaultTopologyTest {
 
     }
 
+    @Test
+    public void precomputedPaths() {
+        Set<Path> expected = dt.getPaths(D1, D3);
+        Set<Path> weighted = dt.getPaths(D1, D3, WEIGHER);
+
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            assertEquals("incorrect destination count", 4,
+                         dt.precomputePaths(pool).destinationCount());
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals("incorrect paths", expected, dt.getPaths(D1, D3));
+        assertEquals("incorrect path count", 1, dt.getPaths(D1, D2).size());
+        assertTrue("no paths expected", dt.getPaths(D1, D5).isEmpty());
+        assertTrue("no paths expected", dt.getPaths(D1, D1).isEmpty());
+        assertEquals("incorrect paths", weighted, dt.getPaths(D1, D3, WEIGHER));
+        assertNotNull("paths should be precomputed", dt.precomputedPaths());
+
+        dt.clearPrecomputedPaths();
+        assertNull("precomputed paths should be dropped", dt.precomputedPaths());
+        assertEquals("incorrect paths", expected, dt.getPaths(D1, D3));
+    }
+
     @Test
     public void pointRelated() {
         assertTrue("should be infrastructure point",
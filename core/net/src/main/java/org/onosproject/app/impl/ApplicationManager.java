@@ -25,6 +25,8 @@ import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Multimap;
+import com.google.common.collect.Multimaps;
+import com.google.common.util.concurrent.Striped;
 import com.google.common.util.concurrent.Uninterruptibles;
 import org.apache.karaf.features.Feature;
 import org.apache.karaf.features.FeaturesService;
@@ -60,6 +62,7 @@ import java.util.Iterator;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
 import java.util.function.Consumer;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -82,6 +85,7 @@ public class ApplicationManager
 
     private static final String APP_ID_NULL = "Application ID cannot be null";
     private static final long DEFAULT_OPERATION_TIMEOUT_MILLIS = 2000;
+    private static final int APP_LOCKS = 32;
     private final ApplicationStoreDelegate delegate = new InternalStoreDelegate();
 
     @Reference(cardinality = ReferenceCardinality.MANDATORY)
@@ -94,7 +98,8 @@ public class ApplicationManager
     protected VersionService versionService;
 
     // Application supplied hooks for pre-activation processing.
-    private final Multimap<String, Runnable> deactivateHooks = HashMultimap.create();
+    private final Multimap<String, Runnable> deactivateHooks =
+            Multimaps.synchronizedMultimap(HashMultimap.create());
     private final Cache<ApplicationId, CountDownLatch> pendingOperations =
             CacheBuilder.newBuilder()
                     .expireAfterWrite(DEFAULT_OPERATION_TIMEOUT_MILLIS * 2, TimeUnit.MILLISECONDS)
@@ -252,72 +257,105 @@ public class ApplicationManager
         }
     }
 
-    // The following methods are fully synchronized to guard against remote vs.
-    // locally induced feature service interactions.
+    // The following methods are guarded per application to protect against
+    // remote vs. locally induced feature service interactions, while letting
+    // independent applications be installed in parallel. Feature repositories
+    // may be shared by several applications, so they are guarded per
+    // repository instead.
+    private final Striped<Lock> appLocks = Striped.lock(APP_LOCKS);
+    private final Striped<Lock> repoLocks = Striped.lock(APP_LOCKS);
 
     // Installs all feature repositories required by the specified app.
-    private synchronized boolean installAppArtifacts(Application app) throws Exception {
-        if (app.featuresRepo().isPresent() &&
-                featuresService.getRepository(app.featuresRepo().get()) == null) {
-            featuresService.addRepository(app.featuresRepo().get());
-            return true;
+    private boolean installAppArtifacts(Application app) throws Exception {
+        if (!app.featuresRepo().isPresent()) {
+            return false;
+        }
+        Lock lock = repoLocks.get(app.featuresRepo().get());
+        lock.lock();
+        try {
+            if (featuresService.getRepository(app.featuresRepo().get()) == null) {
+                featuresService.addRepository(app.featuresRepo().get());
+                return true;
+            }
+            return false;
+        } finally {
+            lock.unlock();
         }
-        return false;
     }
 
     // Uninstalls all the feature repositories required by the specified app.
-    private synchronized boolean uninstallAppArtifacts(Application app) throws Exception {
-        if (app.featuresRepo().isPresent() &&
-                featuresService.getRepository(app.featuresRepo().get()) != null) {
-            featuresService.removeRepository(app.featuresRepo().get());
-            return true;
+    private boolean uninstallAppArtifacts(Application app) throws Exception {
+        if (!app.featuresRepo().isPresent()) {
+            return false;
+        }
+        Lock lock = repoLocks.get(app.featuresRepo().get());
+        lock.lock();
+        try {
+            if (featuresService.getRepository(app.featuresRepo().get()) != null) {
+                featuresService.removeRepository(app.featuresRepo().get());
+                return true;
+            }
+            return false;
+        } finally {
+            lock.unlock();
         }
-        return false;
     }
 
     // Installs all features that define the specified app.
-    private synchronized boolean installAppFeatures(Application app) throws Exception {
-        boolean changed = false;
-        for (String name : app.features()) {
-            Feature feature = featuresService.getFeature(name);
-
-            // If we see an attempt at activation of a non-existent feature
-            // attempt to install the app artifacts first and then retry.
-            // This can be triggered by a race condition between different ONOS
-            // instances "installing" the apps from disk at their own pace.
-            // Perhaps there is a more elegant solution to be explored in the
-            // future.
-            if (feature == null) {
-                installAppArtifacts(app);
-                feature = featuresService.getFeature(name);
-            }
+    private boolean installAppFeatures(Application app) throws Exception {
+        Lock lock = appLocks.get(app.id().name());
+        lock.lock();
+        try {
+            boolean changed = false;
+            for (String name : app.features()) {
+                Feature feature = featuresService.getFeature(name);
+
+                // If we see an attempt at activation of a non-existent feature
+                // attempt to install the app artifacts first and then retry.
+                // This can be triggered by a race condition between different ONOS
+                // instances "installing" the apps from disk at their own pace.
+                // Perhaps there is a more elegant solution to be explored in the
+                // future.
+                if (feature == null) {
+                    installAppArtifacts(app);
+                    feature = featuresService.getFeature(name);
+                }
 
-            if (feature != null && !featuresService.isInstalled(feature)) {
-                featuresService.installFeature(name);
-                changed = true;
-            } else if (feature == null) {
-                log.warn("Feature {} not found", name);
-            } else if (log.isDebugEnabled()) {
-                log.debug("Feature already installed for {}", app.id());
+                if (feature != null && !featuresService.isInstalled(feature)) {
+                    featuresService.installFeature(name);
+                    changed = true;
+                } else if (feature == null) {
+                    log.warn("Feature {} not found", name);
+                } else if (log.isDebugEnabled()) {
+                    log.debug("Feature already installed for {}", app.id());
+                }
             }
+            return changed;
+        } finally {
+            lock.unlock();
         }
-        return changed;
     }
 
     // Uninstalls all features that define the specified app.
-    private synchronized boolean uninstallAppFeatures(Application app) throws Exception {
-        boolean changed = false;
-        deactivateHooks.removeAll(app.id().name()).forEach(hook -> invokeHook(hook, app.id()));
-        for (String name : app.features()) {
-            Feature feature = featuresService.getFeature(name);
-            if (feature != null && featuresService.isInstalled(feature)) {
-                featuresService.uninstallFeature(name);
-                changed = true;
-            } else if (feature == null) {
-                log.warn("Feature {} not found", name);
+    private boolean uninstallAppFeatures(Application app) throws Exception {
+        Lock lock = appLocks.get(app.id().name());
+        lock.lock();
+        try {
+            boolean changed = false;
+            deactivateHooks.removeAll(app.id().name()).forEach(hook -> invokeHook(hook, app.id()));
+            for (String name : app.features()) {
+                Feature feature = featuresService.getFeature(name);
+                if (feature != null && featuresService.isInstalled(feature)) {
+                    featuresService.uninstallFeature(name);
+                    changed = true;
+                } else if (feature == null) {
+                    log.warn("Feature {} not found", name);
+                }
             }
+            return changed;
+        } finally {
+            lock.unlock();
         }
-        return changed;
     }
 
     // Invokes the specified function, if not null.
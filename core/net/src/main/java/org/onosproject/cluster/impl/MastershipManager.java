@@ -29,7 +29,9 @@ import org.onosproject.cluster.NodeId;
 import org.onosproject.cluster.RoleInfo;
 import org.onosproject.core.MetricsHelper;
 import org.onosproject.event.AbstractListenerManager;
+import org.onosproject.mastership.DeviceLoadWeigher;
 import org.onosproject.mastership.MastershipAdminService;
+import org.onosproject.mastership.MastershipBalanceReport;
 import org.onosproject.mastership.MastershipEvent;
 import org.onosproject.mastership.MastershipInfo;
 import org.onosproject.mastership.MastershipListener;
@@ -60,16 +62,23 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.collect.Lists.newArrayList;
 import static java.util.concurrent.CompletableFuture.allOf;
 import static org.onlab.metrics.MetricsUtil.startTimer;
 import static org.onlab.metrics.MetricsUtil.stopTimer;
+import static org.onlab.util.Tools.groupedThreads;
 import static org.onosproject.net.MastershipRole.MASTER;
 import static org.onosproject.security.AppGuard.checkPermission;
 import static org.onosproject.security.AppPermission.Type.CLUSTER_READ;
@@ -91,7 +100,10 @@ import static org.onosproject.net.OsgiPropertyConstants.*;
         },
         property = {
                 USE_REGION_FOR_BALANCE_ROLES + ":Boolean=" + USE_REGION_FOR_BALANCE_ROLES_DEFAULT,
-                REBALANCE_ROLES_ON_UPGRADE + ":Boolean=" + REBALANCE_ROLES_ON_UPGRADE_DEFAULT
+                REBALANCE_ROLES_ON_UPGRADE + ":Boolean=" + REBALANCE_ROLES_ON_UPGRADE_DEFAULT,
+                USE_LOAD_FOR_BALANCE_ROLES + ":Boolean=" + USE_LOAD_FOR_BALANCE_ROLES_DEFAULT,
+                BALANCE_ROLES_STEP_SIZE + ":Integer=" + BALANCE_ROLES_STEP_SIZE_DEFAULT,
+                BALANCE_ROLES_STEP_DELAY + ":Integer=" + BALANCE_ROLES_STEP_DELAY_DEFAULT
         }
 )
 public class MastershipManager
@@ -103,6 +115,8 @@ public class MastershipManager
     private static final String DEVICE_ID_NULL = "Device ID cannot be null";
     private static final String ROLE_NULL = "Mastership role cannot be null";
 
+    private static final DeviceLoadWeigher UNIFORM_WEIGHER = deviceId -> 1;
+
     private final Logger log = getLogger(getClass());
 
     private final MastershipStoreDelegate delegate = new InternalDelegate();
@@ -135,6 +149,22 @@ public class MastershipManager
     /** Automatically rebalance roles following an upgrade. */
     protected boolean rebalanceRolesOnUpgrade = REBALANCE_ROLES_ON_UPGRADE_DEFAULT;
 
+    /** Use the load of devices rather than their number for balancing roles. */
+    protected boolean useLoadForBalanceRoles = USE_LOAD_FOR_BALANCE_ROLES_DEFAULT;
+
+    /** Maximum number of roles moved at once when balancing roles by load. */
+    protected int balanceRolesStepSize = BALANCE_ROLES_STEP_SIZE_DEFAULT;
+
+    /** Delay in milliseconds between moves of roles when balancing roles by load. */
+    protected int balanceRolesStepDelay = BALANCE_ROLES_STEP_DELAY_DEFAULT;
+
+    private volatile DeviceLoadWeigher deviceLoadWeigher = UNIFORM_WEIGHER;
+
+    // Applies the moves of balancing by load; a new balancing supersedes
+    // the steps left of the previous one
+    private ScheduledExecutorService balanceExecutor;
+    private final AtomicLong balanceGeneration = new AtomicLong();
+
     @Activate
     public void activate() {
         cfgService.registerProperties(getClass());
@@ -142,6 +172,8 @@ public class MastershipManager
 
         requestRoleTimer = createTimer("Mastership", "requestRole", "responseTime");
         localNodeId = clusterService.getLocalNode().id();
+        balanceExecutor = Executors.newSingleThreadScheduledExecutor(
+                groupedThreads("onos/mastership", "balancer", log));
         upgradeService.addListener(upgradeEventListener);
         eventDispatcher.addSink(MastershipEvent.class, listenerRegistry);
         store.setDelegate(delegate);
@@ -157,6 +189,12 @@ public class MastershipManager
                     useRegionForBalanceRoles = property.asBoolean();
                 } else if (REBALANCE_ROLES_ON_UPGRADE.equals(property.name())) {
                     rebalanceRolesOnUpgrade = property.asBoolean();
+                } else if (USE_LOAD_FOR_BALANCE_ROLES.equals(property.name())) {
+                    useLoadForBalanceRoles = property.asBoolean();
+                } else if (BALANCE_ROLES_STEP_SIZE.equals(property.name())) {
+                    balanceRolesStepSize = property.asInteger();
+                } else if (BALANCE_ROLES_STEP_DELAY.equals(property.name())) {
+                    balanceRolesStepDelay = property.asInteger();
                 }
             }
         }
@@ -167,6 +205,7 @@ public class MastershipManager
         eventDispatcher.removeSink(MastershipEvent.class);
         upgradeService.removeListener(upgradeEventListener);
         store.unsetDelegate(delegate);
+        balanceExecutor.shutdownNow();
         log.info("Stopped");
         cfgService.unregisterProperties(getClass(), false);
     }
@@ -255,6 +294,13 @@ public class MastershipManager
         return store.getMastership(deviceId);
     }
 
+    @Override
+    public MastershipInfo getConsistentMastershipFor(DeviceId deviceId) {
+        checkPermission(CLUSTER_READ);
+        checkNotNull(deviceId, DEVICE_ID_NULL);
+        return store.getConsistentMastership(deviceId);
+    }
+
     @Override
     public MastershipTerm getMastershipTerm(DeviceId deviceId) {
         checkPermission(CLUSTER_READ);
@@ -291,6 +337,11 @@ public class MastershipManager
             return;
         }
 
+        if (useLoadForBalanceRoles) {
+            balanceRolesByLoad(false);
+            return;
+        }
+
         List<CompletableFuture<Void>> balanceBucketsFutures = Lists.newLinkedList();
 
         // First re-balance the buckets until they are roughly even.
@@ -305,6 +356,192 @@ public class MastershipManager
         Futures.getUnchecked(balanceRolesFuture);
     }
 
+    @Override
+    public void setDeviceLoadWeigher(DeviceLoadWeigher weigher) {
+        checkPermission(CLUSTER_WRITE);
+        deviceLoadWeigher = weigher != null ? weigher : UNIFORM_WEIGHER;
+    }
+
+    @Override
+    public MastershipBalanceReport balanceRolesByLoad(boolean dryRun) {
+        checkPermission(CLUSTER_WRITE);
+
+        Map<NodeId, Set<DeviceId>> nodeDevices = new LinkedHashMap<>();
+        Map<DeviceId, NodeId> orphanedDevices = new LinkedHashMap<>();
+        List<DeviceId> allDevices = newArrayList();
+
+        // Weigh the devices of each node, irrespective of whether the node is active.
+        List<ControllerNode> nodes = newArrayList(clusterService.getNodes());
+        nodes.sort(Comparator.comparing(node -> node.id().toString()));
+        for (ControllerNode node : nodes) {
+            List<DeviceId> devicesOf = newArrayList(getDevicesOf(node.id()));
+            devicesOf.sort(Comparator.comparing(DeviceId::toString));
+            allDevices.addAll(devicesOf);
+            if (clusterService.getState(node.id()).isActive()) {
+                nodeDevices.put(node.id(), new HashSet<>(devicesOf));
+            } else {
+                devicesOf.forEach(deviceId -> orphanedDevices.put(deviceId, node.id()));
+            }
+        }
+
+        Map<DeviceId, Double> weights = weigh(allDevices);
+        Map<NodeId, Double> loads = new LinkedHashMap<>();
+        nodeDevices.forEach((nodeId, devices) -> loads.put(nodeId, devices.stream()
+                .mapToDouble(weights::get).sum()));
+        Map<NodeId, Double> loadsBefore = new LinkedHashMap<>(loads);
+
+        List<MastershipBalanceReport.Move> moves = nodeDevices.isEmpty() ? newArrayList() :
+                planLoadMoves(nodeDevices, orphanedDevices, weights, loads);
+        MastershipBalanceReport report =
+                new MastershipBalanceReport(dryRun, loadsBefore, loads, moves);
+        log.info("{} {} moves to balance loads {} into {}", dryRun ? "Planned" : "Applying",
+                 moves.size(), loadsBefore, loads);
+
+        if (!dryRun) {
+            applyMoves(moves);
+        }
+        return report;
+    }
+
+    // Returns the weight of each device, falling back to a unit weight for
+    // the devices that cannot be weighed.
+    private Map<DeviceId, Double> weigh(List<DeviceId> deviceIds) {
+        Map<DeviceId, Double> estimates;
+        try {
+            estimates = deviceLoadWeigher.weights(deviceIds);
+        } catch (RuntimeException e) {
+            log.warn("Unable to weigh devices", e);
+            estimates = Collections.emptyMap();
+        }
+        Map<DeviceId, Double> weights = new HashMap<>();
+        for (DeviceId deviceId : deviceIds) {
+            Double weight = estimates.get(deviceId);
+            weights.put(deviceId, weight == null ? 1 : Math.max(weight, 0));
+        }
+        return weights;
+    }
+
+    /**
+     * Plans the moves of devices balancing the load of the given nodes. The
+     * orphaned devices are first handed out, heaviest first, to the least
+     * loaded nodes. Devices are then moved from the most to the least loaded
+     * node, picking each time the device closest to half the load gap, until
+     * no move narrows the gap any further.
+     *
+     * @param nodeDevices     devices mastered by each active node; updated
+     * @param orphanedDevices devices mastered by inactive nodes, and their master
+     * @param weights         weight of each device
+     * @param loads           load of each active node; updated
+     * @return list of moves
+     */
+    private List<MastershipBalanceReport.Move> planLoadMoves(Map<NodeId, Set<DeviceId>> nodeDevices,
+                                                             Map<DeviceId, NodeId> orphanedDevices,
+                                                             Map<DeviceId, Double> weights,
+                                                             Map<NodeId, Double> loads) {
+        List<MastershipBalanceReport.Move> moves = Lists.newArrayList();
+
+        List<DeviceId> orphans = newArrayList(orphanedDevices.keySet());
+        orphans.sort(Comparator.comparing(weights::get).reversed());
+        for (DeviceId deviceId : orphans) {
+            NodeId lightest = findLoadedNode(true, loads);
+            moves.add(moveDevice(deviceId, orphanedDevices.get(deviceId), lightest,
+                                 weights.get(deviceId), nodeDevices, loads));
+        }
+
+        // Each move lowers the spread of the loads, so this terminates;
+        // the bound only guards against pathological weights.
+        int maxMoves = weights.size();
+        for (int i = 0; i < maxMoves; i++) {
+            NodeId heaviest = findLoadedNode(false, loads);
+            NodeId lightest = findLoadedNode(true, loads);
+            double gap = loads.get(heaviest) - loads.get(lightest);
+            DeviceId candidate = null;
+            double candidateWeight = 0;
+            for (DeviceId deviceId : nodeDevices.get(heaviest)) {
+                double weight = weights.get(deviceId);
+                if (weight > 0 && weight < gap &&
+                        (candidate == null ||
+                                Math.abs(gap / 2 - weight) < Math.abs(gap / 2 - candidateWeight))) {
+                    candidate = deviceId;
+                    candidateWeight = weight;
+                }
+            }
+            if (candidate == null) {
+                break;
+            }
+            moves.add(moveDevice(candidate, heaviest, lightest, candidateWeight, nodeDevices, loads));
+        }
+        return moves;
+    }
+
+    private MastershipBalanceReport.Move moveDevice(DeviceId deviceId, NodeId from, NodeId to, double weight,
+                                                    Map<NodeId, Set<DeviceId>> nodeDevices,
+                                                    Map<NodeId, Double> loads) {
+        if (nodeDevices.containsKey(from)) {
+            nodeDevices.get(from).remove(deviceId);
+            loads.put(from, loads.get(from) - weight);
+        }
+        nodeDevices.get(to).add(deviceId);
+        loads.put(to, loads.get(to) + weight);
+        return new MastershipBalanceReport.Move(deviceId, from, to, weight);
+    }
+
+    /**
+     * Finds the node with the minimum/maximum load.
+     *
+     * @param min   true: minimum, false: maximum
+     * @param loads load of each node
+     * @return node with the minimum/maximum load
+     */
+    private NodeId findLoadedNode(boolean min, Map<NodeId, Double> loads) {
+        NodeId xNode = null;
+        double xLoad = 0;
+        for (Map.Entry<NodeId, Double> entry : loads.entrySet()) {
+            double load = entry.getValue();
+            if (xNode == null || (min && load < xLoad) || (!min && load > xLoad)) {
+                xNode = entry.getKey();
+                xLoad = load;
+            }
+        }
+        return xNode;
+    }
+
+    // Applies the moves in steps on the balancer thread, letting the cluster
+    // settle in between.
+    private void applyMoves(List<MastershipBalanceReport.Move> moves) {
+        long generation = balanceGeneration.incrementAndGet();
+        List<List<MastershipBalanceReport.Move>> steps =
+                Lists.partition(moves, Math.max(1, balanceRolesStepSize));
+        if (!steps.isEmpty()) {
+            balanceExecutor.execute(() -> applyStep(steps, 0, generation));
+        }
+    }
+
+    private void applyStep(List<List<MastershipBalanceReport.Move>> steps, int step, long generation) {
+        if (generation != balanceGeneration.get()) {
+            log.info("Balancing of roles superseded, {} steps left undone", steps.size() - step);
+            return;
+        }
+        List<CompletableFuture<Void>> futures = Lists.newArrayList();
+        for (MastershipBalanceReport.Move move : steps.get(step)) {
+            log.info("Setting {} as the master for {}", move.to(), move.deviceId());
+            futures.add(setRole(move.to(), move.deviceId(), MASTER));
+        }
+        allOf(futures.toArray(new CompletableFuture[futures.size()])).whenComplete((result, error) -> {
+            if (error != null) {
+                log.warn("Unable to apply step {} of balancing roles", step, error);
+            }
+            if (step + 1 < steps.size()) {
+                try {
+                    balanceExecutor.schedule(() -> applyStep(steps, step + 1, generation),
+                                             balanceRolesStepDelay, TimeUnit.MILLISECONDS);
+                } catch (RejectedExecutionException e) {
+                    log.debug("Balancing of roles stopped, {} steps left undone", steps.size() - step - 1);
+                }
+            }
+        });
+    }
+
     /**
      * Balances the nodes specified in controllerDevices.
      *
@@ -26,6 +26,15 @@ public final class OsgiPropertyConstants {
     public static final String REBALANCE_ROLES_ON_UPGRADE = "rebalanceRolesOnUpgrade";
     public static final boolean REBALANCE_ROLES_ON_UPGRADE_DEFAULT = true;
 
+    public static final String USE_LOAD_FOR_BALANCE_ROLES = "useLoadForBalanceRoles";
+    public static final boolean USE_LOAD_FOR_BALANCE_ROLES_DEFAULT = false;
+
+    public static final String BALANCE_ROLES_STEP_SIZE = "balanceRolesStepSize";
+    public static final int BALANCE_ROLES_STEP_SIZE_DEFAULT = 20;
+
+    public static final String BALANCE_ROLES_STEP_DELAY = "balanceRolesStepDelay";
+    public static final int BALANCE_ROLES_STEP_DELAY_DEFAULT = 5000;
+
     public static final String SHARED_THREAD_POOL_SIZE = "sharedThreadPoolSize";
     public static final int SHARED_THREAD_POOL_SIZE_DEFAULT = 30;
 
@@ -140,6 +149,9 @@ public final class OsgiPropertyConstants {
     public static final String PWM_PROBE_INTERVAL = "probeInterval";
     public static final int PWM_PROBE_INTERVAL_DEFAULT = 15;
 
+    public static final String TM_PRECOMPUTE_PATHS = "precomputePaths";
+    public static final boolean TM_PRECOMPUTE_PATHS_DEFAULT = false;
+
     public static final String DTP_MAX_EVENTS = "maxEvents";
     public static final int DTP_MAX_EVENTS_DEFAULT = 1000;
 
@@ -15,22 +15,38 @@
  */
 package org.onosproject.net.driver.impl;
 
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Timer;
+import com.google.common.collect.Maps;
+import org.onlab.metrics.MetricsComponent;
+import org.onlab.metrics.MetricsFeature;
+import org.onlab.metrics.MetricsService;
 import org.onlab.util.ItemNotFoundException;
+import org.onosproject.core.MetricsHelper;
 import org.onosproject.net.AbstractProjectableModel;
 import org.onosproject.net.Device;
 import org.onosproject.net.DeviceId;
+import org.onosproject.net.config.NetworkConfigEvent;
+import org.onosproject.net.config.NetworkConfigListener;
 import org.onosproject.net.config.NetworkConfigService;
 import org.onosproject.net.config.basics.BasicDeviceConfig;
+import org.onosproject.net.device.DeviceEvent;
+import org.onosproject.net.device.DeviceListener;
 import org.onosproject.net.device.DeviceService;
 import org.onosproject.net.driver.Behaviour;
+import org.onosproject.net.driver.BehaviourFactory;
 import org.onosproject.net.driver.DefaultDriverData;
 import org.onosproject.net.driver.DefaultDriverHandler;
 import org.onosproject.net.driver.Driver;
 import org.onosproject.net.driver.DriverHandler;
+import org.onosproject.net.driver.DriverEvent;
 import org.onosproject.net.driver.DriverListener;
 import org.onosproject.net.driver.DriverRegistry;
 import org.onosproject.net.driver.DriverService;
 import org.onosproject.net.pi.model.PiPipeconfId;
+import org.onosproject.net.pi.service.PiPipeconfEvent;
+import org.onosproject.net.pi.service.PiPipeconfListener;
 import org.onosproject.net.pi.service.PiPipeconfService;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -42,9 +58,13 @@ import org.slf4j.LoggerFactory;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
+import static org.onlab.metrics.MetricsUtil.startTimer;
+import static org.onlab.metrics.MetricsUtil.stopTimer;
 import static org.onlab.util.Tools.nullIsNotFound;
 import static org.onosproject.net.AnnotationKeys.DRIVER;
 import static org.onosproject.security.AppGuard.checkPermission;
@@ -58,13 +78,22 @@ import static org.onosproject.security.AppPermission.Type.DRIVER_WRITE;
 // Not enabled by default to allow the DriverRegistryManager to enable it only
 // when all the required drivers are available.
 @Component(immediate = true, enabled = false, service = DriverService.class)
-public class DriverManager implements DriverService {
+public class DriverManager implements DriverService, MetricsHelper {
 
     private final Logger log = LoggerFactory.getLogger(getClass());
 
     private static final String NO_DRIVER = "Driver not found";
     private static final String NO_DEVICE = "Device not found";
 
+    private static final String METRICS_COMPONENT = "Driver";
+    private static final String METRICS_RESOLUTION = "resolution";
+    private static final String METRICS_BEHAVIOUR = "behaviour";
+    private static final String CACHE_HITS = "cacheHits";
+    private static final String CACHE_MISSES = "cacheMisses";
+    private static final String RESOLUTION_TIME = "resolutionTime";
+    private static final String CREATIONS = "creations";
+    private static final String CREATION_NANOS = "creationNanos";
+
     @Reference(cardinality = ReferenceCardinality.MANDATORY)
     protected DriverRegistry registry;
 
@@ -77,8 +106,31 @@ public class DriverManager implements DriverService {
     @Reference(cardinality = ReferenceCardinality.MANDATORY)
     protected PiPipeconfService pipeconfService;
 
+    @Reference(cardinality = ReferenceCardinality.MANDATORY)
+    protected MetricsService metricsService;
+
+    // Drivers resolved per device, dropped on any change of the inputs
+    // of the resolution; the generation detects changes during a resolution
+    private final Map<DeviceId, ResolvedDriver> resolvedDrivers = Maps.newConcurrentMap();
+    private final AtomicLong generation = new AtomicLong();
+
+    private final DriverListener driverListener = new InternalDriverListener();
+    private final DeviceListener deviceListener = new InternalDeviceListener();
+    private final NetworkConfigListener networkConfigListener = new InternalNetworkConfigListener();
+    private final PiPipeconfListener pipeconfListener = new InternalPipeconfListener();
+
+    private MetricsComponent metricsComponent;
+    private Counter cacheHits;
+    private Counter cacheMisses;
+    private Timer resolutionTimer;
+
     @Activate
     protected void activate() {
+        registerMetrics();
+        registry.addListener(driverListener);
+        deviceService.addListener(deviceListener);
+        networkConfigService.addListener(networkConfigListener);
+        pipeconfService.addListener(pipeconfListener);
         AbstractProjectableModel.setDriverService(null, this);
         log.info("Started");
     }
@@ -86,9 +138,43 @@ public class DriverManager implements DriverService {
     @Deactivate
     protected void deactivate() {
         AbstractProjectableModel.setDriverService(this, null);
+        registry.removeListener(driverListener);
+        deviceService.removeListener(deviceListener);
+        networkConfigService.removeListener(networkConfigListener);
+        pipeconfService.removeListener(pipeconfListener);
+        invalidateAll();
+        removeMetrics();
         log.info("Stopped");
     }
 
+    @Override
+    public MetricsService metricsService() {
+        return metricsService;
+    }
+
+    private void registerMetrics() {
+        metricsComponent = metricsService.registerComponent(METRICS_COMPONENT);
+        MetricsFeature resolution = metricsComponent.registerFeature(METRICS_RESOLUTION);
+        cacheHits = metricsService.createCounter(metricsComponent, resolution, CACHE_HITS);
+        cacheMisses = metricsService.createCounter(metricsComponent, resolution, CACHE_MISSES);
+        resolutionTimer = createTimer(METRICS_COMPONENT, METRICS_RESOLUTION, RESOLUTION_TIME);
+        MetricsFeature behaviour = metricsComponent.registerFeature(METRICS_BEHAVIOUR);
+        metricsService.registerMetric(metricsComponent, behaviour, CREATIONS,
+                                      (Gauge<Long>) BehaviourFactory::creations);
+        metricsService.registerMetric(metricsComponent, behaviour, CREATION_NANOS,
+                                      (Gauge<Long>) BehaviourFactory::creationNanos);
+    }
+
+    private void removeMetrics() {
+        MetricsFeature resolution = metricsComponent.registerFeature(METRICS_RESOLUTION);
+        metricsService.removeMetric(metricsComponent, resolution, CACHE_HITS);
+        metricsService.removeMetric(metricsComponent, resolution, CACHE_MISSES);
+        metricsService.removeMetric(metricsComponent, resolution, RESOLUTION_TIME);
+        MetricsFeature behaviour = metricsComponent.registerFeature(METRICS_BEHAVIOUR);
+        metricsService.removeMetric(metricsComponent, behaviour, CREATIONS);
+        metricsService.removeMetric(metricsComponent, behaviour, CREATION_NANOS);
+    }
+
     @Override
     public Set<Driver> getDrivers() {
         checkPermission(DRIVER_READ);
@@ -119,14 +205,41 @@ public class DriverManager implements DriverService {
     public Driver getDriver(DeviceId deviceId) {
         checkPermission(DRIVER_READ);
 
+        // The binding of a device to a pipeconf does not come with events
+        PiPipeconfId pipeconfId = pipeconfService.ofDevice(deviceId).orElse(null);
+        ResolvedDriver resolved = resolvedDrivers.get(deviceId);
+        if (resolved != null && Objects.equals(resolved.pipeconfId, pipeconfId)) {
+            cacheHits.inc();
+            return resolved.driver;
+        }
+        cacheMisses.inc();
+
+        long resolutionGeneration = generation.get();
+        Timer.Context timer = startTimer(resolutionTimer);
+        Driver driver;
+        try {
+            driver = resolveDriver(deviceId, pipeconfId);
+        } finally {
+            stopTimer(timer);
+        }
+        resolved = new ResolvedDriver(driver, pipeconfId);
+        resolvedDrivers.put(deviceId, resolved);
+        if (generation.get() != resolutionGeneration) {
+            // Inputs changed meanwhile, the driver may be stale
+            resolvedDrivers.remove(deviceId, resolved);
+        }
+        return driver;
+    }
+
+    private Driver resolveDriver(DeviceId deviceId, PiPipeconfId pipeconfId) {
         Driver driver;
 
         // Special processing for devices with pipeconf.
-        if (pipeconfService.ofDevice(deviceId).isPresent()) {
+        if (pipeconfId != null) {
             // No fallback for pipeconf merged drivers.
             // Throws exception if pipeconf driver does not exist.
             return nullIsNotFound(
-                    getPipeconfMergedDriver(deviceId),
+                    getPipeconfMergedDriver(deviceId, pipeconfId),
                     "Device is pipeconf-capable but a " +
                             "pipeconf-merged driver was not found");
         }
@@ -161,13 +274,7 @@ public class DriverManager implements DriverService {
         return deviceDriverNameMap;
     }
 
-    private Driver getPipeconfMergedDriver(DeviceId deviceId) {
-        PiPipeconfId pipeconfId = pipeconfService.ofDevice(deviceId).orElse(null);
-        if (pipeconfId == null) {
-            log.warn("Missing pipeconf for {}, cannot produce a pipeconf merged driver",
-                      deviceId);
-            return null;
-        }
+    private Driver getPipeconfMergedDriver(DeviceId deviceId, PiPipeconfId pipeconfId) {
         String mergedDriverName = pipeconfService.getMergedDriver(deviceId, pipeconfId);
         if (mergedDriverName == null) {
             log.warn("Unable to get pipeconf merged driver for {} and {}",
@@ -210,4 +317,72 @@ public class DriverManager implements DriverService {
     public void removeListener(DriverListener listener) {
         registry.removeListener(listener);
     }
+
+    private void invalidate(DeviceId deviceId) {
+        generation.incrementAndGet();
+        resolvedDrivers.remove(deviceId);
+    }
+
+    private void invalidateAll() {
+        generation.incrementAndGet();
+        resolvedDrivers.clear();
+    }
+
+    /**
+     * Driver resolved for a device, along with the pipeconf it was resolved for.
+     */
+    private static final class ResolvedDriver {
+        private final Driver driver;
+        private final PiPipeconfId pipeconfId;
+
+        private ResolvedDriver(Driver driver, PiPipeconfId pipeconfId) {
+            this.driver = driver;
+            this.pipeconfId = pipeconfId;
+        }
+    }
+
+    // Drivers may be added, removed or replaced.
+    private class InternalDriverListener implements DriverListener {
+        @Override
+        public void event(DriverEvent event) {
+            invalidateAll();
+        }
+    }
+
+    // Pipeconf merged drivers depend on the registered pipeconfs.
+    private class InternalPipeconfListener implements PiPipeconfListener {
+        @Override
+        public void event(PiPipeconfEvent event) {
+            invalidateAll();
+        }
+    }
+
+    // The driver annotation and the primordial information come with the device.
+    private class InternalDeviceListener implements DeviceListener {
+        @Override
+        public boolean isRelevant(DeviceEvent event) {
+            return event.type() == DeviceEvent.Type.DEVICE_ADDED ||
+                    event.type() == DeviceEvent.Type.DEVICE_UPDATED ||
+                    event.type() == DeviceEvent.Type.DEVICE_REMOVED;
+        }
+
+        @Override
+        public void event(DeviceEvent event) {
+            invalidate(event.subject().id());
+        }
+    }
+
+    // The driver can be configured in the basic device config.
+    private class InternalNetworkConfigListener implements NetworkConfigListener {
+        @Override
+        public boolean isRelevant(NetworkConfigEvent event) {
+            return event.configClass() == BasicDeviceConfig.class &&
+                    event.subject() instanceof DeviceId;
+        }
+
+        @Override
+        public void event(NetworkConfigEvent event) {
+            invalidate((DeviceId) event.subject());
+        }
+    }
 }
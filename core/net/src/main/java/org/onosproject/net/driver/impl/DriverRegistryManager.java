@@ -102,7 +102,8 @@ public class DriverRegistryManager extends DefaultDriverProvider implements Driv
     private Map<String, Driver> driverByKey = Maps.newConcurrentMap();
     private Map<String, Class<? extends Behaviour>> classes = Maps.newConcurrentMap();
 
-    private ListenerRegistry<DriverEvent, DriverListener> listenerRegistry;
+    private final ListenerRegistry<DriverEvent, DriverListener> listenerRegistry =
+            new ListenerRegistry<>();
 
 
     private boolean isStarted = false;
@@ -110,7 +111,6 @@ public class DriverRegistryManager extends DefaultDriverProvider implements Driv
     @Activate
     protected void activate(ComponentContext context) {
         componentConfigService.registerProperties(getClass());
-        listenerRegistry = new ListenerRegistry<>();
         eventDispatcher.addSink(DriverEvent.class, listenerRegistry);
         modified(context);
         log.info("Started");
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.net.statistic.impl;
+
+import com.google.common.collect.ImmutableList;
+import org.onosproject.net.statistic.LoadSample;
+
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Bounded history of the rates observed on a port for a few metrics.
+ * <p>
+ * Samples are kept in ring buffers of primitive arrays at three resolutions:
+ * the samples as recorded, one minute averages and one hour averages. The
+ * tiers have a fixed number of slots, so that a history takes a fixed amount
+ * of memory: each of the {@value #SLOTS} slots takes 12 bytes plus 8 bytes
+ * per metric, that is about 4.5 KB for one metric and 6.2 KB for two.
+ * </p>
+ */
+final class LoadHistory {
+
+    // 10 minutes of samples at the default 10 seconds poll interval
+    static final int RAW_SLOTS = 60;
+    static final long MINUTE = 60_000;
+    static final int MINUTE_SLOTS = 120;
+    static final long HOUR = 3_600_000;
+    static final int HOUR_SLOTS = 48;
+    static final int SLOTS = RAW_SLOTS + MINUTE_SLOTS + HOUR_SLOTS;
+
+    private final int metrics;
+    private final Tier[] tiers;
+
+    /**
+     * Creates a new empty history.
+     *
+     * @param metrics number of metrics recorded in each sample
+     */
+    LoadHistory(int metrics) {
+        checkArgument(metrics > 0, "metrics must be greater than 0");
+        this.metrics = metrics;
+        this.tiers = new Tier[] {
+                new Tier(0, RAW_SLOTS, metrics),
+                new Tier(MINUTE, MINUTE_SLOTS, metrics),
+                new Tier(HOUR, HOUR_SLOTS, metrics)
+        };
+    }
+
+    /**
+     * Records the rates observed over an interval.
+     *
+     * @param time     end of the interval, as epoch time in milliseconds
+     * @param interval duration of the interval in milliseconds
+     * @param rates    average rate of each metric over the interval, per second
+     */
+    synchronized void add(long time, long interval, long... rates) {
+        checkArgument(rates.length == metrics, "Expected %s rates", metrics);
+        checkArgument(interval > 0 && interval <= HOUR, "Invalid interval %s", interval);
+        tiers[0].add(time, (int) interval, rates);
+        for (int i = 1; i < tiers.length; i++) {
+            tiers[i].accumulate(time, (int) interval, rates);
+        }
+    }
+
+    /**
+     * Returns the samples of a metric recorded since the given time, at the
+     * finest resolution which still covers that time.
+     *
+     * @param metric index of the metric
+     * @param since  epoch time in milliseconds of the oldest sample to return
+     * @return samples, oldest first
+     */
+    synchronized List<LoadSample> samples(int metric, long since) {
+        checkArgument(metric >= 0 && metric < metrics, "Invalid metric %s", metric);
+        Tier tier = tiers[tiers.length - 1];
+        for (Tier t : tiers) {
+            if (t.covers(since)) {
+                tier = t;
+                break;
+            }
+        }
+        return tier.samples(metric, since);
+    }
+
+    /**
+     * Ring buffer of samples at a given resolution.
+     */
+    private static final class Tier {
+        // Length of the averaged intervals, 0 for samples kept as recorded
+        private final long resolution;
+        private final int metrics;
+        private final long[] times;
+        private final int[] intervals;
+        private final long[] values;
+        private int next;
+        private int size;
+
+        // Interval being averaged
+        private long bucket = -1;
+        private int covered;
+        private final long[] sums;
+
+        private Tier(long resolution, int slots, int metrics) {
+            this.resolution = resolution;
+            this.metrics = metrics;
+            this.times = new long[slots];
+            this.intervals = new int[slots];
+            this.values = new long[slots * metrics];
+            this.sums = new long[resolution > 0 ? metrics : 0];
+        }
+
+        private void add(long time, int interval, long[] rates) {
+            times[next] = time;
+            intervals[next] = interval;
+            System.arraycopy(rates, 0, values, next * metrics, metrics);
+            next = (next + 1) % times.length;
+            size = Math.min(size + 1, times.length);
+        }
+
+        // Averages the rates over the intervals of the tier resolution
+        private void accumulate(long time, int interval, long[] rates) {
+            // A sample ending on a boundary belongs to the interval it closes
+            long sampleBucket = (time - 1) / resolution;
+            if (sampleBucket != bucket && covered > 0) {
+                long[] averages = new long[metrics];
+                for (int i = 0; i < metrics; i++) {
+                    averages[i] = sums[i] / covered;
+                    sums[i] = 0;
+                }
+                add((bucket + 1) * resolution, covered, averages);
+                covered = 0;
+            }
+            bucket = sampleBucket;
+            for (int i = 0; i < metrics; i++) {
+                sums[i] += rates[i] * interval;
+            }
+            covered += interval;
+        }
+
+        // Returns whether the tier holds all samples since the given time
+        private boolean covers(long since) {
+            if (size < times.length) {
+                return true;
+            }
+            // When full, the oldest slot is the next one to be overwritten
+            return times[next] - intervals[next] <= since;
+        }
+
+        private List<LoadSample> samples(int metric, long since) {
+            ImmutableList.Builder<LoadSample> samples = ImmutableList.builder();
+            int first = (next - size + times.length) % times.length;
+            for (int i = 0; i < size; i++) {
+                int slot = (first + i) % times.length;
+                if (times[slot] >= since) {
+                    samples.add(new LoadSample(times[slot], intervals[slot],
+                                               values[slot * metrics + metric]));
+                }
+            }
+            return samples.build();
+        }
+    }
+}
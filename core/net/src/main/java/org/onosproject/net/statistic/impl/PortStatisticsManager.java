@@ -15,6 +15,7 @@
  */
 package org.onosproject.net.statistic.impl;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Maps;
 import org.onosproject.net.statistic.PortStatisticsService;
 import org.onosproject.net.ConnectPoint;
@@ -25,6 +26,7 @@ import org.onosproject.net.device.DeviceService;
 import org.onosproject.net.device.PortStatistics;
 import org.onosproject.net.statistic.DefaultLoad;
 import org.onosproject.net.statistic.Load;
+import org.onosproject.net.statistic.LoadSample;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
@@ -32,6 +34,7 @@ import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.slf4j.Logger;
 
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -59,6 +62,8 @@ public class PortStatisticsManager implements PortStatisticsService {
 
     private Map<ConnectPoint, DataPoint> current = Maps.newConcurrentMap();
     private Map<ConnectPoint, DataPoint> previous = Maps.newConcurrentMap();
+    // Rates in bytes and packets per second, see LoadHistory for the memory used per port
+    private Map<ConnectPoint, LoadHistory> histories = Maps.newConcurrentMap();
 
     @Activate
     public void activate() {
@@ -104,6 +109,15 @@ public class PortStatisticsManager implements PortStatisticsService {
         return null;
     }
 
+    @Override
+    public List<LoadSample> loadHistory(ConnectPoint connectPoint, MetricType metricType, long since) {
+        LoadHistory history = histories.get(connectPoint);
+        if (history == null) {
+            return ImmutableList.of();
+        }
+        return history.samples(metricType == MetricType.BYTES ? 0 : 1, since);
+    }
+
     private long getEgressValue(PortStatistics stats, MetricType metricType) {
         return metricType == MetricType.BYTES ? stats.bytesSent() : stats.packetsSent();
     }
@@ -127,6 +141,10 @@ public class PortStatisticsManager implements PortStatisticsService {
                             !deviceService.isAvailable(deviceId))) {
                 // Clean-up all port loads
                 pruneDeviceData(deviceId);
+                // The history survives temporary disconnections
+                if (type == DEVICE_REMOVED) {
+                    pruneMap(histories, deviceId);
+                }
             }
         }
     }
@@ -143,12 +161,32 @@ public class PortStatisticsManager implements PortStatisticsService {
         DataPoint c = current.get(cp);
 
         // Create a new data point and make it the current one
-        current.put(cp, new DataPoint(stats));
+        DataPoint n = new DataPoint(stats);
+        current.put(cp, n);
 
         // If we have a current data point, demote it to previous
         if (c != null) {
             previous.put(cp, c);
+            recordHistory(cp, n, c);
+        }
+    }
+
+    // Records the rates between the given data points, as load() computes them
+    private void recordHistory(ConnectPoint cp, DataPoint c, DataPoint p) {
+        long interval = c.time - p.time;
+        if (interval <= SECOND) {
+            return;
+        }
+        long bytes = Math.max(c.stats.bytesSent() - p.stats.bytesSent(),
+                              c.stats.bytesReceived() - p.stats.bytesReceived());
+        long packets = Math.max(c.stats.packetsSent() - p.stats.packetsSent(),
+                                c.stats.packetsReceived() - p.stats.packetsReceived());
+        if (bytes < 0 || packets < 0) {
+            // Counters have been reset
+            return;
         }
+        histories.computeIfAbsent(cp, k -> new LoadHistory(2))
+                .add(c.time, interval, bytes * SECOND / interval, packets * SECOND / interval);
     }
 
     // Cleans all port loads for the specified device
@@ -157,7 +195,7 @@ public class PortStatisticsManager implements PortStatisticsService {
         pruneMap(previous, deviceId);
     }
 
-    private void pruneMap(Map<ConnectPoint, DataPoint> map, DeviceId deviceId) {
+    private void pruneMap(Map<ConnectPoint, ?> map, DeviceId deviceId) {
         map.keySet().stream().filter(cp -> deviceId.equals(cp.deviceId()))
                 .collect(Collectors.toSet()).forEach(map::remove);
     }
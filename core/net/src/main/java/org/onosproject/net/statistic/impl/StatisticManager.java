@@ -18,12 +18,19 @@ package org.onosproject.net.statistic.impl;
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Predicate;
 import com.google.common.collect.FluentIterable;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import org.onlab.util.SharedScheduledExecutors;
 import org.onosproject.core.ApplicationId;
 import org.onosproject.core.GroupId;
+import org.onosproject.mastership.MastershipService;
 import org.onosproject.net.ConnectPoint;
+import org.onosproject.net.DeviceId;
 import org.onosproject.net.Link;
 import org.onosproject.net.Path;
+import org.onosproject.net.device.DeviceService;
 import org.onosproject.net.flow.FlowEntry;
 import org.onosproject.net.flow.FlowRule;
 import org.onosproject.net.flow.FlowRuleEvent;
@@ -31,6 +38,7 @@ import org.onosproject.net.flow.FlowRuleListener;
 import org.onosproject.net.flow.FlowRuleService;
 import org.onosproject.net.statistic.DefaultLoad;
 import org.onosproject.net.statistic.Load;
+import org.onosproject.net.statistic.LoadSample;
 import org.onosproject.net.statistic.StatisticService;
 import org.onosproject.net.statistic.StatisticStore;
 import org.osgi.service.component.annotations.Activate;
@@ -41,9 +49,13 @@ import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.slf4j.Logger;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static org.onosproject.security.AppGuard.checkPermission;
@@ -59,18 +71,32 @@ public class StatisticManager implements StatisticService {
 
     private final Logger log = getLogger(getClass());
 
+    private static final long HISTORY_SAMPLE_INTERVAL = 10_000; // milliseconds
+
     @Reference(cardinality = ReferenceCardinality.MANDATORY)
     protected FlowRuleService flowRuleService;
 
     @Reference(cardinality = ReferenceCardinality.MANDATORY)
     protected StatisticStore statisticStore;
 
+    @Reference(cardinality = ReferenceCardinality.MANDATORY)
+    protected DeviceService deviceService;
+
+    @Reference(cardinality = ReferenceCardinality.MANDATORY)
+    protected MastershipService mastershipService;
+
+    // Flow based load of the ports of the local devices, see LoadHistory for
+    // the memory used per port
+    private final Map<ConnectPoint, LoadHistory> histories = Maps.newConcurrentMap();
+    private ScheduledFuture<?> historySampler;
 
     private final InternalFlowRuleListener listener = new InternalFlowRuleListener();
 
     @Activate
     public void activate() {
         flowRuleService.addListener(listener);
+        historySampler = SharedScheduledExecutors.getPoolThreadExecutor().scheduleAtFixedRate(
+                this::sampleHistory, HISTORY_SAMPLE_INTERVAL, HISTORY_SAMPLE_INTERVAL, TimeUnit.MILLISECONDS);
         log.info("Started");
 
     }
@@ -78,6 +104,8 @@ public class StatisticManager implements StatisticService {
     @Deactivate
     public void deactivate() {
         flowRuleService.removeListener(listener);
+        historySampler.cancel(false);
+        histories.clear();
         log.info("Stopped");
     }
 
@@ -172,6 +200,42 @@ public class StatisticManager implements StatisticService {
         return max;
     }
 
+    @Override
+    public List<LoadSample> loadHistory(ConnectPoint connectPoint, long since) {
+        checkPermission(STATISTIC_READ);
+
+        LoadHistory history = histories.get(connectPoint);
+        if (history == null) {
+            return ImmutableList.of();
+        }
+        return history.samples(0, since);
+    }
+
+    // Records the load of the ports of the devices this node is master of
+    private void sampleHistory() {
+        try {
+            long now = System.currentTimeMillis();
+            Set<DeviceId> sampled = Sets.newHashSet();
+            deviceService.getAvailableDevices().forEach(device -> {
+                if (!mastershipService.isLocalMaster(device.id())) {
+                    return;
+                }
+                sampled.add(device.id());
+                deviceService.getPorts(device.id()).forEach(port -> {
+                    ConnectPoint cp = new ConnectPoint(device.id(), port.number());
+                    Load load = loadInternal(cp);
+                    if (load.isValid() && load.rate() >= 0) {
+                        histories.computeIfAbsent(cp, k -> new LoadHistory(1))
+                                .add(now, HISTORY_SAMPLE_INTERVAL, load.rate());
+                    }
+                });
+            });
+            histories.keySet().removeIf(cp -> !sampled.contains(cp.deviceId()));
+        } catch (Exception e) {
+            log.warn("Unable to sample the load history", e);
+        }
+    }
+
     private Load loadInternal(ConnectPoint connectPoint) {
         Statistics stats = getStatistics(connectPoint);
         if (!stats.isValid()) {
@@ -15,6 +15,10 @@
  */
 package org.onosproject.net.topology.impl;
 
+import org.onlab.graph.AllPairsShortestPaths;
+import org.onlab.util.Tools;
+import org.onosproject.cfg.ComponentConfigService;
+import org.onosproject.common.DefaultTopology;
 import org.onosproject.event.Event;
 import org.onosproject.net.ConnectPoint;
 import org.onosproject.net.DeviceId;
@@ -28,6 +32,7 @@ import org.onosproject.net.topology.GraphDescription;
 import org.onosproject.net.topology.LinkWeigher;
 import org.onosproject.net.topology.Topology;
 import org.onosproject.net.topology.TopologyCluster;
+import org.onosproject.net.topology.TopologyEdge;
 import org.onosproject.net.topology.TopologyEvent;
 import org.onosproject.net.topology.TopologyGraph;
 import org.onosproject.net.topology.TopologyListener;
@@ -37,19 +42,32 @@ import org.onosproject.net.topology.TopologyProviderService;
 import org.onosproject.net.topology.TopologyService;
 import org.onosproject.net.topology.TopologyStore;
 import org.onosproject.net.topology.TopologyStoreDelegate;
+import org.onosproject.net.topology.TopologyVertex;
+import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.slf4j.Logger;
 
+import java.util.Dictionary;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.concurrent.Executors.newSingleThreadExecutor;
+import static org.onlab.util.Tools.groupedThreads;
+import static org.onosproject.net.OsgiPropertyConstants.TM_PRECOMPUTE_PATHS;
+import static org.onosproject.net.OsgiPropertyConstants.TM_PRECOMPUTE_PATHS_DEFAULT;
 import static org.onosproject.security.AppGuard.checkPermission;
 import static org.onosproject.security.AppPermission.Type.TOPOLOGY_READ;
 import static org.slf4j.LoggerFactory.getLogger;
@@ -58,7 +76,13 @@ import static org.slf4j.LoggerFactory.getLogger;
 /**
  * Provides basic implementation of the topology SB &amp; NB APIs.
  */
-@Component(immediate = true, service = {TopologyService.class, TopologyProviderRegistry.class})
+@Component(
+        immediate = true,
+        service = {TopologyService.class, TopologyProviderRegistry.class},
+        property = {
+                TM_PRECOMPUTE_PATHS + ":Boolean=" + TM_PRECOMPUTE_PATHS_DEFAULT
+        }
+)
 public class TopologyManager
         extends AbstractListenerProviderRegistry<TopologyEvent, TopologyListener,
         TopologyProvider, TopologyProviderService>
@@ -78,8 +102,23 @@ public class TopologyManager
     @Reference(cardinality = ReferenceCardinality.MANDATORY)
     protected TopologyStore store;
 
+    @Reference(cardinality = ReferenceCardinality.MANDATORY)
+    protected ComponentConfigService cfgService;
+
+    /** Precompute the shortest paths between all devices whenever a new topology is activated. */
+    private volatile boolean precomputePaths = TM_PRECOMPUTE_PATHS_DEFAULT;
+
+    // Serializes the precomputations, which themselves run on the pool; the
+    // pool only exists while precomputing is enabled
+    private ExecutorService precomputeExecutor;
+    private volatile ForkJoinPool precomputePool;
+
     @Activate
-    public void activate() {
+    public void activate(ComponentContext context) {
+        precomputeExecutor = newSingleThreadExecutor(
+                groupedThreads("onos/topology", "precompute", log));
+        cfgService.registerProperties(getClass());
+        modified(context);
         store.setDelegate(delegate);
         eventDispatcher.addSink(TopologyEvent.class, listenerRegistry);
         log.info("Started");
@@ -87,11 +126,39 @@ public class TopologyManager
 
     @Deactivate
     public void deactivate() {
+        cfgService.unregisterProperties(getClass(), false);
         store.unsetDelegate(delegate);
         eventDispatcher.removeSink(TopologyEvent.class);
+        precomputeExecutor.shutdownNow();
+        ForkJoinPool pool = precomputePool;
+        if (pool != null) {
+            pool.shutdownNow();
+        }
         log.info("Stopped");
     }
 
+    @Modified
+    public void modified(ComponentContext context) {
+        if (context == null) {
+            return;
+        }
+        Dictionary<?, ?> properties = context.getProperties();
+        Boolean flag = Tools.isPropertyEnabled(properties, TM_PRECOMPUTE_PATHS);
+        if (flag == null) {
+            log.info("PrecomputePaths is not configured, using current value of {}",
+                     precomputePaths);
+        } else if (flag != precomputePaths) {
+            precomputePaths = flag;
+            log.info("Configured. PrecomputePaths is {}",
+                     precomputePaths ? "enabled" : "disabled");
+            if (precomputePaths) {
+                precomputePaths(store.currentTopology());
+            } else {
+                precomputeExecutor.execute(this::stopPrecomputing);
+            }
+        }
+    }
+
     @Override
     public Topology currentTopology() {
         checkPermission(TOPOLOGY_READ);
@@ -276,15 +343,68 @@ public class TopologyManager
                                                        topoDescription, reasons);
             if (event != null) {
                 log.info("Topology {} changed", event.subject());
+                precomputePaths(event.subject());
                 post(event);
             }
         }
     }
 
+    // Computes in the background the shortest paths between all devices of
+    // the given topology, unless it has been superseded in the meantime.
+    private void precomputePaths(Topology topology) {
+        if (!precomputePaths || !(topology instanceof DefaultTopology)) {
+            return;
+        }
+        precomputeExecutor.execute(() -> {
+            if (!precomputePaths || !store.isLatest(topology)) {
+                return;
+            }
+            if (precomputePool == null) {
+                precomputePool = newPrecomputePool();
+            }
+            try {
+                AllPairsShortestPaths<TopologyVertex, TopologyEdge> paths =
+                        ((DefaultTopology) topology).precomputePaths(precomputePool);
+                log.info("Precomputed paths to {} destinations of topology {} in {} ms using {} KB",
+                         paths.destinationCount(), topology.time(),
+                         paths.computeTime() / 1_000_000, paths.memoryBytes() / 1024);
+            } catch (IllegalArgumentException | RejectedExecutionException e) {
+                log.warn("Unable to precompute paths of topology {}: {}",
+                         topology.time(), e.getMessage());
+            }
+        });
+    }
+
+    // Runs on the precompute executor, after any pending precomputation.
+    private void stopPrecomputing() {
+        ForkJoinPool pool = precomputePool;
+        if (pool != null) {
+            precomputePool = null;
+            pool.shutdown();
+        }
+        Topology topology = store.currentTopology();
+        if (topology instanceof DefaultTopology) {
+            ((DefaultTopology) topology).clearPrecomputedPaths();
+        }
+    }
+
+    // Fork-join pools take worker thread factories rather than plain thread
+    // factories, so the workers are named here as groupedThreads would.
+    private ForkJoinPool newPrecomputePool() {
+        AtomicInteger count = new AtomicInteger();
+        return new ForkJoinPool(Runtime.getRuntime().availableProcessors(), pool -> {
+            ForkJoinWorkerThread thread =
+                    ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("onos-topology-precompute-worker-" + count.getAndIncrement());
+            return thread;
+        }, (thread, e) -> log.error("Uncaught exception on " + thread.getName(), e), false);
+    }
+
     // Store delegate to re-post events emitted from the store.
     private class InternalStoreDelegate implements TopologyStoreDelegate {
         @Override
         public void notify(TopologyEvent event) {
+            precomputePaths(event.subject());
             post(event);
         }
     }
@@ -33,6 +33,7 @@ import org.onosproject.cluster.ControllerNode;
 import org.onosproject.cluster.DefaultControllerNode;
 import org.onosproject.cluster.NodeId;
 import org.onosproject.common.event.impl.TestEventDispatcher;
+import org.onosproject.mastership.MastershipBalanceReport;
 import org.onosproject.mastership.MastershipService;
 import org.onosproject.mastership.MastershipStore;
 import org.onosproject.mastership.MastershipTermService;
@@ -56,6 +57,7 @@ import static org.easymock.EasyMock.expect;
 import static org.easymock.EasyMock.expectLastCall;
 import static org.easymock.EasyMock.replay;
 import static org.junit.Assert.*;
+import static org.onlab.junit.TestTools.assertAfter;
 import static org.onosproject.net.MastershipRole.MASTER;
 import static org.onosproject.net.MastershipRole.NONE;
 import static org.onosproject.net.MastershipRole.STANDBY;
@@ -67,6 +69,8 @@ import static org.onosproject.net.region.Region.Type.METRO;
  */
 public class MastershipManagerTest {
 
+    private static final int MAX_BALANCE_MILLIS = 2000;
+
     private static final NodeId NID_LOCAL = new NodeId("local");
     private static final NodeId NID_OTHER = new NodeId("foo");
     private static final IpAddress LOCALHOST = IpAddress.valueOf("127.0.0.1");
@@ -245,6 +249,75 @@ public class MastershipManagerTest {
         assertEquals("incorrect balance for node 3", 3, mgr.getDevicesOf(NID3).size());
     }
 
+    @Test
+    public void balanceByLoadDryRun() {
+        testClusterService.put(CNODE1, ControllerNode.State.ACTIVE);
+        testClusterService.put(CNODE2, ControllerNode.State.ACTIVE);
+        assignRoles(NID1, ImmutableSet.of(DID1, DID2, DID3, DID4));
+        assignRoles(NID2, ImmutableSet.of(DID5, DID6));
+        mgr.setDeviceLoadWeigher(deviceId -> deviceId.equals(DID5) ? 10 : 1);
+
+        // The heavy device stays alone, its light neighbour moves over
+        MastershipBalanceReport report = mgr.balanceRolesByLoad(true);
+        assertTrue("not a dry run", report.dryRun());
+        assertEquals("incorrect moves",
+                     ImmutableList.of(new MastershipBalanceReport.Move(DID6, NID2, NID1, 1)),
+                     report.moves());
+        assertEquals("incorrect load before", 11, report.loadsBefore().get(NID2), 0);
+        assertEquals("incorrect load after", 5, report.loadsAfter().get(NID1), 0);
+        assertEquals("incorrect load after", 10, report.loadsAfter().get(NID2), 0);
+
+        // Nothing moved for real
+        assertEquals("incorrect balance for node 1", 4, mgr.getDevicesOf(NID1).size());
+        assertEquals("incorrect balance for node 2", 2, mgr.getDevicesOf(NID2).size());
+    }
+
+    @Test
+    public void balanceByLoadWithOrphans() {
+        mgr.balanceRolesStepSize = 1;
+        mgr.balanceRolesStepDelay = 0;
+        testClusterService.put(CNODE1, ControllerNode.State.ACTIVE);
+        testClusterService.put(CNODE2, ControllerNode.State.ACTIVE);
+        testClusterService.put(CNODE3, ControllerNode.State.INACTIVE);
+        assignRoles(NID1, ImmutableSet.of(DID1, DID2));
+        assignRoles(NID2, ImmutableSet.of(DID3));
+        assignRoles(NID3, ImmutableSet.of(DID4, DID5, DID6));
+        mgr.setDeviceLoadWeigher(deviceId -> deviceId.equals(DID1) ? 6 : 1);
+
+        MastershipBalanceReport report = mgr.balanceRolesByLoad(false);
+        assertEquals("incorrect number of moves", 4, report.moves().size());
+        assertAfter(MAX_BALANCE_MILLIS, () -> {
+            assertEquals("incorrect balance for node 1", ImmutableSet.of(DID1), mgr.getDevicesOf(NID1));
+            assertEquals("incorrect balance for node 2",
+                         ImmutableSet.of(DID2, DID3, DID4, DID5, DID6), mgr.getDevicesOf(NID2));
+            assertEquals("incorrect balance for node 3", 0, mgr.getDevicesOf(NID3).size());
+        });
+    }
+
+    @Test
+    public void balanceByLoadInSteps() {
+        mgr.balanceRolesStepSize = 1;
+        mgr.balanceRolesStepDelay = 60000;
+        testClusterService.put(CNODE1, ControllerNode.State.ACTIVE);
+        testClusterService.put(CNODE2, ControllerNode.State.ACTIVE);
+        assignRoles(NID1, ImmutableSet.of(DID1, DID2, DID3, DID4, DID5, DID6));
+
+        // The caller does not wait for the steps, which are applied one at a time
+        MastershipBalanceReport report = mgr.balanceRolesByLoad(false);
+        assertEquals("incorrect number of moves", 3, report.moves().size());
+        assertAfter(MAX_BALANCE_MILLIS, () ->
+                assertEquals("incorrect balance for node 2", 1, mgr.getDevicesOf(NID2).size()));
+
+        // A new balancing supersedes the steps left of the previous one
+        mgr.balanceRolesStepDelay = 0;
+        report = mgr.balanceRolesByLoad(false);
+        assertEquals("incorrect number of moves", 2, report.moves().size());
+        assertAfter(MAX_BALANCE_MILLIS, () -> {
+            assertEquals("incorrect balance for node 1", 3, mgr.getDevicesOf(NID1).size());
+            assertEquals("incorrect balance for node 2", 3, mgr.getDevicesOf(NID2).size());
+        });
+    }
+
     private void assignRoles(NodeId nid, Set<DeviceId> deviceIds) {
         Set<DeviceId> all = ImmutableSet.of(DID1, DID2, DID3, DID4, DID5, DID6);
         for (DeviceId did : all) {
@@ -21,6 +21,7 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.onlab.junit.TestUtils;
+import org.onlab.metrics.MetricsManager;
 import org.onosproject.cluster.ClusterService;
 import org.onosproject.cluster.ClusterServiceAdapter;
 import org.onosproject.event.EventDeliveryServiceAdapter;
@@ -112,6 +113,7 @@ public class NetworkConfigManagerTest {
     public void setUp() throws Exception {
         configStore = new DistributedNetworkConfigStore();
         TestUtils.setField(configStore, "storageService", new TestStorageService());
+        TestUtils.setField(configStore, "metricsService", new MetricsManager());
         configStore.activate();
         manager = new NetworkConfigManager();
         manager.store = configStore;
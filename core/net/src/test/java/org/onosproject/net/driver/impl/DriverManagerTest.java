@@ -0,0 +1,301 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.net.driver.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.onlab.metrics.MetricsManager;
+import org.onlab.packet.ChassisId;
+import org.onlab.util.ItemNotFoundException;
+import org.onosproject.net.DefaultAnnotations;
+import org.onosproject.net.DefaultDevice;
+import org.onosproject.net.Device;
+import org.onosproject.net.DeviceId;
+import org.onosproject.net.config.Config;
+import org.onosproject.net.config.NetworkConfigEvent;
+import org.onosproject.net.config.NetworkConfigListener;
+import org.onosproject.net.config.NetworkConfigServiceAdapter;
+import org.onosproject.net.config.basics.BasicDeviceConfig;
+import org.onosproject.net.config.basics.BasicHostConfig;
+import org.onosproject.net.device.DeviceEvent;
+import org.onosproject.net.device.DeviceListener;
+import org.onosproject.net.device.DeviceServiceAdapter;
+import org.onosproject.net.driver.DefaultDriver;
+import org.onosproject.net.driver.Driver;
+import org.onosproject.net.driver.DriverEvent;
+import org.onosproject.net.driver.DriverListener;
+import org.onosproject.net.driver.DriverRegistry;
+import org.onosproject.net.pi.PiPipeconfServiceAdapter;
+import org.onosproject.net.pi.model.PiPipeconfId;
+import org.onosproject.net.pi.service.PiPipeconfEvent;
+import org.onosproject.net.pi.service.PiPipeconfListener;
+import org.onosproject.net.provider.ProviderId;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.onosproject.net.AnnotationKeys.DRIVER;
+import static org.onosproject.net.driver.DefaultDriverTest.HW;
+import static org.onosproject.net.driver.DefaultDriverTest.MFR;
+import static org.onosproject.net.driver.DefaultDriverTest.SW;
+
+/**
+ * Tests of the caching of the drivers resolved for the devices.
+ */
+public class DriverManagerTest {
+
+    private static final DeviceId DEVICE_ID = DeviceId.deviceId("of:0000000000000001");
+    private static final ProviderId PID = new ProviderId("of", "foo");
+    private static final PiPipeconfId PIPECONF_ID = new PiPipeconfId("pipeconf");
+
+    private static final String PRIMORDIAL = "primordial";
+    private static final String ANNOTATED = "annotated";
+    private static final String CONFIGURED = "configured";
+    private static final String MERGED = "merged";
+
+    private final Driver primordial = driver(PRIMORDIAL);
+    private final Driver annotated = driver(ANNOTATED);
+    private final Driver configured = driver(CONFIGURED);
+    private final Driver merged = driver(MERGED);
+
+    private DriverManager mgr;
+    private TestDriverRegistry registry = new TestDriverRegistry();
+    private TestDeviceService deviceService = new TestDeviceService();
+    private TestNetworkConfigService networkConfigService = new TestNetworkConfigService();
+    private TestPipeconfService pipeconfService = new TestPipeconfService();
+
+    @Before
+    public void setUp() {
+        mgr = new DriverManager();
+        mgr.registry = registry;
+        mgr.deviceService = deviceService;
+        mgr.networkConfigService = networkConfigService;
+        mgr.pipeconfService = pipeconfService;
+        mgr.metricsService = new MetricsManager();
+        mgr.activate();
+
+        registry.drivers.put(PRIMORDIAL, primordial);
+        deviceService.device = device(null);
+    }
+
+    @After
+    public void tearDown() {
+        mgr.deactivate();
+    }
+
+    private static Driver driver(String name) {
+        return new DefaultDriver(name, Lists.newArrayList(), MFR, HW, SW,
+                                 ImmutableMap.of(), ImmutableMap.of());
+    }
+
+    private static Device device(String driverName) {
+        DefaultAnnotations.Builder annotations = DefaultAnnotations.builder();
+        if (driverName != null) {
+            annotations.set(DRIVER, driverName);
+        }
+        return new DefaultDevice(PID, DEVICE_ID, Device.Type.SWITCH, MFR, HW, SW, "1",
+                                 new ChassisId(), annotations.build());
+    }
+
+    /**
+     * Tests that the resolved driver is served from the cache.
+     */
+    @Test
+    public void cachedDriver() {
+        assertSame("wrong driver", primordial, mgr.getDriver(DEVICE_ID));
+        assertEquals("wrong lookup count", 1, registry.lookups);
+        assertSame("wrong driver", primordial, mgr.getDriver(DEVICE_ID));
+        assertEquals("driver not cached", 1, registry.lookups);
+    }
+
+    /**
+     * Tests that driver events drop the resolved drivers.
+     */
+    @Test
+    public void driverEventInvalidates() {
+        // The annotated driver is not there yet
+        deviceService.device = device(ANNOTATED);
+        assertSame("wrong driver", primordial, mgr.getDriver(DEVICE_ID));
+
+        registry.drivers.put(ANNOTATED, annotated);
+        assertSame("driver not cached", primordial, mgr.getDriver(DEVICE_ID));
+        registry.listener.event(new DriverEvent(DriverEvent.Type.DRIVER_ENHANCED, annotated));
+        assertSame("driver not invalidated", annotated, mgr.getDriver(DEVICE_ID));
+    }
+
+    /**
+     * Tests that device events drop the driver resolved for the device.
+     */
+    @Test
+    public void deviceEventInvalidates() {
+        registry.drivers.put(ANNOTATED, annotated);
+        assertSame("wrong driver", primordial, mgr.getDriver(DEVICE_ID));
+
+        deviceService.device = device(ANNOTATED);
+        assertSame("driver not cached", primordial, mgr.getDriver(DEVICE_ID));
+        deviceService.listener.event(new DeviceEvent(DeviceEvent.Type.DEVICE_UPDATED, deviceService.device));
+        assertSame("driver not invalidated", annotated, mgr.getDriver(DEVICE_ID));
+    }
+
+    /**
+     * Tests that basic device config events drop the driver resolved for
+     * the device.
+     */
+    @Test
+    public void networkConfigEventInvalidates() {
+        registry.drivers.put(CONFIGURED, configured);
+        assertSame("wrong driver", primordial, mgr.getDriver(DEVICE_ID));
+
+        BasicDeviceConfig config = new BasicDeviceConfig();
+        config.init(DEVICE_ID, "basic", JsonNodeFactory.instance.objectNode(), new ObjectMapper(), c -> { });
+        config.driver(CONFIGURED);
+        networkConfigService.config = config;
+
+        // Other configs do not affect the driver
+        NetworkConfigEvent other = new NetworkConfigEvent(NetworkConfigEvent.Type.CONFIG_ADDED,
+                                                          DEVICE_ID, BasicHostConfig.class);
+        if (networkConfigService.listener.isRelevant(other)) {
+            networkConfigService.listener.event(other);
+        }
+        assertSame("driver not cached", primordial, mgr.getDriver(DEVICE_ID));
+
+        NetworkConfigEvent event = new NetworkConfigEvent(NetworkConfigEvent.Type.CONFIG_ADDED,
+                                                          DEVICE_ID, BasicDeviceConfig.class);
+        if (networkConfigService.listener.isRelevant(event)) {
+            networkConfigService.listener.event(event);
+        }
+        assertSame("driver not invalidated", configured, mgr.getDriver(DEVICE_ID));
+    }
+
+    /**
+     * Tests that pipeconf bindings and pipeconf events drop the resolved
+     * drivers.
+     */
+    @Test
+    public void pipeconfInvalidates() {
+        registry.drivers.put(MERGED, merged);
+        assertSame("wrong driver", primordial, mgr.getDriver(DEVICE_ID));
+
+        // Bindings do not come with events
+        pipeconfService.pipeconfId = PIPECONF_ID;
+        assertSame("binding not checked", merged, mgr.getDriver(DEVICE_ID));
+
+        Driver updated = driver(MERGED);
+        registry.drivers.put(MERGED, updated);
+        assertSame("driver not cached", merged, mgr.getDriver(DEVICE_ID));
+        pipeconfService.listener.event(new PiPipeconfEvent(PiPipeconfEvent.Type.REGISTERED, PIPECONF_ID));
+        assertSame("driver not invalidated", updated, mgr.getDriver(DEVICE_ID));
+    }
+
+    private static class TestDriverRegistry implements DriverRegistry {
+        private final Map<String, Driver> drivers = Maps.newHashMap();
+        private DriverListener listener;
+        private int lookups;
+
+        @Override
+        public Set<Driver> getDrivers() {
+            return ImmutableSet.copyOf(drivers.values());
+        }
+
+        @Override
+        public Driver getDriver(String mfr, String hw, String sw) {
+            lookups++;
+            return drivers.get(PRIMORDIAL);
+        }
+
+        @Override
+        public Driver getDriver(String driverName) {
+            lookups++;
+            Driver driver = drivers.get(driverName);
+            if (driver == null) {
+                throw new ItemNotFoundException("Driver " + driverName + " not found");
+            }
+            return driver;
+        }
+
+        @Override
+        public void addListener(DriverListener listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        public void removeListener(DriverListener listener) {
+            this.listener = null;
+        }
+    }
+
+    private static class TestDeviceService extends DeviceServiceAdapter {
+        private Device device;
+        private DeviceListener listener;
+
+        @Override
+        public Device getDevice(DeviceId deviceId) {
+            return device;
+        }
+
+        @Override
+        public void addListener(DeviceListener listener) {
+            this.listener = listener;
+        }
+    }
+
+    private static class TestNetworkConfigService extends NetworkConfigServiceAdapter {
+        private BasicDeviceConfig config;
+        private NetworkConfigListener listener;
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <S, C extends Config<S>> C getConfig(S subject, Class<C> configClass) {
+            return configClass == BasicDeviceConfig.class ? (C) config : null;
+        }
+
+        @Override
+        public void addListener(NetworkConfigListener listener) {
+            this.listener = listener;
+        }
+    }
+
+    private static class TestPipeconfService extends PiPipeconfServiceAdapter {
+        private PiPipeconfId pipeconfId;
+        private PiPipeconfListener listener;
+
+        @Override
+        public Optional<PiPipeconfId> ofDevice(DeviceId deviceId) {
+            return Optional.ofNullable(pipeconfId);
+        }
+
+        @Override
+        public String getMergedDriver(DeviceId deviceId, PiPipeconfId pipeconfId) {
+            return MERGED;
+        }
+
+        @Override
+        public void addListener(PiPipeconfListener listener) {
+            this.listener = listener;
+        }
+    }
+}
@@ -25,6 +25,7 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.onlab.junit.TestTools;
+import org.onlab.metrics.MetricsManager;
 import org.onlab.packet.Ip4Address;
 import org.onlab.packet.IpAddress;
 import org.onosproject.cfg.ComponentConfigAdapter;
@@ -730,6 +731,7 @@ public class FlowRuleManagerTest {
             this.deviceService = mgr.deviceService;
             this.pipeconfService = new PiPipeconfServiceAdapter();
             this.networkConfigService = new NetworkConfigServiceAdapter();
+            this.metricsService = new MetricsManager();
             activate();
         }
     }
@@ -22,6 +22,7 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.onlab.junit.TestTools;
+import org.onlab.metrics.MetricsManager;
 import org.onlab.packet.MacAddress;
 import org.onlab.packet.MplsLabel;
 import org.onosproject.cfg.ComponentConfigAdapter;
@@ -795,6 +796,7 @@ public class GroupManagerTest {
             this.deviceService = mgr.deviceService;
             this.pipeconfService = new PiPipeconfServiceAdapter();
             this.networkConfigService = new NetworkConfigServiceAdapter();
+            this.metricsService = new MetricsManager();
             activate();
         }
     }
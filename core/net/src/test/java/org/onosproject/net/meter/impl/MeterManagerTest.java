@@ -25,6 +25,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.onlab.junit.TestTools;
 import org.onlab.junit.TestUtils;
+import org.onlab.metrics.MetricsManager;
 import org.onlab.packet.IpAddress;
 import org.onlab.util.KryoNamespace;
 import org.onosproject.TestApplicationId;
@@ -295,6 +296,8 @@ public class MeterManagerTest {
         // Let's initialize some internal services of the store
         TestUtils.setField(meterStore, "storageService", new TestStorageService());
         TestUtils.setField(meterStore, "driverService", driverService);
+        TestUtils.setField(meterStore, "mastershipService", new TestMastershipService());
+        TestUtils.setField(meterStore, "clusterService", new TestClusterService());
 
         // Inject TestApplicationId into the DistributedMeterStore serializer
         KryoNamespace.Builder testKryoBuilder = TestUtils.getField(meterStore, "APP_KRYO_BUILDER");
@@ -791,6 +794,7 @@ public class MeterManagerTest {
             this.deviceService = deviceService;
             this.networkConfigService = networkConfigService;
             this.pipeconfService = new PiPipeconfServiceAdapter();
+            this.metricsService = new MetricsManager();
             activate();
         }
     }
@@ -20,6 +20,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import org.junit.Before;
 import org.junit.Test;
+import org.onlab.metrics.MetricsManager;
 import org.onosproject.cluster.ClusterServiceAdapter;
 import org.onosproject.common.event.impl.TestEventDispatcher;
 import org.onosproject.core.CoreServiceAdapter;
@@ -151,6 +152,7 @@ public class PacketManagerTest {
             this.deviceService = mgr.deviceService;
             this.pipeconfService = new PiPipeconfServiceAdapter();
             this.networkConfigService = new NetworkConfigServiceAdapter();
+            this.metricsService = new MetricsManager();
             activate();
         }
     }
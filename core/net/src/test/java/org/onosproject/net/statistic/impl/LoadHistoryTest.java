@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.net.statistic.impl;
+
+import org.junit.Test;
+import org.onosproject.net.statistic.LoadSample;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.onosproject.net.statistic.impl.LoadHistory.HOUR;
+import static org.onosproject.net.statistic.impl.LoadHistory.MINUTE;
+import static org.onosproject.net.statistic.impl.LoadHistory.RAW_SLOTS;
+
+/**
+ * Unit tests for the load history.
+ */
+public class LoadHistoryTest {
+
+    private static final long INTERVAL = 10_000;
+
+    /**
+     * Tests that recent samples are given as recorded, per metric.
+     */
+    @Test
+    public void testRawSamples() {
+        LoadHistory history = new LoadHistory(2);
+        history.add(INTERVAL, INTERVAL, 1, 10);
+        history.add(2 * INTERVAL, INTERVAL, 2, 20);
+        history.add(3 * INTERVAL, INTERVAL, 3, 30);
+
+        assertThat(history.samples(0, 0), contains(new LoadSample(INTERVAL, INTERVAL, 1),
+                                                   new LoadSample(2 * INTERVAL, INTERVAL, 2),
+                                                   new LoadSample(3 * INTERVAL, INTERVAL, 3)));
+        assertThat(history.samples(1, 2 * INTERVAL), contains(new LoadSample(2 * INTERVAL, INTERVAL, 20),
+                                                              new LoadSample(3 * INTERVAL, INTERVAL, 30)));
+    }
+
+    /**
+     * Tests that the raw samples wrap around and that older samples are
+     * given as averages once they are no longer held as recorded.
+     */
+    @Test
+    public void testDownsampling() {
+        LoadHistory history = new LoadHistory(1);
+        long samples = 2 * HOUR / INTERVAL;
+        for (long i = 1; i <= samples; i++) {
+            // Rate is the index of the minute
+            history.add(i * INTERVAL, INTERVAL, (i - 1) * INTERVAL / MINUTE);
+        }
+        long now = samples * INTERVAL;
+
+        // The last samples are held as recorded
+        List<LoadSample> recent = history.samples(0, now - (RAW_SLOTS - 1) * INTERVAL);
+        assertThat(recent, hasSize(RAW_SLOTS));
+        assertThat(recent.get(RAW_SLOTS - 1), is(new LoadSample(now, INTERVAL, 119)));
+
+        // Older ones only as one minute averages, the last minute being still open
+        List<LoadSample> minutes = history.samples(0, 0);
+        assertThat(minutes, hasSize(119));
+        assertThat(minutes.get(0), is(new LoadSample(MINUTE, MINUTE, 0)));
+        assertThat(minutes.get(118), is(new LoadSample(119 * MINUTE, MINUTE, 118)));
+
+        // The first hour is averaged as well
+        history.add(now + INTERVAL, INTERVAL, 0);
+        assertThat(history.samples(0, 0), hasSize(120));
+    }
+
+    /**
+     * Tests that the coarsest tier is used when no tier covers the time.
+     */
+    @Test
+    public void testHourlySamples() {
+        LoadHistory history = new LoadHistory(1);
+        long samples = 4 * HOUR / MINUTE;
+        for (long i = 1; i <= samples; i++) {
+            history.add(i * MINUTE, MINUTE, 60);
+        }
+        List<LoadSample> hours = history.samples(0, 0);
+        assertThat(hours, hasSize(3));
+        assertThat(hours.get(0), is(new LoadSample(HOUR, HOUR, 60)));
+    }
+}
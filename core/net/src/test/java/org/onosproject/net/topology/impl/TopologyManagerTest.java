@@ -19,6 +19,9 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.onlab.graph.ScalarWeight;
+import org.onlab.osgi.ComponentContextAdapter;
+import org.onosproject.cfg.ComponentConfigAdapter;
+import org.onosproject.common.DefaultTopology;
 import org.onosproject.event.Event;
 import org.onosproject.common.event.impl.TestEventDispatcher;
 import org.onosproject.net.ConnectPoint;
@@ -28,6 +31,7 @@ import org.onosproject.net.Path;
 import org.onosproject.net.provider.AbstractProvider;
 import org.onosproject.net.provider.ProviderId;
 import org.onosproject.net.topology.DefaultGraphDescription;
+import org.onosproject.net.topology.DefaultTopologyVertex;
 import org.onosproject.net.topology.GraphDescription;
 import org.onosproject.net.topology.LinkWeigher;
 import org.onosproject.net.topology.LinkWeigherAdapter;
@@ -43,11 +47,14 @@ import org.onosproject.net.topology.TopologyService;
 import org.onosproject.store.trivial.SimpleTopologyStore;
 
 import java.util.ArrayList;
+import java.util.Dictionary;
+import java.util.Hashtable;
 import java.util.List;
 import java.util.Set;
 
 import static com.google.common.collect.ImmutableSet.of;
 import static org.junit.Assert.*;
+import static org.onlab.junit.TestTools.assertAfter;
 import static org.onosproject.net.NetTestTools.*;
 import static org.onosproject.net.PortNumber.portNumber;
 import static org.onosproject.net.topology.ClusterId.clusterId;
@@ -59,6 +66,7 @@ import static org.onosproject.net.topology.TopologyEvent.Type.TOPOLOGY_CHANGED;
 public class TopologyManagerTest {
 
     private static final ProviderId PID = new ProviderId("of", "foo");
+    private static final int MAX_PRECOMPUTE_MILLIS = 2000;
 
     private TopologyManager mgr;
 
@@ -75,8 +83,9 @@ public class TopologyManagerTest {
         registry = mgr;
 
         mgr.store = new SimpleTopologyStore();
+        mgr.cfgService = new ComponentConfigAdapter();
         injectEventDispatcher(mgr, new TestEventDispatcher());
-        mgr.activate();
+        mgr.activate(null);
 
         service.addListener(listener);
 
@@ -172,6 +181,43 @@ public class TopologyManagerTest {
         assertEquals("wrong path cost", ScalarWeight.toWeight(2), path.weight());
     }
 
+    @Test
+    public void allPairsPrecomputedPath() {
+        setPrecomputePaths(true);
+        submitTopologyGraph();
+        DefaultTopology topology = (DefaultTopology) service.currentTopology();
+        assertAfter(MAX_PRECOMPUTE_MILLIS, () ->
+                assertNotNull("paths should be precomputed", topology.precomputedPaths()));
+
+        // served from the precomputed paths
+        Set<Path> paths = service.getPaths(topology, did("a"), did("c"));
+        assertEquals("wrong path count", 2, paths.size());
+        assertEquals("wrong precomputed path count", 2, topology.precomputedPaths()
+                .paths(new DefaultTopologyVertex(did("a")),
+                       new DefaultTopologyVertex(did("c")), Integer.MAX_VALUE).size());
+        Path path = paths.iterator().next();
+        assertEquals("wrong path length", 2, path.links().size());
+        assertEquals("wrong path cost", ScalarWeight.toWeight(2), path.weight());
+        assertTrue("no paths expected", service.getPaths(topology, did("a"), did("e")).isEmpty());
+
+        setPrecomputePaths(false);
+        assertAfter(MAX_PRECOMPUTE_MILLIS, () ->
+                assertNull("precomputed paths should be dropped", topology.precomputedPaths()));
+        assertEquals("paths should be computed on demand", paths,
+                     service.getPaths(topology, did("a"), did("c")));
+    }
+
+    private void setPrecomputePaths(boolean enabled) {
+        mgr.modified(new ComponentContextAdapter() {
+            @Override
+            public Dictionary getProperties() {
+                Hashtable<String, String> props = new Hashtable<>();
+                props.put("precomputePaths", String.valueOf(enabled));
+                return props;
+            }
+        });
+    }
+
     @Test
     public void onDemandPath() {
         submitTopologyGraph();
@@ -0,0 +1,334 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.store.app;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.onosproject.core.Application;
+import org.slf4j.Logger;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Schedules the local activation of applications as a DAG built from their
+ * required applications: an application is activated as soon as all the
+ * applications it requires have been started locally, and applications which
+ * do not depend on each other are activated in parallel. The time each
+ * application waited and took to activate is recorded, so that the critical
+ * path of the activations can be reported.
+ * <p>
+ * An activation runs in two phases: the application is first installed,
+ * then its activation is published. Publishing and cancelling are serialized
+ * per application, and an activation cancelled while it was being installed
+ * is not published.
+ */
+class AppActivationScheduler {
+
+    private final Logger log = getLogger(getClass());
+
+    private final Executor executor;
+    private final Consumer<Application> installer;
+    private final Consumer<Application> publisher;
+    private final Predicate<String> isStarted;
+
+    // Serializes the publishing and cancelling of each application
+    private final Map<String, Object> appLocks = Maps.newConcurrentMap();
+
+    // Applications waiting for their required applications, by name
+    private final Map<String, Application> parked = Maps.newLinkedHashMap();
+    private final Map<String, Long> submitted = Maps.newHashMap();
+    // Bumped on cancellation, so that already queued activations are skipped
+    private final Map<String, Long> generations = Maps.newHashMap();
+    private final Map<String, Timing> timings = Maps.newLinkedHashMap();
+    private int running;
+    private long lastActivity = System.currentTimeMillis();
+
+    /**
+     * Creates a new activation scheduler.
+     *
+     * @param executor  executor running the activations
+     * @param installer installs an application locally
+     * @param publisher publishes the local activation of an application
+     * @param isStarted tells whether an application has been started locally
+     */
+    AppActivationScheduler(Executor executor, Consumer<Application> installer,
+                           Consumer<Application> publisher, Predicate<String> isStarted) {
+        this.executor = executor;
+        this.installer = installer;
+        this.publisher = publisher;
+        this.isStarted = isStarted;
+    }
+
+    /**
+     * Schedules the activation of the given application, which runs once
+     * all its required applications have been started.
+     *
+     * @param app application to activate
+     */
+    void submit(Application app) {
+        String name = app.id().name();
+        long generation;
+        synchronized (this) {
+            lastActivity = System.currentTimeMillis();
+            submitted.putIfAbsent(name, lastActivity);
+            if (!isReady(app)) {
+                log.debug("Postponing activation of {} until its required apps are started", name);
+                parked.put(name, app);
+                return;
+            }
+            parked.remove(name);
+            generation = generations.getOrDefault(name, 0L);
+            running++;
+        }
+        executor.execute(() -> activate(app, generation));
+    }
+
+    /**
+     * Cancels the pending activation of the given application, if any.
+     *
+     * @param appName application name
+     */
+    void cancel(String appName) {
+        cancel(appName, () -> { });
+    }
+
+    /**
+     * Cancels the pending activation of the given application, if any, then
+     * runs the given action before any later activation of the application
+     * can be published.
+     *
+     * @param appName  application name
+     * @param onCancel action run once the activation is cancelled
+     */
+    void cancel(String appName, Runnable onCancel) {
+        synchronized (appLock(appName)) {
+            synchronized (this) {
+                parked.remove(appName);
+                submitted.remove(appName);
+                generations.merge(appName, 1L, Long::sum);
+            }
+            onCancel.run();
+        }
+    }
+
+    /**
+     * Returns whether no activation ran or was submitted for the given time.
+     *
+     * @param quietMillis quiet period in milliseconds
+     * @return true if the activations settled
+     */
+    synchronized boolean isSettled(long quietMillis) {
+        return running == 0 && System.currentTimeMillis() - lastActivity >= quietMillis;
+    }
+
+    /**
+     * Returns the names of the applications waiting for required applications.
+     *
+     * @return names of the postponed applications
+     */
+    synchronized List<String> postponed() {
+        return ImmutableList.copyOf(parked.keySet());
+    }
+
+    /**
+     * Returns the recorded activation timings, by application name.
+     *
+     * @return map of application name to activation timing
+     */
+    synchronized Map<String, Timing> timings() {
+        return ImmutableMap.copyOf(timings);
+    }
+
+    /**
+     * Returns the critical path of the recorded activations: the chain of
+     * required applications leading to the application activated last,
+     * in activation order.
+     *
+     * @return critical path of the activations
+     */
+    synchronized List<Timing> criticalPath() {
+        List<Timing> path = Lists.newArrayList();
+        Timing timing = timings.values().stream()
+                .reduce(AppActivationScheduler::latest)
+                .orElse(null);
+        while (timing != null) {
+            path.add(0, timing);
+            timing = timing.requiredApps.stream()
+                    .map(timings::get)
+                    .filter(t -> t != null && !path.contains(t))
+                    .reduce(AppActivationScheduler::latest)
+                    .orElse(null);
+        }
+        return path;
+    }
+
+    /**
+     * Returns a human readable report of the recorded activations.
+     *
+     * @return activation report
+     */
+    synchronized String report() {
+        StringBuilder report = new StringBuilder();
+        if (timings.isEmpty()) {
+            report.append("No application activated");
+        } else {
+            long start = timings.values().stream().mapToLong(Timing::submitted).min().getAsLong();
+            long end = timings.values().stream().mapToLong(Timing::finished).max().getAsLong();
+            report.append(String.format("Activated %d applications in %d ms; critical path:",
+                                        timings.size(), end - start));
+            criticalPath().forEach(t -> report.append(String.format(
+                    "%n  %s: waited %d ms, took %d ms", t.name, t.waited(), t.took())));
+            List<Timing> slowest = Lists.newArrayList(timings.values());
+            slowest.sort(Comparator.comparingLong(Timing::took).reversed());
+            report.append(String.format("%nSlowest:"));
+            slowest.stream().limit(5).forEach(t -> report.append(String.format(
+                    "%n  %s: took %d ms", t.name, t.took())));
+        }
+        if (!parked.isEmpty()) {
+            report.append(String.format("%nPostponed for missing required apps: %s",
+                                        parked.keySet()));
+        }
+        return report.toString();
+    }
+
+    // Picks the timing which finished last, favouring the last recorded one
+    private static Timing latest(Timing a, Timing b) {
+        return b.finished >= a.finished ? b : a;
+    }
+
+    private synchronized boolean isCurrent(String appName, long generation) {
+        return generations.getOrDefault(appName, 0L) == generation;
+    }
+
+    private Object appLock(String appName) {
+        return appLocks.computeIfAbsent(appName, k -> new Object());
+    }
+
+    // Publishes the activation unless it was cancelled since it was scheduled
+    private boolean publishIfCurrent(Application app, long generation) {
+        String name = app.id().name();
+        synchronized (appLock(name)) {
+            if (!isCurrent(name, generation)) {
+                log.debug("Not publishing cancelled activation of {}", name);
+                return false;
+            }
+            publisher.accept(app);
+            return true;
+        }
+    }
+
+    private boolean isReady(Application app) {
+        return app.requiredApps().stream().allMatch(isStarted);
+    }
+
+    private void activate(Application app, long generation) {
+        String name = app.id().name();
+        long started = System.currentTimeMillis();
+        boolean current = isCurrent(name, generation);
+        try {
+            if (current) {
+                installer.accept(app);
+                current = publishIfCurrent(app, generation);
+            } else {
+                log.debug("Skipping cancelled activation of {}", name);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Unable to activate {}", name, e);
+            current = false;
+        } finally {
+            List<Runnable> ready = Lists.newArrayList();
+            synchronized (this) {
+                running--;
+                lastActivity = System.currentTimeMillis();
+                Long submittedAt = submitted.remove(name);
+                if (current) {
+                    timings.put(name, new Timing(name, submittedAt != null ? submittedAt : started,
+                                                 started, lastActivity, app.requiredApps()));
+                }
+                parked.values().removeIf(parkedApp -> {
+                    if (isReady(parkedApp)) {
+                        long parkedGeneration = generations.getOrDefault(parkedApp.id().name(), 0L);
+                        ready.add(() -> activate(parkedApp, parkedGeneration));
+                        return true;
+                    }
+                    return false;
+                });
+                running += ready.size();
+            }
+            ready.forEach(executor::execute);
+        }
+    }
+
+    /**
+     * Timing of the activation of an application.
+     */
+    static final class Timing {
+        private final String name;
+        private final long submitted;
+        private final long started;
+        private final long finished;
+        private final List<String> requiredApps;
+
+        private Timing(String name, long submitted, long started, long finished,
+                       List<String> requiredApps) {
+            this.name = name;
+            this.submitted = submitted;
+            this.started = started;
+            this.finished = finished;
+            this.requiredApps = requiredApps;
+        }
+
+        String name() {
+            return name;
+        }
+
+        long submitted() {
+            return submitted;
+        }
+
+        long finished() {
+            return finished;
+        }
+
+        // Time spent waiting for required apps and for an activation thread.
+        long waited() {
+            return started - submitted;
+        }
+
+        long took() {
+            return finished - started;
+        }
+
+        @Override
+        public String toString() {
+            return toStringHelper(this)
+                    .add("name", name)
+                    .add("waited", waited())
+                    .add("took", took())
+                    .toString();
+        }
+    }
+}
@@ -79,6 +79,7 @@ import java.util.stream.Collectors;
 import static com.google.common.collect.Multimaps.newSetMultimap;
 import static com.google.common.collect.Multimaps.synchronizedSetMultimap;
 import static com.google.common.io.ByteStreams.toByteArray;
+import static java.util.concurrent.Executors.newFixedThreadPool;
 import static java.util.concurrent.Executors.newSingleThreadExecutor;
 import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -113,6 +114,9 @@ public class DistributedApplicationStore extends ApplicationArchive
 
     private static final int APP_LOAD_DELAY_MS = 500;
 
+    private static final int ACTIVATION_THREADS = 8;
+    private static final int STARTUP_SETTLE_MS = 5_000;
+
     private static List<String> pendingApps = Lists.newArrayList();
 
     public enum InternalState {
@@ -120,7 +124,8 @@ public class DistributedApplicationStore extends ApplicationArchive
     }
 
     private ScheduledExecutorService executor;
-    private ExecutorService messageHandlingExecutor, activationExecutor;
+    private ExecutorService messageHandlingExecutor, activationExecutor, activationWorkers;
+    private AppActivationScheduler activationScheduler;
 
     private ConsistentMap<ApplicationId, InternalApplicationHolder> apps;
     private Topic<Application> appActivationTopic;
@@ -197,6 +202,10 @@ public class DistributedApplicationStore extends ApplicationArchive
 
         activationExecutor = newSingleThreadExecutor(groupedThreads("onos/store/app",
                 "app-activation", log));
+        activationWorkers = newFixedThreadPool(ACTIVATION_THREADS, groupedThreads("onos/store/app",
+                "app-activation-worker-%d", log));
+        activationScheduler = new AppActivationScheduler(activationWorkers, this::installAppIfNeeded,
+                                                         this::publishActivation, localStartedApps::contains);
         appActivationTopic.subscribe(appActivator, activationExecutor);
 
         executor = newSingleThreadScheduledExecutor(groupedThreads("onos/app", "store", log));
@@ -300,6 +309,19 @@ public class DistributedApplicationStore extends ApplicationArchive
                 // TODO Load app permissions
             }
         });
+        executor.schedule(this::reportStartup, STARTUP_SETTLE_MS, MILLISECONDS);
+    }
+
+    /**
+     * Logs the activation report once the activations triggered at startup
+     * have settled.
+     */
+    private void reportStartup() {
+        if (!activationScheduler.isSettled(STARTUP_SETTLE_MS)) {
+            executor.schedule(this::reportStartup, STARTUP_SETTLE_MS, MILLISECONDS);
+            return;
+        }
+        log.info("{}", activationScheduler.report());
     }
 
     private Application loadFromDisk(String appName) {
@@ -359,6 +381,7 @@ public class DistributedApplicationStore extends ApplicationArchive
         appActivationTopic.unsubscribe(appActivator);
         messageHandlingExecutor.shutdown();
         activationExecutor.shutdown();
+        activationWorkers.shutdown();
         executor.shutdown();
         log.info("Stopped");
     }
@@ -556,22 +579,25 @@ public class DistributedApplicationStore extends ApplicationArchive
                 if (log.isTraceEnabled()) {
                     log.trace("Received an activation for {}", app.id());
                 }
-                String appName = app.id().name();
-                installAppIfNeeded(app);
-                setActive(appName);
-                boolean ready = localStartedApps.containsAll(app.requiredApps());
-                if (ready && delegate != null) {
-                    notifyDelegate(new ApplicationEvent(APP_ACTIVATED, app));
-                    localStartedApps.add(appName);
-                } else if (delegate == null) {
-                    log.warn("Postponing app activation {} due to the delegate being null", app.id());
-                } else {
-                    log.warn("Postponing app activation {} due to req apps being not ready", app.id());
-                }
+                // Runs once the required apps have been started locally
+                activationScheduler.submit(app);
             }
         }
     }
 
+    // Publishes the activation of the given application on this node, once
+    // installed; its required apps have already been started.
+    private void publishActivation(Application app) {
+        String appName = app.id().name();
+        setActive(appName);
+        if (delegate != null) {
+            notifyDelegate(new ApplicationEvent(APP_ACTIVATED, app));
+            localStartedApps.add(appName);
+        } else {
+            log.warn("Postponing app activation {} due to the delegate being null", app.id());
+        }
+    }
+
     /**
      * Listener to application state distributed map changes.
      */
@@ -597,9 +623,12 @@ public class DistributedApplicationStore extends ApplicationArchive
                 if (log.isTraceEnabled()) {
                     log.trace("{} has been uninstalled", appId);
                 }
-                notifyDelegate(new ApplicationEvent(APP_UNINSTALLED, oldApp.app()));
-                purgeApplication(appId.name());
-                localStartedApps.remove(appId.name());
+                // Keeps an activation still in progress from being published afterwards
+                activationScheduler.cancel(appId.name(), () -> {
+                    notifyDelegate(new ApplicationEvent(APP_UNINSTALLED, oldApp.app()));
+                    purgeApplication(appId.name());
+                    localStartedApps.remove(appId.name());
+                });
             } else {
                 log.warn("Can't perform {} on application {}", event.type(), event.key());
             }
@@ -618,9 +647,11 @@ public class DistributedApplicationStore extends ApplicationArchive
             if (log.isTraceEnabled()) {
                 log.trace("{} has been deactivated", app.id());
             }
-            clearActive(appId.name());
-            notifyDelegate(new ApplicationEvent(APP_DEACTIVATED, app));
-            localStartedApps.remove(appId.name());
+            activationScheduler.cancel(appId.name(), () -> {
+                clearActive(appId.name());
+                notifyDelegate(new ApplicationEvent(APP_DEACTIVATED, app));
+                localStartedApps.remove(appId.name());
+            });
         }
     }
 
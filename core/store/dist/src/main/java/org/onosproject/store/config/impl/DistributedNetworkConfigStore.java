@@ -27,8 +27,12 @@ import com.fasterxml.jackson.databind.node.NullNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.ShortNode;
 import com.fasterxml.jackson.databind.node.TextNode;
+import com.codahale.metrics.Gauge;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Maps;
+import org.onlab.metrics.MetricsComponent;
+import org.onlab.metrics.MetricsFeature;
+import org.onlab.metrics.MetricsService;
 import org.onlab.util.KryoNamespace;
 import org.onosproject.net.config.Config;
 import org.onosproject.net.config.ConfigApplyDelegate;
@@ -53,10 +57,15 @@ import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static org.onosproject.net.config.NetworkConfigEvent.Type.CONFIG_ADDED;
@@ -82,11 +91,29 @@ public class DistributedNetworkConfigStore
     private static final String INVALID_JSON_OBJECT =
             "JSON node is not an object for object type config";
 
+    private static final String METRICS_COMPONENT = "NetworkConfig";
+    private static final String METRICS_FEATURE = "configCache";
+    private static final String CACHE_HITS = "hits";
+    private static final String CACHE_MISSES = "misses";
+    private static final String CACHE_SIZE = "size";
+
     @Reference(cardinality = ReferenceCardinality.MANDATORY)
     protected StorageService storageService;
 
+    @Reference(cardinality = ReferenceCardinality.MANDATORY)
+    protected MetricsService metricsService;
+
     private ConsistentMap<ConfigKey, JsonNode> configs;
 
+    // Configs read by getConfig, dropped after any change of the key; the
+    // generation detects changes while the config is being read
+    private final Map<ConfigKey, CachedConfig> configCache = Maps.newConcurrentMap();
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+    private MetricsComponent metricsComponent;
+    private MetricsFeature metricsFeature;
+
     private final Map<String, ConfigFactory> factoriesByConfig = Maps.newConcurrentMap();
     private final ObjectMapper mapper = new ObjectMapper();
     private final ConfigApplyDelegate applyDelegate = new InternalApplyDelegate();
@@ -108,18 +135,39 @@ public class DistributedNetworkConfigStore
                 .withRelaxedReadConsistency()
                 .build();
         configs.addListener(listener);
+        registerMetrics();
         log.info("Started");
     }
 
     @Deactivate
     public void deactivate() {
         configs.removeListener(listener);
+        invalidateAll();
+        removeMetrics();
         log.info("Stopped");
     }
 
+    private void registerMetrics() {
+        metricsComponent = metricsService.registerComponent(METRICS_COMPONENT);
+        metricsFeature = metricsComponent.registerFeature(METRICS_FEATURE);
+        metricsService.registerMetric(metricsComponent, metricsFeature, CACHE_HITS,
+                                      (Gauge<Long>) cacheHits::sum);
+        metricsService.registerMetric(metricsComponent, metricsFeature, CACHE_MISSES,
+                                      (Gauge<Long>) cacheMisses::sum);
+        metricsService.registerMetric(metricsComponent, metricsFeature, CACHE_SIZE,
+                                      (Gauge<Integer>) configCache::size);
+    }
+
+    private void removeMetrics() {
+        metricsService.removeMetric(metricsComponent, metricsFeature, CACHE_HITS);
+        metricsService.removeMetric(metricsComponent, metricsFeature, CACHE_MISSES);
+        metricsService.removeMetric(metricsComponent, metricsFeature, CACHE_SIZE);
+    }
+
     @Override
     public void addConfigFactory(ConfigFactory configFactory) {
         factoriesByConfig.put(configFactory.configClass().getName(), configFactory);
+        invalidateAll();
         processPendingConfigs(configFactory);
         notifyDelegate(new NetworkConfigEvent(CONFIG_REGISTERED, configFactory.configKey(),
                                               configFactory.configClass()));
@@ -166,6 +214,7 @@ public class DistributedNetworkConfigStore
     @Override
     public void removeConfigFactory(ConfigFactory configFactory) {
         factoriesByConfig.remove(configFactory.configClass().getName());
+        invalidateAll();
         processExistingConfigs(configFactory);
         notifyDelegate(new NetworkConfigEvent(CONFIG_UNREGISTERED, configFactory.configKey(),
                                               configFactory.configClass()));
@@ -235,11 +284,54 @@ public class DistributedNetworkConfigStore
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <S, T extends Config<S>> T getConfig(S subject, Class<T> configClass) {
-        Versioned<JsonNode> json = configs.get(key(subject, configClass));
-        return json != null ? createConfig(subject, configClass, json.value()) : null;
+        ConfigKey key = key(subject, configClass);
+        CachedConfig cached = configCache.get(key);
+        if (cached != null) {
+            cacheHits.increment();
+        } else {
+            cacheMisses.increment();
+            long configGeneration = generation.get();
+            Versioned<JsonNode> json = configs.get(key);
+            // Readers share the config, so its JSON is read-only
+            cached = new CachedConfig(json != null ?
+                    createConfig(subject, configClass, readOnly(json.value())) : null);
+            configCache.put(key, cached);
+            if (generation.get() != configGeneration) {
+                // The config changed meanwhile, what we read may be stale
+                configCache.remove(key, cached);
+            }
+        }
+        return (T) cached.config;
     }
 
+    // Returns a copy of the given JSON backed by unmodifiable collections,
+    // so that any attempt to modify it fails
+    private static JsonNode readOnly(JsonNode json) {
+        if (json.isObject()) {
+            Map<String, JsonNode> fields = new LinkedHashMap<>();
+            json.fields().forEachRemaining(field -> fields.put(field.getKey(), readOnly(field.getValue())));
+            return new ObjectNode(JsonNodeFactory.instance, Collections.unmodifiableMap(fields));
+        } else if (json.isArray()) {
+            List<JsonNode> elements = new ArrayList<>(json.size());
+            json.forEach(element -> elements.add(readOnly(element)));
+            return new ArrayNode(JsonNodeFactory.instance, Collections.unmodifiableList(elements));
+        }
+        return json;
+    }
+
+    // Drops the cached config of the given key; called after the key is written.
+    private void invalidate(ConfigKey key) {
+        generation.incrementAndGet();
+        configCache.remove(key);
+    }
+
+    // Drops all cached configs.
+    private void invalidateAll() {
+        generation.incrementAndGet();
+        configCache.clear();
+    }
 
     @Override
     public <S, C extends Config<S>> C createConfig(S subject, Class<C> configClass) {
@@ -248,6 +340,7 @@ public class DistributedNetworkConfigStore
                                                              k -> factory.isList() ?
                                                                      mapper.createArrayNode() :
                                                                      mapper.createObjectNode());
+        invalidate(key(subject, configClass));
         return createConfig(subject, configClass, json.value());
     }
 
@@ -267,12 +360,15 @@ public class DistributedNetworkConfigStore
             throw new InvalidConfigException(subjectKey, subjectString, configKey, e);
         }
 
-        // Insert the validated configuration and get it back.
-        Versioned<JsonNode> versioned = configs.putAndGet(key(subject, configClass), json);
+        // Insert the validated configuration and get it back. A copy is
+        // inserted, as the JSON may be the read-only one of a shared config.
+        JsonNode copy = json.deepCopy();
+        Versioned<JsonNode> versioned = configs.putAndGet(key(subject, configClass), copy);
+        invalidate(key(subject, configClass));
 
         // Re-create the config if for some reason what we attempted to put
         // was supplanted by someone else already.
-        return versioned.value() == json ? config : createConfig(subject, configClass, versioned.value());
+        return versioned.value() == copy ? config : createConfig(subject, configClass, versioned.value());
     }
 
     @Override
@@ -283,6 +379,7 @@ public class DistributedNetworkConfigStore
     @Override
     public <S, C extends Config<S>> void clearConfig(S subject, Class<C> configClass) {
         configs.remove(key(subject, configClass));
+        invalidate(key(subject, configClass));
     }
 
     @Override
@@ -295,6 +392,7 @@ public class DistributedNetworkConfigStore
         configs.keySet().forEach(k -> {
             if (Objects.equals(subject, k.subject) && delegate != null) {
                 configs.remove(k);
+                invalidate(k);
             }
         });
     }
@@ -304,6 +402,7 @@ public class DistributedNetworkConfigStore
         configs.keySet().forEach(k -> {
             if (delegate != null) {
                 configs.remove(k);
+                invalidate(k);
             }
         });
     }
@@ -384,7 +483,9 @@ public class DistributedNetworkConfigStore
     private class InternalApplyDelegate implements ConfigApplyDelegate {
         @Override
         public void onApply(Config config) {
-            configs.put(key(config.subject(), config.getClass()), config.node());
+            // The config may be a shared one, with read-only JSON
+            configs.put(key(config.subject(), config.getClass()), config.node().deepCopy());
+            invalidate(key(config.subject(), config.getClass()));
         }
     }
 
@@ -439,9 +540,20 @@ public class DistributedNetworkConfigStore
         }
     }
 
+    // Config read for a key, null if there is no config for the key.
+    private static final class CachedConfig {
+        final Config<?> config;
+
+        private CachedConfig(Config<?> config) {
+            this.config = config;
+        }
+    }
+
     private class InternalMapListener implements MapEventListener<ConfigKey, JsonNode> {
         @Override
         public void event(MapEvent<ConfigKey, JsonNode> event) {
+            invalidate(event.key());
+
             // Do not delegate pending configs.
             if (event.key().configClass == null) {
                 return;
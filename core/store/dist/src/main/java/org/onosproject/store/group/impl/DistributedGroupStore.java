@@ -16,8 +16,7 @@
 package org.onosproject.store.group.impl;
 
 import com.google.common.collect.FluentIterable;
-import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Iterables;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import org.onlab.util.KryoNamespace;
 import org.onosproject.cfg.ComponentConfigService;
@@ -85,6 +84,7 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -158,6 +158,10 @@ public class DistributedGroupStore
     // Per device group table with (device id + group id) as key
     private final ConcurrentMap<DeviceId, ConcurrentMap<GroupId, StoredGroupEntry>>
             groupEntriesById = new ConcurrentHashMap<>();
+    // Per device view of the group key table, kept in sync with local
+    // updates and map events
+    private final ConcurrentMap<DeviceId, ConcurrentMap<GroupKey, StoredGroupEntry>>
+            groupEntriesByDevice = new ConcurrentHashMap<>();
     private ConsistentMap<GroupStoreKeyMapKey,
             StoredGroupEntry> auditPendingReqQueue = null;
     private MapEventListener<GroupStoreKeyMapKey, StoredGroupEntry>
@@ -228,10 +232,14 @@ public class DistributedGroupStore
 
         log.debug("Creating GroupStoreId Map From GroupStoreKey Map");
         matchGroupEntries();
+        indexGroupStoreEntries();
         executor = newSingleThreadScheduledExecutor(groupedThreads("onos/group", "store", log));
         statusChangeListener = status -> {
             if (status == Status.ACTIVE) {
-                executor.execute(this::matchGroupEntries);
+                executor.execute(() -> {
+                    matchGroupEntries();
+                    indexGroupStoreEntries();
+                });
             }
         };
         groupStoreEntriesByKey.addStatusChangeListener(statusChangeListener);
@@ -319,6 +327,82 @@ public class DistributedGroupStore
         return groupStoreEntriesByKey.asJavaMap();
     }
 
+    /**
+     * Returns the group key table for specified device, without creating it
+     * for devices with no groups.
+     *
+     * @param deviceId identifier of the device
+     * @return Map representing group key table of given device.
+     */
+    private Map<GroupKey, StoredGroupEntry> getGroupKeyTable(DeviceId deviceId) {
+        ConcurrentMap<GroupKey, StoredGroupEntry> keyTable = groupEntriesByDevice.get(deviceId);
+        return keyTable == null ? Collections.emptyMap() : keyTable;
+    }
+
+    /**
+     * Adds the given entry to the per device view of the group key based map.
+     *
+     * @param key   group store key
+     * @param group group entry
+     */
+    private void indexGroupStoreEntry(GroupStoreKeyMapKey key, StoredGroupEntry group) {
+        groupEntriesByDevice.compute(key.deviceId(), (deviceId, keyTable) -> {
+            ConcurrentMap<GroupKey, StoredGroupEntry> table =
+                    keyTable == null ? new ConcurrentHashMap<>() : keyTable;
+            table.put(key.appCookie, group);
+            return table;
+        });
+    }
+
+    /**
+     * Removes the given key from the per device view of the group key based
+     * map, dropping the table of the device once it is empty.
+     *
+     * @param key group store key
+     */
+    private void unindexGroupStoreEntry(GroupStoreKeyMapKey key) {
+        groupEntriesByDevice.computeIfPresent(key.deviceId(), (deviceId, keyTable) -> {
+            keyTable.remove(key.appCookie);
+            return keyTable.isEmpty() ? null : keyTable;
+        });
+    }
+
+    /**
+     * Puts the given entry in the group key based map and in the per device
+     * view of it.
+     *
+     * @param key   group store key
+     * @param group group entry
+     */
+    private void putGroupStoreEntry(GroupStoreKeyMapKey key, StoredGroupEntry group) {
+        getGroupStoreKeyMap().put(key, group);
+        indexGroupStoreEntry(key, group);
+    }
+
+    /**
+     * Removes the given key from the group key based map and from the per
+     * device view of it.
+     *
+     * @param key group store key
+     */
+    private void removeGroupStoreEntry(GroupStoreKeyMapKey key) {
+        getGroupStoreKeyMap().remove(key);
+        unindexGroupStoreEntry(key);
+    }
+
+    /**
+     * Brings the per device view of the group key based map in line with
+     * its current content.
+     */
+    private void indexGroupStoreEntries() {
+        Map<GroupStoreKeyMapKey, StoredGroupEntry> groupEntryMap = Maps.newHashMap(getGroupStoreKeyMap());
+        groupEntryMap.forEach(this::indexGroupStoreEntry);
+        groupEntriesByDevice.forEach((deviceId, keyTable) -> keyTable.keySet().removeIf(
+                appCookie -> !groupEntryMap.containsKey(new GroupStoreKeyMapKey(deviceId, appCookie))));
+        groupEntriesByDevice.keySet().forEach(deviceId -> groupEntriesByDevice.computeIfPresent(
+                deviceId, (k, keyTable) -> keyTable.isEmpty() ? null : keyTable));
+    }
+
     /**
      * Returns the group id table for specified device.
      *
@@ -357,8 +441,7 @@ public class DistributedGroupStore
      */
     @Override
     public int getGroupCount(DeviceId deviceId) {
-        return (getGroups(deviceId) != null) ?
-                Iterables.size(getGroups(deviceId)) : 0;
+        return getStoredGroups(deviceId).size();
     }
 
     /**
@@ -369,22 +452,18 @@ public class DistributedGroupStore
      */
     @Override
     public Iterable<Group> getGroups(DeviceId deviceId) {
-        // Let ImmutableSet.copyOf do the type conversion
-        return ImmutableSet.copyOf(getStoredGroups(deviceId));
+        return Collections.unmodifiableCollection(getStoredGroups(deviceId));
     }
 
-    private Iterable<StoredGroupEntry> getStoredGroups(DeviceId deviceId) {
+    // Returns a live view of the groups of the device
+    private Collection<StoredGroupEntry> getStoredGroups(DeviceId deviceId) {
         NodeId master = mastershipService.getMasterFor(deviceId);
         if (master == null && deviceService.isAvailable(deviceId)) {
             log.debug("Failed to getGroups: No master for {}", deviceId);
             return Collections.emptySet();
         }
 
-        Set<StoredGroupEntry> storedGroups = getGroupStoreKeyMap().values()
-                .stream()
-                .filter(input -> input.deviceId().equals(deviceId))
-                .collect(Collectors.toSet());
-        return ImmutableSet.copyOf(storedGroups);
+        return getGroupKeyTable(deviceId).values();
     }
 
     /**
@@ -577,8 +656,7 @@ public class DistributedGroupStore
                     StoredGroupEntry group = new DefaultGroup(
                             matchingExtraneousGroup.id(), groupDesc);
                     // Insert the newly created group entry into key and id maps
-                    getGroupStoreKeyMap().
-                            put(new GroupStoreKeyMapKey(groupDesc.deviceId(),
+                    putGroupStoreEntry(new GroupStoreKeyMapKey(groupDesc.deviceId(),
                                                         groupDesc.appCookie()), group);
                     // Ensure it also inserted into group id based table to
                     // avoid any chances of duplication in group id generation
@@ -597,8 +675,7 @@ public class DistributedGroupStore
                     StoredGroupEntry modifiedGroup = new DefaultGroup(
                             matchingExtraneousGroup.id(), groupDesc);
                     modifiedGroup.setState(GroupState.PENDING_UPDATE);
-                    getGroupStoreKeyMap().
-                            put(new GroupStoreKeyMapKey(groupDesc.deviceId(),
+                    putGroupStoreEntry(new GroupStoreKeyMapKey(groupDesc.deviceId(),
                                                         groupDesc.appCookie()), modifiedGroup);
                     // Ensure it also inserted into group id based table to
                     // avoid any chances of duplication in group id generation
@@ -626,8 +703,7 @@ public class DistributedGroupStore
                 StoredGroupEntry group = new DefaultGroup(
                         matchingExtraneousGroup.id(), groupDesc);
                 // Insert the newly created group entry into key and id maps
-                getGroupStoreKeyMap().
-                        put(new GroupStoreKeyMapKey(groupDesc.deviceId(),
+                putGroupStoreEntry(new GroupStoreKeyMapKey(groupDesc.deviceId(),
                                                     groupDesc.appCookie()), group);
                 // Ensure it also inserted into group id based table to
                 // avoid any chances of duplication in group id generation
@@ -666,8 +742,7 @@ public class DistributedGroupStore
         // Create a group entry object
         StoredGroupEntry group = new DefaultGroup(id, groupDesc);
         // Insert the newly created group entry into key and id maps
-        getGroupStoreKeyMap().
-                put(new GroupStoreKeyMapKey(groupDesc.deviceId(),
+        putGroupStoreEntry(new GroupStoreKeyMapKey(groupDesc.deviceId(),
                                             groupDesc.appCookie()), group);
         // Ensure it also inserted into group id based table to
         // avoid any chances of duplication in group id generation
@@ -779,8 +854,7 @@ public class DistributedGroupStore
             //groupkey based map update listener
             log.debug("updateGroupDescriptionInternal with type {}: Group updated with buckets",
                       type);
-            getGroupStoreKeyMap().
-                    put(new GroupStoreKeyMapKey(newGroup.deviceId(),
+            putGroupStoreEntry(new GroupStoreKeyMapKey(newGroup.deviceId(),
                                                 newGroup.appCookie()), newGroup);
             notifyDelegate(new GroupEvent(Type.GROUP_UPDATE_REQUESTED, newGroup));
         } else {
@@ -903,8 +977,7 @@ public class DistributedGroupStore
         // TODO is this really safe ?
         synchronized (existing) {
             existing.setState(GroupState.PENDING_DELETE);
-            getGroupStoreKeyMap().
-                    put(new GroupStoreKeyMapKey(existing.deviceId(), existing.appCookie()),
+            putGroupStoreEntry(new GroupStoreKeyMapKey(existing.deviceId(), existing.appCookie()),
                         existing);
         }
         log.debug("deleteGroupDescriptionInternal: in device {} issuing GROUP_REMOVE_REQUESTED",
@@ -981,8 +1054,7 @@ public class DistributedGroupStore
                     event = new GroupEvent(Type.GROUP_UPDATED, existing);
                 }
                 //Re-PUT map entries to trigger map update events
-                getGroupStoreKeyMap().
-                        put(new GroupStoreKeyMapKey(existing.deviceId(),
+                putGroupStoreEntry(new GroupStoreKeyMapKey(existing.deviceId(),
                                                     existing.appCookie()), existing);
             }
         } else {
@@ -1038,8 +1110,7 @@ public class DistributedGroupStore
                     existing.setIsGroupStateAddedFirstTime(false);
                 }
                 //Re-PUT map entries to trigger map update events
-                getGroupStoreKeyMap().
-                        put(new GroupStoreKeyMapKey(existing.deviceId(),
+                putGroupStoreEntry(new GroupStoreKeyMapKey(existing.deviceId(),
                                                     existing.appCookie()), existing);
             }
         } else {
@@ -1064,7 +1135,7 @@ public class DistributedGroupStore
                       group.deviceId());
             //Removal from groupid based map will happen in the
             //map update listener
-            getGroupStoreKeyMap().remove(new GroupStoreKeyMapKey(existing.deviceId(),
+            removeGroupStoreEntry(new GroupStoreKeyMapKey(existing.deviceId(),
                                                                  existing.appCookie()));
             notifyDelegate(new GroupEvent(Type.GROUP_REMOVED, existing));
         } else {
@@ -1077,7 +1148,7 @@ public class DistributedGroupStore
 
     private void purgeGroupEntries(Set<Entry<GroupStoreKeyMapKey, StoredGroupEntry>> entries) {
         entries.forEach(entry -> {
-            groupStoreEntriesByKey.remove(entry.getKey());
+            removeGroupStoreEntry(entry.getKey());
         });
     }
 
@@ -1086,9 +1157,8 @@ public class DistributedGroupStore
         Set<Entry<GroupStoreKeyMapKey, StoredGroupEntry>> entriesPendingRemove =
                 new HashSet<>();
 
-        getGroupStoreKeyMap().entrySet().stream()
-                .filter(entry -> entry.getKey().deviceId().equals(deviceId))
-                .forEach(entriesPendingRemove::add);
+        getGroupKeyTable(deviceId).forEach((appCookie, group) -> entriesPendingRemove.add(
+                Maps.immutableEntry(new GroupStoreKeyMapKey(deviceId, appCookie), group)));
 
         purgeGroupEntries(entriesPendingRemove);
     }
@@ -1098,9 +1168,12 @@ public class DistributedGroupStore
         Set<Entry<GroupStoreKeyMapKey, StoredGroupEntry>> entriesPendingRemove =
                 new HashSet<>();
 
-        getGroupStoreKeyMap().entrySet().stream()
-                .filter(entry -> entry.getKey().deviceId().equals(deviceId) && entry.getValue().appId().equals(appId))
-                .forEach(entriesPendingRemove::add);
+        getGroupKeyTable(deviceId).forEach((appCookie, group) -> {
+            if (group.appId().equals(appId)) {
+                entriesPendingRemove.add(
+                        Maps.immutableEntry(new GroupStoreKeyMapKey(deviceId, appCookie), group));
+            }
+        });
 
         purgeGroupEntries(entriesPendingRemove);
     }
@@ -1221,7 +1294,7 @@ public class DistributedGroupStore
                              existing.deviceId());
                     //Removal from groupid based map will happen in the
                     //map update listener
-                    getGroupStoreKeyMap().remove(new GroupStoreKeyMapKey(existing.deviceId(),
+                    removeGroupStoreEntry(new GroupStoreKeyMapKey(existing.deviceId(),
                                                                          existing.appCookie()));
                 }
                 break;
@@ -1296,8 +1369,11 @@ public class DistributedGroupStore
                       group.id(),
                       (key != null ? key.deviceId() : null));
             if (mapEvent.type() == MapEvent.Type.INSERT || mapEvent.type() == MapEvent.Type.UPDATE) {
-                // Update the group ID table
+                // Update the group ID and key tables
                 getGroupIdTable(group.deviceId()).put(group.id(), group);
+                if (key != null) {
+                    indexGroupStoreEntry(key, group);
+                }
                 StoredGroupEntry value = Versioned.valueOrNull(mapEvent.newValue());
                 if (value.state() == Group.GroupState.ADDED) {
                     if (value.isGroupStateAddedFirstTime()) {
@@ -1314,8 +1390,11 @@ public class DistributedGroupStore
                 }
             } else if (mapEvent.type() == MapEvent.Type.REMOVE) {
                 groupEvent = new GroupEvent(Type.GROUP_REMOVED, group);
-                // Remove the entry from the group ID table
+                // Remove the entry from the group ID and key tables
                 getGroupIdTable(group.deviceId()).remove(group.id(), group);
+                if (key != null) {
+                    unindexGroupStoreEntry(key);
+                }
             }
 
             if (groupEvent != null) {
@@ -1459,6 +1538,17 @@ public class DistributedGroupStore
     @Override
     public void pushGroupMetrics(DeviceId deviceId,
                                  Collection<Group> groupEntries) {
+        long start = System.nanoTime();
+        try {
+            auditGroupEntries(deviceId, groupEntries);
+        } finally {
+            log.debug("Group AUDIT for {} with {} groups took {} ms", deviceId, groupEntries.size(),
+                      TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+    }
+
+    private void auditGroupEntries(DeviceId deviceId,
+                                   Collection<Group> groupEntries) {
         boolean deviceInitialAuditStatus =
                 deviceInitialAuditStatus(deviceId);
         Set<Group> southboundGroupEntries =
@@ -1630,7 +1720,7 @@ public class DistributedGroupStore
                         group.state());
                 group.setState(Group.GroupState.PENDING_ADD_RETRY);
                 //Re-PUT map entries to trigger map update events
-                getGroupStoreKeyMap().put(new GroupStoreKeyMapKey(group.deviceId(), group.appCookie()), group);
+                putGroupStoreEntry(new GroupStoreKeyMapKey(group.deviceId(), group.appCookie()), group);
                 notifyDelegate(new GroupEvent(GroupEvent.Type.GROUP_ADD_REQUESTED,
                                               group));
                 break;
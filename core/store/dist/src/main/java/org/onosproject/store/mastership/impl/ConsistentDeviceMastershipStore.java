@@ -17,7 +17,9 @@ package org.onosproject.store.mastership.impl;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
 import org.onlab.util.KryoNamespace;
+import org.onlab.util.SharedScheduledExecutors;
 import org.onosproject.cluster.ClusterService;
 import org.onosproject.cluster.Leadership;
 import org.onosproject.cluster.LeadershipAdminService;
@@ -46,6 +48,7 @@ import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.slf4j.Logger;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -53,7 +56,9 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -68,6 +73,14 @@ import static org.slf4j.LoggerFactory.getLogger;
 
 /**
  * Implementation of the MastershipStore on top of Leadership Service.
+ * <p>
+ * Reads of the master, roles and mastership info of a device are served from
+ * a local view of the device leaderships, kept current from leadership events
+ * and reconciled with the leader elector every few seconds, which bounds its
+ * staleness should events be missed. Entries of the view are ordered by a
+ * local sequence number taken before the state they hold was read, so that
+ * an older read never replaces a newer one. Terms and the consistent variant
+ * of the mastership info are always read from the leader elector.
  */
 @Component(immediate = true, service = MastershipStore.class)
 public class ConsistentDeviceMastershipStore
@@ -107,6 +120,12 @@ public class ConsistentDeviceMastershipStore
     private static final String NODE_ID_NULL = "Node ID cannot be null";
     private static final String DEVICE_ID_NULL = "Device ID cannot be null";
     private static final int WAIT_BEFORE_MASTERSHIP_HANDOFF_MILLIS = 3000;
+    private static final long RECONCILE_PERIOD_SECONDS = 10;
+
+    // Local view of the leadership of each device
+    private final Map<DeviceId, LocalMastership> localView = Maps.newConcurrentMap();
+    private final AtomicLong viewSequence = new AtomicLong();
+    private ScheduledFuture<?> reconcileTask;
 
     public static final Serializer SERIALIZER = Serializer.using(
             KryoNamespace.newBuilder()
@@ -135,6 +154,9 @@ public class ConsistentDeviceMastershipStore
                 messageHandlingExecutor);
         localNodeId = clusterService.getLocalNode().id();
         leadershipService.addListener(leadershipEventListener);
+        reconcileTask();
+        reconcileTask = SharedScheduledExecutors.getPoolThreadExecutor().scheduleAtFixedRate(
+                this::reconcileTask, RECONCILE_PERIOD_SECONDS, RECONCILE_PERIOD_SECONDS, TimeUnit.SECONDS);
 
         log.info("Started");
     }
@@ -143,6 +165,11 @@ public class ConsistentDeviceMastershipStore
     public void deactivate() {
         clusterCommunicator.removeSubscriber(ROLE_RELINQUISH_SUBJECT);
         leadershipService.removeListener(leadershipEventListener);
+        if (reconcileTask != null) {
+            reconcileTask.cancel(false);
+            reconcileTask = null;
+        }
+        localView.clear();
         messageHandlingExecutor.shutdown();
         transferExecutor.shutdown();
         eventHandler.shutdown();
@@ -155,6 +182,8 @@ public class ConsistentDeviceMastershipStore
 
         String leadershipTopic = createDeviceMastershipTopic(deviceId);
         Leadership leadership = leadershipService.runForLeadership(leadershipTopic);
+        // The view may not reflect our own change yet, read it back next time
+        invalidateLocalView(deviceId);
         NodeId leader = leadership == null ? null : leadership.leaderNodeId();
         List<NodeId> candidates = leadership == null ?
                 ImmutableList.of() : ImmutableList.copyOf(leadership.candidates());
@@ -168,11 +197,11 @@ public class ConsistentDeviceMastershipStore
         checkArgument(nodeId != null, NODE_ID_NULL);
         checkArgument(deviceId != null, DEVICE_ID_NULL);
 
-        String leadershipTopic = createDeviceMastershipTopic(deviceId);
-        Leadership leadership = leadershipService.getLeadership(leadershipTopic);
+        LocalMastership local = getLocalMastership(deviceId);
+        Leadership leadership = local == null ? null : local.leadership;
         NodeId leader = leadership == null ? null : leadership.leaderNodeId();
         List<NodeId> candidates = leadership == null ?
-                ImmutableList.of() : ImmutableList.copyOf(leadership.candidates());
+                ImmutableList.of() : leadership.candidates();
         return Objects.equals(nodeId, leader) ?
                 MastershipRole.MASTER : candidates.contains(nodeId) ? MastershipRole.STANDBY : MastershipRole.NONE;
     }
@@ -181,7 +210,8 @@ public class ConsistentDeviceMastershipStore
     public NodeId getMaster(DeviceId deviceId) {
         checkArgument(deviceId != null, DEVICE_ID_NULL);
 
-        return leadershipService.getLeader(createDeviceMastershipTopic(deviceId));
+        LocalMastership local = getLocalMastership(deviceId);
+        return local == null ? null : local.leadership.leaderNodeId();
     }
 
     @Override
@@ -193,9 +223,16 @@ public class ConsistentDeviceMastershipStore
 
     @Override
     public MastershipInfo getMastership(DeviceId deviceId) {
+        checkArgument(deviceId != null, DEVICE_ID_NULL);
+        LocalMastership local = getLocalMastership(deviceId);
+        return local == null ? new MastershipInfo() : local.mastership;
+    }
+
+    @Override
+    public MastershipInfo getConsistentMastership(DeviceId deviceId) {
         checkArgument(deviceId != null, DEVICE_ID_NULL);
         Leadership leadership = leadershipService.getLeadership(createDeviceMastershipTopic(deviceId));
-        return buildMastershipFromLeadership(leadership);
+        return leadership == null ? new MastershipInfo() : buildMastershipFromLeadership(leadership);
     }
 
     @Override
@@ -221,8 +258,11 @@ public class ConsistentDeviceMastershipStore
 
         String leadershipTopic = createDeviceMastershipTopic(deviceId);
         if (leadershipAdminService.promoteToTopOfCandidateList(leadershipTopic, nodeId)) {
-            transferExecutor.schedule(() -> leadershipAdminService.transferLeadership(leadershipTopic, nodeId),
-                    WAIT_BEFORE_MASTERSHIP_HANDOFF_MILLIS, TimeUnit.MILLISECONDS);
+            invalidateLocalView(deviceId);
+            transferExecutor.schedule(() -> {
+                leadershipAdminService.transferLeadership(leadershipTopic, nodeId);
+                invalidateLocalView(deviceId);
+            }, WAIT_BEFORE_MASTERSHIP_HANDOFF_MILLIS, TimeUnit.MILLISECONDS);
         }
         return CompletableFuture.completedFuture(null);
     }
@@ -242,12 +282,12 @@ public class ConsistentDeviceMastershipStore
         checkArgument(nodeId != null, NODE_ID_NULL);
         checkArgument(deviceId != null, DEVICE_ID_NULL);
 
-        NodeId currentMaster = getMaster(deviceId);
+        String leadershipTopic = createDeviceMastershipTopic(deviceId);
+        NodeId currentMaster = leadershipService.getLeader(leadershipTopic);
         if (!nodeId.equals(currentMaster)) {
             return CompletableFuture.completedFuture(null);
         }
 
-        String leadershipTopic = createDeviceMastershipTopic(deviceId);
         List<NodeId> candidates = leadershipService.getCandidates(leadershipTopic);
 
         NodeId newMaster = candidates.stream()
@@ -274,12 +314,13 @@ public class ConsistentDeviceMastershipStore
 
         log.debug("Forwarding request to relinquish "
                 + "role for device {} to {}", deviceId, nodeId);
-        return clusterCommunicator.sendAndReceive(
+        CompletableFuture<MastershipEvent> future = clusterCommunicator.sendAndReceive(
                 deviceId,
                 ROLE_RELINQUISH_SUBJECT,
                 SERIALIZER::encode,
                 SERIALIZER::decode,
                 nodeId);
+        return future.whenComplete((event, error) -> invalidateLocalView(deviceId));
     }
 
     private CompletableFuture<MastershipEvent> relinquishLocalRole(DeviceId deviceId) {
@@ -292,7 +333,9 @@ public class ConsistentDeviceMastershipStore
         MastershipEvent.Type eventType = localNodeId.equals(leadershipService.getLeader(leadershipTopic)) ?
                 MastershipEvent.Type.MASTER_CHANGED : MastershipEvent.Type.BACKUPS_CHANGED;
         leadershipService.withdraw(leadershipTopic);
-        return CompletableFuture.completedFuture(new MastershipEvent(eventType, deviceId, getMastership(deviceId)));
+        invalidateLocalView(deviceId);
+        return CompletableFuture.completedFuture(
+                new MastershipEvent(eventType, deviceId, getConsistentMastership(deviceId)));
     }
 
     @Override
@@ -300,6 +343,81 @@ public class ConsistentDeviceMastershipStore
         // Noop. LeadershipService already takes care of detecting and purging stale locks.
     }
 
+    // Returns the local view of the given device, reading it from the leader
+    // elector if the device is not known yet or its view was invalidated.
+    private LocalMastership getLocalMastership(DeviceId deviceId) {
+        LocalMastership local = localView.get(deviceId);
+        if (local != null && local.leadership != null) {
+            return local;
+        }
+        long sequence = viewSequence.incrementAndGet();
+        Leadership leadership = leadershipService.getLeadership(createDeviceMastershipTopic(deviceId));
+        if (leadership == null) {
+            return null;
+        }
+        // Events received and writes made meanwhile take precedence over what we read
+        LocalMastership read = newLocalMastership(leadership, sequence);
+        local = updateLocalView(deviceId, read);
+        return local.leadership != null ? local : read;
+    }
+
+    private LocalMastership newLocalMastership(Leadership leadership, long sequence) {
+        return new LocalMastership(leadership, buildMastershipFromLeadership(leadership), sequence);
+    }
+
+    // Stores the given view of a device unless a later one is already there,
+    // returning the view in place afterwards.
+    private LocalMastership updateLocalView(DeviceId deviceId, LocalMastership local) {
+        return localView.merge(deviceId, local, (current, update) ->
+                update.sequence > current.sequence ? update : current);
+    }
+
+    // Marks the view of a device as unknown, so that it is read back from the
+    // leader elector by the next reader. Reads that started earlier are then
+    // not cached.
+    private void invalidateLocalView(DeviceId deviceId) {
+        updateLocalView(deviceId, new LocalMastership(null, null, viewSequence.incrementAndGet()));
+    }
+
+    private void reconcileTask() {
+        try {
+            reconcileLocalView();
+        } catch (Exception e) {
+            log.warn("Unable to reconcile the local mastership view", e);
+        }
+    }
+
+    /**
+     * Replaces the local view with the state of the leader elector, except for
+     * the devices whose view was updated after the state was read.
+     */
+    void reconcileLocalView() {
+        long sequence = viewSequence.incrementAndGet();
+        Map<DeviceId, Leadership> leaderships = Maps.newHashMap();
+        leadershipAdminService.getLeaderBoard().forEach((topic, leadership) -> {
+            if (isDeviceMastershipTopic(topic)) {
+                leaderships.put(extractDeviceIdFromTopic(topic), leadership);
+            }
+        });
+        leaderships.forEach((deviceId, leadership) ->
+                updateLocalView(deviceId, newLocalMastership(leadership, sequence)));
+        ImmutableList.copyOf(localView.keySet()).stream()
+                .filter(deviceId -> !leaderships.containsKey(deviceId))
+                .forEach(deviceId -> localView.computeIfPresent(deviceId, (k, local) ->
+                        local.sequence < sequence ? null : local));
+    }
+
+    // Updates the local view of a device from a leadership event.
+    private void updateLocalView(LeadershipEvent event) {
+        DeviceId deviceId = extractDeviceIdFromTopic(event.subject().topic());
+        if (event.type() == LeadershipEvent.Type.SERVICE_DISRUPTED) {
+            // Fall back to the leader elector until we hear again
+            invalidateLocalView(deviceId);
+        } else {
+            updateLocalView(deviceId, newLocalMastership(event.subject(), viewSequence.incrementAndGet()));
+        }
+    }
+
     private MastershipInfo buildMastershipFromLeadership(Leadership leadership) {
         ImmutableMap.Builder<NodeId, MastershipRole> builder = ImmutableMap.builder();
         if (leadership.leaderNodeId() != null) {
@@ -331,6 +449,7 @@ public class ConsistentDeviceMastershipStore
 
         @Override
         public void event(LeadershipEvent event) {
+            updateLocalView(event);
             eventHandler.execute(() -> handleEvent(event));
         }
 
@@ -364,6 +483,23 @@ public class ConsistentDeviceMastershipStore
         }
     }
 
+    /**
+     * Leadership of a device as seen locally, along with the mastership info
+     * derived from it and the sequence number taken before it was read. The
+     * leadership is null if the view was invalidated.
+     */
+    private static final class LocalMastership {
+        private final Leadership leadership;
+        private final MastershipInfo mastership;
+        private final long sequence;
+
+        private LocalMastership(Leadership leadership, MastershipInfo mastership, long sequence) {
+            this.leadership = leadership;
+            this.mastership = mastership;
+            this.sequence = sequence;
+        }
+    }
+
     private String createDeviceMastershipTopic(DeviceId deviceId) {
         return String.format("%s%s", DEVICE_MASTERSHIP_TOPIC_PREFIX, deviceId.toString());
     }
@@ -15,6 +15,7 @@
  */
 package org.onosproject.store.meter.impl;
 
+import com.google.common.base.MoreObjects;
 import com.google.common.collect.Collections2;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
@@ -22,7 +23,14 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import org.apache.commons.lang.math.RandomUtils;
 import org.onlab.util.KryoNamespace;
+import org.onlab.util.SharedExecutors;
+import org.onosproject.cluster.ClusterService;
+import org.onosproject.cluster.ControllerNode;
+import org.onosproject.cluster.NodeId;
 import org.onosproject.core.ApplicationId;
+import org.onosproject.mastership.MastershipEvent;
+import org.onosproject.mastership.MastershipListener;
+import org.onosproject.mastership.MastershipService;
 import org.onosproject.net.DeviceId;
 import org.onosproject.net.behaviour.MeterQuery;
 import org.onosproject.net.driver.DriverHandler;
@@ -80,7 +88,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -120,6 +130,18 @@ public class DistributedMeterStore extends AbstractStore<MeterEvent, MeterStoreD
     // Atomic counter map for generation of new identifiers;
     private static final String METERIDSTORE = "onos-meters-id-store";
     private AtomicCounterMap<MeterTableKey> meterIdGenerators;
+    // Maximum number of identifiers leased at once by the master of a device.
+    // A block never takes more than a share of the meter table
+    private static final long MAX_METER_ID_BLOCK_SIZE = 64L;
+    private static final long METER_ID_BLOCK_TABLE_SHARE = 8L;
+    // Blocks of identifiers leased by this node
+    private final ConcurrentMap<MeterTableKey, MeterIdLease> meterIdLeases = new ConcurrentHashMap<>();
+    // Blocks of identifiers leased in the cluster, recorded until they are
+    // given back so that the blocks of failed nodes can be reclaimed
+    private static final String METERIDBLOCKSTORE = "onos-meters-id-block-store";
+    private ConsistentMap<MeterTableKey, MeterIdBlock> meterIdBlocks;
+    private final MastershipListener mastershipListener = new InternalMastershipListener();
+    private Executor leaseExecutor = SharedExecutors.getPoolThreadExecutor();
 
     // Serializer related objects
     private static final KryoNamespace.Builder APP_KRYO_BUILDER = KryoNamespace.newBuilder()
@@ -145,6 +167,12 @@ public class DistributedMeterStore extends AbstractStore<MeterEvent, MeterStoreD
     @Reference(cardinality = ReferenceCardinality.MANDATORY)
     protected DriverService driverService;
 
+    @Reference(cardinality = ReferenceCardinality.MANDATORY)
+    protected MastershipService mastershipService;
+
+    @Reference(cardinality = ReferenceCardinality.MANDATORY)
+    protected ClusterService clusterService;
+
     // Local cache to handle async ops through futures.
     private Map<MeterKey, CompletableFuture<MeterStoreResult>> futures =
             Maps.newConcurrentMap();
@@ -190,12 +218,23 @@ public class DistributedMeterStore extends AbstractStore<MeterEvent, MeterStoreD
                 .withSerializer(Serializer.using(KryoNamespaces.API,
                                                  MeterTableKey.class,
                                                  MeterScope.class)).build();
+        meterIdBlocks = storageService.<MeterTableKey, MeterIdBlock>consistentMapBuilder()
+                .withName(METERIDBLOCKSTORE)
+                .withSerializer(Serializer.using(KryoNamespaces.API,
+                                                 MeterTableKey.class,
+                                                 MeterScope.class,
+                                                 MeterIdBlock.class,
+                                                 NodeId.class)).build();
+        mastershipService.addListener(mastershipListener);
 
         log.info("Started");
     }
 
     @Deactivate
     public void deactivate() {
+        mastershipService.removeListener(mastershipListener);
+        // Give back the identifiers not used yet
+        meterIdLeases.keySet().forEach(this::releaseMeterIdLease);
         meters.removeListener(metersMapListener);
         metersFeatures.removeListener(featuresMapListener);
         meters.destroy();
@@ -606,13 +645,42 @@ public class DistributedMeterStore extends AbstractStore<MeterEvent, MeterStoreD
             return null;
         }
         MeterTableKey meterTableKey = MeterTableKey.key(deviceId, meterScope);
-        MeterCellId meterCellId;
+        // The master of the device allocates from a block of identifiers
+        // leased from the counter map, without further round trips
+        if (mastershipService.isLocalMaster(deviceId)) {
+            MeterIdLease lease = meterIdLeases.computeIfAbsent(meterTableKey, k -> new MeterIdLease());
+            synchronized (lease) {
+                return allocateMeterId(meterTableKey, lease);
+            }
+        }
+        return allocateMeterId(meterTableKey, null);
+    }
+
+    // Allocates a reusable identifier or a new one. If a lease is given,
+    // the identifiers freed locally and the rest of its block are used
+    // first; the shared reusable identifiers are drained, and a new block
+    // leased, only once they are exhausted
+    private MeterCellId allocateMeterId(MeterTableKey meterTableKey, MeterIdLease lease) {
+        DeviceId deviceId = meterTableKey.deviceId();
+        MeterScope meterScope = meterTableKey.scope();
         long id;
-        // First, search for reusable key
-        meterCellId = firstReusableMeterId(meterTableKey);
-        if (meterCellId != null) {
-            // A reusable key is found
-            return meterCellId;
+        if (lease != null && !lease.released) {
+            id = lease.pollFreeId();
+            if (id == -1L) {
+                id = lease.nextBlockId();
+            }
+            if (id != -1L) {
+                return meterCellId(meterScope, id);
+            }
+        } else {
+            // A lease given back meanwhile cannot hand out identifiers
+            lease = null;
+            // Search for reusable key
+            MeterCellId meterCellId = firstReusableMeterId(meterTableKey);
+            if (meterCellId != null) {
+                // A reusable key is found
+                return meterCellId;
+            }
         }
         // If there was no reusable meter id we have to generate a new value
         // using start and end index as lower and upper bound respectively.
@@ -632,6 +700,24 @@ public class DistributedMeterStore extends AbstractStore<MeterEvent, MeterStoreD
                 endIndex = maxMeters - 1;
             }
         }
+        if (lease != null) {
+            long blockSize = meterIdBlockSize(startIndex, endIndex);
+            // A block left behind by a failed node is given back first
+            boolean leasable = reclaimMeterIdBlock(meterTableKey, lease);
+            if (drainReusableMeterIds(meterTableKey, lease, blockSize)) {
+                return meterCellId(meterScope, lease.pollFreeId());
+            }
+            if (leasable) {
+                // If the table is exhausted, cannot proceed
+                if (!leaseMeterIdBlock(meterTableKey, lease, startIndex, endIndex, blockSize)) {
+                    return null;
+                }
+                return meterCellId(meterScope, lease.nextBlockId());
+            }
+            // The previous master still holds its block and gives it back
+            // once it notices the mastership change; until then the
+            // identifiers are taken one at a time
+        }
         // Get a new value
         // If the value is smaller than the start index, get another one
         do {
@@ -642,14 +728,139 @@ public class DistributedMeterStore extends AbstractStore<MeterEvent, MeterStoreD
             return null;
         }
         // Done, return the value
-        // If we are using global scope, return a MeterId
-        // Else, return a PiMeterId
+        return meterCellId(meterScope, id);
+    }
+
+    // If we are using global scope, return a MeterId
+    // Else, return a PiMeterId
+    private static MeterCellId meterCellId(MeterScope meterScope, long id) {
         if (meterScope.isGlobal()) {
             return MeterId.meterId(id);
         } else {
             return PiMeterCellId.ofIndirect(PiMeterId.of(meterScope.id()), id);
         }
+    }
+
+    // Returns the index of the given meter cell, or -1 if it has none
+    private static long meterIndex(MeterCellId meterCellId) {
+        if (meterCellId.type() == PIPELINE_INDEPENDENT) {
+            return ((PiMeterCellId) meterCellId).index();
+        } else if (meterCellId.type() == INDEX) {
+            return ((MeterId) meterCellId).id();
+        }
+        return -1L;
+    }
+
+    // Returns the number of identifiers leased at once for a meter table
+    private static long meterIdBlockSize(long startIndex, long endIndex) {
+        return Math.max(1L, Math.min(MAX_METER_ID_BLOCK_SIZE,
+                                     (endIndex - startIndex + 1) / METER_ID_BLOCK_TABLE_SHARE));
+    }
+
+    // Leases the next block of identifiers between the start and the end
+    // index. The counter never goes past the end index. Returns false if
+    // the meter table is exhausted
+    private boolean leaseMeterIdBlock(MeterTableKey meterTableKey, MeterIdLease lease,
+                                      long startIndex, long endIndex, long blockSize) {
+        long current;
+        long blockStart;
+        long blockEnd;
+        do {
+            current = meterIdGenerators.get(meterTableKey);
+            blockStart = Math.max(current, startIndex);
+            if (blockStart > endIndex) {
+                return false;
+            }
+            blockEnd = Math.min(blockStart + blockSize - 1, endIndex);
+        } while (!meterIdGenerators.replace(meterTableKey, current, blockEnd + 1));
+        MeterIdBlock block = new MeterIdBlock(clusterService.getLocalNode().id(), blockStart, blockEnd);
+        meterIdBlocks.put(meterTableKey, block);
+        lease.renew(block);
+        return true;
+    }
+
+    // Moves up to the given number of reusable identifiers of the meter
+    // table to the identifiers freed locally. Returns false if there is none
+    private boolean drainReusableMeterIds(MeterTableKey meterTableKey, MeterIdLease lease, long max) {
+        DistributedSet<MeterKey> keySet = availableMeterIds.get(meterTableKey);
+        if (keySet == null) {
+            // A reusable set should be inserted when a features is pushed
+            log.warn("Reusable Key set for device: {} scope: {} not found",
+                meterTableKey.deviceId(), meterTableKey.scope());
+            return false;
+        }
+        List<MeterKey> reusable = keySet.stream()
+                .filter(meterKey -> meterKey.deviceId().equals(meterTableKey.deviceId()))
+                .limit(max)
+                .collect(Collectors.toList());
+        // Other nodes may take some of them meanwhile
+        reusable.stream()
+                .filter(keySet::remove)
+                .forEach(meterKey -> lease.freeIds.add(meterIndex(meterKey.meterCellId())));
+        return !lease.freeIds.isEmpty();
+    }
+
+    // Gives back the identifiers leased but not allocated yet, as well as
+    // the ones freed locally, so that other nodes can reuse them
+    private void releaseMeterIdLease(MeterTableKey meterTableKey) {
+        MeterIdLease lease = meterIdLeases.remove(meterTableKey);
+        if (lease == null) {
+            return;
+        }
+        synchronized (lease) {
+            lease.released = true;
+            // Whoever removes the block gives its identifiers back; if the
+            // new master reclaimed it already, only the identifiers drained
+            // from other blocks are left to give back
+            boolean owned = lease.block != null && meterIdBlocks.remove(meterTableKey, lease.block);
+            for (long id = lease.pollFreeId(); id != -1L; id = lease.pollFreeId()) {
+                if (owned || !lease.contains(id)) {
+                    updateMeterIdAvailability(meterTableKey, meterCellId(meterTableKey.scope(), id), true);
+                }
+            }
+            if (!owned) {
+                return;
+            }
+            for (long id = lease.nextBlockId(); id != -1L; id = lease.nextBlockId()) {
+                updateMeterIdAvailability(meterTableKey, meterCellId(meterTableKey.scope(), id), true);
+            }
+        }
+    }
 
+    // Gives back the identifiers of a block still recorded for the meter
+    // table by a node that failed or restarted while holding it; the
+    // identifiers used by the stored meters are kept. The block of an
+    // active node is left alone, as that node may have handed out
+    // identifiers not stored yet: it gives the block back itself once it
+    // is no longer the master. Returns false while such a block is recorded
+    private boolean reclaimMeterIdBlock(MeterTableKey meterTableKey, MeterIdLease lease) {
+        Versioned<MeterIdBlock> recorded = meterIdBlocks.get(meterTableKey);
+        if (recorded == null || recorded.value().equals(lease.block)) {
+            return true;
+        }
+        MeterIdBlock block = recorded.value();
+        NodeId localNodeId = clusterService.getLocalNode().id();
+        if (!block.owner().equals(localNodeId) && isActive(block.owner())) {
+            return false;
+        }
+        if (!meterIdBlocks.remove(meterTableKey, recorded.version())) {
+            return false;
+        }
+        log.info("Reclaiming meter ids {} to {} of device: {} scope: {} leased by {}", block.start(),
+                 block.end(), meterTableKey.deviceId(), meterTableKey.scope(), block.owner());
+        DeviceId deviceId = meterTableKey.deviceId();
+        for (long id = block.start(); id <= block.end(); id++) {
+            MeterCellId meterCellId = meterCellId(meterTableKey.scope(), id);
+            if (!metersMap.containsKey(MeterKey.key(deviceId, meterCellId))) {
+                updateMeterIdAvailability(meterTableKey, meterCellId, true);
+            }
+        }
+        return true;
+    }
+
+    private boolean isActive(NodeId nodeId) {
+        ControllerNode.State state = clusterService.getState(nodeId);
+        return state != null && state.isActive();
     }
 
     @Override
@@ -663,16 +874,20 @@ public class DistributedMeterStore extends AbstractStore<MeterEvent, MeterStoreD
             log.warn("Unable to free meter id when user defined index mode is enabled");
             return;
         }
-        long index;
-        if (meterCellId.type() == PIPELINE_INDEPENDENT) {
-            PiMeterCellId piMeterCellId = (PiMeterCellId) meterCellId;
-            index = piMeterCellId.index();
-        } else if (meterCellId.type() == INDEX) {
-            MeterId meterId = (MeterId) meterCellId;
-            index = meterId.id();
-        } else {
+        long index = meterIndex(meterCellId);
+        if (index == -1L) {
             return;
         }
+        // Identifiers of the local block are kept for local reuse
+        MeterIdLease lease = meterIdLeases.get(meterTableKey);
+        if (lease != null) {
+            synchronized (lease) {
+                if (lease.contains(index)) {
+                    lease.free(index);
+                    return;
+                }
+            }
+        }
         // Avoid to free meter not allocated
         if (meterIdGenerators.get(meterTableKey) <= index) {
             return;
@@ -756,7 +971,16 @@ public class DistributedMeterStore extends AbstractStore<MeterEvent, MeterStoreD
                     insertAvailableKeySet(meterTableKey, setName);
                     break;
                 case REMOVE:
-                    // Remove the set
+                    // Drop the lease and remove the set
+                    MeterIdLease lease = meterIdLeases.remove(meterTableKey);
+                    if (lease != null) {
+                        synchronized (lease) {
+                            lease.released = true;
+                            if (lease.block != null) {
+                                meterIdBlocks.remove(meterTableKey, lease.block);
+                            }
+                        }
+                    }
                     DistributedSet<MeterKey> set = availableMeterIds.remove(meterTableKey);
                     if (set != null) {
                         set.destroy();
@@ -768,6 +992,120 @@ public class DistributedMeterStore extends AbstractStore<MeterEvent, MeterStoreD
         }
     }
 
+    private class InternalMastershipListener implements MastershipListener {
+        @Override
+        public boolean isRelevant(MastershipEvent event) {
+            return event.type() == MastershipEvent.Type.MASTER_CHANGED ||
+                    event.type() == MastershipEvent.Type.SUSPENDED;
+        }
+
+        @Override
+        public void event(MastershipEvent event) {
+            DeviceId deviceId = event.subject();
+            if (mastershipService.isLocalMaster(deviceId)) {
+                return;
+            }
+            // Leases are held only by the master of the device
+            leaseExecutor.execute(
+                    () -> meterIdLeases.keySet().stream()
+                            .filter(key -> key.deviceId().equals(deviceId))
+                            .forEach(DistributedMeterStore.this::releaseMeterIdLease));
+        }
+    }
+
+    /**
+     * Block of meter identifiers leased by this node for a meter table,
+     * along with the identifiers freed locally or drained from the reusable
+     * ones. Guarded by itself.
+     */
+    private static final class MeterIdLease {
+        private MeterIdBlock block;
+        private long next;
+        private final TreeSet<Long> freeIds = new TreeSet<>();
+        // Whether the lease has been given back
+        private boolean released;
+
+        // Returns the lowest identifier freed locally, or -1 if there is none
+        private long pollFreeId() {
+            Long id = freeIds.pollFirst();
+            return id == null ? -1L : id;
+        }
+
+        // Returns the next identifier of the block, or -1 if the block is exhausted
+        private long nextBlockId() {
+            return block != null && next <= block.end() ? next++ : -1L;
+        }
+
+        private void renew(MeterIdBlock block) {
+            this.block = block;
+            this.next = block.start();
+        }
+
+        private boolean contains(long id) {
+            return block != null && id >= block.start() && id <= block.end();
+        }
+
+        private void free(long id) {
+            // Values not handed out yet are not allocated
+            if (id < next) {
+                freeIds.add(id);
+            }
+        }
+    }
+
+    /**
+     * Range of meter identifiers leased by a node, as recorded in the store.
+     */
+    static final class MeterIdBlock {
+        private final NodeId owner;
+        private final long start;
+        private final long end;
+
+        MeterIdBlock(NodeId owner, long start, long end) {
+            this.owner = owner;
+            this.start = start;
+            this.end = end;
+        }
+
+        NodeId owner() {
+            return owner;
+        }
+
+        long start() {
+            return start;
+        }
+
+        long end() {
+            return end;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof MeterIdBlock)) {
+                return false;
+            }
+            MeterIdBlock other = (MeterIdBlock) obj;
+            return Objects.equals(owner, other.owner) && start == other.start && end == other.end;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(owner, start, end);
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this)
+                    .add("owner", owner)
+                    .add("start", start)
+                    .add("end", end)
+                    .toString();
+        }
+    }
+
     private void insertAvailableKeySet(MeterTableKey meterTableKey, String setName) {
         DistributedSet<MeterKey> availableMeterIdSet =
             new DefaultDistributedSet<>(storageService.<MeterKey>setBuilder()
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.store.app;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.junit.Before;
+import org.junit.Test;
+import org.onosproject.core.Application;
+import org.onosproject.core.ApplicationRole;
+import org.onosproject.core.DefaultApplication;
+import org.onosproject.core.DefaultApplicationId;
+import org.onosproject.core.Version;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of the application activation scheduler.
+ */
+public class AppActivationSchedulerTest {
+
+    private final List<Runnable> queued = Lists.newArrayList();
+    private final List<String> installed = Lists.newArrayList();
+    private final List<String> activated = Lists.newArrayList();
+    private final Set<String> started = Sets.newConcurrentHashSet();
+    private Consumer<Application> onInstall = app -> { };
+    private AppActivationScheduler scheduler;
+
+    @Before
+    public void setUp() {
+        scheduler = new AppActivationScheduler(queued::add, app -> {
+            installed.add(app.id().name());
+            onInstall.accept(app);
+        }, app -> {
+            activated.add(app.id().name());
+            started.add(app.id().name());
+        }, started::contains);
+    }
+
+    private static Application app(String name, String... requiredApps) {
+        return DefaultApplication.builder()
+                .withAppId(new DefaultApplicationId(name.hashCode(), name))
+                .withVersion(Version.version("1.0.0"))
+                .withTitle(name)
+                .withDescription(name)
+                .withOrigin("ONF")
+                .withCategory("test")
+                .withReadme("")
+                .withRole(ApplicationRole.USER)
+                .withPermissions(ImmutableSet.of())
+                .withFeaturesRepo(Optional.empty())
+                .withFeatures(ImmutableList.of(name))
+                .withRequiredApps(ImmutableList.copyOf(requiredApps))
+                .build();
+    }
+
+    // Runs the queued activations until none is left.
+    private void runAll() {
+        while (!queued.isEmpty()) {
+            queued.remove(0).run();
+        }
+    }
+
+    /**
+     * Checks that independent applications are activated right away, while
+     * dependent ones wait for their required applications.
+     */
+    @Test
+    public void dependencyOrder() {
+        scheduler.submit(app("c", "a", "b"));
+        scheduler.submit(app("a"));
+        scheduler.submit(app("b"));
+        scheduler.submit(app("d", "c"));
+
+        assertThat(queued.size(), is(2));
+        assertThat(scheduler.postponed(), contains("c", "d"));
+        assertFalse(scheduler.isSettled(0));
+
+        runAll();
+        assertThat(activated, contains("a", "b", "c", "d"));
+        assertThat(scheduler.postponed(), empty());
+        assertTrue(scheduler.isSettled(0));
+        assertThat(scheduler.timings().keySet(), is(ImmutableSet.of("a", "b", "c", "d")));
+    }
+
+    /**
+     * Checks that applications whose required applications never start stay
+     * postponed.
+     */
+    @Test
+    public void missingRequiredApp() {
+        scheduler.submit(app("b", "a"));
+        runAll();
+        assertThat(activated, empty());
+        assertThat(scheduler.postponed(), contains("b"));
+        assertTrue(scheduler.report().contains("Postponed"));
+    }
+
+    /**
+     * Checks that cancelled activations are not run.
+     */
+    @Test
+    public void cancel() {
+        scheduler.submit(app("a"));
+        scheduler.submit(app("b", "a"));
+        scheduler.submit(app("c"));
+        scheduler.cancel("b");
+        scheduler.cancel("c");
+        runAll();
+        assertThat(activated, contains("a"));
+        assertThat(scheduler.postponed(), empty());
+        assertTrue(scheduler.isSettled(0));
+
+        // A later activation request goes through
+        scheduler.submit(app("c"));
+        runAll();
+        assertThat(activated, contains("a", "c"));
+    }
+
+    /**
+     * Checks that an activation cancelled while the application was being
+     * installed is not published, and that the cancellation action runs.
+     */
+    @Test
+    public void cancelDuringInstall() {
+        List<String> cancelled = Lists.newArrayList();
+        onInstall = app -> scheduler.cancel(app.id().name(), () -> cancelled.add(app.id().name()));
+        scheduler.submit(app("a"));
+        scheduler.submit(app("b", "a"));
+        runAll();
+        assertThat(installed, contains("a"));
+        assertThat(cancelled, contains("a"));
+        assertThat(activated, empty());
+        assertThat(scheduler.postponed(), contains("b"));
+        assertTrue(scheduler.timings().isEmpty());
+
+        // A later activation request goes through
+        onInstall = app -> { };
+        scheduler.submit(app("a"));
+        runAll();
+        assertThat(activated, contains("a", "b"));
+    }
+
+    /**
+     * Checks that the critical path follows the required applications which
+     * finished last.
+     */
+    @Test
+    public void criticalPath() {
+        scheduler.submit(app("a"));
+        scheduler.submit(app("b"));
+        scheduler.submit(app("c", "a", "b"));
+        scheduler.submit(app("e"));
+        runAll();
+        scheduler.submit(app("d", "c"));
+        runAll();
+
+        List<String> path = scheduler.criticalPath().stream()
+                .map(AppActivationScheduler.Timing::name)
+                .collect(Collectors.toList());
+        assertThat(path.get(path.size() - 1), is("d"));
+        assertThat(path.get(path.size() - 2), is("c"));
+        assertThat(path.size(), is(3));
+        assertTrue(scheduler.report().contains("Activated 5 applications"));
+    }
+}
@@ -18,18 +18,24 @@ package org.onosproject.store.config.impl;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.onlab.metrics.MetricsManager;
 import org.onosproject.net.config.Config;
 import org.onosproject.net.config.ConfigFactory;
 import org.onosproject.net.config.SubjectFactory;
 import org.onosproject.store.service.TestStorageService;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 
 import java.util.Set;
 
@@ -44,6 +50,7 @@ public class DistributedNetworkConfigStoreTest {
     public void setUp() {
         configStore = new DistributedNetworkConfigStore();
         configStore.storageService = new TestStorageService();
+        configStore.metricsService = new MetricsManager();
         configStore.setDelegate(event -> { });
         configStore.activate();
     }
@@ -235,4 +242,54 @@ public class DistributedNetworkConfigStoreTest {
 
         assertThat(newConfig1, notNullValue());
     }
+
+    /**
+     * Tests that configs are served from the cache until they change, and
+     * that the cached configs can not be modified.
+     */
+    @Test
+    public void testCachedConfig() {
+        configStore.addConfigFactory(new MockConfigFactory(BasicConfig.class, "config1"));
+        assertThat(configStore.getConfig("subject", BasicConfig.class), nullValue());
+
+        ObjectNode json = new ObjectMapper().createObjectNode().put("field", "value1");
+        json.putArray("list").add("item");
+        configStore.applyConfig("subject", BasicConfig.class, json);
+        BasicConfig queried = configStore.getConfig("subject", BasicConfig.class);
+        assertThat(queried.node().get("field").asText(), is("value1"));
+        assertThat(configStore.getConfig("subject", BasicConfig.class), sameInstance(queried));
+
+        // Neither the applied JSON nor the cached config change each other
+        json.put("field", "modified");
+        assertThat(queried.node().get("field").asText(), is("value1"));
+        try {
+            ((ObjectNode) queried.node()).put("field", "modified");
+            fail("Cached config was modified");
+        } catch (UnsupportedOperationException e) {
+            assertThat(queried.node().get("field").asText(), is("value1"));
+        }
+        try {
+            ((ArrayNode) queried.node().get("list")).add("other");
+            fail("Cached config was modified");
+        } catch (UnsupportedOperationException e) {
+            assertThat(queried.node().get("list").size(), is(1));
+        }
+
+        // Applying the cached config stores a modifiable copy of it
+        queried.apply();
+        BasicConfig added = configStore.createConfig("subject", BasicConfig.class);
+        ((ObjectNode) added.node()).put("field", "added");
+        added.apply();
+        BasicConfig requeried = configStore.getConfig("subject", BasicConfig.class);
+        assertThat(requeried, not(sameInstance(queried)));
+        assertThat(requeried.node().get("field").asText(), is("added"));
+
+        configStore.applyConfig("subject", BasicConfig.class,
+                                new ObjectMapper().createObjectNode().put("field", "value2"));
+        assertThat(configStore.getConfig("subject", BasicConfig.class).node().get("field").asText(),
+                   is("value2"));
+
+        configStore.clearConfig("subject", BasicConfig.class);
+        assertThat(configStore.getConfig("subject", BasicConfig.class), nullValue());
+    }
 }
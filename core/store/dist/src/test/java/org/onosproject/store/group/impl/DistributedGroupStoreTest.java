@@ -16,6 +16,7 @@
 package org.onosproject.store.group.impl;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.testing.EqualsTester;
 import org.junit.After;
@@ -58,6 +59,7 @@ import org.onosproject.store.service.TestStorageService;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import static org.easymock.EasyMock.*;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -624,6 +626,47 @@ public class DistributedGroupStoreTest {
         assertEquals(treatment2, onlyBucket.treatment());
     }
 
+    /**
+     * Tests that the per device index of the groups follows additions and
+     * removals, and that reads do not create entries for unknown devices.
+     */
+    @Test
+    public void testGroupKeyIndex() throws Exception {
+        Map<DeviceId, Map<GroupKey, ?>> index =
+                TestUtils.getField(groupStoreImpl, "groupEntriesByDevice");
+        groupStore.deviceInitialAuditCompleted(deviceId1, true);
+        groupStore.deviceInitialAuditCompleted(deviceId2, true);
+
+        // Reads and purges of devices without groups leave the index empty
+        DeviceId deviceId3 = did("dev3");
+        assertThat(groupStore.getGroupCount(deviceId3), is(0));
+        assertThat(groupStore.getGroups(deviceId3).iterator().hasNext(), is(false));
+        assertThat(groupStore.getGroup(deviceId3, groupKey1), nullValue());
+        groupStore.purgeGroupEntry(deviceId3);
+        groupStore.purgeGroupEntries(deviceId3, APP_ID);
+        assertThat(index.isEmpty(), is(true));
+
+        groupStore.storeGroupDescription(groupDescription1);
+        groupStore.storeGroupDescription(groupDescription5);
+        groupStore.storeGroupDescription(groupDescription2);
+        groupStore.storeGroupDescription(groupDescription4);
+        assertThat(index.keySet(), is(ImmutableSet.of(deviceId1, deviceId2)));
+        assertThat(index.get(deviceId1).keySet(), is(ImmutableSet.of(groupKey1, groupKey5)));
+        assertThat(index.get(deviceId2).keySet(), is(ImmutableSet.of(groupKey2, groupKey4)));
+        assertThat(groupStore.getGroupCount(deviceId1), is(2));
+        assertThat(groupStore.getGroup(deviceId1, groupKey5).id(), is(groupId5));
+
+        // Removing the last group of a device drops its table
+        groupStore.purgeGroupEntries(deviceId2, APP_ID);
+        assertThat(index.get(deviceId2).keySet(), is(ImmutableSet.of(groupKey4)));
+        groupStore.removeGroupEntry(groupStore.getGroup(deviceId2, groupKey4));
+        assertThat(index.containsKey(deviceId2), is(false));
+
+        groupStore.purgeGroupEntry(deviceId1);
+        assertThat(index.isEmpty(), is(true));
+        assertThat(groupStore.getGroupCount(deviceId1), is(0));
+    }
+
     @Test
     public void testEqualsGroupStoreIdMapKey() {
         DistributedGroupStore.GroupStoreIdMapKey key1 =
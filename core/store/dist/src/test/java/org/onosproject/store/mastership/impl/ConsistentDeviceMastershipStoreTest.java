@@ -0,0 +1,259 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.store.mastership.impl;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.onosproject.cluster.ClusterServiceAdapter;
+import org.onosproject.cluster.Leader;
+import org.onosproject.cluster.Leadership;
+import org.onosproject.cluster.LeadershipAdminService;
+import org.onosproject.cluster.LeadershipEvent;
+import org.onosproject.cluster.LeadershipEventListener;
+import org.onosproject.cluster.LeadershipServiceAdapter;
+import org.onosproject.cluster.NodeId;
+import org.onosproject.net.DeviceId;
+import org.onosproject.net.MastershipRole;
+import org.onosproject.store.cluster.messaging.ClusterCommunicationServiceAdapter;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.onosproject.net.DeviceId.deviceId;
+
+/**
+ * Test of the local mastership view of the consistent device mastership store.
+ */
+public class ConsistentDeviceMastershipStoreTest {
+
+    private static final String TOPIC_PREFIX = "device-mastership:";
+
+    private static final NodeId N1 = new NodeId("local");
+    private static final NodeId N2 = new NodeId("other");
+
+    private static final DeviceId DID1 = deviceId("of:01");
+    private static final DeviceId DID2 = deviceId("of:02");
+
+    private ConsistentDeviceMastershipStore store;
+    private TestLeadershipService leadershipService;
+
+    @Before
+    public void setUp() {
+        leadershipService = new TestLeadershipService();
+        store = new ConsistentDeviceMastershipStore();
+        store.leadershipService = leadershipService;
+        store.leadershipAdminService = new TestLeadershipAdminService();
+        store.clusterService = new ClusterServiceAdapter();
+        store.clusterCommunicator = new ClusterCommunicationServiceAdapter();
+        store.activate();
+    }
+
+    @After
+    public void tearDown() {
+        store.deactivate();
+    }
+
+    @Test
+    public void readsServedFromView() {
+        leadershipService.elect(DID1, N1, N1, N2);
+        assertEquals(N1, store.getMaster(DID1));
+        assertEquals(MastershipRole.STANDBY, store.getRole(N2, DID1));
+        assertEquals(1, leadershipService.reads);
+
+        // Unknown devices are read from the leader elector each time
+        assertNull(store.getMaster(DID2));
+        assertNull(store.getMaster(DID2));
+        assertEquals(3, leadershipService.reads);
+    }
+
+    @Test
+    public void eventsUpdateView() {
+        leadershipService.elect(DID1, N1, N1, N2);
+        assertEquals(N1, store.getMaster(DID1));
+
+        leadershipService.notify(LeadershipEvent.Type.LEADER_CHANGED, leadershipService.elect(DID1, N2, N2, N1));
+        assertEquals(N2, store.getMaster(DID1));
+        assertEquals(MastershipRole.STANDBY, store.getRole(N1, DID1));
+        assertEquals(1, leadershipService.reads);
+
+        leadershipService.notify(LeadershipEvent.Type.SERVICE_DISRUPTED, leadershipService.leadership(DID1));
+        assertEquals(N2, store.getMaster(DID1));
+        assertEquals(2, leadershipService.reads);
+    }
+
+    @Test
+    public void readDoesNotReplaceLaterEvent() {
+        Leadership stale = leadershipService.elect(DID1, N1, N1, N2);
+        Leadership update = new Leadership(stale.topic(), new Leader(N2, 2, 0), ImmutableList.of(N2, N1));
+        // The event is delivered while the stale leadership is being read
+        leadershipService.duringRead = () -> leadershipService.notify(LeadershipEvent.Type.LEADER_CHANGED, update);
+
+        assertEquals(N2, store.getMaster(DID1));
+        assertEquals(N2, store.getMaster(DID1));
+        assertEquals(1, leadershipService.reads);
+    }
+
+    @Test
+    public void reconcile() {
+        leadershipService.elect(DID1, N1, N1, N2);
+        leadershipService.elect(DID2, N1, N1);
+        assertEquals(N1, store.getMaster(DID1));
+        assertEquals(N1, store.getMaster(DID2));
+        assertEquals(2, leadershipService.reads);
+
+        // Changes whose events were missed are picked up by the reconciliation
+        leadershipService.elect(DID1, N2, N2);
+        leadershipService.leaderships.remove(DID2);
+        store.reconcileLocalView();
+        assertEquals(N2, store.getMaster(DID1));
+        assertEquals(MastershipRole.NONE, store.getRole(N1, DID1));
+        assertEquals(2, leadershipService.reads);
+
+        // Devices no longer elected are dropped from the view
+        assertNull(store.getMaster(DID2));
+        assertEquals(3, leadershipService.reads);
+    }
+
+    @Test
+    public void setMasterInvalidatesView() {
+        leadershipService.elect(DID1, N1, N1, N2);
+        assertEquals(N1, store.getMaster(DID1));
+
+        // The handoff lands before its event is received
+        store.setMaster(N2, DID1);
+        leadershipService.elect(DID1, N2, N2, N1);
+        assertEquals(N2, store.getMaster(DID1));
+        assertEquals(MastershipRole.STANDBY, store.getRole(N1, DID1));
+        assertEquals(2, leadershipService.reads);
+    }
+
+    @Test
+    public void setStandbyInvalidatesView() {
+        leadershipService.elect(DID1, N1, N1, N2);
+        assertEquals(MastershipRole.MASTER, store.getRole(N1, DID1));
+
+        store.setStandby(N1, DID1);
+        leadershipService.elect(DID1, N2, N2, N1);
+        assertEquals(MastershipRole.STANDBY, store.getRole(N1, DID1));
+        assertEquals(2, leadershipService.reads);
+    }
+
+    @Test
+    public void relinquishInvalidatesView() {
+        leadershipService.elect(DID1, N1, N1, N2);
+        assertEquals(N1, store.getMaster(DID1));
+
+        store.relinquishRole(N1, DID1);
+        assertEquals(N2, store.getMaster(DID1));
+        assertEquals(MastershipRole.NONE, store.getRole(N1, DID1));
+    }
+
+    private static String topic(DeviceId deviceId) {
+        return TOPIC_PREFIX + deviceId;
+    }
+
+    private class TestLeadershipService extends LeadershipServiceAdapter {
+        private final Map<DeviceId, Leadership> leaderships = Maps.newConcurrentMap();
+        private LeadershipEventListener listener;
+        private Runnable duringRead;
+        private int reads;
+
+        Leadership elect(DeviceId deviceId, NodeId leader, NodeId... candidates) {
+            Leadership leadership = new Leadership(topic(deviceId), new Leader(leader, 1, 0),
+                                                   ImmutableList.copyOf(candidates));
+            leaderships.put(deviceId, leadership);
+            return leadership;
+        }
+
+        Leadership leadership(DeviceId deviceId) {
+            return leaderships.get(deviceId);
+        }
+
+        void notify(LeadershipEvent.Type type, Leadership leadership) {
+            listener.event(new LeadershipEvent(type, leadership));
+        }
+
+        private Leadership lookup(String path) {
+            return leaderships.get(deviceId(path.substring(TOPIC_PREFIX.length())));
+        }
+
+        @Override
+        public Leadership getLeadership(String path) {
+            reads++;
+            Leadership leadership = lookup(path);
+            if (duringRead != null) {
+                duringRead.run();
+            }
+            return leadership;
+        }
+
+        @Override
+        public NodeId getLeader(String path) {
+            Leadership leadership = lookup(path);
+            return leadership == null ? null : leadership.leaderNodeId();
+        }
+
+        @Override
+        public List<NodeId> getCandidates(String path) {
+            Leadership leadership = lookup(path);
+            return leadership == null ? ImmutableList.of() : leadership.candidates();
+        }
+
+        @Override
+        public void withdraw(String path) {
+            // Only used with a remaining candidate, which takes over
+            Leadership leadership = lookup(path);
+            NodeId[] candidates = leadership.candidates().stream()
+                    .filter(nodeId -> !nodeId.equals(N1))
+                    .toArray(NodeId[]::new);
+            elect(deviceId(path.substring(TOPIC_PREFIX.length())), candidates[0], candidates);
+        }
+
+        @Override
+        public void addListener(LeadershipEventListener listener) {
+            this.listener = listener;
+        }
+    }
+
+    private class TestLeadershipAdminService implements LeadershipAdminService {
+        @Override
+        public boolean transferLeadership(String topic, NodeId nodeId) {
+            return true;
+        }
+
+        @Override
+        public boolean promoteToTopOfCandidateList(String topic, NodeId nodeId) {
+            return true;
+        }
+
+        @Override
+        public void unregister(NodeId nodeId) {
+        }
+
+        @Override
+        public Map<String, Leadership> getLeaderBoard() {
+            ImmutableMap.Builder<String, Leadership> builder = ImmutableMap.builder();
+            leadershipService.leaderships.values().forEach(l -> builder.put(l.topic(), l));
+            return builder.build();
+        }
+    }
+}
@@ -17,13 +17,22 @@
 package org.onosproject.store.meter.impl;
 
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.MoreExecutors;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.onlab.junit.TestUtils;
 import org.onlab.util.KryoNamespace;
 import org.onosproject.TestApplicationId;
+import org.onosproject.cluster.ClusterServiceAdapter;
+import org.onosproject.cluster.ControllerNode;
+import org.onosproject.cluster.NodeId;
+import org.onosproject.mastership.MastershipEvent;
+import org.onosproject.mastership.MastershipInfo;
+import org.onosproject.mastership.MastershipListener;
+import org.onosproject.mastership.MastershipServiceAdapter;
 import org.onosproject.net.DeviceId;
+import org.onosproject.net.MastershipRole;
 import org.onosproject.net.behaviour.MeterQuery;
 import org.onosproject.net.driver.Behaviour;
 import org.onosproject.net.driver.Driver;
@@ -45,12 +54,15 @@ import org.onosproject.net.meter.MeterState;
 import org.onosproject.net.meter.MeterTableKey;
 import org.onosproject.net.pi.model.PiMeterId;
 import org.onosproject.net.pi.runtime.PiMeterCellId;
+import org.onosproject.store.service.AtomicCounterMap;
+import org.onosproject.store.service.ConsistentMap;
 import org.onosproject.store.service.Serializer;
 import org.onosproject.store.service.TestStorageService;
 
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
@@ -66,17 +78,24 @@ import static org.onosproject.net.NetTestTools.did;
 public class DistributedMeterStoreTest {
     // Store under testing
     private DistributedMeterStore meterStore;
+    private TestMastershipService mastershipService;
 
     // Device ids used during the tests
     private DeviceId did1 = did("1");
     private DeviceId did2 = did("2");
     private DeviceId did3 = did("3");
     private DeviceId did4 = did("4");
+    private DeviceId did5 = did("5");
+
+    // Nodes holding meter id blocks during the tests
+    private static final NodeId ACTIVE_NODE = NodeId.nodeId("active");
+    private static final NodeId FAILED_NODE = NodeId.nodeId("failed");
 
     // Meter ids used during the tests
     private MeterId mid1 = MeterId.meterId(1);
     private MeterId mid2 = MeterId.meterId(2);
     private MeterId mid3 = MeterId.meterId(3);
+    private MeterId mid5 = MeterId.meterId(5);
     private MeterId mid10 = MeterId.meterId(10);
     private MeterCellId cid4 = PiMeterCellId.ofIndirect(
             PiMeterId.of("foo"), 4);
@@ -141,6 +160,16 @@ public class DistributedMeterStoreTest {
             .withMaxBands((byte) 0)
             .withMaxColors((byte) 0)
             .build();
+    private MeterFeatures mef5 = DefaultMeterFeatures.builder().forDevice(did5)
+            .withStartIndex(1L)
+            .withEndIndex(100L)
+            .withBandTypes(new HashSet<>())
+            .withUnits(new HashSet<>())
+            .hasStats(false)
+            .hasBurst(false)
+            .withMaxBands((byte) 0)
+            .withMaxColors((byte) 0)
+            .build();
     private MeterFeatures mef3 = DefaultMeterFeatures.builder().forDevice(did3)
             .withStartIndex(0L)
             .withEndIndex(10L)
@@ -160,6 +189,10 @@ public class DistributedMeterStoreTest {
         // Let's initialize some internal services
         TestUtils.setField(meterStore, "storageService", new TestStorageService());
         TestUtils.setField(meterStore, "driverService", new TestDriverService());
+        mastershipService = new TestMastershipService();
+        TestUtils.setField(meterStore, "mastershipService", mastershipService);
+        TestUtils.setField(meterStore, "clusterService", new TestClusterService());
+        TestUtils.setField(meterStore, "leaseExecutor", MoreExecutors.directExecutor());
 
         // Inject TestApplicationId into the DistributedMeterStore serializer
         KryoNamespace.Builder testKryoBuilder = TestUtils.getField(meterStore, "APP_KRYO_BUILDER");
@@ -184,6 +217,15 @@ public class DistributedMeterStoreTest {
         // Let's store feature for device 2
         meterStore.storeMeterFeatures(mef2);
         meterStore.storeMeterFeatures(mef3);
+        meterStore.storeMeterFeatures(mef5);
+    }
+
+    // Returns the ids that can be reused for the given device
+    private Set<MeterCellId> availableIds(DeviceId deviceId) {
+        MeterTableKey globalKey = MeterTableKey.key(deviceId, MeterScope.globalScope());
+        Set<MeterCellId> available = new HashSet<>();
+        meterStore.availableMeterIds.get(globalKey).forEach(key -> available.add(key.meterCellId()));
+        return available;
     }
 
     /**
@@ -334,6 +376,145 @@ public class DistributedMeterStoreTest {
         assertNull(meterStore.allocateMeterId(did1));
     }
 
+    /**
+     * Test that the leased blocks follow the size of the meter table.
+     */
+    @Test
+    public void testLeaseBoundedByTable() {
+        // Init the store
+        initMeterStore(false);
+        AtomicCounterMap<MeterTableKey> meterIdGenerators = TestUtils.getField(meterStore, "meterIdGenerators");
+        // A table of 100 meters is leased in blocks of 12 ids
+        assertThat(mid1, is(meterStore.allocateMeterId(did5)));
+        assertThat(meterIdGenerators.get(MeterTableKey.key(did5, MeterScope.globalScope())), is(13L));
+        // A table of 9 meters is leased one id at a time
+        MeterTableKey globalKey = MeterTableKey.key(did2, MeterScope.globalScope());
+        for (long id = 1; id <= 9; id++) {
+            assertThat(MeterId.meterId(id), is(meterStore.allocateMeterId(did2)));
+            assertThat(meterIdGenerators.get(globalKey), is(id + 1));
+        }
+        // The counter does not go past the end of the table
+        assertNull(meterStore.allocateMeterId(did2));
+        assertThat(meterIdGenerators.get(globalKey), is(10L));
+    }
+
+    /**
+     * Test that the master reuses the freed ids once its block is exhausted.
+     */
+    @Test
+    public void testReuseAfterBlock() {
+        // Init the store
+        initMeterStore(false);
+        // Id 1 is allocated by another node
+        mastershipService.setMaster(false);
+        assertThat(mid1, is(meterStore.allocateMeterId(did5)));
+        // The master leases a new block
+        mastershipService.setMaster(true);
+        assertThat(mid2, is(meterStore.allocateMeterId(did5)));
+        // Id 1 is freed and reused once the rest of the block is allocated
+        meterStore.freeMeterId(did5, mid1);
+        assertThat(availableIds(did5), is(Collections.singleton(mid1)));
+        for (long id = 3; id <= 13; id++) {
+            assertThat(MeterId.meterId(id), is(meterStore.allocateMeterId(did5)));
+        }
+        assertThat(availableIds(did5), is(Collections.singleton(mid1)));
+        assertThat(mid1, is(meterStore.allocateMeterId(did5)));
+        assertTrue(availableIds(did5).isEmpty());
+        assertThat(MeterId.meterId(14), is(meterStore.allocateMeterId(did5)));
+    }
+
+    /**
+     * Test the release of the leased meter ids on mastership change.
+     */
+    @Test
+    public void testReleaseLeasedIds() {
+        // Init the store
+        initMeterStore(false);
+        // Lease a block and allocate ids 1 and 2
+        assertThat(mid1, is(meterStore.allocateMeterId(did5)));
+        assertThat(mid2, is(meterStore.allocateMeterId(did5)));
+        // Free id 1 locally
+        meterStore.freeMeterId(did5, mid1);
+        assertTrue(availableIds(did5).isEmpty());
+        // Mastership moves away, the lease is given back
+        mastershipService.setMaster(false);
+        mastershipService.listener.event(new MastershipEvent(MastershipEvent.Type.MASTER_CHANGED, did5,
+                                                             new MastershipInfo()));
+        Set<MeterCellId> released = availableIds(did5);
+        // All the ids of the block but the allocated one are reusable
+        assertThat(released.size(), is(11));
+        assertFalse(released.contains(mid2));
+        assertTrue(released.contains(meterStore.allocateMeterId(did5)));
+        ConsistentMap<MeterTableKey, ?> meterIdBlocks = TestUtils.getField(meterStore, "meterIdBlocks");
+        assertFalse(meterIdBlocks.containsKey(MeterTableKey.key(did5, MeterScope.globalScope())));
+    }
+
+    /**
+     * Test the reclaim of a block leased by a failed node.
+     */
+    @Test
+    public void testReclaimLeasedIds() {
+        // Init the store
+        initMeterStore(false);
+        // Another node leased ids 1 to 12, used id 5 and failed
+        MeterTableKey globalKey = leaseForeignBlock(FAILED_NODE);
+        // The new master gives back the unused ids and reuses them
+        assertThat(mid1, is(meterStore.allocateMeterId(did5)));
+        assertFalse(meterIdBlocks().containsKey(globalKey));
+        Set<MeterCellId> allocated = new HashSet<>();
+        for (int i = 0; i < 10; i++) {
+            allocated.add(meterStore.allocateMeterId(did5));
+        }
+        assertThat(allocated.size(), is(10));
+        assertFalse(allocated.contains(mid5));
+        assertTrue(availableIds(did5).isEmpty());
+        // Then a new block is leased
+        assertThat(MeterId.meterId(13), is(meterStore.allocateMeterId(did5)));
+    }
+
+    /**
+     * Test that the block of an active node is not reclaimed.
+     */
+    @Test
+    public void testKeepActiveLeasedIds() {
+        // Init the store
+        initMeterStore(false);
+        // Another node leased ids 1 to 12, used id 5 and is still active
+        MeterTableKey globalKey = leaseForeignBlock(ACTIVE_NODE);
+        // The new master takes new ids one at a time meanwhile
+        assertThat(MeterId.meterId(13), is(meterStore.allocateMeterId(did5)));
+        assertThat(MeterId.meterId(14), is(meterStore.allocateMeterId(did5)));
+        assertTrue(availableIds(did5).isEmpty());
+        assertTrue(meterIdBlocks().containsKey(globalKey));
+        // Once the node gives back its block, a new block is leased
+        meterIdBlocks().remove(globalKey);
+        assertThat(MeterId.meterId(15), is(meterStore.allocateMeterId(did5)));
+        AtomicCounterMap<MeterTableKey> meterIdGenerators = TestUtils.getField(meterStore, "meterIdGenerators");
+        assertThat(meterIdGenerators.get(globalKey), is(27L));
+    }
+
+    private ConsistentMap<MeterTableKey, DistributedMeterStore.MeterIdBlock> meterIdBlocks() {
+        return TestUtils.getField(meterStore, "meterIdBlocks");
+    }
+
+    // Records ids 1 to 12 of device 5 as leased by the given node, which used id 5
+    private MeterTableKey leaseForeignBlock(NodeId owner) {
+        MeterTableKey globalKey = MeterTableKey.key(did5, MeterScope.globalScope());
+        AtomicCounterMap<MeterTableKey> meterIdGenerators = TestUtils.getField(meterStore, "meterIdGenerators");
+        meterIdGenerators.put(globalKey, 13L);
+        meterIdBlocks().put(globalKey, new DistributedMeterStore.MeterIdBlock(owner, 1L, 12L));
+        Meter meter = DefaultMeter.builder()
+                .forDevice(did5)
+                .fromApp(APP_ID)
+                .withCellId(mid5)
+                .withUnit(Meter.Unit.KB_PER_SEC)
+                .withBands(Collections.singletonList(b1))
+                .build();
+        ((DefaultMeter) meter).setState(MeterState.PENDING_ADD);
+        meterStore.storeMeter(meter);
+        return globalKey;
+    }
+
     /**
      * Test store meter.
      */
@@ -674,6 +855,34 @@ public class DistributedMeterStoreTest {
         assertTrue(meterStore.availableMeterIds.get(globalKey).isEmpty());
     }
 
+    // Test class for mastership service.
+    private class TestMastershipService extends MastershipServiceAdapter {
+        private boolean master = true;
+        private MastershipListener listener;
+
+        void setMaster(boolean master) {
+            this.master = master;
+        }
+
+        @Override
+        public MastershipRole getLocalRole(DeviceId deviceId) {
+            return master ? MastershipRole.MASTER : MastershipRole.STANDBY;
+        }
+
+        @Override
+        public void addListener(MastershipListener listener) {
+            this.listener = listener;
+        }
+    }
+
+    // Test class for cluster service.
+    private class TestClusterService extends ClusterServiceAdapter {
+        @Override
+        public ControllerNode.State getState(NodeId nodeId) {
+            return nodeId.equals(FAILED_NODE) ? ControllerNode.State.INACTIVE : ControllerNode.State.ACTIVE;
+        }
+    }
+
     // Test class for driver service.
     private class TestDriverService extends DriverServiceAdapter {
         @Override
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.driver.extensions;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Maps;
+import org.onlab.util.KryoNamespace;
+import org.onosproject.net.flow.AbstractExtension;
+import org.onosproject.net.flow.instructions.ExtensionTreatment;
+import org.onosproject.net.flow.instructions.ExtensionTreatmentType;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Nicira conjunction extension instruction.
+ * <p>
+ * A packet matches the conjunctive flow with a given id once it has matched
+ * one flow of each of its clauses. This allows a match over the cross product
+ * of several sets of values to be expressed with one flow per value instead
+ * of one flow per combination.
+ * </p>
+ */
+public class NiciraConjunction extends AbstractExtension implements ExtensionTreatment {
+
+    private static final int MAX_CLAUSES = 64;
+
+    private int id;
+    private int clause;
+    private int nClauses;
+
+    private final KryoNamespace appKryo = new KryoNamespace.Builder()
+            .register(Map.class).register(HashMap.class)
+            .register(byte[].class)
+            .build("NiciraConjunction");
+
+    /**
+     * Creates a new conjunction instruction.
+     */
+    NiciraConjunction() {
+        id = 0;
+        clause = 0;
+        nClauses = 0;
+    }
+
+    /**
+     * Creates a new conjunction instruction.
+     *
+     * @param id conjunction identifier
+     * @param clause zero-based index of the clause matched by the flow
+     * @param nClauses number of clauses of the conjunction
+     */
+    public NiciraConjunction(int id, int clause, int nClauses) {
+        checkArgument(nClauses >= 2 && nClauses <= MAX_CLAUSES,
+                      "nClauses must be between 2 and " + MAX_CLAUSES);
+        checkArgument(clause >= 0 && clause < nClauses,
+                      "clause must be between 0 and nClauses - 1");
+        this.id = id;
+        this.clause = clause;
+        this.nClauses = nClauses;
+    }
+
+    /**
+     * Gets the conjunction identifier.
+     *
+     * @return conjunction identifier
+     */
+    public int id() {
+        return id;
+    }
+
+    /**
+     * Gets the zero-based index of the clause.
+     *
+     * @return clause index
+     */
+    public int clause() {
+        return clause;
+    }
+
+    /**
+     * Gets the number of clauses of the conjunction.
+     *
+     * @return number of clauses
+     */
+    public int nClauses() {
+        return nClauses;
+    }
+
+    @Override
+    public ExtensionTreatmentType type() {
+        return ExtensionTreatmentType.ExtensionTreatmentTypes.NICIRA_CONJUNCTION.type();
+    }
+
+    @Override
+    public void deserialize(byte[] data) {
+        Map<String, Object> values = appKryo.deserialize(data);
+        id = (int) values.get("id");
+        clause = (int) values.get("clause");
+        nClauses = (int) values.get("nClauses");
+    }
+
+    @Override
+    public byte[] serialize() {
+        Map<String, Object> values = Maps.newHashMap();
+        values.put("id", id);
+        values.put("clause", clause);
+        values.put("nClauses", nClauses);
+        return appKryo.serialize(values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, clause, nClauses);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof NiciraConjunction) {
+            NiciraConjunction that = (NiciraConjunction) obj;
+            return id == that.id
+                    && clause == that.clause
+                    && nClauses == that.nClauses;
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass())
+                .add("id", id)
+                .add("clause", clause)
+                .add("nClauses", nClauses)
+                .toString();
+    }
+}
@@ -28,6 +28,7 @@ import org.onosproject.openflow.controller.ExtensionSelectorInterpreter;
 import org.projectfloodlight.openflow.protocol.OFFactory;
 import org.projectfloodlight.openflow.protocol.match.MatchField;
 import org.projectfloodlight.openflow.protocol.oxm.OFOxm;
+import org.projectfloodlight.openflow.protocol.oxm.OFOxmConjId;
 import org.projectfloodlight.openflow.protocol.oxm.OFOxmConntrackMark;
 import org.projectfloodlight.openflow.protocol.oxm.OFOxmConntrackStateMasked;
 import org.projectfloodlight.openflow.protocol.oxm.OFOxmConntrackZone;
@@ -85,6 +86,9 @@ public class NiciraExtensionSelectorInterpreter
                 .type())) {
             return true;
         }
+        if (extensionSelectorType.equals(ExtensionSelectorType.ExtensionSelectorTypes.NICIRA_MATCH_CONJ_ID.type())) {
+            return true;
+        }
         return false;
     }
 
@@ -130,6 +134,10 @@ public class NiciraExtensionSelectorInterpreter
             NiciraMatchCtMark niciraMatchCtMark = (NiciraMatchCtMark) extensionSelector;
             return factory.oxms().conntrackMark(U32.of(niciraMatchCtMark.ctMark()));
         }
+        if (type.equals(ExtensionSelectorType.ExtensionSelectorTypes.NICIRA_MATCH_CONJ_ID.type())) {
+            NiciraMatchConjId niciraMatchConjId = (NiciraMatchConjId) extensionSelector;
+            return factory.oxms().conjId(U32.of(niciraMatchConjId.conjId()));
+        }
         return null;
     }
 
@@ -160,6 +168,10 @@ public class NiciraExtensionSelectorInterpreter
             OFOxmConntrackMark oxmField = (OFOxmConntrackMark) oxm;
             return new NiciraMatchCtMark(oxmField.getValue().getRaw());
         }
+        if (oxm.getMatchField() == MatchField.CONJ_ID) {
+            OFOxmConjId oxmField = (OFOxmConjId) oxm;
+            return new NiciraMatchConjId((int) oxmField.getValue().getRaw());
+        }
         return null;
     }
 
@@ -189,6 +201,9 @@ public class NiciraExtensionSelectorInterpreter
         if (type.equals(ExtensionSelectorType.ExtensionSelectorTypes.NICIRA_MATCH_CONNTRACK_MARK.type())) {
             return new NiciraMatchCtMark();
         }
+        if (type.equals(ExtensionSelectorType.ExtensionSelectorTypes.NICIRA_MATCH_CONJ_ID.type())) {
+            return new NiciraMatchConjId();
+        }
         return null;
     }
 
@@ -36,6 +36,7 @@ import org.projectfloodlight.openflow.protocol.OFFactory;
 import org.projectfloodlight.openflow.protocol.action.OFAction;
 import org.projectfloodlight.openflow.protocol.action.OFActionExperimenter;
 import org.projectfloodlight.openflow.protocol.action.OFActionNicira;
+import org.projectfloodlight.openflow.protocol.action.OFActionNiciraConjunction;
 import org.projectfloodlight.openflow.protocol.action.OFActionNiciraCt;
 import org.projectfloodlight.openflow.protocol.action.OFActionNiciraLoad;
 import org.projectfloodlight.openflow.protocol.action.OFActionNiciraMove;
@@ -101,6 +102,7 @@ public class NiciraExtensionTreatmentInterpreter extends AbstractHandlerBehaviou
     private static final int SUB_TYPE_RESUBMIT_TABLE = 14;
     private static final int SUB_TYPE_MOVE = 6;
     private static final int SUB_TYPE_LOAD = 7;
+    private static final int SUB_TYPE_CONJUNCTION = 34;
     private static final int SUB_TYPE_CT = 35;
     private static final int SUB_TYPE_NAT = 36;
     private static final int SUB_TYPE_CT_CLEAR = 43;
@@ -233,6 +235,9 @@ public class NiciraExtensionTreatmentInterpreter extends AbstractHandlerBehaviou
         if (extensionTreatmentType.equals(ExtensionTreatmentType.ExtensionTreatmentTypes.NICIRA_LOAD.type())) {
             return true;
         }
+        if (extensionTreatmentType.equals(ExtensionTreatmentType.ExtensionTreatmentTypes.NICIRA_CONJUNCTION.type())) {
+            return true;
+        }
         return false;
     }
 
@@ -415,6 +420,14 @@ public class NiciraExtensionTreatmentInterpreter extends AbstractHandlerBehaviou
         if (type.equals(ExtensionTreatmentType.ExtensionTreatmentTypes.NICIRA_CT_CLEAR.type())) {
             return factory.actions().niciraCtClear();
         }
+        if (type.equals(ExtensionTreatmentType.ExtensionTreatmentTypes.NICIRA_CONJUNCTION.type())) {
+            NiciraConjunction conjunction = (NiciraConjunction) extensionTreatment;
+            OFActionNiciraConjunction.Builder action = factory.actions().buildNiciraConjunction();
+            action.setClause((short) conjunction.clause());
+            action.setNClauses((short) conjunction.nClauses());
+            action.setId(conjunction.id());
+            return action.build();
+        }
         return null;
     }
 
@@ -604,6 +617,10 @@ public class NiciraExtensionTreatmentInterpreter extends AbstractHandlerBehaviou
                                 extensionActions);
                     case SUB_TYPE_CT_CLEAR:
                         return new NiciraCtClear();
+                    case SUB_TYPE_CONJUNCTION:
+                        OFActionNiciraConjunction conjAction = (OFActionNiciraConjunction) nicira;
+                        return new NiciraConjunction((int) conjAction.getId(),
+                                conjAction.getClause(), conjAction.getNClauses());
                     case SUB_TYPE_LOAD:
                         OFActionNiciraLoad loadAction = (OFActionNiciraLoad) nicira;
                         return new NiciraLoad(loadAction.getOfsNbits(),
@@ -710,6 +727,9 @@ public class NiciraExtensionTreatmentInterpreter extends AbstractHandlerBehaviou
         if (type.equals(ExtensionTreatmentType.ExtensionTreatmentTypes.NICIRA_LOAD.type())) {
             return new NiciraLoad();
         }
+        if (type.equals(ExtensionTreatmentType.ExtensionTreatmentTypes.NICIRA_CONJUNCTION.type())) {
+            return new NiciraConjunction();
+        }
         throw new UnsupportedOperationException("Driver does not support extension type " + type.toString());
     }
 
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.driver.extensions;
+
+import java.util.Objects;
+
+import org.onlab.util.KryoNamespace;
+import org.onosproject.net.flow.AbstractExtension;
+import org.onosproject.net.flow.criteria.ExtensionSelector;
+import org.onosproject.net.flow.criteria.ExtensionSelectorType;
+
+import com.google.common.base.MoreObjects;
+
+/**
+ * Nicira conjunction identifier extension selector.
+ */
+public class NiciraMatchConjId extends AbstractExtension implements ExtensionSelector {
+
+    private int conjId;
+
+    private final KryoNamespace appKryo = new KryoNamespace.Builder().build();
+
+    /**
+     * Creates a new conjunction identifier selector.
+     */
+    NiciraMatchConjId() {
+        conjId = 0;
+    }
+
+    /**
+     * Creates a new conjunction identifier selector with given identifier.
+     *
+     * @param conjId conjunction identifier
+     */
+    public NiciraMatchConjId(int conjId) {
+        this.conjId = conjId;
+    }
+
+    /**
+     * Gets the conjunction identifier.
+     *
+     * @return conjId
+     */
+    public int conjId() {
+        return conjId;
+    }
+
+    @Override
+    public ExtensionSelectorType type() {
+        return ExtensionSelectorType.ExtensionSelectorTypes.NICIRA_MATCH_CONJ_ID.type();
+    }
+
+    @Override
+    public void deserialize(byte[] data) {
+        conjId = (int) (appKryo.deserialize(data));
+    }
+
+    @Override
+    public byte[] serialize() {
+        return appKryo.serialize(conjId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(conjId);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof NiciraMatchConjId) {
+            NiciraMatchConjId that = (NiciraMatchConjId) obj;
+            return Objects.equals(conjId, that.conjId());
+
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass()).add("conjId", conjId).toString();
+    }
+}
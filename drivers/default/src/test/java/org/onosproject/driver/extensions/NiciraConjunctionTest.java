@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.driver.extensions;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+
+import org.junit.Test;
+
+import com.google.common.testing.EqualsTester;
+
+/**
+ * Unit tests for NiciraConjunction class.
+ */
+public class NiciraConjunctionTest {
+    final int id1 = 10;
+    final int id2 = 20;
+
+    /**
+     * Checks the operation of equals() methods.
+     */
+    @Test
+    public void testEquals() {
+        final NiciraConjunction conjunction1 = new NiciraConjunction(id1, 0, 2);
+        final NiciraConjunction sameAsConjunction1 = new NiciraConjunction(id1, 0, 2);
+        final NiciraConjunction conjunction2 = new NiciraConjunction(id1, 1, 2);
+        final NiciraConjunction conjunction3 = new NiciraConjunction(id2, 0, 2);
+
+        new EqualsTester().addEqualityGroup(conjunction1, sameAsConjunction1)
+                .addEqualityGroup(conjunction2).addEqualityGroup(conjunction3)
+                .testEquals();
+    }
+
+    /**
+     * Checks the construction of a NiciraConjunction object.
+     */
+    @Test
+    public void testConstruction() {
+        final NiciraConjunction conjunction = new NiciraConjunction(id1, 1, 2);
+        assertThat(conjunction, is(notNullValue()));
+        assertThat(conjunction.id(), is(id1));
+        assertThat(conjunction.clause(), is(1));
+        assertThat(conjunction.nClauses(), is(2));
+    }
+
+    /**
+     * Checks that an out of range clause is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidClause() {
+        new NiciraConjunction(id1, 2, 2);
+    }
+}
@@ -17,6 +17,7 @@
 package org.onosproject.drivers.gnmi;
 
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import com.google.common.util.concurrent.Futures;
 import gnmi.Gnmi;
 import gnmi.Gnmi.GetRequest;
@@ -37,10 +38,17 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
  * Behaviour to get port statistics from device via gNMI.
+ * <p>
+ * Counters are streamed by the device via a gNMI SAMPLE subscription and read
+ * from the client cache. A Get request is used only for ports for which no
+ * recent sample has been received, or for all ports if sampling is disabled by
+ * setting the {@value #SAMPLE_INTERVAL} driver property to 0.
+ * </p>
  */
 public class OpenConfigGnmiPortStatisticsDiscovery
         extends AbstractGrpcHandlerBehaviour<GnmiClient, GnmiController>
@@ -48,6 +56,13 @@ public class OpenConfigGnmiPortStatisticsDiscovery
 
     private static final String LAST_CHANGE = "last-change";
 
+    /**
+     * Driver property with the interval (in milliseconds) at which the device
+     * is asked to stream counters.
+     */
+    public static final String SAMPLE_INTERVAL = "gnmiCounterSampleInterval";
+    private static final long DEFAULT_SAMPLE_INTERVAL = 1000;
+
     public OpenConfigGnmiPortStatisticsDiscovery() {
         super(GnmiController.class);
     }
@@ -60,105 +75,92 @@ public class OpenConfigGnmiPortStatisticsDiscovery
 
         Map<String, PortNumber> ifacePortNumberMapping = Maps.newHashMap();
         List<Port> ports = deviceService.getPorts(deviceId);
-        GetRequest.Builder getRequest = GetRequest.newBuilder();
-        getRequest.setEncoding(Gnmi.Encoding.PROTO);
-
-        // Use this path to get all counters from specific interface(port)
-        // /interfaces/interface[port-name]/state/counters/[counter name]
-        ports.forEach(port -> {
-            String portName = port.number().name();
-            Path path = interfaceCounterPath(portName);
-            getRequest.addPath(path);
-            ifacePortNumberMapping.put(portName, port.number());
-        });
-
-        GetResponse getResponse = Futures.getUnchecked(client.get(getRequest.build()));
-
-        Map<String, Long> inPkts = Maps.newHashMap();
-        Map<String, Long> outPkts = Maps.newHashMap();
-        Map<String, Long> inBytes = Maps.newHashMap();
-        Map<String, Long> outBytes = Maps.newHashMap();
-        Map<String, Long> inDropped = Maps.newHashMap();
-        Map<String, Long> outDropped = Maps.newHashMap();
-        Map<String, Long> inErrors = Maps.newHashMap();
-        Map<String, Long> outErrors = Maps.newHashMap();
-        Map<String, Duration> timestamps = Maps.newHashMap();
-
-        // Collect responses and sum {in,out,dropped} packets
-        getResponse.getNotificationList().forEach(notification -> {
-            notification.getUpdateList().forEach(update -> {
-                Path path = update.getPath();
-                String ifName = interfaceNameFromPath(path);
-                timestamps.putIfAbsent(ifName, Duration.ofNanos(notification.getTimestamp()));
-
-                // Last element is the counter name
-                String counterName = path.getElem(path.getElemCount() - 1).getName();
-                long counterValue = update.getVal().getUintVal();
-
-
-                switch (counterName) {
-                    case "in-octets":
-                        inBytes.put(ifName, counterValue);
-                        break;
-                    case "out-octets":
-                        outBytes.put(ifName, counterValue);
-                        break;
-                    case "in-discards":
-                    case "in-fcs-errors":
-                        inDropped.compute(ifName, (k, v) -> v == null ? counterValue : v + counterValue);
-                        break;
-                    case "out-discards":
-                        outDropped.put(ifName, counterValue);
-                        break;
-                    case "in-errors":
-                        inErrors.put(ifName, counterValue);
-                        break;
-                    case "out-errors":
-                        outErrors.put(ifName, counterValue);
-                        break;
-                    case "in-unicast-pkts":
-                    case "in-broadcast-pkts":
-                    case "in-multicast-pkts":
-                    case "in-unknown-protos":
-                        inPkts.compute(ifName, (k, v) -> v == null ? counterValue : v + counterValue);
-                        break;
-                    case "out-unicast-pkts":
-                    case "out-broadcast-pkts":
-                    case "out-multicast-pkts":
-                        outPkts.compute(ifName, (k, v) -> v == null ? counterValue : v + counterValue);
-                        break;
-                    default:
-                        log.warn("Unsupported counter name {}, ignored", counterName);
-                        break;
+        ports.forEach(port -> ifacePortNumberMapping.put(port.number().name(), port.number()));
+
+        PortCounters counters = new PortCounters();
+        long sampleInterval = sampleInterval();
+        if (sampleInterval > 0) {
+            // Use this path to stream all counters from specific interface(port)
+            // /interfaces/interface[port-name]/state/counters/[counter name]
+            // This is a no-op if we are already subscribed for the same ports.
+            client.subscribeSamples(ifacePortNumberMapping.keySet().stream()
+                                            .map(this::interfaceCounterPath)
+                                            .collect(Collectors.toList()),
+                                    sampleInterval);
+            client.samples().forEach(sample -> {
+                Path path = sample.path();
+                if (isInterfaceCounterPath(path)) {
+                    counters.add(path, sample.value().getUintVal(), sample.timestamp());
                 }
             });
-        });
+        }
+
+        // Get counters of ports which have not been sampled recently, e.g.
+        // right after subscribing, if the device does not support sampling or
+        // if it stopped streaming.
+        Set<String> missingIfaces = Sets.difference(ifacePortNumberMapping.keySet(),
+                                                    counters.interfaces());
+        if (!missingIfaces.isEmpty()) {
+            GetRequest.Builder getRequest = GetRequest.newBuilder();
+            getRequest.setEncoding(Gnmi.Encoding.PROTO);
+            missingIfaces.forEach(portName -> getRequest.addPath(interfaceCounterPath(portName)));
+
+            GetResponse getResponse = Futures.getUnchecked(client.get(getRequest.build()));
+
+            // Collect responses and sum {in,out,dropped} packets
+            getResponse.getNotificationList().forEach(notification -> {
+                notification.getUpdateList().forEach(update -> {
+                    counters.add(update.getPath(), update.getVal().getUintVal(),
+                                 notification.getTimestamp());
+                });
+            });
+        }
 
         // Build ONOS port stats map
         return ifacePortNumberMapping.entrySet().stream()
             .map(e -> {
                 String ifName = e.getKey();
                 PortNumber portNumber = e.getValue();
-                Duration portActive = getDurationActive(portNumber, timestamps.get(ifName));
+                Duration portActive = getDurationActive(portNumber, counters.timestamps.get(ifName));
                 return DefaultPortStatistics.builder()
                         .setDeviceId(deviceId)
                         .setPort(portNumber)
                         .setDurationSec(portActive.getSeconds())
                         .setDurationNano(portActive.getNano())
-                        .setPacketsSent(outPkts.getOrDefault(ifName, 0L))
-                        .setPacketsReceived(inPkts.getOrDefault(ifName, 0L))
-                        .setPacketsTxDropped(outDropped.getOrDefault(ifName, 0L))
-                        .setPacketsRxDropped(inDropped.getOrDefault(ifName, 0L))
-                        .setBytesSent(outBytes.getOrDefault(ifName, 0L))
-                        .setBytesReceived(inBytes.getOrDefault(ifName, 0L))
-                        .setPacketsTxErrors(outErrors.getOrDefault(ifName, 0L))
-                        .setPacketsRxErrors(inErrors.getOrDefault(ifName, 0L))
+                        .setPacketsSent(counters.outPkts.getOrDefault(ifName, 0L))
+                        .setPacketsReceived(counters.inPkts.getOrDefault(ifName, 0L))
+                        .setPacketsTxDropped(counters.outDropped.getOrDefault(ifName, 0L))
+                        .setPacketsRxDropped(counters.inDropped.getOrDefault(ifName, 0L))
+                        .setBytesSent(counters.outBytes.getOrDefault(ifName, 0L))
+                        .setBytesReceived(counters.inBytes.getOrDefault(ifName, 0L))
+                        .setPacketsTxErrors(counters.outErrors.getOrDefault(ifName, 0L))
+                        .setPacketsRxErrors(counters.inErrors.getOrDefault(ifName, 0L))
                         .build();
             })
             .collect(Collectors.toList());
 
     }
 
+    private long sampleInterval() {
+        String value = handler().driver().getProperty(SAMPLE_INTERVAL);
+        if (value == null) {
+            return DEFAULT_SAMPLE_INTERVAL;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            log.warn("Invalid {} driver property for {}: {}", SAMPLE_INTERVAL, deviceId, value);
+            return DEFAULT_SAMPLE_INTERVAL;
+        }
+    }
+
+    private boolean isInterfaceCounterPath(Path path) {
+        // /interfaces/interface[name=iface-name]/state/counters/[counter name]
+        return path.getElemCount() == 5
+                && "interfaces".equals(path.getElem(0).getName())
+                && "counters".equals(path.getElem(3).getName());
+    }
+
     private String interfaceNameFromPath(Path path) {
         // /interfaces/interface[name=iface-name]
         return path.getElem(1).getKeyOrDefault("name", null);
@@ -196,4 +198,67 @@ public class OpenConfigGnmiPortStatisticsDiscovery
             return Duration.ZERO;
         }
     }
+
+    /**
+     * Counters of the device interfaces, summed up as ONOS port statistics.
+     */
+    private final class PortCounters {
+        private final Map<String, Long> inPkts = Maps.newHashMap();
+        private final Map<String, Long> outPkts = Maps.newHashMap();
+        private final Map<String, Long> inBytes = Maps.newHashMap();
+        private final Map<String, Long> outBytes = Maps.newHashMap();
+        private final Map<String, Long> inDropped = Maps.newHashMap();
+        private final Map<String, Long> outDropped = Maps.newHashMap();
+        private final Map<String, Long> inErrors = Maps.newHashMap();
+        private final Map<String, Long> outErrors = Maps.newHashMap();
+        private final Map<String, Duration> timestamps = Maps.newHashMap();
+
+        private Set<String> interfaces() {
+            return timestamps.keySet();
+        }
+
+        private void add(Path path, long counterValue, long timestamp) {
+            String ifName = interfaceNameFromPath(path);
+            timestamps.putIfAbsent(ifName, Duration.ofNanos(timestamp));
+
+            // Last element is the counter name
+            String counterName = path.getElem(path.getElemCount() - 1).getName();
+
+            switch (counterName) {
+                case "in-octets":
+                    inBytes.put(ifName, counterValue);
+                    break;
+                case "out-octets":
+                    outBytes.put(ifName, counterValue);
+                    break;
+                case "in-discards":
+                case "in-fcs-errors":
+                    inDropped.compute(ifName, (k, v) -> v == null ? counterValue : v + counterValue);
+                    break;
+                case "out-discards":
+                    outDropped.put(ifName, counterValue);
+                    break;
+                case "in-errors":
+                    inErrors.put(ifName, counterValue);
+                    break;
+                case "out-errors":
+                    outErrors.put(ifName, counterValue);
+                    break;
+                case "in-unicast-pkts":
+                case "in-broadcast-pkts":
+                case "in-multicast-pkts":
+                case "in-unknown-protos":
+                    inPkts.compute(ifName, (k, v) -> v == null ? counterValue : v + counterValue);
+                    break;
+                case "out-unicast-pkts":
+                case "out-broadcast-pkts":
+                case "out-multicast-pkts":
+                    outPkts.compute(ifName, (k, v) -> v == null ? counterValue : v + counterValue);
+                    break;
+                default:
+                    log.warn("Unsupported counter name {}, ignored", counterName);
+                    break;
+            }
+        }
+    }
 }
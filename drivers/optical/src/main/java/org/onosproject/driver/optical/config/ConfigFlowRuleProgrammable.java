@@ -76,7 +76,8 @@ public class ConfigFlowRuleProgrammable
     @Override
     public Collection<FlowRule> removeFlowRules(Collection<FlowRule> rules) {
         log.trace("removeFlowRules: {}", rules);
-        Optional<FlowTableConfig> config = getFlowTableConfig();
+        Optional<FlowTableConfig> config = getFlowTableConfig().isPresent() ?
+                createFlowTableConfig() : Optional.empty();
         Set<FlowRule> table = new LinkedHashSet<>(getFlowTable(config));
         table.removeAll(rules);
         config.map(cfg -> cfg.flowtable(table))
@@ -56,4 +56,20 @@ public final class P4RuntimeDriverProperties {
     // Otherwise, we submit a read request with wildcard read on a table basis.
     public static final String TABLE_WILCARD_READS = "tableWildcardReads";
     public static final boolean DEFAULT_TABLE_WILCARD_READS = false;
-}
\ No newline at end of file
+
+    // Maximum number of flow rules written with a single P4Runtime Write RPC.
+    // Larger batches are split in multiple RPCs.
+    public static final String TABLE_WRITE_BATCH_SIZE = "tableWriteBatchSize";
+    public static final int DEFAULT_TABLE_WRITE_BATCH_SIZE = 500;
+
+    // Maximum number of P4Runtime Write RPCs for table entries kept in flight
+    // at the same time for a batch of flow rules.
+    public static final String TABLE_WRITE_MAX_IN_FLIGHT = "tableWriteMaxInFlight";
+    public static final int DEFAULT_TABLE_WRITE_MAX_IN_FLIGHT = 4;
+
+    // Maximum time in seconds to wait for the response to a P4Runtime Write
+    // RPC for table entries. Updates of RPCs not completed in time are
+    // considered failed.
+    public static final String TABLE_WRITE_TIMEOUT = "tableWriteTimeout";
+    public static final int DEFAULT_TABLE_WRITE_TIMEOUT = 60;
+}
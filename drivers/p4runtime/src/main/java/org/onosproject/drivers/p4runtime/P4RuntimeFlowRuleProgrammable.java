@@ -19,7 +19,6 @@ package org.onosproject.drivers.p4runtime;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
-import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.Striped;
 import org.onosproject.drivers.p4runtime.mirror.P4RuntimeDefaultEntryMirror;
 import org.onosproject.drivers.p4runtime.mirror.P4RuntimeTableMirror;
@@ -44,18 +43,25 @@ import org.onosproject.net.pi.service.PiFlowRuleTranslator;
 import org.onosproject.net.pi.service.PiTranslatedEntity;
 import org.onosproject.net.pi.service.PiTranslationException;
 import org.onosproject.p4runtime.api.P4RuntimeReadClient;
+import org.onosproject.p4runtime.api.P4RuntimeWriteClient.EntityUpdateRequest;
 import org.onosproject.p4runtime.api.P4RuntimeWriteClient.UpdateType;
 import org.onosproject.p4runtime.api.P4RuntimeWriteClient.WriteRequest;
 import org.onosproject.p4runtime.api.P4RuntimeWriteClient.WriteResponse;
 
+import java.util.ArrayDeque;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.locks.Lock;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -66,12 +72,18 @@ import static org.onosproject.drivers.p4runtime.P4RuntimeDriverProperties.DEFAUL
 import static org.onosproject.drivers.p4runtime.P4RuntimeDriverProperties.DEFAULT_SUPPORT_DEFAULT_TABLE_ENTRY;
 import static org.onosproject.drivers.p4runtime.P4RuntimeDriverProperties.DEFAULT_SUPPORT_TABLE_COUNTERS;
 import static org.onosproject.drivers.p4runtime.P4RuntimeDriverProperties.DEFAULT_TABLE_WILCARD_READS;
+import static org.onosproject.drivers.p4runtime.P4RuntimeDriverProperties.DEFAULT_TABLE_WRITE_BATCH_SIZE;
+import static org.onosproject.drivers.p4runtime.P4RuntimeDriverProperties.DEFAULT_TABLE_WRITE_MAX_IN_FLIGHT;
+import static org.onosproject.drivers.p4runtime.P4RuntimeDriverProperties.DEFAULT_TABLE_WRITE_TIMEOUT;
 import static org.onosproject.drivers.p4runtime.P4RuntimeDriverProperties.DELETE_BEFORE_UPDATE;
 import static org.onosproject.drivers.p4runtime.P4RuntimeDriverProperties.READ_COUNTERS_WITH_TABLE_ENTRIES;
 import static org.onosproject.drivers.p4runtime.P4RuntimeDriverProperties.READ_FROM_MIRROR;
 import static org.onosproject.drivers.p4runtime.P4RuntimeDriverProperties.SUPPORT_DEFAULT_TABLE_ENTRY;
 import static org.onosproject.drivers.p4runtime.P4RuntimeDriverProperties.SUPPORT_TABLE_COUNTERS;
 import static org.onosproject.drivers.p4runtime.P4RuntimeDriverProperties.TABLE_WILCARD_READS;
+import static org.onosproject.drivers.p4runtime.P4RuntimeDriverProperties.TABLE_WRITE_BATCH_SIZE;
+import static org.onosproject.drivers.p4runtime.P4RuntimeDriverProperties.TABLE_WRITE_MAX_IN_FLIGHT;
+import static org.onosproject.drivers.p4runtime.P4RuntimeDriverProperties.TABLE_WRITE_TIMEOUT;
 import static org.onosproject.drivers.p4runtime.P4RuntimeFlowRuleProgrammable.Operation.APPLY;
 import static org.onosproject.drivers.p4runtime.P4RuntimeFlowRuleProgrammable.Operation.REMOVE;
 import static org.onosproject.net.flow.FlowEntry.FlowEntryState.ADDED;
@@ -319,59 +331,224 @@ public class P4RuntimeFlowRuleProgrammable
         if (!setupBehaviour("processFlowRules()") || rules.isEmpty()) {
             return Collections.emptyList();
         }
-        // Created batched write request.
-        final WriteRequest request = client.write(p4DeviceId, pipeconf);
-        // For each rule, translate to PI and append to write request.
+        final int batchSize = Math.max(1, driverIntProperty(
+                TABLE_WRITE_BATCH_SIZE, DEFAULT_TABLE_WRITE_BATCH_SIZE));
+        final int maxInFlight = Math.max(1, driverIntProperty(
+                TABLE_WRITE_MAX_IN_FLIGHT, DEFAULT_TABLE_WRITE_MAX_IN_FLIGHT));
+        final int timeout = Math.max(1, driverIntProperty(
+                TABLE_WRITE_TIMEOUT, DEFAULT_TABLE_WRITE_TIMEOUT));
+        // For each rule, translate to PI and append to a size-bounded write
+        // request. Requests are submitted as soon as they are full, keeping up
+        // to maxInFlight of them pending at the same time. The device lock is
+        // held while building and submitting a request, not while waiting for
+        // responses.
         final Map<PiHandle, FlowRule> handleToRuleMap = Maps.newHashMap();
         final List<FlowRule> skippedRules = Lists.newArrayList();
-        final CompletableFuture<WriteResponse> futureResponse;
-        WRITE_LOCKS.get(deviceId).lock();
-        try {
-            for (FlowRule rule : rules) {
-                // Translate.
-                final PiTableEntry entry;
-                try {
-                    entry = translator.translate(rule, pipeconf);
-                } catch (PiTranslationException e) {
-                    log.warn("Unable to translate flow rule for pipeconf '{}': {} [{}]",
-                             pipeconf.id(), e.getMessage(), rule);
-                    // Next rule.
-                    continue;
-                }
-                final PiTableEntryHandle handle = entry.handle(deviceId);
-                handleToRuleMap.put(handle, rule);
-                // Update translation store.
-                if (driverOperation.equals(APPLY)) {
-                    translator.learn(handle, new PiTranslatedEntity<>(
-                            rule, entry, handle));
-                } else {
-                    translator.forget(handle);
+        final List<FlowRule> appliedRules = Lists.newArrayList();
+        final Deque<PendingWrite> inFlight = new ArrayDeque<>();
+        final Iterator<FlowRule> ruleIterator = rules.iterator();
+        boolean written = false;
+        while (ruleIterator.hasNext()) {
+            // Bound the number of RPCs in flight by waiting for the oldest one.
+            while (inFlight.size() >= maxInFlight) {
+                completeWrite(inFlight.poll(), timeout, handleToRuleMap,
+                              driverOperation, appliedRules);
+            }
+            WRITE_LOCKS.get(deviceId).lock();
+            try {
+                final WriteRequest request = client.write(p4DeviceId, pipeconf);
+                int requestSize = 0;
+                // Updates for the same rule never span multiple requests.
+                while (requestSize < batchSize && ruleIterator.hasNext()) {
+                    final FlowRule rule = ruleIterator.next();
+                    // Translate.
+                    final PiTableEntry entry;
+                    try {
+                        entry = translator.translate(rule, pipeconf);
+                    } catch (PiTranslationException e) {
+                        log.warn("Unable to translate flow rule for pipeconf '{}': {} [{}]",
+                                 pipeconf.id(), e.getMessage(), rule);
+                        // Next rule.
+                        continue;
+                    }
+                    final PiTableEntryHandle handle = entry.handle(deviceId);
+                    handleToRuleMap.put(handle, rule);
+                    // Update translation store.
+                    if (driverOperation.equals(APPLY)) {
+                        translator.learn(handle, new PiTranslatedEntity<>(
+                                rule, entry, handle));
+                    } else {
+                        translator.forget(handle);
+                    }
+                    // Append entry to batched write request (returns false), or skip (true)
+                    if (appendEntryToWriteRequestOrSkip(
+                            request, handle, entry, driverOperation)) {
+                        skippedRules.add(rule);
+                    } else {
+                        requestSize++;
+                    }
                 }
-                // Append entry to batched write request (returns false), or skip (true)
-                if (appendEntryToWriteRequestOrSkip(
-                        request, handle, entry, driverOperation)) {
-                    skippedRules.add(rule);
+                if (requestSize > 0) {
+                    // Update mirror optimistically, then submit asynchronously.
+                    inFlight.add(PendingWrite.apply(request, tableMirror));
+                    written = true;
                 }
+            } finally {
+                WRITE_LOCKS.get(deviceId).unlock();
             }
-            if (request.pendingUpdates().isEmpty()) {
-                // All good. No need to write on device.
-                return rules;
+        }
+        // Wait for the remaining responses, in submission order.
+        while (!inFlight.isEmpty()) {
+            completeWrite(inFlight.poll(), timeout, handleToRuleMap,
+                          driverOperation, appliedRules);
+        }
+        if (!written) {
+            // All good. No need to write on device.
+            return rules;
+        }
+        // Successfully applied flow rules, derived from responses.
+        return ImmutableList.<FlowRule>builder()
+                .addAll(skippedRules)
+                .addAll(appliedRules)
+                .build();
+    }
+
+    // Waits for the response to the given write, reverts the mirror entries
+    // of its failed updates and collects the rules it applied
+    private void completeWrite(PendingWrite write, int timeout,
+                               Map<PiHandle, FlowRule> handleToRuleMap,
+                               Operation driverOperation,
+                               List<FlowRule> appliedRules) {
+        WriteResponse response = null;
+        try {
+            response = write.future.get(timeout, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while waiting for write response from {}", deviceId);
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("Unable to write {} table entries on {}: {}",
+                     write.updates.size(), deviceId, e.toString());
+        }
+        if (response == null) {
+            write.future.cancel(true);
+        } else if (!response.isSuccess()) {
+            logFailedUpdates(response, handleToRuleMap);
+        }
+        if (response == null || !response.isSuccess()) {
+            WRITE_LOCKS.get(deviceId).lock();
+            try {
+                if (response == null) {
+                    write.revert(write.updates, Collections.emptyList(), tableMirror);
+                } else {
+                    write.revert(response.failed(), response.success(), tableMirror);
+                }
+            } finally {
+                WRITE_LOCKS.get(deviceId).unlock();
             }
-            // Update mirror.
+        }
+        if (response != null) {
+            appliedRules.addAll(getAppliedFlowRules(response, handleToRuleMap, driverOperation));
+        }
+    }
+
+    private void logFailedUpdates(WriteResponse response,
+                                  Map<PiHandle, FlowRule> handleToFlowRuleMap) {
+        response.failed().stream()
+                .filter(r -> r.entityType().equals(PiEntityType.TABLE_ENTRY))
+                .forEach(r -> log.debug("Failed to {} flow rule on {}: {} [{}]",
+                                        r.updateType(), deviceId, r.explanation(),
+                                        handleToFlowRuleMap.get(r.handle())));
+    }
+
+    /**
+     * Write request submitted to a device, along with the mirror entries it
+     * replaced and the ones it wrote, so that its updates can be reverted one
+     * by one if they fail.
+     */
+    static final class PendingWrite {
+        private final Collection<EntityUpdateRequest> updates;
+        // Mirror entries of the handles updated by the request, before and
+        // after it was applied to the mirror; null if there was none
+        private final Map<PiHandle, PiTableEntry> previousEntries = Maps.newHashMap();
+        private final Map<PiHandle, PiTableEntry> writtenEntries = Maps.newHashMap();
+        private CompletableFuture<WriteResponse> future;
+
+        /**
+         * Creates a pending write for the given updates, recording the mirror
+         * entries they replace. Must be called before applying the updates to
+         * the mirror, while holding the write lock of the device.
+         *
+         * @param updates     updates of the write request
+         * @param tableMirror table mirror
+         */
+        PendingWrite(Collection<EntityUpdateRequest> updates, P4RuntimeTableMirror tableMirror) {
+            this.updates = ImmutableList.copyOf(updates);
+            this.updates.stream()
+                    .filter(r -> r.entityType().equals(PiEntityType.TABLE_ENTRY))
+                    .forEach(r -> {
+                        if (!previousEntries.containsKey(r.handle())) {
+                            previousEntries.put(r.handle(), mirrored(tableMirror, r.handle()));
+                        }
+                        writtenEntries.put(r.handle(),
+                                           r.updateType() == DELETE ? null : (PiTableEntry) r.entity());
+                    });
+        }
+
+        /**
+         * Applies the given request to the mirror, recording the entries it
+         * replaces, and submits it. Must be called while holding the write
+         * lock of the device.
+         *
+         * @param request     write request
+         * @param tableMirror table mirror
+         * @return pending write
+         */
+        static PendingWrite apply(WriteRequest request, P4RuntimeTableMirror tableMirror) {
+            final PendingWrite write = new PendingWrite(request.pendingUpdates(), tableMirror);
             tableMirror.applyWriteRequest(request);
-            // Async submit request to server.
-            futureResponse = request.submit();
-        } finally {
-            WRITE_LOCKS.get(deviceId).unlock();
-        }
-        // Wait for response.
-        final WriteResponse response = Futures.getUnchecked(futureResponse);
-        // Derive successfully applied flow rule from response.
-        final List<FlowRule> appliedRules = getAppliedFlowRules(
-                response, handleToRuleMap, driverOperation);
-        // Return skipped and applied rules.
-        return ImmutableList.<FlowRule>builder()
-                .addAll(skippedRules).addAll(appliedRules).build();
+            write.future = request.submit();
+            return write;
+        }
+
+        /**
+         * Reverts the mirror entries touched by the given failed updates. The
+         * mirror was updated assuming all updates would succeed, so the entry
+         * of each failed update is brought back to the state it had before
+         * the request, plus any update of the request that succeeded for the
+         * same handle (e.g. the DELETE of a delete-before-update). Entries
+         * written since by another request are left alone. Must be called
+         * while holding the write lock of the device.
+         *
+         * @param failed      failed updates of the request
+         * @param succeeded   successful updates of the request
+         * @param tableMirror table mirror
+         */
+        void revert(Collection<? extends EntityUpdateRequest> failed,
+                    Collection<? extends EntityUpdateRequest> succeeded,
+                    P4RuntimeTableMirror tableMirror) {
+            final Map<PiHandle, PiTableEntry> revertedEntries = Maps.newHashMap();
+            failed.stream()
+                    .filter(r -> r.entityType().equals(PiEntityType.TABLE_ENTRY))
+                    .filter(r -> Objects.equals(mirrored(tableMirror, r.handle()),
+                                                writtenEntries.get(r.handle())))
+                    .forEach(r -> revertedEntries.put(r.handle(), previousEntries.get(r.handle())));
+            succeeded.stream()
+                    .filter(r -> revertedEntries.containsKey(r.handle()))
+                    .forEach(r -> revertedEntries.put(
+                            r.handle(), r.updateType() == DELETE ? null : (PiTableEntry) r.entity()));
+            revertedEntries.forEach((handle, entry) -> {
+                if (entry == null) {
+                    tableMirror.remove((PiTableEntryHandle) handle);
+                } else {
+                    tableMirror.put((PiTableEntryHandle) handle, entry);
+                }
+            });
+        }
+
+        private static PiTableEntry mirrored(P4RuntimeTableMirror tableMirror, PiHandle handle) {
+            final TimedEntry<PiTableEntry> timedEntry = tableMirror.get((PiTableEntryHandle) handle);
+            return timedEntry == null ? null : timedEntry.entry();
+        }
     }
 
     private List<FlowRule> getAppliedFlowRules(
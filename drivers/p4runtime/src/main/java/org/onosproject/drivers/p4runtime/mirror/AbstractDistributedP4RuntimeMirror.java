@@ -18,6 +18,7 @@ package org.onosproject.drivers.p4runtime.mirror;
 
 import com.google.common.annotations.Beta;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import org.onlab.util.KryoNamespace;
 import org.onlab.util.SharedExecutors;
 import org.onosproject.net.Annotations;
@@ -268,21 +269,54 @@ public abstract class AbstractDistributedP4RuntimeMirror
 
     @SuppressWarnings("unchecked")
     private void applyUpdates(Collection<? extends EntityUpdateRequest> updates) {
+        // Collapse updates to the last one of each handle, then write them to
+        // the distributed maps in bulk. Annotations are dropped for any
+        // deleted handle, even if it is inserted again (delete-before-update).
+        final Map<PiHandle, E> puts = Maps.newLinkedHashMap();
+        final Set<PiHandle> deletes = Sets.newHashSet();
         updates.stream()
                 .filter(r -> r.entityType().equals(this.entityType))
                 .forEach(r -> {
                     switch (r.updateType()) {
                         case INSERT:
                         case MODIFY:
-                            put((H) r.handle(), (E) r.entity());
+                            puts.put(r.handle(), (E) r.entity());
                             break;
                         case DELETE:
-                            remove((H) r.handle());
+                            puts.remove(r.handle());
+                            deletes.add(r.handle());
                             break;
                         default:
                             log.error("Unknown update type {}", r.updateType());
                     }
                 });
+        final Map<PiHandle, TimedEntry<E>> timedEntries = timedEntries(puts);
+        deletes.forEach(handle -> {
+            if (!timedEntries.containsKey(handle)) {
+                mirrorMap.remove(handle);
+            }
+            annotationsMap.remove(handle);
+        });
+        if (!timedEntries.isEmpty()) {
+            mirrorMap.putAll(timedEntries);
+        }
+    }
+
+    private Map<PiHandle, TimedEntry<E>> timedEntries(Map<PiHandle, E> entries) {
+        final Map<PiHandle, TimedEntry<E>> timedEntries = Maps.newHashMap();
+        final long now = new WallClockTimestamp().unixTimestamp();
+        entries.forEach((handle, entry) -> {
+            if (flushOnPipelineUnknown && !pipeconfWatchdogService
+                    .getStatus(handle.deviceId()).equals(READY)) {
+                // Keep mirror empty if pipeline status is UNKNOWN.
+                log.info("Ignoring {} mirror update because pipeline " +
+                                 "status of {} is not {}: {}",
+                         entityType, handle.deviceId(), READY, entry);
+                return;
+            }
+            timedEntries.put(handle, new TimedEntry<>(now, entry));
+        });
+        return timedEntries;
     }
 
     public class InternalPipeconfWatchdogListener implements PiPipeconfWatchdogListener {
@@ -0,0 +1,387 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.drivers.p4runtime;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.onlab.junit.TestUtils;
+import org.onlab.util.ImmutableByteSequence;
+import org.onosproject.drivers.p4runtime.P4RuntimeFlowRuleProgrammable.PendingWrite;
+import org.onosproject.drivers.p4runtime.mirror.DistributedP4RuntimeTableMirror;
+import org.onosproject.drivers.p4runtime.mirror.TimedEntry;
+import org.onosproject.net.DefaultAnnotations;
+import org.onosproject.net.DeviceId;
+import org.onosproject.net.pi.model.PiActionId;
+import org.onosproject.net.pi.model.PiMatchFieldId;
+import org.onosproject.net.pi.model.PiTableId;
+import org.onosproject.net.pi.runtime.PiAction;
+import org.onosproject.net.pi.runtime.PiEntity;
+import org.onosproject.net.pi.runtime.PiEntityType;
+import org.onosproject.net.pi.runtime.PiExactFieldMatch;
+import org.onosproject.net.pi.runtime.PiHandle;
+import org.onosproject.net.pi.runtime.PiMatchKey;
+import org.onosproject.net.pi.runtime.PiTableEntry;
+import org.onosproject.net.pi.runtime.PiTableEntryHandle;
+import org.onosproject.net.pi.service.PiPipeconfWatchdogListener;
+import org.onosproject.net.pi.service.PiPipeconfWatchdogService;
+import org.onosproject.p4runtime.api.P4RuntimeWriteClient.Atomicity;
+import org.onosproject.p4runtime.api.P4RuntimeWriteClient.EntityUpdateRequest;
+import org.onosproject.p4runtime.api.P4RuntimeWriteClient.EntityUpdateResponse;
+import org.onosproject.p4runtime.api.P4RuntimeWriteClient.EntityUpdateStatus;
+import org.onosproject.p4runtime.api.P4RuntimeWriteClient.UpdateType;
+import org.onosproject.p4runtime.api.P4RuntimeWriteClient.WriteRequest;
+import org.onosproject.p4runtime.api.P4RuntimeWriteClient.WriteResponse;
+import org.onosproject.store.service.TestStorageService;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.onosproject.p4runtime.api.P4RuntimeWriteClient.UpdateType.DELETE;
+import static org.onosproject.p4runtime.api.P4RuntimeWriteClient.UpdateType.INSERT;
+import static org.onosproject.p4runtime.api.P4RuntimeWriteClient.UpdateType.MODIFY;
+
+/**
+ * Tests of the mirror handling of P4RuntimeFlowRuleProgrammable.
+ */
+public class P4RuntimeFlowRuleProgrammableTest {
+
+    private static final DeviceId DEVICE_ID = DeviceId.deviceId("device:p4runtime:1");
+    private static final PiTableId TABLE_ID = PiTableId.of("ingress.table");
+    private static final PiMatchFieldId FIELD_ID = PiMatchFieldId.of("hdr.field");
+
+    private DistributedP4RuntimeTableMirror tableMirror;
+
+    @Before
+    public void setUp() throws TestUtils.TestUtilsException {
+        tableMirror = new DistributedP4RuntimeTableMirror();
+        TestUtils.setField(tableMirror, "storageService", new TestStorageService());
+        TestUtils.setField(tableMirror, "pipeconfWatchdogService", new TestWatchdogService());
+        tableMirror.activate();
+    }
+
+    @After
+    public void tearDown() {
+        tableMirror.deactivate();
+    }
+
+    private static PiTableEntry entry(int key, String action) {
+        return PiTableEntry.builder()
+                .forTable(TABLE_ID)
+                .withMatchKey(PiMatchKey.builder()
+                                      .addFieldMatch(new PiExactFieldMatch(
+                                              FIELD_ID, ImmutableByteSequence.copyFrom(key)))
+                                      .build())
+                .withAction(PiAction.builder().withId(PiActionId.of(action)).build())
+                .build();
+    }
+
+    private static PiTableEntryHandle handle(PiTableEntry entry) {
+        return entry.handle(DEVICE_ID);
+    }
+
+    private PiTableEntry mirrored(PiTableEntry entry) {
+        TimedEntry<PiTableEntry> timedEntry = tableMirror.get(handle(entry));
+        return timedEntry == null ? null : timedEntry.entry();
+    }
+
+    /**
+     * Checks that the mirror entries of the failed updates of a partially
+     * failed batch are reverted, while those of successful updates are kept.
+     */
+    @Test
+    public void partiallyFailedBatch() {
+        PiTableEntry modified = entry(1, "old");
+        PiTableEntry modifiedNew = entry(1, "new");
+        PiTableEntry inserted = entry(2, "new");
+        PiTableEntry failedInsert = entry(3, "new");
+        PiTableEntry replaced = entry(4, "old");
+        PiTableEntry replacedNew = entry(4, "new");
+        tableMirror.put(handle(modified), modified);
+        tableMirror.put(handle(replaced), replaced);
+
+        // Mirror is updated optimistically before submitting the request.
+        List<TestUpdate> updates = ImmutableList.of(
+                new TestUpdate(modifiedNew, MODIFY, EntityUpdateStatus.OTHER_ERROR),
+                new TestUpdate(inserted, INSERT, EntityUpdateStatus.OK),
+                new TestUpdate(failedInsert, INSERT, EntityUpdateStatus.ALREADY_EXIST),
+                // Delete-before-update whose INSERT failed.
+                new TestUpdate(replaced, DELETE, EntityUpdateStatus.OK),
+                new TestUpdate(replacedNew, INSERT, EntityUpdateStatus.OTHER_ERROR));
+        PendingWrite write = apply(updates);
+        assertEquals("mirror should be updated", modifiedNew, mirrored(modified));
+        assertEquals("mirror should be updated", replacedNew, mirrored(replaced));
+
+        revert(write, updates);
+
+        assertEquals("failed modify should be reverted", modified, mirrored(modified));
+        assertEquals("successful insert should be kept", inserted, mirrored(inserted));
+        assertNull("failed insert should be reverted", mirrored(failedInsert));
+        assertNull("successful delete should be kept", mirrored(replaced));
+    }
+
+    /**
+     * Checks that a failed update only reverts the entry written by its own
+     * request, keeping those written by earlier requests.
+     */
+    @Test
+    public void failedUpdateKeepsEarlierRequests() {
+        PiTableEntry first = entry(1, "first");
+        PiTableEntry second = entry(1, "second");
+
+        List<TestUpdate> firstUpdates = ImmutableList.of(
+                new TestUpdate(first, INSERT, EntityUpdateStatus.OK));
+        PendingWrite firstWrite = apply(firstUpdates);
+        List<TestUpdate> secondUpdates = ImmutableList.of(
+                new TestUpdate(second, MODIFY, EntityUpdateStatus.OTHER_ERROR));
+        PendingWrite secondWrite = apply(secondUpdates);
+
+        revert(firstWrite, firstUpdates);
+        revert(secondWrite, secondUpdates);
+
+        assertEquals("successful insert should be kept", first, mirrored(first));
+    }
+
+    /**
+     * Checks that the entry of a failed update is not reverted if another
+     * request wrote it meanwhile.
+     */
+    @Test
+    public void failedUpdateKeepsLaterWrites() {
+        PiTableEntry failed = entry(1, "failed");
+        PiTableEntry later = entry(1, "later");
+
+        List<TestUpdate> updates = ImmutableList.of(
+                new TestUpdate(failed, INSERT, EntityUpdateStatus.OTHER_ERROR));
+        PendingWrite write = apply(updates);
+        apply(ImmutableList.of(new TestUpdate(later, MODIFY, EntityUpdateStatus.OK)));
+
+        revert(write, updates);
+
+        assertEquals("later write should be kept", later, mirrored(failed));
+    }
+
+    /**
+     * Checks that annotations are dropped when an entry is deleted and
+     * inserted again in the same request.
+     */
+    @Test
+    public void deleteBeforeUpdateDropsAnnotations() {
+        PiTableEntry oldEntry = entry(1, "old");
+        PiTableEntry newEntry = entry(1, "new");
+        tableMirror.put(handle(oldEntry), oldEntry);
+        tableMirror.putAnnotations(handle(oldEntry),
+                                   DefaultAnnotations.builder().set("key", "value").build());
+
+        tableMirror.applyWriteRequest(new TestWriteRequest(ImmutableList.of(
+                new TestUpdate(oldEntry, DELETE, EntityUpdateStatus.OK),
+                new TestUpdate(newEntry, INSERT, EntityUpdateStatus.OK))));
+
+        assertEquals("entry should be replaced", newEntry, mirrored(oldEntry));
+        assertNull("annotations should be removed", tableMirror.annotations(handle(oldEntry)));
+    }
+
+    // Applies the given updates to the mirror, as done before submitting them
+    private PendingWrite apply(List<TestUpdate> updates) {
+        PendingWrite write = new PendingWrite(ImmutableList.copyOf(updates), tableMirror);
+        tableMirror.applyWriteRequest(new TestWriteRequest(updates));
+        return write;
+    }
+
+    // Reverts the failed updates, as done once the response is received
+    private void revert(PendingWrite write, List<TestUpdate> updates) {
+        TestWriteResponse response = new TestWriteResponse(updates);
+        write.revert(response.failed(), response.success(), tableMirror);
+    }
+
+    private static final class TestUpdate implements EntityUpdateResponse {
+        private final PiTableEntry entry;
+        private final UpdateType updateType;
+        private final EntityUpdateStatus status;
+
+        private TestUpdate(PiTableEntry entry, UpdateType updateType, EntityUpdateStatus status) {
+            this.entry = entry;
+            this.updateType = updateType;
+            this.status = status;
+        }
+
+        @Override
+        public PiHandle handle() {
+            return entry.handle(DEVICE_ID);
+        }
+
+        @Override
+        public PiEntity entity() {
+            return updateType == DELETE ? null : entry;
+        }
+
+        @Override
+        public UpdateType updateType() {
+            return updateType;
+        }
+
+        @Override
+        public PiEntityType entityType() {
+            return PiEntityType.TABLE_ENTRY;
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return status == EntityUpdateStatus.OK;
+        }
+
+        @Override
+        public EntityUpdateStatus status() {
+            return status;
+        }
+
+        @Override
+        public String explanation() {
+            return status.name();
+        }
+
+        @Override
+        public Throwable throwable() {
+            return null;
+        }
+    }
+
+    private static final class TestWriteRequest implements WriteRequest {
+        private final List<TestUpdate> updates;
+
+        private TestWriteRequest(List<TestUpdate> updates) {
+            this.updates = updates;
+        }
+
+        @Override
+        public Collection<EntityUpdateRequest> pendingUpdates() {
+            return ImmutableList.copyOf(updates);
+        }
+
+        @Override
+        public WriteRequest withAtomicity(Atomicity atomicity) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public WriteRequest insert(PiEntity entity) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public WriteRequest insert(Iterable<? extends PiEntity> entities) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public WriteRequest modify(PiEntity entity) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public WriteRequest modify(Iterable<? extends PiEntity> entities) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public WriteRequest delete(PiHandle handle) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public WriteRequest delete(Iterable<? extends PiHandle> handles) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public WriteRequest entity(PiEntity entity, UpdateType updateType) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public WriteRequest entities(Iterable<? extends PiEntity> entities, UpdateType updateType) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<WriteResponse> submit() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public WriteResponse submitSync() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static final class TestWriteResponse implements WriteResponse {
+        private final List<TestUpdate> updates;
+
+        private TestWriteResponse(List<TestUpdate> updates) {
+            this.updates = updates;
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return failed().isEmpty();
+        }
+
+        @Override
+        public Collection<EntityUpdateResponse> all() {
+            return ImmutableList.copyOf(updates);
+        }
+
+        @Override
+        public Collection<EntityUpdateResponse> success() {
+            return status(EntityUpdateStatus.OK);
+        }
+
+        @Override
+        public Collection<EntityUpdateResponse> failed() {
+            return updates.stream().filter(u -> !u.isSuccess()).collect(Collectors.toList());
+        }
+
+        @Override
+        public Collection<EntityUpdateResponse> status(EntityUpdateStatus status) {
+            return updates.stream().filter(u -> u.status() == status).collect(Collectors.toList());
+        }
+    }
+
+    private static final class TestWatchdogService implements PiPipeconfWatchdogService {
+        @Override
+        public void triggerProbe(DeviceId deviceId) {
+        }
+
+        @Override
+        public PipelineStatus getStatus(DeviceId deviceId) {
+            return PipelineStatus.READY;
+        }
+
+        @Override
+        public void addListener(PiPipeconfWatchdogListener listener) {
+        }
+
+        @Override
+        public void removeListener(PiPipeconfWatchdogListener listener) {
+        }
+    }
+}
@@ -20,11 +20,13 @@ import com.google.common.annotations.Beta;
 import gnmi.Gnmi.CapabilityResponse;
 import gnmi.Gnmi.GetRequest;
 import gnmi.Gnmi.GetResponse;
+import gnmi.Gnmi.Path;
 import gnmi.Gnmi.SetRequest;
 import gnmi.Gnmi.SetResponse;
 import gnmi.Gnmi.SubscribeRequest;
 import org.onosproject.grpc.api.GrpcClient;
 
+import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -70,4 +72,31 @@ public interface GnmiClient extends GrpcClient {
      * Terminates any Subscribe RPC active.
      */
     void unsubscribe();
+
+    /**
+     * Starts a SAMPLE subscription for the given paths, independent of the
+     * one started with {@link #subscribe(SubscribeRequest)}. Instead of being
+     * notified via events, the sampled values are cached by the client and
+     * can be read with {@link #samples()}. A new call replaces the previous
+     * sample subscription, unless it is for the same paths and interval.
+     *
+     * @param paths                paths to sample
+     * @param sampleIntervalMillis sample interval in milliseconds
+     */
+    void subscribeSamples(Collection<Path> paths, long sampleIntervalMillis);
+
+    /**
+     * Terminates the sample subscription, if any, and clears the cached
+     * samples.
+     */
+    void unsubscribeSamples();
+
+    /**
+     * Returns the latest value of each leaf received by the sample
+     * subscription. Values not refreshed within twice the sample interval
+     * are considered stale and are not returned.
+     *
+     * @return cached samples
+     */
+    Collection<GnmiSample> samples();
 }
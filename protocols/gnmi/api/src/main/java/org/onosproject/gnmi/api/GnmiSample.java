@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.gnmi.api;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import gnmi.Gnmi.Path;
+import gnmi.Gnmi.TypedValue;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Latest value of a leaf received by a gNMI sample subscription.
+ */
+@Beta
+public final class GnmiSample {
+
+    private final Path path;
+    private final TypedValue value;
+    private final long timestamp;
+
+    /**
+     * Creates a new sample.
+     *
+     * @param path      full path of the leaf
+     * @param value     value of the leaf
+     * @param timestamp timestamp of the value, in nanoseconds since the epoch
+     */
+    public GnmiSample(Path path, TypedValue value, long timestamp) {
+        this.path = checkNotNull(path);
+        this.value = checkNotNull(value);
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Returns the full path of the leaf, including the prefix of the
+     * notification carrying the value.
+     *
+     * @return path of the leaf
+     */
+    public Path path() {
+        return path;
+    }
+
+    /**
+     * Returns the value of the leaf.
+     *
+     * @return value of the leaf
+     */
+    public TypedValue value() {
+        return value;
+    }
+
+    /**
+     * Returns the timestamp reported by the device for the value.
+     *
+     * @return nanoseconds since the epoch
+     */
+    public long timestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass())
+                .add("path", GnmiUtils.pathToString(path))
+                .add("value", value)
+                .add("timestamp", timestamp)
+                .toString();
+    }
+}
@@ -16,6 +16,7 @@
 
 package org.onosproject.gnmi.ctl;
 
+import gnmi.Gnmi;
 import gnmi.Gnmi.CapabilityRequest;
 import gnmi.Gnmi.CapabilityResponse;
 import gnmi.Gnmi.GetRequest;
@@ -25,14 +26,21 @@ import gnmi.Gnmi.PathElem;
 import gnmi.Gnmi.SetRequest;
 import gnmi.Gnmi.SetResponse;
 import gnmi.Gnmi.SubscribeRequest;
+import gnmi.Gnmi.Subscription;
+import gnmi.Gnmi.SubscriptionList;
+import gnmi.Gnmi.SubscriptionMode;
 import gnmi.gNMIGrpc;
 import io.grpc.ManagedChannel;
 import io.grpc.Status;
 import io.grpc.stub.StreamObserver;
 import org.onosproject.gnmi.api.GnmiClient;
+import org.onosproject.gnmi.api.GnmiEvent;
+import org.onosproject.gnmi.api.GnmiSample;
+import org.onosproject.gnmi.api.GnmiUpdate;
 import org.onosproject.grpc.ctl.AbstractGrpcClient;
 import org.onosproject.net.DeviceId;
 
+import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
@@ -50,12 +58,19 @@ public class GnmiClientImpl extends AbstractGrpcClient implements GnmiClient {
             ).build()).build();
 
     private GnmiSubscriptionManager subscribeManager;
+    private GnmiSubscriptionManager sampleSubscribeManager;
+    private final GnmiSampleCache sampleCache = new GnmiSampleCache();
+    private SubscribeRequest sampleRequest;
 
     GnmiClientImpl(DeviceId deviceId, ManagedChannel managedChannel,
                    GnmiControllerImpl controller) {
         super(deviceId, managedChannel, false, controller);
-        this.subscribeManager =
-                new GnmiSubscriptionManager(this, deviceId, controller);
+        this.subscribeManager = new GnmiSubscriptionManager(
+                this, deviceId, message -> controller.postEvent(new GnmiEvent(
+                        GnmiEvent.Type.UPDATE, new GnmiUpdate(
+                        deviceId, message.getUpdate(), message.getSyncResponse()))));
+        this.sampleSubscribeManager =
+                new GnmiSubscriptionManager(this, deviceId, sampleCache::update);
     }
 
     @Override
@@ -120,6 +135,46 @@ public class GnmiClientImpl extends AbstractGrpcClient implements GnmiClient {
         subscribeManager.unsubscribe();
     }
 
+    @Override
+    public void subscribeSamples(Collection<Path> paths, long sampleIntervalMillis) {
+        final SubscriptionList.Builder subscriptionList = SubscriptionList.newBuilder()
+                .setMode(SubscriptionList.Mode.STREAM)
+                .setEncoding(Gnmi.Encoding.PROTO);
+        paths.forEach(path -> subscriptionList.addSubscription(
+                Subscription.newBuilder()
+                        .setPath(path)
+                        .setMode(SubscriptionMode.SAMPLE)
+                        .setSampleInterval(TimeUnit.MILLISECONDS.toNanos(sampleIntervalMillis))
+                        .build()));
+        final SubscribeRequest request = SubscribeRequest.newBuilder()
+                .setSubscribe(subscriptionList)
+                .build();
+        synchronized (sampleCache) {
+            if (request.equals(sampleRequest)) {
+                return;
+            }
+            // Drop samples of paths which might not be part of the new request.
+            sampleCache.clear();
+            sampleCache.setSampleInterval(sampleIntervalMillis);
+            sampleRequest = request;
+            sampleSubscribeManager.subscribe(request);
+        }
+    }
+
+    @Override
+    public void unsubscribeSamples() {
+        synchronized (sampleCache) {
+            sampleRequest = null;
+            sampleSubscribeManager.unsubscribe();
+            sampleCache.clear();
+        }
+    }
+
+    @Override
+    public Collection<GnmiSample> samples() {
+        return sampleCache.samples();
+    }
+
     @Override
     public CompletableFuture<Boolean> probeService() {
         final CompletableFuture<Boolean> future = new CompletableFuture<>();
@@ -151,6 +206,8 @@ public class GnmiClientImpl extends AbstractGrpcClient implements GnmiClient {
     @Override
     public void shutdown() {
         subscribeManager.shutdown();
+        sampleSubscribeManager.shutdown();
+        sampleCache.clear();
         super.shutdown();
     }
 
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.gnmi.ctl;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Maps;
+import gnmi.Gnmi.Notification;
+import gnmi.Gnmi.Path;
+import gnmi.Gnmi.SubscribeResponse;
+import org.onosproject.gnmi.api.GnmiSample;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Cache of the latest value of each leaf received on a sample subscription.
+ * Samples not refreshed within {@value #STALE_FACTOR} sample intervals, e.g.
+ * because the device stopped streaming, are considered stale and are not
+ * returned.
+ */
+final class GnmiSampleCache {
+
+    // Number of sample intervals after which a sample is stale.
+    static final int STALE_FACTOR = 2;
+
+    private final Map<Path, CachedSample> samples = Maps.newConcurrentMap();
+    private final LongSupplier clock;
+    private volatile long sampleIntervalMillis;
+
+    GnmiSampleCache() {
+        this(System::currentTimeMillis);
+    }
+
+    GnmiSampleCache(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Sets the sample interval of the subscription feeding the cache.
+     *
+     * @param sampleIntervalMillis sample interval in milliseconds
+     */
+    void setSampleInterval(long sampleIntervalMillis) {
+        this.sampleIntervalMillis = sampleIntervalMillis;
+    }
+
+    /**
+     * Updates the cache with the given subscribe response.
+     *
+     * @param response subscribe response
+     */
+    void update(SubscribeResponse response) {
+        if (!response.hasUpdate()) {
+            return;
+        }
+        final Notification notification = response.getUpdate();
+        final Path prefix = notification.getPrefix();
+        final long now = clock.getAsLong();
+        notification.getUpdateList().forEach(update -> {
+            final Path path = fullPath(prefix, update.getPath());
+            samples.put(path, new CachedSample(new GnmiSample(
+                    path, update.getVal(), notification.getTimestamp()), now));
+        });
+        notification.getDeleteList().forEach(
+                path -> samples.remove(fullPath(prefix, path)));
+    }
+
+    /**
+     * Returns the cached samples which are not stale.
+     *
+     * @return cached samples
+     */
+    Collection<GnmiSample> samples() {
+        final long oldest = clock.getAsLong() - STALE_FACTOR * sampleIntervalMillis;
+        final ImmutableList.Builder<GnmiSample> fresh = ImmutableList.builder();
+        samples.values().forEach(cached -> {
+            if (cached.receivedMillis >= oldest) {
+                fresh.add(cached.sample);
+            }
+        });
+        return fresh.build();
+    }
+
+    /**
+     * Removes all cached samples.
+     */
+    void clear() {
+        samples.clear();
+    }
+
+    private static Path fullPath(Path prefix, Path path) {
+        if (prefix.getElemCount() == 0) {
+            return path;
+        }
+        return prefix.toBuilder().addAllElem(path.getElemList()).build();
+    }
+
+    /**
+     * Sample with the local time at which it was received.
+     */
+    private static final class CachedSample {
+        private final GnmiSample sample;
+        private final long receivedMillis;
+
+        private CachedSample(GnmiSample sample, long receivedMillis) {
+            this.sample = sample;
+            this.receivedMillis = receivedMillis;
+        }
+    }
+}
@@ -22,8 +22,6 @@ import gnmi.Gnmi;
 import io.grpc.StatusRuntimeException;
 import io.grpc.stub.ClientCallStreamObserver;
 import io.grpc.stub.StreamObserver;
-import org.onosproject.gnmi.api.GnmiEvent;
-import org.onosproject.gnmi.api.GnmiUpdate;
 import org.onosproject.net.DeviceId;
 import org.slf4j.Logger;
 
@@ -32,6 +30,7 @@ import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 import static java.lang.String.format;
 import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
@@ -40,8 +39,8 @@ import static org.slf4j.LoggerFactory.getLogger;
 
 /**
  * A manager for the gNMI Subscribe RPC that opportunistically starts new RPC
- * (e.g. when one fails because of errors) and posts subscribe events via the
- * gNMI controller.
+ * (e.g. when one fails because of errors) and passes the responses to the
+ * given handler, e.g. to post subscribe events via the gNMI controller.
  */
 final class GnmiSubscriptionManager {
 
@@ -52,7 +51,7 @@ final class GnmiSubscriptionManager {
 
     private final GnmiClientImpl client;
     private final DeviceId deviceId;
-    private final GnmiControllerImpl controller;
+    private final Consumer<Gnmi.SubscribeResponse> responseHandler;
     private final StreamObserver<Gnmi.SubscribeResponse> responseObserver;
 
     private final ScheduledExecutorService streamCheckerExecutor =
@@ -64,10 +63,10 @@ final class GnmiSubscriptionManager {
     private AtomicBoolean active = new AtomicBoolean(false);
 
     GnmiSubscriptionManager(GnmiClientImpl client, DeviceId deviceId,
-                            GnmiControllerImpl controller) {
+                            Consumer<Gnmi.SubscribeResponse> responseHandler) {
         this.client = client;
         this.deviceId = deviceId;
-        this.controller = controller;
+        this.responseHandler = responseHandler;
         this.responseObserver = new InternalStreamResponseObserver();
     }
 
@@ -87,7 +86,7 @@ final class GnmiSubscriptionManager {
             }
             existingSubscription = request;
             sendSubscribeRequest();
-            if (checkTask != null) {
+            if (checkTask == null) {
                 checkTask = streamCheckerExecutor.scheduleAtFixedRate(
                         this::checkSubscription, 0,
                         DEFAULT_RECONNECT_DELAY,
@@ -164,8 +163,7 @@ final class GnmiSubscriptionManager {
                     log.trace("Received SubscribeResponse from {}: {}",
                               deviceId, message.toString());
                 }
-                controller.postEvent(new GnmiEvent(GnmiEvent.Type.UPDATE, new GnmiUpdate(
-                        deviceId, message.getUpdate(), message.getSyncResponse())));
+                responseHandler.accept(message);
             } catch (Throwable ex) {
                 log.error("Exception processing SubscribeResponse from " + deviceId,
                           ex);
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.gnmi.ctl;
+
+import gnmi.Gnmi.Notification;
+import gnmi.Gnmi.Path;
+import gnmi.Gnmi.PathElem;
+import gnmi.Gnmi.SubscribeResponse;
+import gnmi.Gnmi.TypedValue;
+import gnmi.Gnmi.Update;
+import org.junit.Before;
+import org.junit.Test;
+import org.onosproject.gnmi.api.GnmiSample;
+
+import java.util.Collection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of the gNMI sample cache.
+ */
+public class GnmiSampleCacheTest {
+
+    private static final long SAMPLE_INTERVAL = 1000;
+    private static final Path PREFIX = path("interfaces", "interface");
+    private static final Path IN_PKTS = path("state", "counters", "in-unicast-pkts");
+    private static final Path OUT_PKTS = path("state", "counters", "out-unicast-pkts");
+
+    private long now;
+    private GnmiSampleCache cache;
+
+    @Before
+    public void setUp() {
+        now = 1_000_000;
+        cache = new GnmiSampleCache(() -> now);
+        cache.setSampleInterval(SAMPLE_INTERVAL);
+    }
+
+    private static Path path(String... elems) {
+        Path.Builder path = Path.newBuilder();
+        for (String elem : elems) {
+            path.addElem(PathElem.newBuilder().setName(elem).build());
+        }
+        return path.build();
+    }
+
+    private static SubscribeResponse response(long value, Path... paths) {
+        Notification.Builder notification = Notification.newBuilder()
+                .setPrefix(PREFIX)
+                .setTimestamp(value);
+        for (Path path : paths) {
+            notification.addUpdate(Update.newBuilder()
+                                           .setPath(path)
+                                           .setVal(TypedValue.newBuilder().setUintVal(value).build())
+                                           .build());
+        }
+        return SubscribeResponse.newBuilder().setUpdate(notification).build();
+    }
+
+    private static Path fullPath(Path path) {
+        return PREFIX.toBuilder().addAllElem(path.getElemList()).build();
+    }
+
+    @Test
+    public void latestValueKept() {
+        cache.update(response(1, IN_PKTS, OUT_PKTS));
+        cache.update(response(2, IN_PKTS));
+        Collection<GnmiSample> samples = cache.samples();
+        assertEquals("incorrect number of samples", 2, samples.size());
+        samples.forEach(sample -> {
+            long expected = sample.path().equals(fullPath(IN_PKTS)) ? 2 : 1;
+            assertEquals("incorrect value", expected, sample.value().getUintVal());
+        });
+    }
+
+    @Test
+    public void deletedLeafRemoved() {
+        cache.update(response(1, IN_PKTS, OUT_PKTS));
+        cache.update(SubscribeResponse.newBuilder()
+                             .setUpdate(Notification.newBuilder()
+                                                .setPrefix(PREFIX)
+                                                .addDelete(OUT_PKTS))
+                             .build());
+        Collection<GnmiSample> samples = cache.samples();
+        assertEquals("incorrect number of samples", 1, samples.size());
+        assertEquals("incorrect path", fullPath(IN_PKTS), samples.iterator().next().path());
+    }
+
+    @Test
+    public void staleSamplesSkipped() {
+        cache.update(response(1, IN_PKTS));
+        now += SAMPLE_INTERVAL;
+        cache.update(response(2, OUT_PKTS));
+        now += (GnmiSampleCache.STALE_FACTOR - 1) * SAMPLE_INTERVAL - SAMPLE_INTERVAL / 2;
+        assertEquals("samples should be fresh", 2, cache.samples().size());
+
+        now += SAMPLE_INTERVAL;
+        Collection<GnmiSample> samples = cache.samples();
+        assertEquals("stale sample should be skipped", 1, samples.size());
+        assertEquals("incorrect path", fullPath(OUT_PKTS), samples.iterator().next().path());
+
+        cache.update(response(3, IN_PKTS));
+        assertEquals("refreshed sample should be returned", 2, cache.samples().size());
+    }
+
+    @Test
+    public void clear() {
+        cache.update(response(1, IN_PKTS, OUT_PKTS));
+        cache.clear();
+        assertTrue("cache should be empty", cache.samples().isEmpty());
+    }
+}
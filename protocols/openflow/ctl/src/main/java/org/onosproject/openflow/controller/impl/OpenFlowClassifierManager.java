@@ -117,12 +117,12 @@ public class OpenFlowClassifierManager extends ListenerRegistry<OpenFlowEvent, O
     public void remove(OpenFlowClassifier classifier) {
         checkNotNull(classifier, "Classifier cannot be null");
 
-        OpenFlowClassifierConfig config = cfgService.getConfig(classifier.deviceId(), OpenFlowClassifierConfig.class);
-
-        if (config == null) {
+        if (cfgService.getConfig(classifier.deviceId(), OpenFlowClassifierConfig.class) == null) {
             return;
         }
 
+        OpenFlowClassifierConfig config =
+                cfgService.addConfig(classifier.deviceId(), OpenFlowClassifierConfig.class);
         config.removeClassifier(classifier);
         cfgService.applyConfig(classifier.deviceId(), OpenFlowClassifierConfig.class, config.node());
     }
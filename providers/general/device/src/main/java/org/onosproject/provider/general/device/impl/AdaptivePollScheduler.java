@@ -0,0 +1,346 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.provider.general.device.impl;
+
+import com.google.common.collect.Maps;
+import org.onosproject.net.DeviceId;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.System.currentTimeMillis;
+
+/**
+ * Schedules periodic polls of devices, such as checkups or statistics polls.
+ * The first poll of each device is placed at a random point of the interval
+ * and later polls are jittered, so that polls are spread over the interval
+ * instead of hitting all devices at once. The interval of each device adapts
+ * to its behaviour: it shrinks after recent churn and grows, up to the
+ * configured maximum backoff, for devices which are stable or slow to respond.
+ * Per-device poll latency and skipped polls are recorded.
+ */
+class AdaptivePollScheduler {
+
+    // Lower bound of the factor applied to the configured interval.
+    private static final double MIN_FACTOR = 0.5;
+    // Consecutive uneventful polls after which the interval grows.
+    private static final int STABLE_POLLS = 3;
+    // Maximum random deviation from the interval, as a fraction of it.
+    private static final double JITTER = 0.1;
+    // Weight of the last sample in the average latency.
+    private static final double LATENCY_WEIGHT = 0.2;
+
+    private final Map<DeviceId, PollState> states = Maps.newConcurrentMap();
+    private volatile long intervalMillis;
+    private volatile int maxFactor;
+
+    /**
+     * Creates a new scheduler.
+     *
+     * @param intervalMillis configured poll interval in milliseconds
+     * @param maxFactor      maximum factor by which the interval of stable or
+     *                       slow devices may grow; 1 disables the backoff
+     */
+    AdaptivePollScheduler(long intervalMillis, int maxFactor) {
+        setInterval(intervalMillis);
+        setMaxFactor(maxFactor);
+    }
+
+    /**
+     * Sets the configured poll interval.
+     *
+     * @param intervalMillis poll interval in milliseconds
+     */
+    void setInterval(long intervalMillis) {
+        checkArgument(intervalMillis > 0, "intervalMillis must be greater than 0");
+        this.intervalMillis = intervalMillis;
+    }
+
+    /**
+     * Sets the maximum factor by which the interval of stable or slow devices
+     * may grow. Devices currently backed off beyond it are brought back
+     * within the new bound.
+     *
+     * @param maxFactor maximum backoff factor; 1 disables the backoff
+     */
+    void setMaxFactor(int maxFactor) {
+        checkArgument(maxFactor >= 1, "maxFactor must be at least 1");
+        this.maxFactor = maxFactor;
+        states.values().forEach(state -> {
+            synchronized (state) {
+                state.factor = Math.min(state.factor, maxFactor);
+            }
+        });
+    }
+
+    /**
+     * Returns the delay before the first poll of the given device, picked at
+     * random within the interval.
+     *
+     * @param deviceId device identifier
+     * @return delay in milliseconds
+     */
+    long initialDelay(DeviceId deviceId) {
+        states.computeIfAbsent(deviceId, k -> new PollState());
+        return ThreadLocalRandom.current().nextLong(intervalMillis);
+    }
+
+    /**
+     * Returns the delay before the next poll of the given device.
+     *
+     * @param deviceId device identifier
+     * @return delay in milliseconds
+     */
+    long nextDelay(DeviceId deviceId) {
+        PollState state = states.computeIfAbsent(deviceId, k -> new PollState());
+        synchronized (state) {
+            return jittered(state.factor);
+        }
+    }
+
+    /**
+     * Returns whether the given device is due for a poll at the given time.
+     * If it is, the following poll is scheduled. The first poll of a device
+     * is placed at a random point of the interval.
+     *
+     * @param deviceId device identifier
+     * @param now current time in milliseconds
+     * @return true if the device should be polled now
+     */
+    boolean isDue(DeviceId deviceId, long now) {
+        PollState state = states.computeIfAbsent(deviceId, k -> new PollState());
+        synchronized (state) {
+            if (state.nextPoll == 0) {
+                state.nextPoll = now + ThreadLocalRandom.current().nextLong(intervalMillis);
+            }
+            if (now < state.nextPoll) {
+                return false;
+            }
+            state.nextPoll = now + jittered(state.factor);
+            return true;
+        }
+    }
+
+    /**
+     * Records the start of a poll of the given device. The poll should be
+     * skipped if the previous one has not completed yet, unless the previous
+     * one has been pending for so long that it is considered lost.
+     *
+     * @param deviceId device identifier
+     * @return true if the poll can start, false if it should be skipped
+     */
+    boolean pollStarted(DeviceId deviceId) {
+        PollState state = states.computeIfAbsent(deviceId, k -> new PollState());
+        long now = currentTimeMillis();
+        synchronized (state) {
+            if (state.pollStart != 0 && now - state.pollStart < 2L * maxFactor * intervalMillis) {
+                state.skipped++;
+                return false;
+            }
+            state.pollStart = now;
+            return true;
+        }
+    }
+
+    /**
+     * Records the completion of a poll of the given device. Polls taking more
+     * than half of the current interval back off the device, while a series of
+     * quick polls without churn lets the interval grow up to the maximum
+     * backoff.
+     *
+     * @param deviceId device identifier
+     */
+    void pollCompleted(DeviceId deviceId) {
+        PollState state = states.get(deviceId);
+        if (state == null) {
+            return;
+        }
+        synchronized (state) {
+            if (state.pollStart == 0) {
+                return;
+            }
+            long latency = currentTimeMillis() - state.pollStart;
+            state.pollStart = 0;
+            state.polls++;
+            state.lastLatency = latency;
+            state.avgLatency = state.polls == 1 ? latency :
+                    LATENCY_WEIGHT * latency + (1 - LATENCY_WEIGHT) * state.avgLatency;
+
+            long currentInterval = (long) (intervalMillis * state.factor);
+            // Polls that would have been due while this one was running.
+            state.skipped += latency / Math.max(currentInterval, 1);
+            if (latency > currentInterval / 2 || ++state.stablePolls >= STABLE_POLLS) {
+                state.factor = Math.min(state.factor * 2, maxFactor);
+                state.stablePolls = 0;
+            }
+        }
+    }
+
+    /**
+     * Signals that the state of the given device changed recently, raising
+     * its poll rate.
+     *
+     * @param deviceId device identifier
+     */
+    void churn(DeviceId deviceId) {
+        PollState state = states.computeIfAbsent(deviceId, k -> new PollState());
+        synchronized (state) {
+            state.factor = MIN_FACTOR;
+            state.stablePolls = 0;
+            long next = currentTimeMillis() + (long) (intervalMillis * MIN_FACTOR);
+            if (state.nextPoll == 0 || state.nextPoll > next) {
+                state.nextPoll = next;
+            }
+        }
+    }
+
+    /**
+     * Forgets about the given device.
+     *
+     * @param deviceId device identifier
+     */
+    void remove(DeviceId deviceId) {
+        states.remove(deviceId);
+    }
+
+    /**
+     * Forgets about all devices.
+     */
+    void clear() {
+        states.clear();
+    }
+
+    /**
+     * Returns the poll statistics aggregated over all known devices: total
+     * polls and skipped polls, highest last latency, mean of the average
+     * latencies and longest current interval.
+     *
+     * @return aggregated poll statistics
+     */
+    PollStats totals() {
+        long polls = 0;
+        long skipped = 0;
+        long lastLatency = 0;
+        long latencySum = 0;
+        long interval = 0;
+        int devices = 0;
+        for (DeviceId deviceId : states.keySet()) {
+            PollStats deviceStats = stats(deviceId);
+            if (deviceStats == null) {
+                continue;
+            }
+            devices++;
+            polls += deviceStats.polls();
+            skipped += deviceStats.skipped();
+            lastLatency = Math.max(lastLatency, deviceStats.lastLatencyMillis());
+            latencySum += deviceStats.avgLatencyMillis();
+            interval = Math.max(interval, deviceStats.intervalMillis());
+        }
+        return new PollStats(polls, skipped, lastLatency,
+                             devices == 0 ? 0 : latencySum / devices, interval);
+    }
+
+    /**
+     * Returns a snapshot of the poll statistics of the given device.
+     *
+     * @param deviceId device identifier
+     * @return poll statistics, or null if the device is unknown
+     */
+    PollStats stats(DeviceId deviceId) {
+        PollState state = states.get(deviceId);
+        if (state == null) {
+            return null;
+        }
+        synchronized (state) {
+            return new PollStats(state.polls, state.skipped, state.lastLatency,
+                                 (long) state.avgLatency,
+                                 (long) (intervalMillis * state.factor));
+        }
+    }
+
+    private long jittered(double factor) {
+        double jitter = 1 + JITTER * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+        return Math.max(1, (long) (intervalMillis * factor * jitter));
+    }
+
+    /**
+     * Poll state of a device.
+     */
+    private static final class PollState {
+        private double factor = 1;
+        private int stablePolls;
+        private long nextPoll;
+        private long pollStart;
+        private long polls;
+        private long skipped;
+        private long lastLatency;
+        private double avgLatency;
+    }
+
+    /**
+     * Poll statistics of a device.
+     */
+    static final class PollStats {
+        private final long polls;
+        private final long skipped;
+        private final long lastLatencyMillis;
+        private final long avgLatencyMillis;
+        private final long intervalMillis;
+
+        private PollStats(long polls, long skipped, long lastLatencyMillis,
+                          long avgLatencyMillis, long intervalMillis) {
+            this.polls = polls;
+            this.skipped = skipped;
+            this.lastLatencyMillis = lastLatencyMillis;
+            this.avgLatencyMillis = avgLatencyMillis;
+            this.intervalMillis = intervalMillis;
+        }
+
+        long polls() {
+            return polls;
+        }
+
+        long skipped() {
+            return skipped;
+        }
+
+        long lastLatencyMillis() {
+            return lastLatencyMillis;
+        }
+
+        long avgLatencyMillis() {
+            return avgLatencyMillis;
+        }
+
+        long intervalMillis() {
+            return intervalMillis;
+        }
+
+        @Override
+        public String toString() {
+            return toStringHelper(this)
+                    .add("polls", polls)
+                    .add("skipped", skipped)
+                    .add("lastLatencyMillis", lastLatencyMillis)
+                    .add("avgLatencyMillis", avgLatencyMillis)
+                    .add("intervalMillis", intervalMillis)
+                    .toString();
+        }
+    }
+}
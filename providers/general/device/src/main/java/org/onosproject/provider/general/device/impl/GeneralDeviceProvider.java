@@ -16,9 +16,13 @@
 
 package org.onosproject.provider.general.device.impl;
 
+import com.codahale.metrics.Gauge;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import com.google.common.util.concurrent.Futures;
+import org.onlab.metrics.MetricsComponent;
+import org.onlab.metrics.MetricsFeature;
+import org.onlab.metrics.MetricsService;
 import org.onlab.packet.ChassisId;
 import org.onlab.util.ItemNotFoundException;
 import org.onlab.util.SharedScheduledExecutors;
@@ -88,6 +92,8 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Strings.isNullOrEmpty;
@@ -97,6 +103,8 @@ import static java.util.concurrent.Executors.newFixedThreadPool;
 import static org.onlab.util.Tools.groupedThreads;
 import static org.onosproject.provider.general.device.impl.OsgiPropertyConstants.CHECKUP_INTERVAL;
 import static org.onosproject.provider.general.device.impl.OsgiPropertyConstants.CHECKUP_INTERVAL_DEFAULT;
+import static org.onosproject.provider.general.device.impl.OsgiPropertyConstants.MAX_POLL_BACKOFF;
+import static org.onosproject.provider.general.device.impl.OsgiPropertyConstants.MAX_POLL_BACKOFF_DEFAULT;
 import static org.onosproject.provider.general.device.impl.OsgiPropertyConstants.STATS_POLL_INTERVAL;
 import static org.onosproject.provider.general.device.impl.OsgiPropertyConstants.STATS_POLL_INTERVAL_DEFAULT;
 import static org.slf4j.LoggerFactory.getLogger;
@@ -111,6 +119,7 @@ import static org.slf4j.LoggerFactory.getLogger;
         property = {
                 CHECKUP_INTERVAL + ":Integer=" + CHECKUP_INTERVAL_DEFAULT,
                 STATS_POLL_INTERVAL + ":Integer=" + STATS_POLL_INTERVAL_DEFAULT,
+                MAX_POLL_BACKOFF + ":Integer=" + MAX_POLL_BACKOFF_DEFAULT,
         })
 public class GeneralDeviceProvider extends AbstractProvider
         implements DeviceProvider {
@@ -122,8 +131,19 @@ public class GeneralDeviceProvider extends AbstractProvider
     private static final String DEVICE_PROVIDER_PACKAGE =
             "org.onosproject.general.provider.device";
     private static final int CORE_POOL_SIZE = 10;
+    // Period (in seconds) at which devices due for a checkup are looked up.
+    private static final int CHECKUP_TICK = 1;
     private static final String UNKNOWN = "unknown";
 
+    private static final String METRICS_COMPONENT = "GeneralDeviceProvider";
+    private static final String METRICS_CHECKUP = "checkup";
+    private static final String METRICS_STATS_POLL = "statsPoll";
+    private static final String POLLS = "polls";
+    private static final String SKIPPED_POLLS = "skippedPolls";
+    private static final String MAX_LATENCY = "maxLastLatencyMillis";
+    private static final String AVG_LATENCY = "avgLatencyMillis";
+    private static final String MAX_INTERVAL = "maxIntervalMillis";
+
     @Reference(cardinality = ReferenceCardinality.MANDATORY)
     private DeviceProviderRegistry providerRegistry;
 
@@ -162,6 +182,9 @@ public class GeneralDeviceProvider extends AbstractProvider
     @Reference(cardinality = ReferenceCardinality.MANDATORY)
     private GnmiController gnmiController;
 
+    @Reference(cardinality = ReferenceCardinality.MANDATORY)
+    private MetricsService metricsService;
+
     private GnmiDeviceStateSubscriber gnmiDeviceStateSubscriber;
 
     /**
@@ -174,8 +197,16 @@ public class GeneralDeviceProvider extends AbstractProvider
      */
     private int statsPollInterval = STATS_POLL_INTERVAL_DEFAULT;
 
+    /**
+     * Configure maximum factor by which the checkup and stats poll intervals
+     * of stable or slow devices may grow; default is 1 (no backoff).
+     */
+    private int maxPollBackoff = MAX_POLL_BACKOFF_DEFAULT;
+
     private final Map<DeviceId, DeviceHandshaker> handshakersWithListeners = Maps.newConcurrentMap();
     private final Map<DeviceId, Long> lastCheckups = Maps.newConcurrentMap();
+    private final AdaptivePollScheduler checkupScheduler =
+            new AdaptivePollScheduler(CHECKUP_INTERVAL_DEFAULT * 1000L, MAX_POLL_BACKOFF_DEFAULT);
     private final InternalPipeconfWatchdogListener pipeconfWatchdogListener = new InternalPipeconfWatchdogListener();
     private final NetworkConfigListener cfgListener = new InternalNetworkConfigListener();
     private final DeviceAgentListener deviceAgentListener = new InternalDeviceAgentListener();
@@ -186,6 +217,7 @@ public class GeneralDeviceProvider extends AbstractProvider
     private ScheduledFuture<?> checkupTask;
     private StatsPoller statsPoller;
     private DeviceProviderService providerService;
+    private MetricsComponent metricsComponent;
 
     public GeneralDeviceProvider() {
         super(new ProviderId(URI_SCHEME, DEVICE_PROVIDER_PACKAGE));
@@ -212,6 +244,7 @@ public class GeneralDeviceProvider extends AbstractProvider
         startOrReschedulePeriodicCheckupTasks();
         statsPoller = new StatsPoller(deviceService, mastershipService, providerService);
         statsPoller.activate(statsPollInterval);
+        registerMetrics();
         modified(context);
         log.info("Started");
     }
@@ -234,8 +267,24 @@ public class GeneralDeviceProvider extends AbstractProvider
         log.info("Configured. {} is configured to {} seconds",
                  STATS_POLL_INTERVAL, statsPollInterval);
 
+        final int oldMaxPollBackoff = maxPollBackoff;
+        maxPollBackoff = Tools.getIntegerProperty(
+                properties, MAX_POLL_BACKOFF, MAX_POLL_BACKOFF_DEFAULT);
+        if (maxPollBackoff < 1) {
+            log.warn("Invalid {} {}, using {}", MAX_POLL_BACKOFF,
+                     maxPollBackoff, MAX_POLL_BACKOFF_DEFAULT);
+            maxPollBackoff = MAX_POLL_BACKOFF_DEFAULT;
+        }
+        log.info("Configured. {} is configured to {}",
+                 MAX_POLL_BACKOFF, maxPollBackoff);
+
         if (oldCheckupInterval != checkupInterval) {
-            startOrReschedulePeriodicCheckupTasks();
+            checkupScheduler.setInterval(checkupInterval * 1000L);
+        }
+
+        if (oldMaxPollBackoff != maxPollBackoff) {
+            checkupScheduler.setMaxFactor(maxPollBackoff);
+            statsPoller.pollScheduler().setMaxFactor(maxPollBackoff);
         }
 
         if (oldStatsPollFrequency != statsPollInterval) {
@@ -246,6 +295,7 @@ public class GeneralDeviceProvider extends AbstractProvider
     @Deactivate
     public void deactivate() {
         deviceService.removeListener(deviceListener);
+        removeMetrics();
 
         // Shutdown stats poller.
         statsPoller.deactivate();
@@ -268,6 +318,7 @@ public class GeneralDeviceProvider extends AbstractProvider
         handshakersWithListeners.clear();
         // Other cleanup.
         lastCheckups.clear();
+        checkupScheduler.clear();
         componentConfigService.unregisterProperties(getClass(), false);
         cfgService.removeListener(cfgListener);
         pipeconfWatchdogService.removeListener(pipeconfWatchdogListener);
@@ -278,6 +329,38 @@ public class GeneralDeviceProvider extends AbstractProvider
         log.info("Stopped");
     }
 
+    private void registerMetrics() {
+        metricsComponent = metricsService.registerComponent(METRICS_COMPONENT);
+        registerPollMetrics(METRICS_CHECKUP, checkupScheduler::totals);
+        registerPollMetrics(METRICS_STATS_POLL, () -> statsPoller.pollScheduler().totals());
+    }
+
+    private void registerPollMetrics(String featureName,
+                                     Supplier<AdaptivePollScheduler.PollStats> totals) {
+        MetricsFeature feature = metricsComponent.registerFeature(featureName);
+        registerPollGauge(feature, POLLS, totals, AdaptivePollScheduler.PollStats::polls);
+        registerPollGauge(feature, SKIPPED_POLLS, totals, AdaptivePollScheduler.PollStats::skipped);
+        registerPollGauge(feature, MAX_LATENCY, totals, AdaptivePollScheduler.PollStats::lastLatencyMillis);
+        registerPollGauge(feature, AVG_LATENCY, totals, AdaptivePollScheduler.PollStats::avgLatencyMillis);
+        registerPollGauge(feature, MAX_INTERVAL, totals, AdaptivePollScheduler.PollStats::intervalMillis);
+    }
+
+    private void registerPollGauge(MetricsFeature feature, String name,
+                                   Supplier<AdaptivePollScheduler.PollStats> totals,
+                                   Function<AdaptivePollScheduler.PollStats, Long> value) {
+        metricsService.registerMetric(metricsComponent, feature, name,
+                                      (Gauge<Long>) () -> value.apply(totals.get()));
+    }
+
+    private void removeMetrics() {
+        for (String featureName : new String[]{METRICS_CHECKUP, METRICS_STATS_POLL}) {
+            MetricsFeature feature = metricsComponent.registerFeature(featureName);
+            for (String name : new String[]{POLLS, SKIPPED_POLLS, MAX_LATENCY, AVG_LATENCY, MAX_INTERVAL}) {
+                metricsService.removeMetric(metricsComponent, feature, name);
+            }
+        }
+    }
+
     @Override
     public void triggerProbe(DeviceId deviceId) {
         checkNotNull(deviceId);
@@ -454,6 +537,7 @@ public class GeneralDeviceProvider extends AbstractProvider
         @Override
         public void event(DeviceAgentEvent event) {
             DeviceId deviceId = event.subject();
+            checkupScheduler.churn(deviceId);
             switch (event.type()) {
                 case CHANNEL_OPEN:
                     submitTask(deviceId, TaskType.CHANNEL_OPEN);
@@ -492,6 +576,7 @@ public class GeneralDeviceProvider extends AbstractProvider
         @Override
         public void event(PiPipeconfWatchdogEvent event) {
             final DeviceId deviceId = event.subject();
+            checkupScheduler.churn(deviceId);
             switch (event.type()) {
                 case PIPELINE_READY:
                     submitTask(deviceId, TaskType.PIPELINE_READY);
@@ -515,19 +600,20 @@ public class GeneralDeviceProvider extends AbstractProvider
             if (checkupTask != null) {
                 checkupTask.cancel(false);
             }
+            // Devices are checked when due according to the checkup scheduler,
+            // which spreads checkups over the interval.
             checkupTask = SharedScheduledExecutors.getPoolThreadExecutor()
                     .scheduleAtFixedRate(
-                            this::submitCheckupTasksForAllDevices,
+                            this::submitDueCheckupTasks,
                             1,
-                            checkupInterval,
+                            CHECKUP_TICK,
                             TimeUnit.SECONDS,
                             true);
         }
     }
 
-    private void submitCheckupTasksForAllDevices() {
-        // Async trigger a task for all devices in the cfg.
-        log.debug("Submitting checkup task for all devices...");
+    private void submitDueCheckupTasks() {
+        // Async trigger a task for all devices in the cfg which are due.
         final Set<DeviceId> deviceToCheck = Sets.newHashSet();
         // All devices in the core and in the config that we care about.
         deviceService.getDevices().forEach(d -> {
@@ -539,7 +625,27 @@ public class GeneralDeviceProvider extends AbstractProvider
                 .filter(GeneralDeviceProvider::myScheme)
                 .filter(this::configIsPresent)
                 .forEach(deviceToCheck::add);
-        deviceToCheck.forEach(d -> submitTask(d, TaskType.CHECKUP));
+        final long now = currentTimeMillis();
+        deviceToCheck.stream()
+                .filter(d -> checkupScheduler.isDue(d, now))
+                // Skip devices whose previous checkup is still pending.
+                .filter(checkupScheduler::pollStarted)
+                .forEach(d -> {
+                    log.debug("Submitting checkup task for {}...", d);
+                    submitTask(d, TaskType.CHECKUP);
+                });
+    }
+
+    private void doScheduledCheckupAndRepair(DeviceId deviceId) {
+        try {
+            doCheckupAndRepair(deviceId);
+        } finally {
+            checkupScheduler.pollCompleted(deviceId);
+            if (log.isDebugEnabled()) {
+                log.debug("Checkup stats for {}: {}", deviceId,
+                          checkupScheduler.stats(deviceId));
+            }
+        }
     }
 
     /**
@@ -572,8 +678,9 @@ public class GeneralDeviceProvider extends AbstractProvider
                 return () -> handleConnectionUpdate(deviceId);
             case CONNECTION_TEARDOWN:
                 return () -> handleConnectionTeardown(deviceId);
-            case CHANNEL_OPEN:
             case CHECKUP:
+                return () -> doScheduledCheckupAndRepair(deviceId);
+            case CHANNEL_OPEN:
             case PIPELINE_READY:
                 return () -> doCheckupAndRepair(deviceId);
             case CHANNEL_CLOSED:
@@ -803,6 +910,7 @@ public class GeneralDeviceProvider extends AbstractProvider
         handshakersWithListeners.remove(deviceId);
         handshaker.disconnect();
         lastCheckups.remove(deviceId);
+        checkupScheduler.remove(deviceId);
     }
 
     private void bindPipeconfIfRequired(DeviceId deviceId) {
@@ -147,6 +147,8 @@ class GnmiDeviceStateSubscriber {
 
     private void unsubscribeIfNeeded(DeviceId deviceId) {
         gnmiController.get(deviceId).unsubscribe();
+        // Stop any counter sampling started by the port statistics discovery.
+        gnmiController.get(deviceId).unsubscribeSamples();
         if (deviceSubscribed.remove(deviceId) != null) {
             log.info("Cancelled gNMI subscription for {}", deviceId);
         }
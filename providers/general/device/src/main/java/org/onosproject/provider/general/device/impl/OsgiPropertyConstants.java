@@ -29,4 +29,7 @@ public final class OsgiPropertyConstants {
     public static final String CHECKUP_INTERVAL = "checkupInterval";
     public static final int CHECKUP_INTERVAL_DEFAULT = 10;
 
+    public static final String MAX_POLL_BACKOFF = "maxPollBackoff";
+    public static final int MAX_POLL_BACKOFF_DEFAULT = 1;
+
 }
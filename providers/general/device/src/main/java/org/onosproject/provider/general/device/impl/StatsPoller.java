@@ -32,7 +32,6 @@ import org.onosproject.net.device.PortStatistics;
 import org.onosproject.net.device.PortStatisticsDiscovery;
 import org.slf4j.Logger;
 
-import java.security.SecureRandom;
 import java.util.Collection;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentMap;
@@ -46,11 +45,14 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.concurrent.Executors.newScheduledThreadPool;
 import static org.onlab.util.Tools.groupedThreads;
 import static org.onosproject.provider.general.device.impl.GeneralDeviceProvider.myScheme;
+import static org.onosproject.provider.general.device.impl.OsgiPropertyConstants.MAX_POLL_BACKOFF_DEFAULT;
+import static org.onosproject.provider.general.device.impl.OsgiPropertyConstants.STATS_POLL_INTERVAL_DEFAULT;
 import static org.slf4j.LoggerFactory.getLogger;
 
 /**
  * Component devoted to polling stats from devices managed by the
- * GeneralDeviceProvider.
+ * GeneralDeviceProvider. Polls are spread over the configured interval and
+ * their rate adapts to each device, see {@link AdaptivePollScheduler}.
  */
 public class StatsPoller {
 
@@ -67,8 +69,9 @@ public class StatsPoller {
     private final Striped<Lock> deviceLocks = Striped.lock(30);
 
     private ScheduledExecutorService statsExecutor;
-    private ConcurrentMap<DeviceId, ScheduledFuture<?>> statsPollingTasks;
+    private ConcurrentMap<DeviceId, PollingTask> statsPollingTasks;
     private ConcurrentMap<DeviceId, Integer> pollFrequencies;
+    private final AdaptivePollScheduler pollScheduler;
     private int statsPollInterval;
 
     StatsPoller(DeviceService deviceService, MastershipService mastershipService,
@@ -76,8 +79,18 @@ public class StatsPoller {
         this.deviceService = deviceService;
         this.mastershipService = mastershipService;
         this.providerService = providerService;
+        this.pollScheduler = new AdaptivePollScheduler(
+                TimeUnit.SECONDS.toMillis(STATS_POLL_INTERVAL_DEFAULT), MAX_POLL_BACKOFF_DEFAULT);
     }
 
+    /**
+     * Returns the scheduler of the stats polls.
+     *
+     * @return poll scheduler
+     */
+    AdaptivePollScheduler pollScheduler() {
+        return pollScheduler;
+    }
 
     void activate(int statsPollInterval) {
         checkArgument(statsPollInterval > 0, "statsPollInterval must be greater than 0");
@@ -94,6 +107,7 @@ public class StatsPoller {
     void reschedule(int statsPollInterval) {
         checkArgument(statsPollInterval > 0, "statsPollInterval must be greater than 0");
         this.statsPollInterval = statsPollInterval;
+        pollScheduler.setInterval(TimeUnit.SECONDS.toMillis(statsPollInterval));
         // Consider all devices in the store, plus those of existing tasks
         // (which for some reason might disappear from the store and so we want
         // to cancel).
@@ -109,9 +123,17 @@ public class StatsPoller {
         deviceService.removeListener(deviceListener);
         mastershipService.removeListener(mastershipListener);
 
-        statsPollingTasks.values().forEach(t -> t.cancel(false));
+        statsPollingTasks.forEach((deviceId, task) -> {
+            deviceLocks.get(deviceId).lock();
+            try {
+                task.cancel();
+            } finally {
+                deviceLocks.get(deviceId).unlock();
+            }
+        });
         statsPollingTasks.clear();
         pollFrequencies.clear();
+        pollScheduler.clear();
         statsPollingTasks = null;
         pollFrequencies = null;
 
@@ -130,7 +152,7 @@ public class StatsPoller {
     private void updatePollingTask(DeviceId deviceId) {
         deviceLocks.get(deviceId).lock();
         try {
-            final ScheduledFuture<?> existingTask = statsPollingTasks.get(deviceId);
+            final PollingTask existingTask = statsPollingTasks.get(deviceId);
             final boolean shouldHaveTask = myScheme(deviceId)
                     && deviceService.getDevice(deviceId) != null
                     && deviceService.isAvailable(deviceId)
@@ -140,9 +162,12 @@ public class StatsPoller {
                     pollFrequencies.get(deviceId), statsPollInterval);
 
             if (existingTask != null && (!shouldHaveTask || pollIntervalChanged)) {
-                existingTask.cancel(false);
+                existingTask.cancel();
                 statsPollingTasks.remove(deviceId);
                 pollFrequencies.remove(deviceId);
+                if (!shouldHaveTask) {
+                    pollScheduler.remove(deviceId);
+                }
                 log.info("Cancelled polling task for {}", deviceId);
             }
 
@@ -151,10 +176,9 @@ public class StatsPoller {
                     // There's already a task, with the same interval.
                     return;
                 }
-                final int delay = new SecureRandom().nextInt(statsPollInterval);
-                statsPollingTasks.put(deviceId, statsExecutor.scheduleAtFixedRate(
-                        exceptionSafe(() -> updatePortStatistics(deviceId)),
-                        delay, statsPollInterval, TimeUnit.SECONDS));
+                final PollingTask task = new PollingTask(deviceId);
+                task.schedule(pollScheduler.initialDelay(deviceId));
+                statsPollingTasks.put(deviceId, task);
                 pollFrequencies.put(deviceId, statsPollInterval);
                 log.info("Started polling task for {} with interval {} seconds",
                          deviceId, statsPollInterval);
@@ -164,6 +188,19 @@ public class StatsPoller {
         }
     }
 
+    private void portsChanged(DeviceId deviceId) {
+        deviceLocks.get(deviceId).lock();
+        try {
+            final PollingTask task = statsPollingTasks.get(deviceId);
+            if (task != null) {
+                pollScheduler.churn(deviceId);
+                task.expedite();
+            }
+        } finally {
+            deviceLocks.get(deviceId).unlock();
+        }
+    }
+
     private void updatePortStatistics(DeviceId deviceId) {
         final Device device = deviceService.getDevice(deviceId);
         if (!device.is(PortStatisticsDiscovery.class)) {
@@ -186,6 +223,63 @@ public class StatsPoller {
         };
     }
 
+    /**
+     * Stats polling task of a device, rescheduling itself after each poll
+     * with the delay picked by the poll scheduler.
+     */
+    private final class PollingTask implements Runnable {
+
+        private final DeviceId deviceId;
+        private final Runnable poll;
+        // Guarded by the device lock.
+        private boolean cancelled;
+        private ScheduledFuture<?> future;
+
+        private PollingTask(DeviceId deviceId) {
+            this.deviceId = deviceId;
+            this.poll = exceptionSafe(() -> updatePortStatistics(deviceId));
+        }
+
+        private void schedule(long delayMillis) {
+            future = statsExecutor.schedule(this, delayMillis, TimeUnit.MILLISECONDS);
+        }
+
+        private void cancel() {
+            cancelled = true;
+            future.cancel(false);
+        }
+
+        // Brings the next poll forward if it is due later than the scheduler
+        // would now pick.
+        private void expedite() {
+            final long delay = pollScheduler.nextDelay(deviceId);
+            if (!cancelled && future.getDelay(TimeUnit.MILLISECONDS) > delay
+                    && future.cancel(false)) {
+                schedule(delay);
+            }
+        }
+
+        @Override
+        public void run() {
+            if (pollScheduler.pollStarted(deviceId)) {
+                try {
+                    poll.run();
+                } finally {
+                    pollScheduler.pollCompleted(deviceId);
+                }
+                log.debug("Polled stats of {}: {}", deviceId, pollScheduler.stats(deviceId));
+            }
+            deviceLocks.get(deviceId).lock();
+            try {
+                if (!cancelled) {
+                    schedule(pollScheduler.nextDelay(deviceId));
+                }
+            } finally {
+                deviceLocks.get(deviceId).unlock();
+            }
+        }
+    }
+
     private class InternalMastershipListener implements MastershipListener {
 
         @Override
@@ -205,7 +299,15 @@ public class StatsPoller {
     private class InternalDeviceListener implements DeviceListener {
         @Override
         public void event(DeviceEvent event) {
-            updatePollingTask(event.subject().id());
+            switch (event.type()) {
+                case PORT_ADDED:
+                case PORT_UPDATED:
+                case PORT_REMOVED:
+                    portsChanged(event.subject().id());
+                    break;
+                default:
+                    updatePollingTask(event.subject().id());
+            }
         }
 
         @Override
@@ -216,6 +318,9 @@ public class StatsPoller {
                 case DEVICE_AVAILABILITY_CHANGED:
                 case DEVICE_REMOVED:
                 case DEVICE_SUSPENDED:
+                case PORT_ADDED:
+                case PORT_UPDATED:
+                case PORT_REMOVED:
                     return true;
                 default:
                     return false;
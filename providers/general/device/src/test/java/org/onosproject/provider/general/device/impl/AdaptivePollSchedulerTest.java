@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.provider.general.device.impl;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.onosproject.net.DeviceId;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of the adaptive poll scheduler.
+ */
+public class AdaptivePollSchedulerTest {
+
+    private static final long INTERVAL = 10_000;
+    private static final DeviceId DID1 = DeviceId.deviceId("device:1");
+    private static final DeviceId DID2 = DeviceId.deviceId("device:2");
+
+    private AdaptivePollScheduler scheduler;
+
+    @Before
+    public void setUp() {
+        scheduler = new AdaptivePollScheduler(INTERVAL, 4);
+    }
+
+    private void poll(DeviceId deviceId, int times) {
+        for (int i = 0; i < times; i++) {
+            assertTrue("poll should start", scheduler.pollStarted(deviceId));
+            scheduler.pollCompleted(deviceId);
+        }
+    }
+
+    @Test
+    public void backoffDisabled() {
+        scheduler.setMaxFactor(1);
+        poll(DID1, 12);
+        assertEquals("incorrect polls", 12, scheduler.stats(DID1).polls());
+        assertEquals("interval should not grow", INTERVAL, scheduler.stats(DID1).intervalMillis());
+        assertTrue("delay should stay within jitter",
+                   scheduler.nextDelay(DID1) <= INTERVAL * 1.1);
+    }
+
+    @Test
+    public void stableDevicesBackOff() {
+        poll(DID1, 3);
+        assertEquals("interval should double", 2 * INTERVAL, scheduler.stats(DID1).intervalMillis());
+        poll(DID1, 3);
+        assertEquals("interval should reach max", 4 * INTERVAL, scheduler.stats(DID1).intervalMillis());
+        poll(DID1, 3);
+        assertEquals("interval should not exceed max", 4 * INTERVAL, scheduler.stats(DID1).intervalMillis());
+    }
+
+    @Test
+    public void lowerMaxFactor() {
+        poll(DID1, 6);
+        assertEquals("interval should reach max", 4 * INTERVAL, scheduler.stats(DID1).intervalMillis());
+        scheduler.setMaxFactor(2);
+        assertEquals("interval should be capped", 2 * INTERVAL, scheduler.stats(DID1).intervalMillis());
+        scheduler.setMaxFactor(1);
+        assertEquals("interval should be reset", INTERVAL, scheduler.stats(DID1).intervalMillis());
+    }
+
+    @Test
+    public void churnShrinksInterval() {
+        poll(DID1, 3);
+        scheduler.churn(DID1);
+        assertEquals("interval should shrink", INTERVAL / 2, scheduler.stats(DID1).intervalMillis());
+        poll(DID1, 3);
+        assertEquals("interval should recover", INTERVAL, scheduler.stats(DID1).intervalMillis());
+    }
+
+    @Test
+    public void overlappingPollSkipped() {
+        assertTrue("first poll should start", scheduler.pollStarted(DID1));
+        assertFalse("overlapping poll should be skipped", scheduler.pollStarted(DID1));
+        scheduler.pollCompleted(DID1);
+        assertEquals("incorrect skipped polls", 1, scheduler.stats(DID1).skipped());
+        assertTrue("next poll should start", scheduler.pollStarted(DID1));
+    }
+
+    @Test
+    public void totals() {
+        assertEquals("no polls expected", 0, scheduler.totals().polls());
+        poll(DID1, 3);
+        poll(DID2, 1);
+        scheduler.pollStarted(DID2);
+        scheduler.pollStarted(DID2);
+        AdaptivePollScheduler.PollStats totals = scheduler.totals();
+        assertEquals("incorrect polls", 4, totals.polls());
+        assertEquals("incorrect skipped polls", 1, totals.skipped());
+        assertEquals("incorrect max interval", 2 * INTERVAL, totals.intervalMillis());
+    }
+
+    @Test
+    public void removeDevice() {
+        poll(DID1, 1);
+        scheduler.remove(DID1);
+        assertNull("device should be forgotten", scheduler.stats(DID1));
+        poll(DID2, 1);
+        scheduler.clear();
+        assertEquals("no polls expected", 0, scheduler.totals().polls());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidMaxFactor() {
+        scheduler.setMaxFactor(0);
+    }
+}
@@ -37,6 +37,7 @@ import io.netty.util.TimerTask;
 import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import static com.google.common.collect.ImmutableList.copyOf;
@@ -68,6 +69,7 @@ class NullPacketProvider extends NullProviders.AbstractNullProvider
 
     private List<Device> devices;
     private int currentDevice = 0;
+    private final AtomicInteger nextInjectedDevice = new AtomicInteger();
 
     private Timeout timeout;
 
@@ -94,13 +96,14 @@ class NullPacketProvider extends NullProviders.AbstractNullProvider
     }
 
     /**
-     * Adjusts packet rate.
+     * Adjusts packet rate. Packets are emitted at most once per millisecond,
+     * so rates above 1000 packets per second are capped.
      *
      * @param packetRate new packet rate
      */
     void adjustRate(int packetRate) {
         boolean needsRestart = delay == 0 && packetRate > 0;
-        delay = packetRate > 0 ? 1000 / packetRate : 0;
+        delay = packetRate > 0 ? Math.max(1, 1000 / packetRate) : 0;
         if (needsRestart) {
             timeout = Timer.newTimeout(new PacketDriverTask(), 1, MILLISECONDS);
         }
@@ -116,6 +119,32 @@ class NullPacketProvider extends NullProviders.AbstractNullProvider
         }
     }
 
+    /**
+     * Injects a single packet-in from the next device, processing it in the
+     * calling thread.
+     *
+     * @return false if there is no device to inject the packet from
+     */
+    boolean injectPacketIn() {
+        final List<Device> currentDevices = devices;
+        if (providerService == null || currentDevices == null || currentDevices.isEmpty()) {
+            return false;
+        }
+        int index = Math.floorMod(nextInjectedDevice.getAndIncrement(), currentDevices.size());
+        ICMP icmp = new ICMP();
+        icmp.setIcmpType((byte) 8).setIcmpCode((byte) 0).setChecksum((short) 0);
+        Ethernet eth = new Ethernet();
+        eth.setEtherType(Ethernet.TYPE_IPV4);
+        eth.setPayload(icmp);
+        eth.setSourceMACAddress("00:00:00:10:00:0" + SRC_HOST)
+                .setDestinationMACAddress("00:00:00:10:00:0" + DST_HOST);
+        InboundPacket inPkt = new DefaultInboundPacket(
+                new ConnectPoint(currentDevices.get(index).id(), PortNumber.portNumber(SRC_HOST)),
+                eth, ByteBuffer.wrap(eth.serialize()));
+        providerService.processPacket(new NullPacketContext(inPkt, null));
+        return true;
+    }
+
     @Override
     public void emit(OutboundPacket packet) {
         // We don't have a network to emit to. Keep a counter here, maybe?
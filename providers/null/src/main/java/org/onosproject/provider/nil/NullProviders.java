@@ -23,6 +23,8 @@ import org.onosproject.mastership.MastershipAdminService;
 import org.onosproject.net.ConnectPoint;
 import org.onosproject.net.DeviceId;
 import org.onosproject.net.Host;
+import org.onosproject.net.HostId;
+import org.onosproject.net.HostLocation;
 import org.onosproject.net.MastershipRole;
 import org.onosproject.net.PortNumber;
 import org.onosproject.net.device.DeviceAdminService;
@@ -33,6 +35,7 @@ import org.onosproject.net.flow.FlowRuleProviderRegistry;
 import org.onosproject.net.flow.FlowRuleProviderService;
 import org.onosproject.net.group.GroupProviderRegistry;
 import org.onosproject.net.group.GroupProviderService;
+import org.onosproject.net.host.DefaultHostDescription;
 import org.onosproject.net.host.HostProvider;
 import org.onosproject.net.host.HostProviderRegistry;
 import org.onosproject.net.host.HostProviderService;
@@ -303,6 +306,31 @@ public class NullProviders {
         }
     }
 
+    /**
+     * Moves the specified host to a new location.
+     *
+     * @param hostId   host identifier
+     * @param location new host location
+     */
+    public void moveHost(HostId hostId, HostLocation location) {
+        Host host = hostService.getHost(hostId);
+        if (enabled && host != null) {
+            hostProviderService.hostDetected(hostId, new DefaultHostDescription(
+                    host.mac(), host.vlan(), location, host.ipAddresses()), false);
+        }
+    }
+
+    /**
+     * Injects a single packet-in from one of the simulated devices, in the
+     * calling thread. Unlike the packet rate, this allows to flood the packet
+     * processing pipeline as fast as the caller can go.
+     *
+     * @return true if the packet was injected
+     */
+    public boolean injectPacketIn() {
+        return enabled && packetProvider.injectPacketIn();
+    }
+
     /**
      * Fails the specified device.
      *
@@ -15,8 +15,6 @@
  */
 package org.onosproject.provider.of.packet.impl;
 
-import org.onlab.packet.DeserializationException;
-import org.onlab.packet.Ethernet;
 import org.onosproject.net.PortNumber;
 import org.onosproject.net.flow.instructions.Instruction;
 import org.onosproject.net.flow.instructions.Instruction.Type;
@@ -26,8 +24,6 @@ import org.onosproject.net.packet.InboundPacket;
 import org.onosproject.net.packet.OutboundPacket;
 import org.onosproject.openflow.controller.OpenFlowPacketContext;
 import org.projectfloodlight.openflow.types.OFPort;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import java.util.List;
 
@@ -36,8 +32,6 @@ import java.util.List;
  */
 public class OpenFlowCorePacketContext extends DefaultPacketContext {
 
-    private static final Logger log = LoggerFactory.getLogger(OpenFlowCorePacketContext.class);
-
     private final OpenFlowPacketContext ofPktCtx;
 
     /**
@@ -59,22 +53,13 @@ public class OpenFlowCorePacketContext extends DefaultPacketContext {
     @Override
     public void send() {
         if (!this.block()) {
-            if (outPacket() == null) {
-                sendPacket(null);
-            } else {
-                try {
-                    Ethernet eth = Ethernet.deserializer()
-                            .deserialize(outPacket().data().array(), 0,
-                                         outPacket().data().array().length);
-                    sendPacket(eth);
-                } catch (DeserializationException e) {
-                    log.warn("Unable to deserialize packet");
-                }
-            }
+            // The outbound packet carries the same bytes as the packet-in,
+            // which are sent as they are without being parsed.
+            sendPacket();
         }
     }
 
-    private void sendPacket(Ethernet eth) {
+    private void sendPacket() {
         List<Instruction> ins = treatmentBuilder().build().allInstructions();
         OFPort p = null;
         //TODO: support arbitrary list of treatments must be supported in ofPacketContext
@@ -84,11 +69,7 @@ public class OpenFlowCorePacketContext extends DefaultPacketContext {
                 break; //for now...
             }
         }
-        if (eth == null) {
-            ofPktCtx.build(p);
-        } else {
-            ofPktCtx.build(eth, p);
-        }
+        ofPktCtx.build(p);
         ofPktCtx.send();
     }
 
@@ -271,6 +271,7 @@ APP_MAP = {
     "//apps/test/netcfg-monitor:onos-apps-test-netcfg-monitor-oar": [],
     "//apps/test/primitive-perf:onos-apps-test-primitive-perf-oar": [],
     "//apps/test/route-scale:onos-apps-test-route-scale-oar": [],
+    "//apps/test/scenario-bench:onos-apps-test-scenario-bench-oar": [],
     "//apps/test/transaction-perf:onos-apps-test-transaction-perf-oar": [],
     "//apps/tunnel:onos-apps-tunnel-oar": ["sona"],
     "//apps/virtual:onos-apps-virtual-oar": [],
@@ -0,0 +1,307 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onlab.graph;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.math.DoubleMath;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.onlab.graph.GraphPathSearch.ALL_PATHS;
+
+/**
+ * Shortest paths between all pairs of vertexes of a {@link CompactGraph},
+ * computed up front. For every destination, the edges lying on any shortest
+ * path towards it form a directed acyclic graph, which is kept as a bit set
+ * over the edge indexes. The paths between a source and a destination are
+ * then enumerated by walking that graph, producing the same set of paths as
+ * {@link CompactDijkstraGraphSearch} without running a search.
+ * <p>
+ * The destinations are processed in parallel on a fork-join pool. Only
+ * weighers producing {@link ScalarWeight scalar weights} are supported.
+ * Instances are immutable and thread-safe once computed.
+ * </p>
+ *
+ * @param <V> vertex type
+ * @param <E> edge type
+ */
+public final class AllPairsShortestPaths<V extends Vertex, E extends Edge<V>> {
+
+    // Number of destinations below which a task is no longer split
+    private static final int DESTINATIONS_PER_TASK = 8;
+    // Rough size of an array header, used by the memory estimate
+    private static final int ARRAY_OVERHEAD = 16;
+
+    private final CompactGraph<V, E> graph;
+    private final double[] weights;
+    private final double initialCost;
+    // Shortest-path edges towards each destination; null if none
+    private final long[][] dags;
+    private final long computeTime;
+
+    private AllPairsShortestPaths(CompactGraph<V, E> graph, double[] weights,
+                                  double initialCost, ForkJoinPool pool) {
+        this.graph = graph;
+        this.weights = weights;
+        this.initialCost = initialCost;
+        this.dags = new long[graph.vertexCount()][];
+
+        long start = System.nanoTime();
+        pool.invoke(new DestinationsTask(0, graph.vertexCount()));
+        this.computeTime = System.nanoTime() - start;
+    }
+
+    /**
+     * Computes the shortest paths between all pairs of vertexes of the
+     * specified graph.
+     *
+     * @param graph   graph to be searched
+     * @param weigher edge weigher; it must produce scalar weights
+     * @param pool    fork-join pool on which the destinations are processed
+     * @param <V>     vertex type
+     * @param <E>     edge type
+     * @return all-pairs shortest paths
+     * @throws IllegalArgumentException if the weigher does not produce
+     *                                  scalar weights
+     */
+    public static <V extends Vertex, E extends Edge<V>> AllPairsShortestPaths<V, E>
+            compute(CompactGraph<V, E> graph, EdgeWeigher<V, E> weigher, ForkJoinPool pool) {
+        checkNotNull(graph, "Graph cannot be null");
+        checkNotNull(weigher, "Weigher cannot be null");
+        checkNotNull(pool, "Pool cannot be null");
+        double[] weights = graph.scalarWeights(weigher);
+        checkArgument(weights != null, "Weigher must produce scalar weights");
+        return new AllPairsShortestPaths<>(graph, weights,
+                                           ((ScalarWeight) weigher.getInitialWeight()).value(),
+                                           pool);
+    }
+
+    /**
+     * Returns the graph whose paths were computed.
+     *
+     * @return graph
+     */
+    public CompactGraph<V, E> graph() {
+        return graph;
+    }
+
+    /**
+     * Returns the shortest paths between the specified vertexes. As with
+     * {@link CompactDijkstraGraphSearch}, no paths are returned when the
+     * source and destination are the same vertex.
+     *
+     * @param src      source vertex
+     * @param dst      destination vertex
+     * @param maxPaths limit on the number of paths; {@link GraphPathSearch#ALL_PATHS}
+     *                 if no limit
+     * @return set of shortest paths; empty if the vertexes are not connected
+     *         or not part of the graph
+     */
+    public Set<Path<V, E>> paths(V src, V dst, int maxPaths) {
+        int s = graph.index(src);
+        int d = graph.index(dst);
+        if (s < 0 || d < 0 || s == d || dags[d] == null) {
+            return ImmutableSet.of();
+        }
+
+        // Depth-first walk from the source along the shortest-path edges
+        // towards the destination; the partial path at depth k is
+        // pathEdges[0] to pathEdges[k - 1].
+        long[] dag = dags[d];
+        int vertexCount = graph.vertexCount();
+        int[] pathEdges = new int[vertexCount];
+        int[] pathVertexes = new int[vertexCount];
+        int[] cursors = new int[vertexCount];
+        boolean[] onPath = new boolean[vertexCount];
+
+        ImmutableSet.Builder<Path<V, E>> paths = ImmutableSet.builder();
+        int count = 0;
+        int depth = 0;
+        pathVertexes[0] = s;
+        cursors[0] = graph.firstEdgeFrom(s);
+        onPath[s] = true;
+
+        while (depth >= 0 && (maxPaths == ALL_PATHS || count < maxPaths)) {
+            int v = pathVertexes[depth];
+            int e = cursors[depth];
+            if (e == graph.endEdgeFrom(v)) {
+                onPath[v] = false;
+                depth--;
+                continue;
+            }
+            cursors[depth]++;
+
+            int w = graph.dst(e);
+            if (!isSet(dag, e) || onPath[w]) {
+                // Zero-weight cycles could otherwise produce looping paths
+                continue;
+            }
+            pathEdges[depth] = e;
+            if (w == d) {
+                paths.add(path(pathEdges, depth + 1));
+                count++;
+            } else {
+                depth++;
+                pathVertexes[depth] = w;
+                cursors[depth] = graph.firstEdgeFrom(w);
+                onPath[w] = true;
+            }
+        }
+        return paths.build();
+    }
+
+    /**
+     * Returns the number of destinations reachable from at least one other
+     * vertex.
+     *
+     * @return number of reachable destinations
+     */
+    public int destinationCount() {
+        int count = 0;
+        for (long[] dag : dags) {
+            if (dag != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns an estimate of the memory retained by the computed paths, not
+     * counting the graph itself.
+     *
+     * @return memory footprint in bytes
+     */
+    public long memoryBytes() {
+        long bytes = ARRAY_OVERHEAD + 8L * weights.length + ARRAY_OVERHEAD + 8L * dags.length;
+        for (long[] dag : dags) {
+            if (dag != null) {
+                bytes += ARRAY_OVERHEAD + 8L * dag.length;
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns the time it took to compute the paths.
+     *
+     * @return compute time in nanoseconds
+     */
+    public long computeTime() {
+        return computeTime;
+    }
+
+    private Path<V, E> path(int[] pathEdges, int length) {
+        ImmutableList.Builder<E> edges = ImmutableList.builder();
+        double cost = initialCost;
+        for (int i = 0; i < length; i++) {
+            edges.add(graph.edge(pathEdges[i]));
+            cost += weights[pathEdges[i]];
+        }
+        return new DefaultPath<>(edges.build(), new ScalarWeight(cost));
+    }
+
+    private static boolean isSet(long[] bits, int i) {
+        return (bits[i >>> 6] & (1L << i)) != 0;
+    }
+
+    private static boolean isUsable(double weight) {
+        return weight != Double.POSITIVE_INFINITY && weight >= 0;
+    }
+
+    /**
+     * Computes the shortest-path edges towards a range of destinations,
+     * splitting the range until it is small enough.
+     */
+    private final class DestinationsTask extends RecursiveAction {
+        private final int from;
+        private final int to;
+
+        private DestinationsTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > DESTINATIONS_PER_TASK) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new DestinationsTask(from, middle),
+                          new DestinationsTask(middle, to));
+                return;
+            }
+            // Scratch state is shared by the destinations of this task
+            int vertexCount = graph.vertexCount();
+            double[] distances = new double[vertexCount];
+            boolean[] reached = new boolean[vertexCount];
+            boolean[] settled = new boolean[vertexCount];
+            IntMinHeap queue = new IntMinHeap(vertexCount);
+            for (int d = from; d < to; d++) {
+                Arrays.fill(reached, false);
+                Arrays.fill(settled, false);
+                dags[d] = dag(d, queue, distances, reached, settled);
+            }
+        }
+
+        // Runs Dijkstra search backwards from the destination and keeps the
+        // edges along which the distance to the destination is preserved.
+        private long[] dag(int dst, IntMinHeap queue, double[] distances,
+                           boolean[] reached, boolean[] settled) {
+            distances[dst] = 0;
+            reached[dst] = true;
+            queue.offer(dst, 0);
+            while (!queue.isEmpty()) {
+                int nearest = queue.poll();
+                settled[nearest] = true;
+                for (int i = graph.firstEdgeTo(nearest); i < graph.endEdgeTo(nearest); i++) {
+                    int e = graph.edgeTo(i);
+                    int v = graph.src(e);
+                    if (!isUsable(weights[e]) || settled[v]) {
+                        continue;
+                    }
+                    double distance = distances[nearest] + weights[e];
+                    if (!reached[v] || distance < distances[v]) {
+                        distances[v] = distance;
+                        reached[v] = true;
+                        queue.offer(v, distance);
+                    }
+                }
+            }
+
+            long[] dag = null;
+            for (int e = 0; e < weights.length; e++) {
+                int u = graph.src(e);
+                int w = graph.dst(e);
+                if (u == dst || !reached[u] || !reached[w] || !isUsable(weights[e]) ||
+                        !DoubleMath.fuzzyEquals(distances[w] + weights[e], distances[u],
+                                                ScalarWeight.samenessThreshold())) {
+                    continue;
+                }
+                if (dag == null) {
+                    dag = new long[(weights.length + 63) >>> 6];
+                }
+                dag[e >>> 6] |= 1L << e;
+            }
+            return dag;
+        }
+    }
+}
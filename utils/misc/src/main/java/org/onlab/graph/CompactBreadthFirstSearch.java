@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onlab.graph;
+
+/**
+ * Breadth-first search over a {@link CompactGraph}, producing the same paths
+ * as {@link BreadthFirstSearch} while keeping its state in primitive arrays.
+ * Searches over other graphs are run on a compact copy of the graph, and
+ * searches with weights other than {@link ScalarWeight} are delegated to
+ * {@link BreadthFirstSearch}.
+ *
+ * @param <V> vertex type
+ * @param <E> edge type
+ */
+public class CompactBreadthFirstSearch<V extends Vertex, E extends Edge<V>>
+        extends AbstractGraphPathSearch<V, E> {
+
+    private final BreadthFirstSearch<V, E> fallback = new BreadthFirstSearch<>();
+
+    @Override
+    protected Result<V, E> internalSearch(Graph<V, E> graph, V src, V dst,
+                                          EdgeWeigher<V, E> weigher, int maxPaths) {
+        CompactGraph<V, E> compactGraph = CompactGraph.copyOf(graph);
+        double[] weights = compactGraph.scalarWeights(weigher);
+        if (weights == null) {
+            return fallback.search(graph, src, dst, weigher, maxPaths);
+        }
+
+        CompactShortestPaths search =
+                new CompactShortestPaths(compactGraph, weights, maxPaths);
+        search.breadthFirst(compactGraph.index(src), compactGraph.index(dst),
+                            ((ScalarWeight) weigher.getInitialWeight()).value());
+        return new CompactResult<>(compactGraph, search, src, dst, maxPaths);
+    }
+}
@@ -0,0 +1,390 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onlab.graph;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Immutable graph stored in compressed sparse row form. Vertexes and edges
+ * are numbered and the edges leaving, respectively entering, each vertex are
+ * kept as contiguous ranges of integer arrays, so that searches can run over
+ * primitive arrays instead of maps. The snapshot is meant to be built once and
+ * shared by all the searches run against the same graph; the edge weights
+ * produced by each weigher are computed once as well.
+ *
+ * @param <V> vertex type
+ * @param <E> edge type
+ */
+public final class CompactGraph<V extends Vertex, E extends Edge<V>>
+        implements Graph<V, E> {
+
+    private final Set<V> vertexSet;
+    private final Set<E> edgeSet;
+    private final ImmutableMap<V, Integer> indexes;
+
+    // Vertexes by index
+    private final Object[] vertexes;
+    // Edges by index, grouped by source vertex
+    private final Object[] edges;
+    private final int[] edgeSources;
+    private final int[] edgeDestinations;
+    // Edges leaving vertex v are [outOffsets[v], outOffsets[v + 1])
+    private final int[] outOffsets;
+    // Edges entering vertex v are inEdges[inOffsets[v]] to inEdges[inOffsets[v + 1] - 1]
+    private final int[] inOffsets;
+    private final int[] inEdges;
+
+    // Maximum number of weighers whose edge weights are kept
+    private static final int MAX_CACHED_WEIGHERS = 8;
+
+    // Scalar edge weights, by weigher; weighers are compared by identity
+    private final Cache<EdgeWeigher<V, E>, double[]> weightCache =
+            CacheBuilder.newBuilder()
+                    .weakKeys()
+                    .maximumSize(MAX_CACHED_WEIGHERS)
+                    .build();
+
+    private CompactGraph(Graph<V, E> graph) {
+        ImmutableSet.Builder<V> vertexBuilder = ImmutableSet.builder();
+        vertexBuilder.addAll(graph.getVertexes());
+        for (E edge : graph.getEdges()) {
+            vertexBuilder.add(edge.src()).add(edge.dst());
+        }
+        this.vertexSet = vertexBuilder.build();
+        this.edgeSet = ImmutableSet.copyOf(graph.getEdges());
+
+        int vertexCount = vertexSet.size();
+        int edgeCount = edgeSet.size();
+
+        ImmutableMap.Builder<V, Integer> indexBuilder = ImmutableMap.builder();
+        this.vertexes = new Object[vertexCount];
+        int index = 0;
+        for (V vertex : vertexSet) {
+            vertexes[index] = vertex;
+            indexBuilder.put(vertex, index++);
+        }
+        this.indexes = indexBuilder.build();
+
+        // Count the degree of each vertex and turn the counts into offsets
+        this.outOffsets = new int[vertexCount + 1];
+        this.inOffsets = new int[vertexCount + 1];
+        for (E edge : edgeSet) {
+            outOffsets[indexes.get(edge.src()) + 1]++;
+            inOffsets[indexes.get(edge.dst()) + 1]++;
+        }
+        for (int v = 0; v < vertexCount; v++) {
+            outOffsets[v + 1] += outOffsets[v];
+            inOffsets[v + 1] += inOffsets[v];
+        }
+
+        this.edges = new Object[edgeCount];
+        this.edgeSources = new int[edgeCount];
+        this.edgeDestinations = new int[edgeCount];
+        int[] outNext = outOffsets.clone();
+        for (E edge : edgeSet) {
+            int src = indexes.get(edge.src());
+            int e = outNext[src]++;
+            edges[e] = edge;
+            edgeSources[e] = src;
+            edgeDestinations[e] = indexes.get(edge.dst());
+        }
+
+        this.inEdges = new int[edgeCount];
+        int[] inNext = inOffsets.clone();
+        for (int e = 0; e < edgeCount; e++) {
+            inEdges[inNext[edgeDestinations[e]]++] = e;
+        }
+    }
+
+    /**
+     * Returns a compact snapshot of the specified graph.
+     *
+     * @param graph graph to be copied
+     * @param <V>   vertex type
+     * @param <E>   edge type
+     * @return compact graph; the given graph itself if already compact
+     */
+    public static <V extends Vertex, E extends Edge<V>> CompactGraph<V, E> copyOf(Graph<V, E> graph) {
+        checkNotNull(graph, "Graph cannot be null");
+        if (graph instanceof CompactGraph) {
+            return (CompactGraph<V, E>) graph;
+        }
+        return new CompactGraph<>(graph);
+    }
+
+    @Override
+    public Set<V> getVertexes() {
+        return vertexSet;
+    }
+
+    @Override
+    public Set<E> getEdges() {
+        return edgeSet;
+    }
+
+    @Override
+    public Set<E> getEdgesFrom(V src) {
+        Integer v = indexes.get(src);
+        return v == null ? ImmutableSet.of() :
+                new EdgeRange(null, outOffsets[v], outOffsets[v + 1]);
+    }
+
+    @Override
+    public Set<E> getEdgesTo(V dst) {
+        Integer v = indexes.get(dst);
+        return v == null ? ImmutableSet.of() :
+                new EdgeRange(inEdges, inOffsets[v], inOffsets[v + 1]);
+    }
+
+    /**
+     * Returns the number of vertexes.
+     *
+     * @return vertex count
+     */
+    int vertexCount() {
+        return vertexes.length;
+    }
+
+    /**
+     * Returns the number of edges.
+     *
+     * @return edge count
+     */
+    int edgeCount() {
+        return edges.length;
+    }
+
+    /**
+     * Returns the index of the specified vertex.
+     *
+     * @param vertex vertex
+     * @return vertex index; -1 if the vertex is not in the graph
+     */
+    int index(V vertex) {
+        Integer v = vertex == null ? null : indexes.get(vertex);
+        return v == null ? -1 : v;
+    }
+
+    /**
+     * Returns the vertex with the specified index.
+     *
+     * @param v vertex index
+     * @return vertex
+     */
+    @SuppressWarnings("unchecked")
+    V vertex(int v) {
+        return (V) vertexes[v];
+    }
+
+    /**
+     * Returns the edge with the specified index.
+     *
+     * @param e edge index
+     * @return edge
+     */
+    @SuppressWarnings("unchecked")
+    E edge(int e) {
+        return (E) edges[e];
+    }
+
+    /**
+     * Returns the index of the source vertex of the specified edge.
+     *
+     * @param e edge index
+     * @return source vertex index
+     */
+    int src(int e) {
+        return edgeSources[e];
+    }
+
+    /**
+     * Returns the index of the destination vertex of the specified edge.
+     *
+     * @param e edge index
+     * @return destination vertex index
+     */
+    int dst(int e) {
+        return edgeDestinations[e];
+    }
+
+    /**
+     * Returns the index of the first edge leaving the specified vertex.
+     *
+     * @param v vertex index
+     * @return first egress edge index
+     */
+    int firstEdgeFrom(int v) {
+        return outOffsets[v];
+    }
+
+    /**
+     * Returns the index past the last edge leaving the specified vertex.
+     *
+     * @param v vertex index
+     * @return end of the egress edge range
+     */
+    int endEdgeFrom(int v) {
+        return outOffsets[v + 1];
+    }
+
+    /**
+     * Returns the position of the first edge entering the specified vertex;
+     * see {@link #edgeTo(int)}.
+     *
+     * @param v vertex index
+     * @return position of the first ingress edge
+     */
+    int firstEdgeTo(int v) {
+        return inOffsets[v];
+    }
+
+    /**
+     * Returns the position past the last edge entering the specified vertex.
+     *
+     * @param v vertex index
+     * @return end of the ingress edge range
+     */
+    int endEdgeTo(int v) {
+        return inOffsets[v + 1];
+    }
+
+    /**
+     * Returns the index of the ingress edge at the specified position.
+     *
+     * @param position position within the ingress edge ranges
+     * @return edge index
+     */
+    int edgeTo(int position) {
+        return inEdges[position];
+    }
+
+    /**
+     * Returns the weights of all edges as scalar values, indexed by edge.
+     * Non-viable edges are given an infinite weight. The weights are computed
+     * once per weigher instance, which is thus expected to weigh the edges of
+     * this immutable graph consistently. The returned array is shared and
+     * must not be modified.
+     *
+     * @param weigher edge weigher
+     * @return edge weights; null if the weigher does not produce
+     *         {@link ScalarWeight scalar weights}
+     */
+    double[] scalarWeights(EdgeWeigher<V, E> weigher) {
+        if (!(weigher.getInitialWeight() instanceof ScalarWeight)) {
+            return null;
+        }
+        double[] weights = weightCache.getIfPresent(weigher);
+        if (weights == null) {
+            weights = weigh(weigher);
+            if (weights != null) {
+                weightCache.put(weigher, weights);
+            }
+        }
+        return weights;
+    }
+
+    // Weighs all edges; null if a weight is not scalar.
+    private double[] weigh(EdgeWeigher<V, E> weigher) {
+        double[] weights = new double[edges.length];
+        for (int e = 0; e < edges.length; e++) {
+            Weight weight = weigher.weight(edge(e));
+            if (!(weight instanceof ScalarWeight)) {
+                return null;
+            }
+            weights[e] = weight.isViable() ?
+                    ((ScalarWeight) weight).value() : Double.POSITIVE_INFINITY;
+        }
+        return weights;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof CompactGraph) {
+            CompactGraph that = (CompactGraph) obj;
+            return Objects.equals(this.vertexSet, that.vertexSet) &&
+                    Objects.equals(this.edgeSet, that.edgeSet);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(vertexSet, edgeSet);
+    }
+
+    @Override
+    public String toString() {
+        return toStringHelper(this)
+                .add("vertexes", vertexSet)
+                .add("edges", edgeSet)
+                .toString();
+    }
+
+    // Read-only view of a range of edges; backed by the edge array itself
+    // when no edge positions are given.
+    private final class EdgeRange extends AbstractSet<E> {
+        private final int[] positions;
+        private final int start;
+        private final int end;
+
+        private EdgeRange(int[] positions, int start, int end) {
+            this.positions = positions;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return new Iterator<E>() {
+                private int next = start;
+
+                @Override
+                public boolean hasNext() {
+                    return next < end;
+                }
+
+                @Override
+                public E next() {
+                    if (next >= end) {
+                        throw new NoSuchElementException();
+                    }
+                    int position = next++;
+                    return edge(positions == null ? position : positions[position]);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return end - start;
+        }
+    }
+}
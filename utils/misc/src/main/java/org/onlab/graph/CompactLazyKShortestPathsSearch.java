@@ -0,0 +1,238 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onlab.graph;
+
+import com.google.common.collect.ComparisonChain;
+import com.google.common.collect.ImmutableList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.Spliterators.spliteratorUnknownSize;
+
+/**
+ * Lazily runs Yen's K shortest paths algorithm over a {@link CompactGraph}.
+ * Paths are handled as arrays of edge indexes and the removal of edges and
+ * vertexes from the graph is done through flags rather than through a
+ * masking edge weigher. Searches with weights other than
+ * {@link ScalarWeight} are delegated to {@link LazyKShortestPathsSearch}.
+ *
+ * @param <V> vertex type
+ * @param <E> edge type
+ */
+public class CompactLazyKShortestPathsSearch<V extends Vertex, E extends Edge<V>> {
+
+    private final LazyKShortestPathsSearch<V, E> fallback = new LazyKShortestPathsSearch<>();
+
+    /**
+     * Searches the specified graph for paths between vertices.
+     *
+     * @param graph    graph to be searched
+     * @param src      source vertex
+     * @param dst      destination vertex
+     * @param weigher  edge-weigher
+     * @return Stream of shortest paths
+     */
+    public Stream<Path<V, E>> lazyPathSearch(Graph<V, E> graph,
+                                              V src, V dst,
+                                              EdgeWeigher<V, E> weigher) {
+        checkNotNull(src);
+        checkNotNull(dst);
+        checkNotNull(weigher);
+        CompactGraph<V, E> compactGraph = CompactGraph.copyOf(graph);
+        double[] weights = compactGraph.scalarWeights(weigher);
+        if (weights == null) {
+            return fallback.lazyPathSearch(graph, src, dst, weigher);
+        }
+
+        Iterator<Path<V, E>> it = new ShortestPathIterator(compactGraph, weights, src, dst,
+                ((ScalarWeight) weigher.getInitialWeight()).value());
+
+        return StreamSupport.stream(spliteratorUnknownSize(it,
+                                                           Spliterator.ORDERED |
+                                                           Spliterator.DISTINCT |
+                                                           Spliterator.NONNULL |
+                                                           Spliterator.IMMUTABLE),
+                                    false);
+    }
+
+    /**
+     * Iterator returning shortest paths, searched incrementally on each next() call.
+     */
+    private final class ShortestPathIterator implements Iterator<Path<V, E>> {
+
+        private final CompactGraph<V, E> graph;
+        private final double[] weights;
+        private final int src;
+        private final int dst;
+        private final double initialCost;
+
+        private final List<int[]> resultPaths = new ArrayList<>();
+        private final Queue<Candidate> potentialPaths = new PriorityQueue<>();
+        private final Set<Candidate> knownPaths = new HashSet<>();
+
+        private final boolean[] excludedVertexes;
+        private final boolean[] excludedEdges;
+
+        private Candidate next;
+        private boolean nextComputed;
+
+        private ShortestPathIterator(CompactGraph<V, E> graph, double[] weights,
+                                     V src, V dst, double initialCost) {
+            this.graph = graph;
+            this.weights = weights;
+            this.src = graph.index(src);
+            this.dst = graph.index(dst);
+            this.initialCost = initialCost;
+            this.excludedVertexes = new boolean[graph.vertexCount()];
+            this.excludedEdges = new boolean[graph.edgeCount()];
+
+            if (this.src >= 0 && this.dst >= 0) {
+                int[] shortest = shortestPath(this.src);
+                if (shortest != null) {
+                    next = candidate(new int[0], shortest);
+                    knownPaths.add(next);
+                }
+            }
+            nextComputed = true;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!nextComputed) {
+                next = computeNext(resultPaths.get(resultPaths.size() - 1));
+                nextComputed = true;
+            }
+            return next != null;
+        }
+
+        @Override
+        public Path<V, E> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more path between " +
+                        graph.vertex(src) + "-" + graph.vertex(dst));
+            }
+            Candidate lastPath = next;
+            resultPaths.add(lastPath.edges);
+            nextComputed = false;
+            return path(lastPath);
+        }
+
+        private Candidate computeNext(int[] lastPath) {
+            for (int i = 0; i < lastPath.length; i++) {
+                int spurNode = graph.src(lastPath[i]);
+                int[] rootPath = Arrays.copyOf(lastPath, i);
+
+                // Remove the edges following the same root in earlier paths
+                for (int[] path : resultPaths) {
+                    if (path.length > i && Arrays.equals(rootPath, Arrays.copyOf(path, i))) {
+                        excludedEdges[path[i]] = true;
+                    }
+                }
+                // Effectively remove all root path nodes other than spurNode
+                for (int e : rootPath) {
+                    excludedVertexes[graph.src(e)] = true;
+                }
+
+                int[] spurPath = shortestPath(spurNode);
+                if (spurPath != null) {
+                    Candidate candidate = candidate(rootPath, spurPath);
+                    if (knownPaths.add(candidate)) {
+                        potentialPaths.add(candidate);
+                    }
+                }
+
+                // Restore all removed edges and nodes
+                for (int[] path : resultPaths) {
+                    if (path.length > i) {
+                        excludedEdges[path[i]] = false;
+                    }
+                }
+                for (int e : rootPath) {
+                    excludedVertexes[graph.src(e)] = false;
+                }
+            }
+            return potentialPaths.poll();
+        }
+
+        private int[] shortestPath(int from) {
+            CompactShortestPaths search = new CompactShortestPaths(graph, weights, 1);
+            search.dijkstra(from, dst, initialCost, excludedVertexes, excludedEdges);
+            List<int[]> paths = search.paths(from, dst, 1);
+            return paths.isEmpty() ? null : paths.get(0);
+        }
+
+        private Candidate candidate(int[] rootPath, int[] spurPath) {
+            int[] edges = Arrays.copyOf(rootPath, rootPath.length + spurPath.length);
+            System.arraycopy(spurPath, 0, edges, rootPath.length, spurPath.length);
+            double cost = initialCost;
+            for (int e : edges) {
+                cost += weights[e];
+            }
+            return new Candidate(edges, cost);
+        }
+
+        private Path<V, E> path(Candidate candidate) {
+            ImmutableList.Builder<E> edges = ImmutableList.builder();
+            for (int e : candidate.edges) {
+                edges.add(graph.edge(e));
+            }
+            return new DefaultPath<>(edges.build(), new ScalarWeight(candidate.cost));
+        }
+    }
+
+    /**
+     * Potential path, ordered by cost and then by hop count.
+     */
+    private static final class Candidate implements Comparable<Candidate> {
+        private final int[] edges;
+        private final double cost;
+
+        private Candidate(int[] edges, double cost) {
+            this.edges = edges;
+            this.cost = cost;
+        }
+
+        @Override
+        public int compareTo(Candidate other) {
+            return ComparisonChain.start()
+                    .compare(cost, other.cost)
+                    .compare(edges.length, other.edges.length)
+                    .result();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Candidate && Arrays.equals(edges, ((Candidate) obj).edges);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(edges);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onlab.graph;
+
+import com.google.common.base.Suppliers;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Result of a search over a {@link CompactGraph}. Paths are built eagerly,
+ * while the vertex costs and parent edges are only turned into maps when
+ * asked for.
+ *
+ * @param <V> vertex type
+ * @param <E> edge type
+ */
+final class CompactResult<V extends Vertex, E extends Edge<V>>
+        implements GraphPathSearch.Result<V, E> {
+
+    private final CompactGraph<V, E> graph;
+    private final CompactShortestPaths search;
+    private final V src;
+    private final V dst;
+    private final Set<Path<V, E>> paths = new HashSet<>();
+    private final Supplier<Map<V, Weight>> costs = Suppliers.memoize(this::buildCosts);
+    private final Supplier<Map<V, Set<E>>> parents = Suppliers.memoize(this::buildParents);
+
+    /**
+     * Creates the result of the given search and builds the paths between
+     * the source and the destination, or all reached vertexes if no
+     * destination was given.
+     *
+     * @param graph    searched graph
+     * @param search   completed search
+     * @param src      search source
+     * @param dst      optional search destination
+     * @param maxPaths limit on the number of paths per destination;
+     *                 {@link GraphPathSearch#ALL_PATHS} if no limit
+     */
+    CompactResult(CompactGraph<V, E> graph, CompactShortestPaths search,
+                  V src, V dst, int maxPaths) {
+        this.graph = graph;
+        this.search = search;
+        this.src = src;
+        this.dst = dst;
+
+        int s = graph.index(src);
+        if (dst != null) {
+            buildPaths(s, graph.index(dst), maxPaths);
+        } else {
+            for (int v = 0; v < graph.vertexCount(); v++) {
+                if (search.reached(v)) {
+                    buildPaths(s, v, maxPaths);
+                }
+            }
+        }
+    }
+
+    @Override
+    public V src() {
+        return src;
+    }
+
+    @Override
+    public V dst() {
+        return dst;
+    }
+
+    @Override
+    public Set<Path<V, E>> paths() {
+        return paths;
+    }
+
+    @Override
+    public Map<V, Set<E>> parents() {
+        return parents.get();
+    }
+
+    @Override
+    public Map<V, Weight> costs() {
+        return costs.get();
+    }
+
+    private void buildPaths(int s, int d, int maxPaths) {
+        Weight cost = new ScalarWeight(search.cost(d));
+        for (int[] edgeIndexes : search.paths(s, d, maxPaths)) {
+            ImmutableList.Builder<E> edges = ImmutableList.builder();
+            for (int e : edgeIndexes) {
+                edges.add(graph.edge(e));
+            }
+            paths.add(new DefaultPath<>(edges.build(), cost));
+        }
+    }
+
+    private Map<V, Weight> buildCosts() {
+        ImmutableMap.Builder<V, Weight> builder = ImmutableMap.builder();
+        for (int v = 0; v < graph.vertexCount(); v++) {
+            if (search.reached(v)) {
+                builder.put(graph.vertex(v), new ScalarWeight(search.cost(v)));
+            }
+        }
+        return builder.build();
+    }
+
+    private Map<V, Set<E>> buildParents() {
+        ImmutableMap.Builder<V, Set<E>> builder = ImmutableMap.builder();
+        for (int v = 0; v < graph.vertexCount(); v++) {
+            int entry = search.firstParent(v);
+            if (entry < 0) {
+                continue;
+            }
+            ImmutableSet.Builder<E> edges = ImmutableSet.builder();
+            for (; entry >= 0; entry = search.nextParent(entry)) {
+                edges.add(graph.edge(search.parentEdge(entry)));
+            }
+            builder.put(graph.vertex(v), edges.build());
+        }
+        return builder.build();
+    }
+}
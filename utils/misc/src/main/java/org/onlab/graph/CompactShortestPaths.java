@@ -0,0 +1,291 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onlab.graph;
+
+import com.google.common.math.DoubleMath;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.onlab.graph.GraphPathSearch.ALL_PATHS;
+
+/**
+ * Shortest path search state over a {@link CompactGraph}. Costs and parent
+ * edges of the vertexes are kept in primitive arrays indexed by vertex, and
+ * the parent edges of each vertex form a linked list stored in arrays sized
+ * by the number of edges.
+ */
+final class CompactShortestPaths {
+
+    private static final int NONE = -1;
+
+    private final CompactGraph<?, ?> graph;
+    private final double[] weights;
+    private final int maxPaths;
+
+    private final double[] costs;
+    private final boolean[] reached;
+    private final int[] parentCounts;
+    private final int[] parentHeads;
+    // Parent list entries; each edge is relaxed at most once per search
+    private final int[] parentNexts;
+    private final int[] parentEdges;
+    private int parentSize;
+
+    /**
+     * Creates the state of a search.
+     *
+     * @param graph    graph to be searched
+     * @param weights  edge weights indexed by edge
+     * @param maxPaths limit on the number of parent edges kept per vertex;
+     *                 {@link GraphPathSearch#ALL_PATHS} if no limit
+     */
+    CompactShortestPaths(CompactGraph<?, ?> graph, double[] weights, int maxPaths) {
+        this.graph = graph;
+        this.weights = weights;
+        this.maxPaths = maxPaths;
+
+        int vertexCount = graph.vertexCount();
+        this.costs = new double[vertexCount];
+        this.reached = new boolean[vertexCount];
+        this.parentCounts = new int[vertexCount];
+        this.parentHeads = new int[vertexCount];
+        Arrays.fill(parentHeads, NONE);
+        this.parentNexts = new int[graph.edgeCount()];
+        this.parentEdges = new int[graph.edgeCount()];
+    }
+
+    /**
+     * Runs Dijkstra search from the specified source. Negative and non-viable
+     * edges are ignored, as are the edges touching excluded vertexes and the
+     * excluded edges themselves.
+     *
+     * @param src              source vertex index
+     * @param dst              destination vertex index; -1 to reach all vertexes
+     * @param initialCost      cost of the source vertex
+     * @param excludedVertexes optional flags of the vertexes to be avoided
+     * @param excludedEdges    optional flags of the edges to be avoided
+     */
+    void dijkstra(int src, int dst, double initialCost,
+                  boolean[] excludedVertexes, boolean[] excludedEdges) {
+        IntMinHeap queue = new IntMinHeap(graph.vertexCount());
+        boolean[] settled = new boolean[graph.vertexCount()];
+
+        reach(src, initialCost);
+        queue.offer(src, initialCost);
+
+        while (!queue.isEmpty()) {
+            int nearest = queue.poll();
+            settled[nearest] = true;
+            if (nearest == dst) {
+                break;
+            }
+
+            double cost = costs[nearest];
+            for (int e = graph.firstEdgeFrom(nearest); e < graph.endEdgeFrom(nearest); e++) {
+                int v = graph.dst(e);
+                double hopCost = weights[e];
+                if (hopCost == Double.POSITIVE_INFINITY || hopCost < 0 ||
+                        (excludedEdges != null && excludedEdges[e]) ||
+                        (excludedVertexes != null && excludedVertexes[v])) {
+                    continue;
+                }
+                if (relax(v, e, cost + hopCost) < 0 && !settled[v]) {
+                    queue.offer(v, costs[v]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs breadth-first search from the specified source. Each vertex keeps
+     * the edge through which it was first reached.
+     *
+     * @param src         source vertex index
+     * @param dst         destination vertex index; -1 to reach all vertexes
+     * @param initialCost cost of the source vertex
+     */
+    void breadthFirst(int src, int dst, double initialCost) {
+        int[] queue = new int[graph.vertexCount()];
+        int head = 0;
+        int tail = 0;
+
+        reach(src, initialCost);
+        queue[tail++] = src;
+
+        while (head < tail) {
+            int vertex = queue[head++];
+            double cost = costs[vertex];
+            for (int e = graph.firstEdgeFrom(vertex); e < graph.endEdgeFrom(vertex); e++) {
+                int v = graph.dst(e);
+                if (!reached[v]) {
+                    reach(v, cost + weights[e]);
+                    addParent(v, e);
+                    if (v == dst) {
+                        return;
+                    }
+                    queue[tail++] = v;
+                }
+            }
+        }
+    }
+
+    /**
+     * Indicates whether the specified vertex was reached by the search.
+     *
+     * @param v vertex index
+     * @return true if the vertex has a cost
+     */
+    boolean reached(int v) {
+        return reached[v];
+    }
+
+    /**
+     * Returns the cost to reach the specified vertex.
+     *
+     * @param v vertex index
+     * @return cost; meaningful only if the vertex was reached
+     */
+    double cost(int v) {
+        return costs[v];
+    }
+
+    /**
+     * Returns the first entry of the parent list of the specified vertex.
+     *
+     * @param v vertex index
+     * @return parent entry; -1 if the vertex has no parent edges
+     */
+    int firstParent(int v) {
+        return parentHeads[v];
+    }
+
+    /**
+     * Returns the parent list entry following the specified one.
+     *
+     * @param entry parent entry
+     * @return next parent entry; -1 if there are no more parent edges
+     */
+    int nextParent(int entry) {
+        return parentNexts[entry];
+    }
+
+    /**
+     * Returns the edge of the specified parent list entry.
+     *
+     * @param entry parent entry
+     * @return edge index
+     */
+    int parentEdge(int entry) {
+        return parentEdges[entry];
+    }
+
+    /**
+     * Builds the loop-free paths between the source and the destination by
+     * walking back through the parent edges.
+     *
+     * @param src   source vertex index
+     * @param dst   destination vertex index
+     * @param limit limit on the number of paths; {@link GraphPathSearch#ALL_PATHS}
+     *              if no limit
+     * @return list of paths, each given as the edge indexes from the source
+     */
+    List<int[]> paths(int src, int dst, int limit) {
+        List<int[]> paths = new ArrayList<>();
+        if (src == dst || parentHeads[dst] == NONE) {
+            return paths;
+        }
+
+        // Depth-first walk from the destination back to the source; the
+        // partial path at depth d is pathEdges[d] down to pathEdges[0].
+        int vertexCount = graph.vertexCount();
+        int[] pathEdges = new int[vertexCount];
+        int[] pathVertexes = new int[vertexCount];
+        int[] cursors = new int[vertexCount];
+        boolean[] onPath = new boolean[vertexCount];
+
+        int depth = 0;
+        pathVertexes[0] = dst;
+        cursors[0] = parentHeads[dst];
+        onPath[dst] = true;
+
+        while (depth >= 0 && (limit == ALL_PATHS || paths.size() < limit)) {
+            int entry = cursors[depth];
+            if (entry == NONE) {
+                onPath[pathVertexes[depth]] = false;
+                depth--;
+                continue;
+            }
+            cursors[depth] = parentNexts[entry];
+
+            int e = parentEdges[entry];
+            int s = graph.src(e);
+            if (onPath[s]) {
+                // Exclude any looping paths
+                continue;
+            }
+            pathEdges[depth] = e;
+            if (s == src) {
+                int[] path = new int[depth + 1];
+                for (int i = 0; i <= depth; i++) {
+                    path[i] = pathEdges[depth - i];
+                }
+                paths.add(path);
+            } else {
+                depth++;
+                pathVertexes[depth] = s;
+                cursors[depth] = parentHeads[s];
+                onPath[s] = true;
+            }
+        }
+        return paths;
+    }
+
+    // Updates the cost of the vertex if the new cost is not worse and records
+    // the parent edge; returns the comparison of the new and old costs.
+    private int relax(int v, int e, double newCost) {
+        int compareResult = -1;
+        if (reached[v]) {
+            compareResult = DoubleMath.fuzzyEquals(newCost, costs[v],
+                                                   ScalarWeight.samenessThreshold()) ?
+                    0 : Double.compare(newCost, costs[v]);
+        }
+        if (compareResult <= 0) {
+            reach(v, newCost);
+            if (compareResult < 0) {
+                parentHeads[v] = NONE;
+                parentCounts[v] = 0;
+            }
+            addParent(v, e);
+        }
+        return compareResult;
+    }
+
+    private void reach(int v, double cost) {
+        costs[v] = cost;
+        reached[v] = true;
+    }
+
+    private void addParent(int v, int e) {
+        if (maxPaths == ALL_PATHS || parentCounts[v] < maxPaths) {
+            parentEdges[parentSize] = e;
+            parentNexts[parentSize] = parentHeads[v];
+            parentHeads[v] = parentSize++;
+            parentCounts[v]++;
+        }
+    }
+}
@@ -0,0 +1,286 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onlab.graph;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Suurballe disjoint path search over a {@link CompactGraph}. It finds the
+ * pair of vertex-disjoint paths between a source and a destination whose
+ * total cost is minimal, as a minimum cost flow of two units through the
+ * graph where every vertex is split into an ingress and an egress half.
+ * <p>
+ * Unlike {@link SuurballeGraphSearch}, which returns a pair for each of the
+ * shortest paths, this search returns the single optimal
+ * {@link DisjointPathPair}; the pair has no backup path if only one path
+ * exists. Searches without a destination and searches with weights other
+ * than {@link ScalarWeight} are delegated to {@link SuurballeGraphSearch}.
+ * </p>
+ *
+ * @param <V> vertex type
+ * @param <E> edge type
+ */
+public class CompactSuurballeGraphSearch<V extends Vertex, E extends Edge<V>>
+        extends AbstractGraphPathSearch<V, E> {
+
+    private static final int NONE = -1;
+
+    private final SuurballeGraphSearch<V, E> fallback = new SuurballeGraphSearch<>();
+
+    @Override
+    protected Result<V, E> internalSearch(Graph<V, E> graph, V src, V dst,
+                                          EdgeWeigher<V, E> weigher, int maxPaths) {
+        CompactGraph<V, E> compactGraph = CompactGraph.copyOf(graph);
+        double[] weights = compactGraph.scalarWeights(weigher);
+        if (dst == null || weights == null) {
+            return fallback.search(graph, src, dst, weigher, maxPaths);
+        }
+
+        double initialCost = ((ScalarWeight) weigher.getInitialWeight()).value();
+        FlowNetwork network = new FlowNetwork(compactGraph, weights,
+                                              compactGraph.index(src),
+                                              compactGraph.index(dst));
+        Set<Path<V, E>> paths = ImmutableSet.of();
+        if (network.augment()) {
+            network.augment();
+            List<Path<V, E>> disjoint = network.paths(initialCost);
+            Path<V, E> primary = disjoint.get(0);
+            Path<V, E> backup = disjoint.size() > 1 ? disjoint.get(1) : null;
+            if (backup != null && isShorter(backup, primary)) {
+                Path<V, E> swap = primary;
+                primary = backup;
+                backup = swap;
+            }
+            paths = ImmutableSet.of(new DisjointPathPair<>(primary, backup));
+        }
+        return new DisjointPathResult(src, dst, paths);
+    }
+
+    // Orders paths by cost and then by hop count.
+    private boolean isShorter(Path<V, E> path, Path<V, E> other) {
+        int compareResult = path.cost().compareTo(other.cost());
+        return compareResult < 0 ||
+                (compareResult == 0 && path.edges().size() < other.edges().size());
+    }
+
+    /**
+     * Residual network of the split graph. Vertex v is split into the ingress
+     * node 2v and the egress node 2v + 1, joined by an arc of unit capacity,
+     * which makes the resulting paths vertex-disjoint. Each graph edge becomes
+     * an arc from the egress node of its source to the ingress node of its
+     * destination. Arcs are stored in pairs, an arc and its reverse residual
+     * arc being at indexes a and a ^ 1.
+     */
+    private final class FlowNetwork {
+        private final CompactGraph<V, E> graph;
+        private final double[] weights;
+        private final int source;
+        private final int sink;
+
+        private final int[] arcHeads;
+        private final int[] arcTargets;
+        private final int[] arcNexts;
+        private final int[] arcCapacities;
+        private final double[] arcCosts;
+        private final int[] arcEdges;
+        private int arcCount;
+
+        private final double[] potentials;
+
+        private FlowNetwork(CompactGraph<V, E> graph, double[] weights, int src, int dst) {
+            this.graph = graph;
+            this.weights = weights;
+            this.source = 2 * src + 1;
+            this.sink = 2 * dst;
+
+            int nodeCount = 2 * graph.vertexCount();
+            int maxArcs = 2 * (graph.vertexCount() + graph.edgeCount());
+            this.arcHeads = new int[nodeCount];
+            Arrays.fill(arcHeads, NONE);
+            this.arcTargets = new int[maxArcs];
+            this.arcNexts = new int[maxArcs];
+            this.arcCapacities = new int[maxArcs];
+            this.arcCosts = new double[maxArcs];
+            this.arcEdges = new int[maxArcs];
+            this.potentials = new double[nodeCount];
+
+            for (int v = 0; v < graph.vertexCount(); v++) {
+                addArc(2 * v, 2 * v + 1, 1, 0, NONE);
+            }
+            for (int e = 0; e < graph.edgeCount(); e++) {
+                double weight = weights[e];
+                // Ignore non-viable and negative edges as well as edges which
+                // re-enter the source or leave the destination.
+                if (weight == Double.POSITIVE_INFINITY || weight < 0 ||
+                        graph.dst(e) == src || graph.src(e) == dst) {
+                    continue;
+                }
+                addArc(2 * graph.src(e) + 1, 2 * graph.dst(e), 1, weight, e);
+            }
+        }
+
+        private void addArc(int from, int to, int capacity, double cost, int edge) {
+            link(from, to, capacity, cost, edge);
+            link(to, from, 0, -cost, edge);
+        }
+
+        private void link(int from, int to, int capacity, double cost, int edge) {
+            arcTargets[arcCount] = to;
+            arcCapacities[arcCount] = capacity;
+            arcCosts[arcCount] = cost;
+            arcEdges[arcCount] = edge;
+            arcNexts[arcCount] = arcHeads[from];
+            arcHeads[from] = arcCount++;
+        }
+
+        /**
+         * Pushes one unit of flow along the cheapest augmenting path, using
+         * the node potentials to keep the reduced arc costs non-negative.
+         *
+         * @return true if a unit of flow was pushed
+         */
+        private boolean augment() {
+            int nodeCount = arcHeads.length;
+            double[] distances = new double[nodeCount];
+            Arrays.fill(distances, Double.POSITIVE_INFINITY);
+            int[] parentArcs = new int[nodeCount];
+            Arrays.fill(parentArcs, NONE);
+            boolean[] settled = new boolean[nodeCount];
+            IntMinHeap queue = new IntMinHeap(nodeCount);
+
+            distances[source] = 0;
+            queue.offer(source, 0);
+            while (!queue.isEmpty()) {
+                int node = queue.poll();
+                settled[node] = true;
+                for (int a = arcHeads[node]; a != NONE; a = arcNexts[a]) {
+                    int target = arcTargets[a];
+                    if (arcCapacities[a] == 0 || settled[target]) {
+                        continue;
+                    }
+                    double reducedCost = Math.max(0, arcCosts[a] +
+                            potentials[node] - potentials[target]);
+                    double distance = distances[node] + reducedCost;
+                    if (distance < distances[target]) {
+                        distances[target] = distance;
+                        parentArcs[target] = a;
+                        queue.offer(target, distance);
+                    }
+                }
+            }
+
+            if (!settled[sink]) {
+                return false;
+            }
+            for (int node = 0; node < nodeCount; node++) {
+                if (settled[node]) {
+                    potentials[node] += distances[node];
+                }
+            }
+            for (int node = sink; node != source; node = arcTargets[parentArcs[node] ^ 1]) {
+                arcCapacities[parentArcs[node]]--;
+                arcCapacities[parentArcs[node] ^ 1]++;
+            }
+            return true;
+        }
+
+        /**
+         * Decomposes the flow into paths between the source and the sink.
+         *
+         * @param initialCost cost of the empty path
+         * @return list of flow-carrying paths
+         */
+        private List<Path<V, E>> paths(double initialCost) {
+            ImmutableList.Builder<Path<V, E>> paths = ImmutableList.builder();
+            for (int first = arcHeads[source]; first != NONE; first = arcNexts[first]) {
+                if (!carriesFlow(first)) {
+                    continue;
+                }
+                ImmutableList.Builder<E> edges = ImmutableList.builder();
+                double cost = initialCost;
+                int arc = first;
+                while (arc != NONE) {
+                    int e = arcEdges[arc];
+                    edges.add(graph.edge(e));
+                    cost += weights[e];
+                    // Follow the flow out of the egress half of the next vertex
+                    int next = NONE;
+                    if (arcTargets[arc] != sink) {
+                        for (int a = arcHeads[arcTargets[arc] + 1]; a != NONE; a = arcNexts[a]) {
+                            if (carriesFlow(a)) {
+                                next = a;
+                                break;
+                            }
+                        }
+                    }
+                    arc = next;
+                }
+                paths.add(new DefaultPath<>(edges.build(), new ScalarWeight(cost)));
+            }
+            return paths.build();
+        }
+
+        // Indicates whether the arc is a forward edge arc carrying flow.
+        private boolean carriesFlow(int arc) {
+            return (arc & 1) == 0 && arcEdges[arc] != NONE && arcCapacities[arc] == 0;
+        }
+    }
+
+    // Result of the disjoint path search
+    private final class DisjointPathResult implements Result<V, E> {
+        private final V src;
+        private final V dst;
+        private final Set<Path<V, E>> paths;
+
+        private DisjointPathResult(V src, V dst, Set<Path<V, E>> paths) {
+            this.src = src;
+            this.dst = dst;
+            this.paths = paths;
+        }
+
+        @Override
+        public V src() {
+            return src;
+        }
+
+        @Override
+        public V dst() {
+            return dst;
+        }
+
+        @Override
+        public Set<Path<V, E>> paths() {
+            return paths;
+        }
+
+        @Override
+        public Map<V, Set<E>> parents() {
+            return ImmutableMap.of();
+        }
+
+        @Override
+        public Map<V, Weight> costs() {
+            return ImmutableMap.of();
+        }
+    }
+}
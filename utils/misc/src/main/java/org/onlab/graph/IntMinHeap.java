@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onlab.graph;
+
+import java.util.Arrays;
+
+/**
+ * Binary min heap of integer items in the range [0, capacity), ordered by a
+ * key of type double, and supporting the decrease of the key of a queued
+ * item. Used by the searches over {@link CompactGraph} in place of a heap of
+ * boxed vertexes.
+ * <p>
+ * This class is not thread-safe.
+ * </p>
+ */
+final class IntMinHeap {
+
+    private static final int NONE = -1;
+
+    private final int[] items;
+    private final int[] positions;
+    private final double[] keys;
+    private int size;
+
+    /**
+     * Creates an empty heap.
+     *
+     * @param capacity number of distinct items
+     */
+    IntMinHeap(int capacity) {
+        this.items = new int[capacity];
+        this.positions = new int[capacity];
+        this.keys = new double[capacity];
+        Arrays.fill(positions, NONE);
+    }
+
+    /**
+     * Indicates whether the heap is empty.
+     *
+     * @return true if no items are queued
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Queues the specified item with the given key, or updates the key of
+     * the item if it is already queued. The key of a queued item is only
+     * expected to decrease.
+     *
+     * @param item item
+     * @param key  item key
+     */
+    void offer(int item, double key) {
+        keys[item] = key;
+        if (positions[item] == NONE) {
+            items[size] = item;
+            positions[item] = size++;
+        }
+        siftUp(positions[item]);
+    }
+
+    /**
+     * Removes and returns the item with the smallest key.
+     *
+     * @return item
+     */
+    int poll() {
+        int item = items[0];
+        positions[item] = NONE;
+        if (--size > 0) {
+            items[0] = items[size];
+            positions[items[0]] = 0;
+            siftDown(0);
+        }
+        return item;
+    }
+
+    private void siftUp(int i) {
+        int item = items[i];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (keys[items[parent]] <= keys[item]) {
+                break;
+            }
+            move(parent, i);
+            i = parent;
+        }
+        place(item, i);
+    }
+
+    private void siftDown(int i) {
+        int item = items[i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && keys[items[child + 1]] < keys[items[child]]) {
+                child++;
+            }
+            if (keys[item] <= keys[items[child]]) {
+                break;
+            }
+            move(child, i);
+            i = child;
+        }
+        place(item, i);
+    }
+
+    private void move(int from, int to) {
+        items[to] = items[from];
+        positions[items[to]] = to;
+    }
+
+    private void place(int item, int i) {
+        items[i] = item;
+        positions[item] = i;
+    }
+}
@@ -26,6 +26,8 @@ import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Objects;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 
 /**
  * A class representing an IP address.
@@ -151,6 +153,22 @@ public class IpAddress implements Comparable<IpAddress> {
         return Arrays.copyOf(octets, octets.length);
     }
 
+    /**
+     * Returns whether the bit at the given position of the address is set.
+     * Bit 0 is the most significant bit of the first octet. Unlike
+     * {@link #toOctets()} this does not copy the address.
+     *
+     * @param index the bit position, starting from the most significant bit
+     * @return true if the bit is set, otherwise false
+     * @throws IllegalArgumentException if the position is outside the address
+     */
+    public boolean isBitSet(int index) {
+        // Negative positions down to -7 would otherwise read the first octet
+        checkArgument(index >= 0 && index < octets.length * Byte.SIZE,
+                      "Invalid bit position: %s", index);
+        return (octets[index / Byte.SIZE] & (1 << (Byte.SIZE - 1 - index % Byte.SIZE))) != 0;
+    }
+
     /**
      * Returns the IP address as InetAddress.
      *
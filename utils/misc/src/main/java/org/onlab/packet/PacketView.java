@@ -0,0 +1,396 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onlab.packet;
+
+import java.nio.ByteBuffer;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Read-only view of the headers of an Ethernet frame, backed by the buffer
+ * holding the frame.
+ * <p>
+ * Unlike {@link Ethernet#deserializer()}, the view does not copy the frame
+ * nor build a packet object per header: header fields are read in place
+ * when accessed. Only the offsets of the headers are located when the view
+ * is created. The full object model can still be obtained with
+ * {@link #parse()}. The buffer must not be modified while the view is in use.
+ * </p>
+ */
+public final class PacketView {
+
+    /**
+     * Value returned by the accessors of fields missing in the frame.
+     */
+    public static final int NONE = -1;
+
+    private static final int MAC_LENGTH = 6;
+    private static final int IPV4_MIN_HEADER_LENGTH = 20;
+    private static final int IPV6_HEADER_LENGTH = 40;
+    private static final int ARP_MIN_LENGTH = 8;
+    private static final int L4_PORTS_LENGTH = 4;
+    private static final int PROTOCOL_SCTP = 132;
+
+    private final ByteBuffer buffer;
+    private final int start;
+    private final int length;
+
+    private final int etherType;
+    private final short vlanId;
+    private final byte priorityCode;
+    private final short qinqVlanId;
+    private final int l3Offset;
+    private final int ipProtocol;
+    private final int l4Offset;
+
+    private PacketView(ByteBuffer buffer) {
+        this.buffer = checkNotNull(buffer);
+        this.start = buffer.position();
+        this.length = buffer.remaining();
+
+        int type = NONE;
+        short vid = Ethernet.VLAN_UNTAGGED;
+        byte pcp = 0;
+        short qinqVid = Ethernet.VLAN_UNTAGGED;
+        int offset = Ethernet.ETHERNET_HEADER_LENGTH;
+        if (length >= offset) {
+            type = u16(offset - 2);
+            // Same tag handling as the Ethernet deserializer
+            if (type == (Ethernet.TYPE_QINQ & 0xffff) && length >= offset + 4) {
+                qinqVid = (short) (u16(offset) & 0x0fff);
+                type = u16(offset + 2);
+                offset += 4;
+            }
+            if (type == (Ethernet.TYPE_VLAN & 0xffff) && length >= offset + 4) {
+                int tci = u16(offset);
+                vid = (short) (tci & 0x0fff);
+                pcp = (byte) (tci >> 13 & 0x07);
+                type = u16(offset + 2);
+                offset += 4;
+                if (type == (Ethernet.TYPE_VLAN & 0xffff) && length >= offset + 4) {
+                    qinqVid = vid;
+                    tci = u16(offset);
+                    vid = (short) (tci & 0x0fff);
+                    pcp = (byte) (tci >> 13 & 0x07);
+                    type = u16(offset + 2);
+                    offset += 4;
+                }
+            }
+        }
+        this.etherType = type;
+        this.vlanId = vid;
+        this.priorityCode = pcp;
+        this.qinqVlanId = qinqVid;
+        this.l3Offset = type == NONE ? NONE : offset;
+
+        int protocol = NONE;
+        int l4 = NONE;
+        if (type == (Ethernet.TYPE_IPV4 & 0xffff) && length >= offset + IPV4_MIN_HEADER_LENGTH) {
+            protocol = u8(offset + 9);
+            l4 = offset + (u8(offset) & 0x0f) * 4;
+        } else if (type == (Ethernet.TYPE_IPV6 & 0xffff) && length >= offset + IPV6_HEADER_LENGTH) {
+            // Extension headers are not walked
+            protocol = u8(offset + 6);
+            l4 = offset + IPV6_HEADER_LENGTH;
+        }
+        this.ipProtocol = protocol;
+        this.l4Offset = l4 != NONE && l4 <= length ? l4 : NONE;
+    }
+
+    /**
+     * Returns a view of the frame held between the position and the limit
+     * of the given buffer. The position of the buffer is not changed.
+     *
+     * @param buffer buffer holding the frame
+     * @return packet view
+     */
+    public static PacketView wrap(ByteBuffer buffer) {
+        return new PacketView(buffer);
+    }
+
+    /**
+     * Returns a view of the frame held in the given array.
+     *
+     * @param data frame bytes
+     * @return packet view
+     */
+    public static PacketView wrap(byte[] data) {
+        return new PacketView(ByteBuffer.wrap(data));
+    }
+
+    /**
+     * Returns the length of the frame.
+     *
+     * @return length in bytes
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Returns whether the frame is long enough to hold an Ethernet header.
+     *
+     * @return true if the Ethernet header is present
+     */
+    public boolean hasEthernetHeader() {
+        return etherType != NONE;
+    }
+
+    /**
+     * Returns the destination MAC address, as a long.
+     *
+     * @return destination MAC address, or {@link #NONE}
+     */
+    public long destinationMac() {
+        return hasEthernetHeader() ? u48(0) : NONE;
+    }
+
+    /**
+     * Returns the source MAC address, as a long.
+     *
+     * @return source MAC address, or {@link #NONE}
+     */
+    public long sourceMac() {
+        return hasEthernetHeader() ? u48(MAC_LENGTH) : NONE;
+    }
+
+    /**
+     * Returns the ethertype of the payload, after any VLAN tag.
+     *
+     * @return ethertype, or {@link #NONE}
+     */
+    public int etherType() {
+        return etherType;
+    }
+
+    /**
+     * Returns the VLAN identifier of the innermost VLAN tag.
+     *
+     * @return VLAN identifier, or {@link Ethernet#VLAN_UNTAGGED}
+     */
+    public short vlanId() {
+        return vlanId;
+    }
+
+    /**
+     * Returns the priority code of the innermost VLAN tag.
+     *
+     * @return priority code, 0 if untagged
+     */
+    public byte priorityCode() {
+        return priorityCode;
+    }
+
+    /**
+     * Returns the VLAN identifier of the outer tag of a double tagged frame.
+     *
+     * @return VLAN identifier, or {@link Ethernet#VLAN_UNTAGGED}
+     */
+    public short qinqVlanId() {
+        return qinqVlanId;
+    }
+
+    /**
+     * Returns the offset of the network header within the frame.
+     *
+     * @return offset in bytes, or {@link #NONE}
+     */
+    public int l3Offset() {
+        return l3Offset;
+    }
+
+    /**
+     * Returns whether the frame carries an IPv4 packet.
+     *
+     * @return true if IPv4
+     */
+    public boolean isIpv4() {
+        return etherType == (Ethernet.TYPE_IPV4 & 0xffff) && ipProtocol != NONE;
+    }
+
+    /**
+     * Returns whether the frame carries an IPv6 packet.
+     *
+     * @return true if IPv6
+     */
+    public boolean isIpv6() {
+        return etherType == (Ethernet.TYPE_IPV6 & 0xffff) && ipProtocol != NONE;
+    }
+
+    /**
+     * Returns whether the frame carries an ARP packet.
+     *
+     * @return true if ARP
+     */
+    public boolean isArp() {
+        return etherType == (Ethernet.TYPE_ARP & 0xffff) && length >= l3Offset + ARP_MIN_LENGTH;
+    }
+
+    /**
+     * Returns the protocol of the IPv4 payload, or the next header of the
+     * IPv6 packet.
+     *
+     * @return IP protocol, or {@link #NONE}
+     */
+    public int ipProtocol() {
+        return ipProtocol;
+    }
+
+    /**
+     * Returns the source address of the IPv4 packet, as an int.
+     *
+     * @return source address
+     * @throws IllegalStateException if the frame does not carry IPv4
+     */
+    public int ipv4Source() {
+        checkIpv4();
+        return u32(l3Offset + 12);
+    }
+
+    /**
+     * Returns the destination address of the IPv4 packet, as an int.
+     *
+     * @return destination address
+     * @throws IllegalStateException if the frame does not carry IPv4
+     */
+    public int ipv4Destination() {
+        checkIpv4();
+        return u32(l3Offset + 16);
+    }
+
+    /**
+     * Returns the source address of the IP packet.
+     *
+     * @return source address, or null if the frame does not carry IP
+     */
+    public IpAddress ipSource() {
+        if (isIpv4()) {
+            return Ip4Address.valueOf(ipv4Source());
+        }
+        return isIpv6() ? Ip6Address.valueOf(bytes(l3Offset + 8, Ip6Address.BYTE_LENGTH)) : null;
+    }
+
+    /**
+     * Returns the destination address of the IP packet.
+     *
+     * @return destination address, or null if the frame does not carry IP
+     */
+    public IpAddress ipDestination() {
+        if (isIpv4()) {
+            return Ip4Address.valueOf(ipv4Destination());
+        }
+        return isIpv6() ? Ip6Address.valueOf(bytes(l3Offset + 24, Ip6Address.BYTE_LENGTH)) : null;
+    }
+
+    /**
+     * Returns the offset of the transport header within the frame.
+     *
+     * @return offset in bytes, or {@link #NONE}
+     */
+    public int l4Offset() {
+        return l4Offset;
+    }
+
+    /**
+     * Returns the source port of the TCP, UDP or SCTP segment.
+     *
+     * @return source port, or {@link #NONE}
+     */
+    public int sourcePort() {
+        return hasPorts() ? u16(l4Offset) : NONE;
+    }
+
+    /**
+     * Returns the destination port of the TCP, UDP or SCTP segment.
+     *
+     * @return destination port, or {@link #NONE}
+     */
+    public int destinationPort() {
+        return hasPorts() ? u16(l4Offset + 2) : NONE;
+    }
+
+    /**
+     * Returns the opcode of the ARP packet.
+     *
+     * @return opcode, or {@link #NONE}
+     */
+    public int arpOpcode() {
+        return isArp() ? u16(l3Offset + 6) : NONE;
+    }
+
+    /**
+     * Deserializes the frame into the packet object model.
+     *
+     * @return Ethernet frame
+     * @throws DeserializationException if the frame cannot be deserialized
+     */
+    public Ethernet parse() throws DeserializationException {
+        if (buffer.hasArray()) {
+            return Ethernet.deserializer().deserialize(
+                    buffer.array(), buffer.arrayOffset() + start, length);
+        }
+        return Ethernet.deserializer().deserialize(bytes(0, length), 0, length);
+    }
+
+    private boolean hasPorts() {
+        if (l4Offset == NONE || length < l4Offset + L4_PORTS_LENGTH) {
+            return false;
+        }
+        return ipProtocol == IPv4.PROTOCOL_TCP || ipProtocol == IPv4.PROTOCOL_UDP ||
+                ipProtocol == PROTOCOL_SCTP;
+    }
+
+    private void checkIpv4() {
+        if (!isIpv4()) {
+            throw new IllegalStateException("Frame does not carry an IPv4 packet");
+        }
+    }
+
+    private int u8(int offset) {
+        return buffer.get(start + offset) & 0xff;
+    }
+
+    private int u16(int offset) {
+        return u8(offset) << 8 | u8(offset + 1);
+    }
+
+    private int u32(int offset) {
+        return u16(offset) << 16 | u16(offset + 2);
+    }
+
+    private long u48(int offset) {
+        return (long) u16(offset) << 32 | u32(offset + 2) & 0xffffffffL;
+    }
+
+    private byte[] bytes(int offset, int count) {
+        byte[] bytes = new byte[count];
+        for (int i = 0; i < count; i++) {
+            bytes[i] = buffer.get(start + offset + i);
+        }
+        return bytes;
+    }
+
+    @Override
+    public String toString() {
+        return toStringHelper(this)
+                .add("length", length)
+                .add("etherType", etherType == NONE ? null : String.format("0x%04x", etherType))
+                .add("vlanId", vlanId)
+                .add("ipProtocol", ipProtocol == NONE ? null : ipProtocol)
+                .toString();
+    }
+}
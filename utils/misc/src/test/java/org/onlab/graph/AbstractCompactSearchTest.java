@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onlab.graph;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static com.google.common.collect.ImmutableSet.of;
+
+/**
+ * Base for the tests of the searches over compact graphs.
+ */
+public abstract class AbstractCompactSearchTest extends GraphTest {
+
+    static final ScalarWeight SW1 = new ScalarWeight(1);
+    static final ScalarWeight SW2 = new ScalarWeight(2);
+    static final ScalarWeight SW3 = new ScalarWeight(3);
+    static final ScalarWeight SW4 = new ScalarWeight(4);
+    static final ScalarWeight SW5 = new ScalarWeight(5);
+
+    /**
+     * EdgeWeigher producing scalar weights out of the edge weights.
+     */
+    protected final EdgeWeigher<TestVertex, TestEdge> scalarWeigher =
+            new EdgeWeigher<TestVertex, TestEdge>() {
+                @Override
+                public Weight weight(TestEdge edge) {
+                    return edge.weight();
+                }
+
+                @Override
+                public Weight getInitialWeight() {
+                    return ScalarWeight.toWeight(0);
+                }
+
+                @Override
+                public Weight getNonViableWeight() {
+                    return ScalarWeight.NON_VIABLE_WEIGHT;
+                }
+            };
+
+    /**
+     * Returns the edges of the default graph with scalar weights.
+     *
+     * @return 12 edges
+     * @see GraphTest#edges()
+     */
+    protected Set<TestEdge> scalarEdges() {
+        return of(new TestEdge(A, B, SW1),
+                  new TestEdge(A, C, SW3),
+                  new TestEdge(B, D, SW2),
+                  new TestEdge(B, C, SW1),
+                  new TestEdge(B, E, SW4),
+                  new TestEdge(C, E, SW1),
+                  new TestEdge(D, H, SW5),
+                  new TestEdge(D, E, SW1),
+                  new TestEdge(E, F, SW1),
+                  new TestEdge(F, D, SW1),
+                  new TestEdge(F, G, SW1),
+                  new TestEdge(F, H, SW1));
+    }
+
+    /**
+     * Creates a random graph with small integer weights, so that there are
+     * many paths of equal cost.
+     *
+     * @param random      source of randomness
+     * @param vertexCount number of vertexes
+     * @param edgeCount   maximum number of edges
+     * @param maxWeight   maximum edge weight
+     * @return random graph
+     */
+    protected Graph<TestVertex, TestEdge> randomGraph(Random random, int vertexCount,
+                                                      int edgeCount, int maxWeight) {
+        List<TestVertex> vertexes = new ArrayList<>();
+        for (int i = 0; i < vertexCount; i++) {
+            vertexes.add(new TestVertex("V" + i));
+        }
+        Set<TestEdge> edges = new HashSet<>();
+        Set<List<TestVertex>> links = new HashSet<>();
+        for (int i = 0; i < edgeCount; i++) {
+            TestVertex src = vertexes.get(random.nextInt(vertexCount));
+            TestVertex dst = vertexes.get(random.nextInt(vertexCount));
+            if (!src.equals(dst) && links.add(ImmutableList.of(src, dst))) {
+                edges.add(new TestEdge(src, dst, new ScalarWeight(1 + random.nextInt(maxWeight))));
+            }
+        }
+        return new AdjacencyListsGraph<>(ImmutableSet.copyOf(vertexes), edges);
+    }
+
+    /**
+     * Returns all loop-free paths between the given vertexes.
+     *
+     * @param graph graph to be searched
+     * @param src   source vertex
+     * @param dst   destination vertex
+     * @return list of paths, as lists of edges
+     */
+    protected List<List<TestEdge>> simplePaths(Graph<TestVertex, TestEdge> graph,
+                                               TestVertex src, TestVertex dst) {
+        List<List<TestEdge>> paths = new ArrayList<>();
+        walk(graph, src, dst, new HashSet<>(of(src)), new ArrayList<>(), paths);
+        return paths;
+    }
+
+    private void walk(Graph<TestVertex, TestEdge> graph, TestVertex vertex, TestVertex dst,
+                      Set<TestVertex> visited, List<TestEdge> path,
+                      List<List<TestEdge>> paths) {
+        if (vertex.equals(dst)) {
+            paths.add(Lists.newArrayList(path));
+            return;
+        }
+        for (TestEdge edge : graph.getEdgesFrom(vertex)) {
+            if (visited.add(edge.dst())) {
+                path.add(edge);
+                walk(graph, edge.dst(), dst, visited, path, paths);
+                path.remove(path.size() - 1);
+                visited.remove(edge.dst());
+            }
+        }
+    }
+
+    /**
+     * Returns the cost of the given edges.
+     *
+     * @param edges list of edges
+     * @return sum of the edge weights
+     */
+    protected double cost(List<TestEdge> edges) {
+        return edges.stream().mapToDouble(e -> ((ScalarWeight) e.weight()).value()).sum();
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onlab.graph;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.google.common.collect.ImmutableSet.of;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.onlab.graph.GraphPathSearch.ALL_PATHS;
+
+/**
+ * Test of the all-pairs shortest paths.
+ */
+public class AllPairsShortestPathsTest extends AbstractCompactSearchTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final CompactDijkstraGraphSearch<TestVertex, TestEdge> reference =
+            new CompactDijkstraGraphSearch<>();
+
+    @After
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void defaultGraphTest() {
+        graph = new AdjacencyListsGraph<>(vertexes(), scalarEdges());
+        AllPairsShortestPaths<TestVertex, TestEdge> allPairs =
+                AllPairsShortestPaths.compute(CompactGraph.copyOf(graph), scalarWeigher, pool);
+        Set<Path<TestVertex, TestEdge>> paths = allPairs.paths(A, H, ALL_PATHS);
+        assertEquals("incorrect paths count", 1, paths.size());
+        Path<TestVertex, TestEdge> path = paths.iterator().next();
+        assertEquals("incorrect path length", 5, path.edges().size());
+        assertEquals("incorrect path cost", SW5, path.cost());
+
+        assertEquals("incorrect paths count", 0, allPairs.paths(A, A, ALL_PATHS).size());
+        assertEquals("incorrect paths count", 0, allPairs.paths(H, A, ALL_PATHS).size());
+        assertEquals("incorrect paths count", 0,
+                     allPairs.paths(A, new TestVertex("Z"), ALL_PATHS).size());
+        assertEquals("incorrect destination count", 7, allPairs.destinationCount());
+        assertTrue("incorrect memory estimate", allPairs.memoryBytes() > 0);
+    }
+
+    @Test
+    public void maxPaths() {
+        graph = new AdjacencyListsGraph<>(of(A, B, C, D),
+                                          of(new TestEdge(A, B, SW1),
+                                             new TestEdge(B, D, SW1),
+                                             new TestEdge(A, C, SW1),
+                                             new TestEdge(C, D, SW1)));
+        AllPairsShortestPaths<TestVertex, TestEdge> allPairs =
+                AllPairsShortestPaths.compute(CompactGraph.copyOf(graph), scalarWeigher, pool);
+        assertEquals("incorrect paths count", 2, allPairs.paths(A, D, ALL_PATHS).size());
+        Set<Path<TestVertex, TestEdge>> paths = allPairs.paths(A, D, 1);
+        assertEquals("incorrect paths count", 1, paths.size());
+        assertEquals("incorrect path cost", SW2, paths.iterator().next().cost());
+    }
+
+    @Test
+    public void ignoredEdges() {
+        graph = new AdjacencyListsGraph<>(of(A, B, C, D),
+                                          of(new TestEdge(A, B, SW1),
+                                             new TestEdge(B, D, ScalarWeight.NON_VIABLE_WEIGHT),
+                                             new TestEdge(A, C, new ScalarWeight(-1)),
+                                             new TestEdge(C, D, SW1)));
+        AllPairsShortestPaths<TestVertex, TestEdge> allPairs =
+                AllPairsShortestPaths.compute(CompactGraph.copyOf(graph), scalarWeigher, pool);
+        assertEquals("incorrect paths count", 0, allPairs.paths(A, D, ALL_PATHS).size());
+        assertEquals("incorrect paths count", 1, allPairs.paths(C, D, ALL_PATHS).size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void otherWeights() {
+        graph = new AdjacencyListsGraph<>(vertexes(), edges());
+        AllPairsShortestPaths.compute(CompactGraph.copyOf(graph), weigher, pool);
+    }
+
+    @Test
+    public void sameResultsAsDijkstra() {
+        graph = new AdjacencyListsGraph<>(vertexes(), scalarEdges());
+        assertSameResults(graph);
+
+        Random random = new Random(42);
+        for (int i = 0; i < 10; i++) {
+            assertSameResults(randomGraph(random, 40, 160, 3));
+        }
+    }
+
+    // Checks that the precomputed paths and the Dijkstra search agree on
+    // all the paths between every pair of vertexes.
+    private void assertSameResults(Graph<TestVertex, TestEdge> graph) {
+        CompactGraph<TestVertex, TestEdge> compactGraph = CompactGraph.copyOf(graph);
+        AllPairsShortestPaths<TestVertex, TestEdge> allPairs =
+                AllPairsShortestPaths.compute(compactGraph, scalarWeigher, pool);
+        for (TestVertex src : graph.getVertexes()) {
+            for (TestVertex dst : graph.getVertexes()) {
+                assertEquals("incorrect paths",
+                             reference.search(compactGraph, src, dst, scalarWeigher, ALL_PATHS).paths(),
+                             allPairs.paths(src, dst, ALL_PATHS));
+            }
+        }
+    }
+}
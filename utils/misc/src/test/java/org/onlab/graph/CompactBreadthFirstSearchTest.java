@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onlab.graph;
+
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.Set;
+
+import static com.google.common.collect.ImmutableSet.of;
+import static org.junit.Assert.assertEquals;
+import static org.onlab.graph.GraphPathSearch.ALL_PATHS;
+
+/**
+ * Test of the breadth-first search over compact graphs.
+ */
+public class CompactBreadthFirstSearchTest extends AbstractCompactSearchTest {
+
+    private final CompactBreadthFirstSearch<TestVertex, TestEdge> search =
+            new CompactBreadthFirstSearch<>();
+    private final BreadthFirstSearch<TestVertex, TestEdge> reference =
+            new BreadthFirstSearch<>();
+
+    @Test
+    public void defaultGraphTest() {
+        graph = new AdjacencyListsGraph<>(vertexes(), scalarEdges());
+        Set<Path<TestVertex, TestEdge>> paths =
+                search.search(graph, A, H, scalarWeigher, ALL_PATHS).paths();
+        assertEquals("incorrect paths count", 1, paths.size());
+        Path<TestVertex, TestEdge> path = paths.iterator().next();
+        assertEquals("incorrect path length", 3, path.edges().size());
+        assertEquals("incorrect path cost", new ScalarWeight(8), path.cost());
+
+        paths = search.search(graph, A, null, null, ALL_PATHS).paths();
+        assertEquals("incorrect paths count", 7, paths.size());
+    }
+
+    @Test
+    public void sameHopCountsAsBreadthFirstSearch() {
+        Random random = new Random(7);
+        for (int i = 0; i < 20; i++) {
+            Graph<TestVertex, TestEdge> graph = randomGraph(random, 15, 30, 1);
+            for (TestVertex src : graph.getVertexes()) {
+                assertEquals("incorrect costs",
+                             reference.search(graph, src, null, null, ALL_PATHS).costs(),
+                             search.search(graph, src, null, null, ALL_PATHS).costs());
+            }
+        }
+    }
+
+    @Test
+    public void firstParentOnly() {
+        graph = new AdjacencyListsGraph<>(of(A, B, C, D),
+                                          of(new TestEdge(A, B, SW1),
+                                             new TestEdge(B, D, SW1),
+                                             new TestEdge(A, C, SW1),
+                                             new TestEdge(C, D, SW1)));
+        GraphPathSearch.Result<TestVertex, TestEdge> result =
+                search.search(graph, A, D, scalarWeigher, ALL_PATHS);
+        assertEquals("incorrect paths count", 1, result.paths().size());
+        assertEquals("incorrect parents count", 1, result.parents().get(D).size());
+    }
+
+    @Test
+    public void otherWeights() {
+        graph = new AdjacencyListsGraph<>(vertexes(), edges());
+        assertEquals("incorrect costs",
+                     reference.search(graph, A, null, weigher, ALL_PATHS).costs(),
+                     search.search(graph, A, null, weigher, ALL_PATHS).costs());
+    }
+}
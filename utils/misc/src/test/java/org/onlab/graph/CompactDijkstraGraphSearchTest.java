@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onlab.graph;
+
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.Set;
+
+import static com.google.common.collect.ImmutableSet.of;
+import static org.junit.Assert.assertEquals;
+import static org.onlab.graph.GraphPathSearch.ALL_PATHS;
+
+/**
+ * Test of the Dijkstra algorithm over compact graphs.
+ */
+public class CompactDijkstraGraphSearchTest extends AbstractCompactSearchTest {
+
+    private final CompactDijkstraGraphSearch<TestVertex, TestEdge> search =
+            new CompactDijkstraGraphSearch<>();
+    private final DijkstraGraphSearch<TestVertex, TestEdge> reference =
+            new DijkstraGraphSearch<>();
+
+    @Test
+    public void defaultGraphTest() {
+        graph = new AdjacencyListsGraph<>(vertexes(), scalarEdges());
+        Set<Path<TestVertex, TestEdge>> paths =
+                search.search(graph, A, H, scalarWeigher, ALL_PATHS).paths();
+        assertEquals("incorrect paths count", 1, paths.size());
+        Path<TestVertex, TestEdge> path = paths.iterator().next();
+        assertEquals("incorrect path length", 5, path.edges().size());
+        assertEquals("incorrect path cost", SW5, path.cost());
+
+        paths = search.search(graph, A, null, scalarWeigher, ALL_PATHS).paths();
+        assertEquals("incorrect paths count", 7, paths.size());
+    }
+
+    @Test
+    public void defaultHopCountWeight() {
+        graph = new AdjacencyListsGraph<>(vertexes(), scalarEdges());
+        Set<Path<TestVertex, TestEdge>> paths =
+                search.search(graph, A, null, null, ALL_PATHS).paths();
+        assertEquals("incorrect paths count", 10, paths.size());
+    }
+
+    @Test
+    public void sameResultsAsDijkstra() {
+        graph = new AdjacencyListsGraph<>(vertexes(), scalarEdges());
+        assertSameResults(graph);
+
+        Random random = new Random(42);
+        for (int i = 0; i < 20; i++) {
+            assertSameResults(randomGraph(random, 12, 40, 3));
+        }
+    }
+
+    @Test
+    public void singlePath() {
+        graph = new AdjacencyListsGraph<>(of(A, B, C, D),
+                                          of(new TestEdge(A, B, SW1),
+                                             new TestEdge(B, D, SW1),
+                                             new TestEdge(A, C, SW1),
+                                             new TestEdge(C, D, SW1)));
+        assertEquals("incorrect paths count", 2,
+                     search.search(graph, A, D, scalarWeigher, ALL_PATHS).paths().size());
+        Set<Path<TestVertex, TestEdge>> paths =
+                search.search(graph, A, D, scalarWeigher, 1).paths();
+        assertEquals("incorrect paths count", 1, paths.size());
+        assertEquals("incorrect path cost", SW2, paths.iterator().next().cost());
+    }
+
+    @Test
+    public void ignoredEdges() {
+        graph = new AdjacencyListsGraph<>(of(A, B, C, D),
+                                          of(new TestEdge(A, B, SW1),
+                                             new TestEdge(B, D, ScalarWeight.NON_VIABLE_WEIGHT),
+                                             new TestEdge(A, C, new ScalarWeight(-1)),
+                                             new TestEdge(C, D, SW1)));
+        assertEquals("incorrect paths count", 0,
+                     search.search(graph, A, D, scalarWeigher, ALL_PATHS).paths().size());
+    }
+
+    @Test
+    public void noPath() {
+        graph = new AdjacencyListsGraph<>(of(A, B, C, D),
+                                          of(new TestEdge(A, B, SW1),
+                                             new TestEdge(B, A, SW1),
+                                             new TestEdge(C, D, SW1),
+                                             new TestEdge(D, C, SW1)));
+        assertEquals("incorrect paths count", 0,
+                     search.search(graph, A, D, scalarWeigher, ALL_PATHS).paths().size());
+        assertEquals("incorrect paths count", 1,
+                     search.search(graph, A, null, scalarWeigher, ALL_PATHS).paths().size());
+    }
+
+    @Test
+    public void otherWeights() {
+        graph = new AdjacencyListsGraph<>(vertexes(), edges());
+        assertEquals("incorrect paths",
+                     reference.search(graph, A, null, weigher, ALL_PATHS).paths(),
+                     search.search(graph, A, null, weigher, ALL_PATHS).paths());
+    }
+
+    // Checks that the compact search and the Dijkstra search agree on all
+    // the paths and costs from every vertex.
+    private void assertSameResults(Graph<TestVertex, TestEdge> graph) {
+        CompactGraph<TestVertex, TestEdge> compactGraph = CompactGraph.copyOf(graph);
+        for (TestVertex src : graph.getVertexes()) {
+            GraphPathSearch.Result<TestVertex, TestEdge> expected =
+                    reference.search(graph, src, null, scalarWeigher, ALL_PATHS);
+            GraphPathSearch.Result<TestVertex, TestEdge> actual =
+                    search.search(compactGraph, src, null, scalarWeigher, ALL_PATHS);
+            assertEquals("incorrect paths", expected.paths(), actual.paths());
+            assertEquals("incorrect costs", expected.costs(), actual.costs());
+            assertEquals("incorrect parents", expected.parents(), actual.parents());
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onlab.graph;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static com.google.common.collect.ImmutableSet.of;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of the compact graph.
+ */
+public class CompactGraphTest extends AbstractCompactSearchTest {
+
+    @Test
+    public void basics() {
+        Graph<TestVertex, TestEdge> source = new AdjacencyListsGraph<>(vertexes(), edges());
+        CompactGraph<TestVertex, TestEdge> graph = CompactGraph.copyOf(source);
+
+        assertEquals("incorrect vertexes", source.getVertexes(), graph.getVertexes());
+        assertEquals("incorrect edges", source.getEdges(), graph.getEdges());
+        for (TestVertex vertex : vertexes()) {
+            assertEquals("incorrect egress edges", source.getEdgesFrom(vertex),
+                         graph.getEdgesFrom(vertex));
+            assertEquals("incorrect ingress edges", source.getEdgesTo(vertex),
+                         graph.getEdgesTo(vertex));
+        }
+        assertTrue("unknown vertex should have no edges", graph.getEdgesFrom(Z).isEmpty());
+        assertEquals("incorrect index", -1, graph.index(Z));
+        assertSame("compact graph should not be copied", graph, CompactGraph.copyOf(graph));
+        assertEquals("incorrect equality", CompactGraph.copyOf(source), graph);
+    }
+
+    @Test
+    public void edgeEndpointsAreVertexes() {
+        CompactGraph<TestVertex, TestEdge> graph = CompactGraph.copyOf(
+                new AdjacencyListsGraph<>(of(A), of(new TestEdge(A, B), new TestEdge(B, C))));
+        assertEquals("incorrect vertexes", of(A, B, C), graph.getVertexes());
+        assertEquals("incorrect edges", of(new TestEdge(B, C)), graph.getEdgesFrom(B));
+    }
+
+    @Test
+    public void indexes() {
+        Graph<TestVertex, TestEdge> source = randomGraph(new Random(1), 50, 300, 5);
+        CompactGraph<TestVertex, TestEdge> graph = CompactGraph.copyOf(source);
+
+        assertEquals("incorrect vertex count", 50, graph.vertexCount());
+        assertEquals("incorrect edge count", source.getEdges().size(), graph.edgeCount());
+        for (int v = 0; v < graph.vertexCount(); v++) {
+            assertEquals("incorrect vertex index", v, graph.index(graph.vertex(v)));
+            for (int e = graph.firstEdgeFrom(v); e < graph.endEdgeFrom(v); e++) {
+                assertEquals("incorrect edge source", v, graph.src(e));
+                assertEquals("incorrect edge source", graph.vertex(v), graph.edge(e).src());
+                assertEquals("incorrect edge destination",
+                             graph.vertex(graph.dst(e)), graph.edge(e).dst());
+            }
+            for (int i = graph.firstEdgeTo(v); i < graph.endEdgeTo(v); i++) {
+                assertEquals("incorrect ingress edge", v, graph.dst(graph.edgeTo(i)));
+            }
+        }
+    }
+
+    @Test
+    public void scalarWeights() {
+        CompactGraph<TestVertex, TestEdge> graph = CompactGraph.copyOf(
+                new AdjacencyListsGraph<>(of(A, B, C),
+                                          of(new TestEdge(A, B, SW2),
+                                             new TestEdge(B, C, ScalarWeight.NON_VIABLE_WEIGHT))));
+        double[] weights = graph.scalarWeights(scalarWeigher);
+        for (int e = 0; e < graph.edgeCount(); e++) {
+            assertEquals("incorrect weight",
+                         graph.edge(e).src().equals(A) ? 2 : Double.POSITIVE_INFINITY,
+                         weights[e], 0);
+        }
+        assertEquals("non-scalar weights should not be converted",
+                     null, graph.scalarWeights(weigher));
+    }
+
+    @Test
+    public void scalarWeightsCachedPerWeigher() {
+        CompactGraph<TestVertex, TestEdge> graph = CompactGraph.copyOf(
+                new AdjacencyListsGraph<>(vertexes(), scalarEdges()));
+        int[] weighed = new int[1];
+        EdgeWeigher<TestVertex, TestEdge> countingWeigher = new EdgeWeigher<TestVertex, TestEdge>() {
+            @Override
+            public Weight weight(TestEdge edge) {
+                weighed[0]++;
+                return scalarWeigher.weight(edge);
+            }
+
+            @Override
+            public Weight getInitialWeight() {
+                return scalarWeigher.getInitialWeight();
+            }
+
+            @Override
+            public Weight getNonViableWeight() {
+                return scalarWeigher.getNonViableWeight();
+            }
+        };
+
+        double[] weights = graph.scalarWeights(countingWeigher);
+        assertEquals("each edge should be weighed", graph.edgeCount(), weighed[0]);
+        assertSame("weights should be cached", weights, graph.scalarWeights(countingWeigher));
+        assertEquals("edges should be weighed once", graph.edgeCount(), weighed[0]);
+        assertTrue("another weigher should get its own weights",
+                   weights != graph.scalarWeights(scalarWeigher));
+    }
+}
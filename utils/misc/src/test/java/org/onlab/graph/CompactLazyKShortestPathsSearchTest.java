@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onlab.graph;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static com.google.common.collect.ImmutableSet.of;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test of the K shortest paths search over compact graphs.
+ */
+public class CompactLazyKShortestPathsSearchTest extends AbstractCompactSearchTest {
+
+    private CompactLazyKShortestPathsSearch<TestVertex, TestEdge> sut;
+
+    @Before
+    public void setUp() {
+        sut = new CompactLazyKShortestPathsSearch<>();
+    }
+
+    @Test
+    public void noPath() {
+        graph = new AdjacencyListsGraph<>(of(A, B, C, D),
+                                          of(new TestEdge(A, B, SW1),
+                                             new TestEdge(B, A, SW1),
+                                             new TestEdge(C, D, SW1),
+                                             new TestEdge(D, C, SW1)));
+        assertEquals("There should not be any paths.", 0,
+                     sut.lazyPathSearch(graph, A, D, scalarWeigher).count());
+    }
+
+    @Test
+    public void fourPath() {
+        graph = new AdjacencyListsGraph<>(vertexes(), scalarEdges());
+        List<Path<TestVertex, TestEdge>> rList = sut.lazyPathSearch(graph, A, E, scalarWeigher)
+                .limit(42).collect(Collectors.toList());
+
+        assertEquals("There are an unexpected number of paths.", 4, rList.size());
+        assertEquals("The first path from A to E was incorrect.",
+                     ImmutableList.of(new TestEdge(A, B, SW1),
+                                      new TestEdge(B, C, SW1),
+                                      new TestEdge(C, E, SW1)),
+                     rList.get(0).edges());
+        assertEquals(SW3, rList.get(0).cost());
+        assertEquals(SW4, rList.get(1).cost());
+        assertEquals(SW4, rList.get(2).cost());
+        assertEquals("The fourth path rom A to E was incorrect",
+                     ImmutableList.of(new TestEdge(A, B, SW1),
+                                      new TestEdge(B, E, SW4)),
+                     rList.get(3).edges());
+        assertEquals(SW5, rList.get(3).cost());
+    }
+
+    @Test
+    public void allPathsInOrder() {
+        Random random = new Random(5);
+        for (int i = 0; i < 20; i++) {
+            Graph<TestVertex, TestEdge> graph = randomGraph(random, 7, 20, 4);
+            TestVertex src = graph.getVertexes().iterator().next();
+            for (TestVertex dst : graph.getVertexes()) {
+                if (src.equals(dst)) {
+                    continue;
+                }
+                List<Double> expected = simplePaths(graph, src, dst).stream()
+                        .map(this::cost).sorted().collect(Collectors.toList());
+                List<Path<TestVertex, TestEdge>> paths =
+                        sut.lazyPathSearch(graph, src, dst, scalarWeigher)
+                                .collect(Collectors.toList());
+                assertEquals("incorrect path costs", expected, paths.stream()
+                        .map(p -> ((ScalarWeight) p.cost()).value())
+                        .collect(Collectors.toList()));
+                assertEquals("duplicate paths", paths.size(),
+                             new HashSet<>(paths).size());
+            }
+        }
+    }
+
+    @Test
+    public void otherWeights() {
+        graph = new AdjacencyListsGraph<>(vertexes(), edges());
+        assertEquals("There are an unexpected number of paths.", 4,
+                     sut.lazyPathSearch(graph, A, E, weigher).count());
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onlab.graph;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static com.google.common.collect.ImmutableSet.of;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.onlab.graph.GraphPathSearch.ALL_PATHS;
+
+/**
+ * Test of the Suurballe disjoint path search over compact graphs.
+ */
+public class CompactSuurballeGraphSearchTest extends AbstractCompactSearchTest {
+
+    private final CompactSuurballeGraphSearch<TestVertex, TestEdge> search =
+            new CompactSuurballeGraphSearch<>();
+
+    @Test
+    public void basicGraphTest() {
+        graph = new AdjacencyListsGraph<>(of(A, B, C, D),
+                                          of(new TestEdge(A, B, SW1),
+                                             new TestEdge(B, C, SW1),
+                                             new TestEdge(A, D, SW1),
+                                             new TestEdge(D, C, SW1)));
+        DisjointPathPair<TestVertex, TestEdge> pair = pair(graph, A, C);
+        assertEquals("incorrect disjoint paths count", 2, pair.size());
+        assertEquals("incorrect cost", SW4, pair.cost());
+    }
+
+    @Test
+    public void trapTopology() {
+        // The shortest path A-B-C-D blocks any disjoint backup path, while
+        // A-B-D and A-C-D are disjoint.
+        graph = new AdjacencyListsGraph<>(of(A, B, C, D),
+                                          of(new TestEdge(A, B, SW1),
+                                             new TestEdge(B, C, SW1),
+                                             new TestEdge(C, D, SW1),
+                                             new TestEdge(A, C, SW3),
+                                             new TestEdge(B, D, SW3)));
+        DisjointPathPair<TestVertex, TestEdge> pair = pair(graph, A, D);
+        assertEquals("incorrect disjoint paths count", 2, pair.size());
+        assertEquals("incorrect cost", new ScalarWeight(8), pair.cost());
+        assertEquals("incorrect primary cost", SW4, pair.primary().cost());
+        assertDisjoint(pair);
+    }
+
+    @Test
+    public void onePath() {
+        graph = new AdjacencyListsGraph<>(of(A, B, C, D),
+                                          of(new TestEdge(A, B, SW1),
+                                             new TestEdge(B, C, SW1),
+                                             new TestEdge(A, C, SW4),
+                                             new TestEdge(C, D, SW1)));
+        DisjointPathPair<TestVertex, TestEdge> pair = pair(graph, A, D);
+        assertEquals("incorrect disjoint paths count", 1, pair.size());
+        assertFalse("unexpected backup path", pair.hasBackup());
+        assertEquals("incorrect cost", SW3, pair.cost());
+    }
+
+    @Test
+    public void noPath() {
+        graph = new AdjacencyListsGraph<>(of(A, B, C, D),
+                                          of(new TestEdge(A, B, SW1),
+                                             new TestEdge(B, C, SW1),
+                                             new TestEdge(A, C, SW4)));
+        assertEquals("incorrect paths count", 0,
+                     search.search(graph, A, D, scalarWeigher, ALL_PATHS).paths().size());
+    }
+
+    @Test
+    public void minimalDisjointPairs() {
+        Random random = new Random(3);
+        for (int i = 0; i < 30; i++) {
+            Graph<TestVertex, TestEdge> graph = randomGraph(random, 7, 20, 4);
+            for (TestVertex src : graph.getVertexes()) {
+                for (TestVertex dst : graph.getVertexes()) {
+                    if (!src.equals(dst)) {
+                        assertMinimal(graph, src, dst);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void otherWeights() {
+        graph = new AdjacencyListsGraph<>(of(A, B, C, D),
+                                          of(new TestEdge(A, B, W1),
+                                             new TestEdge(B, C, W1),
+                                             new TestEdge(A, D, W1),
+                                             new TestEdge(D, C, W1)));
+        Set<Path<TestVertex, TestEdge>> paths =
+                search.search(graph, A, C, weigher, ALL_PATHS).paths();
+        assertEquals("incorrect paths count", 1, paths.size());
+        assertEquals("incorrect cost", new TestDoubleWeight(4), paths.iterator().next().cost());
+    }
+
+    private DisjointPathPair<TestVertex, TestEdge> pair(Graph<TestVertex, TestEdge> graph,
+                                                       TestVertex src, TestVertex dst) {
+        Set<Path<TestVertex, TestEdge>> paths =
+                search.search(graph, src, dst, scalarWeigher, ALL_PATHS).paths();
+        assertEquals("incorrect paths count", 1, paths.size());
+        return (DisjointPathPair<TestVertex, TestEdge>) paths.iterator().next();
+    }
+
+    // Checks the search result against the best pair of disjoint paths found
+    // by enumerating all paths.
+    private void assertMinimal(Graph<TestVertex, TestEdge> graph,
+                               TestVertex src, TestVertex dst) {
+        List<List<TestEdge>> paths = simplePaths(graph, src, dst);
+        double best = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < paths.size(); i++) {
+            for (int j = i + 1; j < paths.size(); j++) {
+                if (disjoint(paths.get(i), paths.get(j))) {
+                    best = Math.min(best, cost(paths.get(i)) + cost(paths.get(j)));
+                }
+            }
+        }
+
+        Set<Path<TestVertex, TestEdge>> result =
+                search.search(graph, src, dst, scalarWeigher, ALL_PATHS).paths();
+        if (paths.isEmpty()) {
+            assertTrue("unexpected paths", result.isEmpty());
+            return;
+        }
+        DisjointPathPair<TestVertex, TestEdge> pair =
+                (DisjointPathPair<TestVertex, TestEdge>) result.iterator().next();
+        if (best == Double.POSITIVE_INFINITY) {
+            assertFalse("unexpected backup path", pair.hasBackup());
+        } else {
+            assertTrue("missing backup path", pair.hasBackup());
+            assertEquals("incorrect cost", new ScalarWeight(best), pair.cost());
+            assertDisjoint(pair);
+        }
+    }
+
+    private void assertDisjoint(DisjointPathPair<TestVertex, TestEdge> pair) {
+        assertTrue("paths are not disjoint",
+                   disjoint(pair.primary().edges(), pair.secondary().edges()));
+        assertEquals("incorrect primary source", pair.src(), pair.secondary().src());
+        assertEquals("incorrect primary destination", pair.dst(), pair.secondary().dst());
+        assertTrue("primary should not be longer than backup",
+                   pair.primary().cost().compareTo(pair.secondary().cost()) <= 0);
+    }
+
+    private boolean disjoint(List<TestEdge> path, List<TestEdge> other) {
+        Set<TestVertex> vertexes = new HashSet<>();
+        path.forEach(edge -> vertexes.add(edge.dst()));
+        vertexes.remove(path.get(path.size() - 1).dst());
+        return other.stream().noneMatch(edge -> vertexes.contains(edge.dst()));
+    }
+}
@@ -554,6 +554,39 @@ public class IpAddressTest {
         ipAddress = IpAddress.valueOf(fromString);
     }
 
+    /**
+     * Tests reading single bits of IPv4 and IPv6 addresses.
+     */
+    @Test
+    public void testIsBitSet() {
+        IpAddress ipAddress = IpAddress.valueOf("128.0.0.1");
+        assertTrue(ipAddress.isBitSet(0));
+        assertFalse(ipAddress.isBitSet(1));
+        assertFalse(ipAddress.isBitSet(30));
+        assertTrue(ipAddress.isBitSet(31));
+
+        ipAddress = IpAddress.valueOf("8000::1");
+        assertTrue(ipAddress.isBitSet(0));
+        assertFalse(ipAddress.isBitSet(64));
+        assertTrue(ipAddress.isBitSet(127));
+    }
+
+    /**
+     * Tests reading a bit after the end of the address.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testIsBitSetOutOfBounds() {
+        IpAddress.valueOf("1.2.3.4").isBitSet(32);
+    }
+
+    /**
+     * Tests reading a bit before the start of the address.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testIsBitSetNegative() {
+        IpAddress.valueOf("255.2.3.4").isBitSet(-1);
+    }
+
     /**
      * Tests making a mask prefix for a given prefix length for IPv4.
      */
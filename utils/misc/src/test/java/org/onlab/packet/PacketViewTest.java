@@ -0,0 +1,196 @@
+/*
+ * Copyright 2026-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onlab.packet;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for class {@link PacketView}.
+ */
+public class PacketViewTest {
+
+    private static final MacAddress SRC_MAC = MacAddress.valueOf("00:00:00:00:00:01");
+    private static final MacAddress DST_MAC = MacAddress.valueOf("00:00:00:00:00:02");
+    private static final Ip4Address SRC_IP4 = Ip4Address.valueOf("10.0.0.1");
+    private static final Ip4Address DST_IP4 = Ip4Address.valueOf("10.0.0.2");
+    private static final Ip6Address SRC_IP6 = Ip6Address.valueOf("2001:db8::1");
+    private static final Ip6Address DST_IP6 = Ip6Address.valueOf("2001:db8::2");
+
+    private static Ethernet ethernet(short etherType, IPacket payload) {
+        Ethernet eth = new Ethernet();
+        eth.setSourceMACAddress(SRC_MAC)
+                .setDestinationMACAddress(DST_MAC)
+                .setEtherType(etherType)
+                .setPayload(payload);
+        return eth;
+    }
+
+    private static Ethernet tcp4() {
+        TCP tcp = new TCP();
+        tcp.setSourcePort(1234).setDestinationPort(80);
+        IPv4 ip = new IPv4();
+        ip.setSourceAddress(SRC_IP4.toInt())
+                .setDestinationAddress(DST_IP4.toInt())
+                .setProtocol(IPv4.PROTOCOL_TCP)
+                .setTtl((byte) 64)
+                .setPayload(tcp);
+        return ethernet(Ethernet.TYPE_IPV4, ip);
+    }
+
+    private static Ethernet udp6() {
+        UDP udp = new UDP();
+        udp.setSourcePort(546).setDestinationPort(547);
+        IPv6 ip = new IPv6();
+        ip.setSourceAddress(SRC_IP6.toOctets())
+                .setDestinationAddress(DST_IP6.toOctets())
+                .setNextHeader(IPv6.PROTOCOL_UDP)
+                .setHopLimit((byte) 64)
+                .setPayload(udp);
+        return ethernet(Ethernet.TYPE_IPV6, ip);
+    }
+
+    /**
+     * Tests the header fields of an untagged IPv4 TCP frame.
+     */
+    @Test
+    public void testIpv4Tcp() throws Exception {
+        byte[] data = tcp4().serialize();
+        PacketView view = PacketView.wrap(data);
+
+        assertTrue(view.hasEthernetHeader());
+        assertThat(view.length(), is(data.length));
+        assertThat(view.destinationMac(), is(DST_MAC.toLong()));
+        assertThat(view.sourceMac(), is(SRC_MAC.toLong()));
+        assertThat(view.etherType(), is(Ethernet.TYPE_IPV4 & 0xffff));
+        assertThat(view.vlanId(), is(Ethernet.VLAN_UNTAGGED));
+        assertThat(view.l3Offset(), is((int) Ethernet.ETHERNET_HEADER_LENGTH));
+        assertTrue(view.isIpv4());
+        assertFalse(view.isIpv6());
+        assertFalse(view.isArp());
+        assertThat(view.ipProtocol(), is((int) IPv4.PROTOCOL_TCP));
+        assertThat(view.ipv4Source(), is(SRC_IP4.toInt()));
+        assertThat(view.ipv4Destination(), is(DST_IP4.toInt()));
+        assertThat(view.ipSource(), is(SRC_IP4));
+        assertThat(view.ipDestination(), is(DST_IP4));
+        assertThat(view.sourcePort(), is(1234));
+        assertThat(view.destinationPort(), is(80));
+        assertThat(view.arpOpcode(), is(PacketView.NONE));
+
+        Ethernet parsed = view.parse();
+        assertThat(parsed, is(Ethernet.deserializer().deserialize(data, 0, data.length)));
+    }
+
+    /**
+     * Tests the header fields of a VLAN tagged IPv6 UDP frame.
+     */
+    @Test
+    public void testVlanIpv6Udp() throws Exception {
+        Ethernet eth = udp6();
+        eth.setVlanID((short) 10).setPriorityCode((byte) 5);
+        PacketView view = PacketView.wrap(eth.serialize());
+
+        assertThat(view.etherType(), is(Ethernet.TYPE_IPV6 & 0xffff));
+        assertThat(view.vlanId(), is((short) 10));
+        assertThat(view.priorityCode(), is((byte) 5));
+        assertThat(view.qinqVlanId(), is(Ethernet.VLAN_UNTAGGED));
+        assertThat(view.l3Offset(), is(Ethernet.ETHERNET_HEADER_LENGTH + 4));
+        assertTrue(view.isIpv6());
+        assertThat(view.ipProtocol(), is((int) IPv6.PROTOCOL_UDP));
+        assertThat(view.ipSource(), is(SRC_IP6));
+        assertThat(view.ipDestination(), is(DST_IP6));
+        assertThat(view.sourcePort(), is(546));
+        assertThat(view.destinationPort(), is(547));
+    }
+
+    /**
+     * Tests the VLAN identifiers of a double tagged frame.
+     */
+    @Test
+    public void testQinQ() throws Exception {
+        Ethernet eth = tcp4();
+        eth.setVlanID((short) 20).setQinQVID((short) 30).setQinQTPID(Ethernet.TYPE_QINQ);
+        byte[] data = eth.serialize();
+        PacketView view = PacketView.wrap(data);
+        Ethernet parsed = Ethernet.deserializer().deserialize(data, 0, data.length);
+
+        assertThat(view.vlanId(), is(parsed.getVlanID()));
+        assertThat(view.qinqVlanId(), is(parsed.getQinQVID()));
+        assertThat(view.etherType(), is(parsed.getEtherType() & 0xffff));
+        assertThat(view.destinationPort(), is(80));
+    }
+
+    /**
+     * Tests the header fields of an ARP frame.
+     */
+    @Test
+    public void testArp() {
+        Ethernet eth = ARP.buildArpRequest(SRC_MAC.toBytes(), SRC_IP4.toOctets(),
+                                           DST_IP4.toOctets(), Ethernet.VLAN_UNTAGGED);
+        PacketView view = PacketView.wrap(eth.serialize());
+
+        assertTrue(view.isArp());
+        assertFalse(view.isIpv4());
+        assertThat(view.arpOpcode(), is((int) ARP.OP_REQUEST));
+        assertThat(view.ipProtocol(), is(PacketView.NONE));
+        assertThat(view.ipSource(), is(nullValue()));
+        assertThat(view.sourcePort(), is(PacketView.NONE));
+    }
+
+    /**
+     * Tests that truncated frames yield missing fields instead of failing.
+     */
+    @Test
+    public void testTruncated() {
+        byte[] data = tcp4().serialize();
+
+        PacketView view = PacketView.wrap(Arrays.copyOf(data, 10));
+        assertFalse(view.hasEthernetHeader());
+        assertThat(view.etherType(), is(PacketView.NONE));
+        assertThat(view.sourceMac(), is((long) PacketView.NONE));
+
+        view = PacketView.wrap(Arrays.copyOf(data, Ethernet.ETHERNET_HEADER_LENGTH + 10));
+        assertThat(view.etherType(), is(Ethernet.TYPE_IPV4 & 0xffff));
+        assertFalse(view.isIpv4());
+        assertThat(view.sourcePort(), is(PacketView.NONE));
+    }
+
+    /**
+     * Tests a view over a slice of a larger buffer.
+     */
+    @Test
+    public void testBufferSlice() throws Exception {
+        byte[] frame = tcp4().serialize();
+        ByteBuffer buffer = ByteBuffer.allocate(frame.length + 8);
+        buffer.position(4);
+        buffer.put(frame);
+        buffer.position(4).limit(4 + frame.length);
+
+        PacketView view = PacketView.wrap(buffer);
+        assertThat(view.length(), is(frame.length));
+        assertThat(view.ipv4Destination(), is(DST_IP4.toInt()));
+        assertThat(buffer.position(), is(4));
+        assertThat(view.parse(), is(Ethernet.deserializer().deserialize(frame, 0, frame.length)));
+    }
+}
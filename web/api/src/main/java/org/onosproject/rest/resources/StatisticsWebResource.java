@@ -15,6 +15,7 @@
  */
 package org.onosproject.rest.resources;
 
+import java.util.List;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.stream.StreamSupport;
@@ -43,6 +44,9 @@ import org.onosproject.net.flow.FlowRuleService;
 import org.onosproject.net.flow.TableStatisticsEntry;
 import org.onosproject.net.link.LinkService;
 import org.onosproject.net.statistic.Load;
+import org.onosproject.net.statistic.LoadSample;
+import org.onosproject.net.statistic.PortStatisticsService;
+import org.onosproject.net.statistic.PortStatisticsService.MetricType;
 import org.onosproject.net.statistic.StatisticService;
 import org.onosproject.rest.AbstractWebResource;
 
@@ -103,6 +107,66 @@ public class StatisticsWebResource  extends AbstractWebResource {
         return ok(result).build();
     }
 
+    /**
+     * Gets the load history of a specified port, as derived from the flow
+     * statistics. Recent samples are given at the poll resolution, older
+     * ones are averaged over one minute or one hour.
+     *
+     * @onos.rsModel StatisticsLoadHistory
+     * @param deviceId device ID
+     * @param port port
+     * @param since (optional) epoch time in milliseconds of the oldest sample
+     * @return 200 OK with JSON encoded array of load samples in bytes per second
+     */
+    @GET
+    @Path("history/flows/{deviceId}/{port}")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response getFlowLoadHistory(@PathParam("deviceId") String deviceId,
+                                       @PathParam("port") String port,
+                                       @QueryParam("since") long since) {
+        ConnectPoint connectPoint = new ConnectPoint(deviceId(deviceId), portNumber(port));
+        List<LoadSample> samples = get(StatisticService.class).loadHistory(connectPoint, since);
+        return ok(encodeLoadHistory(deviceId, port, samples)).build();
+    }
+
+    /**
+     * Gets the load history of a specified port, as derived from the port
+     * statistics. Recent samples are given at the poll resolution, older
+     * ones are averaged over one minute or one hour.
+     *
+     * @onos.rsModel StatisticsLoadHistory
+     * @param deviceId device ID
+     * @param port port
+     * @param metric (optional) metric of the samples, bytes or packets
+     * @param since (optional) epoch time in milliseconds of the oldest sample
+     * @return 200 OK with JSON encoded array of load samples per second
+     */
+    @GET
+    @Path("history/ports/{deviceId}/{port}")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response getPortLoadHistory(@PathParam("deviceId") String deviceId,
+                                       @PathParam("port") String port,
+                                       @QueryParam("metric") String metric,
+                                       @QueryParam("since") long since) {
+        MetricType metricType = metric == null ? MetricType.BYTES : MetricType.valueOf(metric.toUpperCase());
+        ConnectPoint connectPoint = new ConnectPoint(deviceId(deviceId), portNumber(port));
+        List<LoadSample> samples = get(PortStatisticsService.class)
+                .loadHistory(connectPoint, metricType, since);
+        return ok(encodeLoadHistory(deviceId, port, samples)).build();
+    }
+
+    private ObjectNode encodeLoadHistory(String deviceId, String port, List<LoadSample> samples) {
+        final ObjectNode root = mapper().createObjectNode();
+        root.put("device", deviceId);
+        root.put("port", port);
+        final ArrayNode history = root.putArray("history");
+        samples.forEach(sample -> history.addObject()
+                .put("time", sample.time())
+                .put("interval", sample.interval())
+                .put("rate", sample.rate()));
+        return root;
+    }
+
     /**
      * Gets table statistics for all tables of all devices.
      *
@@ -29,6 +29,7 @@ import org.onosproject.codec.impl.CodecManager;
 import org.onosproject.net.Link;
 import org.onosproject.net.link.LinkService;
 import org.onosproject.net.statistic.DefaultLoad;
+import org.onosproject.net.statistic.LoadSample;
 import org.onosproject.net.statistic.StatisticService;
 
 import javax.ws.rs.client.WebTarget;
@@ -79,6 +80,9 @@ public class StatisticsResourceTest extends ResourceTest {
                 .andReturn(new DefaultLoad(22, 11, 1));
         expect(mockStatisticService.load(link3))
                 .andReturn(new DefaultLoad(222, 111, 1));
+        expect(mockStatisticService.loadHistory(connectPoint("0000000000000001", 2), 0L))
+                .andReturn(ImmutableList.of(new LoadSample(10_000L, 10_000L, 5L),
+                                            new LoadSample(20_000L, 10_000L, 7L)));
 
         replay(mockLinkService, mockStatisticService);
 
@@ -178,4 +182,27 @@ public class StatisticsResourceTest extends ResourceTest {
         checkValues(load3, 111, 222, true, "src3");
 
     }
+
+    /**
+     * Tests GET of the flow load history of a port.
+     */
+    @Test
+    public void testFlowLoadHistoryGet() {
+        final WebTarget wt = target();
+        final String response = wt.path("statistics/history/flows/of:0000000000000001/2")
+                .request()
+                .get(String.class);
+
+        final JsonObject result = Json.parse(response).asObject();
+        assertThat(result, notNullValue());
+        assertThat(result.get("device").asString(), is("of:0000000000000001"));
+        assertThat(result.get("port").asString(), is("2"));
+
+        final JsonArray history = result.get("history").asArray();
+        assertThat(history.size(), is(2));
+        final JsonObject sample = history.get(1).asObject();
+        assertThat(sample.get("time").asLong(), is(20_000L));
+        assertThat(sample.get("interval").asLong(), is(10_000L));
+        assertThat(sample.get("rate").asLong(), is(7L));
+    }
 }
@@ -115,6 +115,7 @@ public class TopologyViewMessageHandler extends TopologyViewMessageHandlerBase {
     private static final String REQ_ALL_TRAFFIC = "requestAllTraffic";
     private static final String REQ_CUSTOM_TRAFFIC = "requestCustomTraffic";
     private static final String REQ_DEV_LINK_FLOWS = "requestDeviceLinkFlows";
+    private static final String REQ_LINK_LOAD_HISTORY = "requestLinkLoadHistory";
     private static final String CANCEL_TRAFFIC = "cancelTraffic";
     private static final String REQ_SUMMARY = "requestSummary";
     private static final String CANCEL_SUMMARY = "cancelSummary";
@@ -130,6 +131,7 @@ public class TopologyViewMessageHandler extends TopologyViewMessageHandlerBase {
     // outgoing event types
     private static final String SHOW_SUMMARY = "showSummary";
     private static final String SHOW_DETAILS = "showDetails";
+    private static final String SHOW_LINK_LOAD_HISTORY = "showLinkLoadHistory";
     private static final String SPRITE_LIST_RESPONSE = "spriteListResponse";
     private static final String SPRITE_DATA_RESPONSE = "spriteDataResponse";
     private static final String UPDATE_INSTANCE = "updateInstance";
@@ -248,6 +250,7 @@ public class TopologyViewMessageHandler extends TopologyViewMessageHandlerBase {
                 new ReqAllTraffic(),
                 new ReqCustomTraffic(),
                 new ReqDevLinkFlows(),
+                new ReqLinkLoadHistory(),
                 new ReqRelatedIntents(),
                 new ReqNextIntent(),
                 new ReqPrevIntent(),
@@ -652,6 +655,37 @@ public class TopologyViewMessageHandler extends TopologyViewMessageHandlerBase {
         }
     }
 
+    private final class ReqLinkLoadHistory extends RequestHandler {
+        private ReqLinkLoadHistory() {
+            super(REQ_LINK_LOAD_HISTORY);
+        }
+
+        @Override
+        public void process(ObjectNode payload) {
+            String trafficType = string(payload, TRAFFIC_TYPE, FLOW_STATS_BYTES);
+            Mode mode;
+
+            switch (trafficType) {
+                case FLOW_STATS_BYTES:
+                    mode = Mode.ALL_FLOW_TRAFFIC_BYTES;
+                    break;
+                case PORT_STATS_BIT_SEC:
+                    mode = Mode.ALL_PORT_TRAFFIC_BIT_PS;
+                    break;
+                case PORT_STATS_PKT_SEC:
+                    mode = Mode.ALL_PORT_TRAFFIC_PKT_PS;
+                    break;
+                default:
+                    log.warn("Unknown traffic type: {}", trafficType);
+                    return;
+            }
+
+            ObjectNode history = linkLoadHistory(traffic, mode, payload);
+            history.put(TRAFFIC_TYPE, trafficType);
+            sendMessage(SHOW_LINK_LOAD_HISTORY, history);
+        }
+    }
+
     private final class ReqRelatedIntents extends RequestHandler {
         private ReqRelatedIntents() {
             super(REQ_RELATED_INTENTS);
@@ -19,6 +19,7 @@ package org.onosproject.ui.impl;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
+import org.onosproject.net.ConnectPoint;
 import org.onosproject.net.Device;
 import org.onosproject.net.ElementId;
 import org.onosproject.net.Host;
@@ -38,6 +39,7 @@ import org.onosproject.net.DefaultEdgeLink;
 import org.onosproject.net.DeviceId;
 import org.onosproject.net.Link;
 import org.onosproject.net.statistic.Load;
+import org.onosproject.net.statistic.LoadSample;
 import org.onosproject.ui.UiExtensionService;
 import org.onosproject.ui.UiTopoHighlighter;
 import org.onosproject.ui.UiTopoHighlighterFactory;
@@ -690,6 +692,29 @@ public abstract class TrafficMonitorBase extends AbstractTopoMonitor {
         return a.rate() > b.rate() ? a : b;
     }
 
+    /**
+     * Returns the load history of the given port, as determined by the
+     * statistics service backing the given mode: flow statistics for flow
+     * traffic, port statistics otherwise.
+     *
+     * @param cp    the port on which to look up the history
+     * @param mode  one of the all traffic modes
+     * @param since epoch time in milliseconds of the oldest sample
+     * @return load samples, oldest first; empty for the other modes
+     */
+    public List<LoadSample> getPortLoadHistory(ConnectPoint cp, Mode mode, long since) {
+        switch (mode) {
+            case ALL_FLOW_TRAFFIC_BYTES:
+                return services.flowStats().loadHistory(cp, since);
+            case ALL_PORT_TRAFFIC_BIT_PS:
+                return services.portStats().loadHistory(cp, BYTES, since);
+            case ALL_PORT_TRAFFIC_PKT_PS:
+                return services.portStats().loadHistory(cp, PACKETS, since);
+            default:
+                return ImmutableList.of();
+        }
+    }
+
 
     /**
      * Subclasses (well, Traffic2Monitor really) can override this method and
@@ -67,6 +67,10 @@ public class Topo2TrafficMessageHandler extends TopoologyTrafficMessageHandlerAb
     private static final String ADD_HOST_INTENT = "topo2AddHostIntent";
     private static final String ADD_MULTI_SRC_INTENT = "topo2AddMultiSourceIntent";
     private static final String REQ_RELATED_INTENTS = "topo2RequestRelatedIntents";
+    private static final String REQ_LINK_LOAD_HISTORY = "topo2RequestLinkLoadHistory";
+
+    // === Outbound event identifiers
+    private static final String LINK_LOAD_HISTORY = "topo2LinkLoadHistory";
 
     // field values
     private static final String TRAFFIC_TYPE = "trafficType";
@@ -103,7 +107,8 @@ public class Topo2TrafficMessageHandler extends TopoologyTrafficMessageHandlerAb
                 new Topo2AllTraffic(),
                 new Topo2CancelTraffic(),
                 new Topo2AddHostIntent(),
-                new Topo2AddMultiSourceIntent()
+                new Topo2AddMultiSourceIntent(),
+                new Topo2LinkLoadHistory()
         );
     }
 
@@ -176,6 +181,42 @@ public class Topo2TrafficMessageHandler extends TopoologyTrafficMessageHandlerAb
         }
     }
 
+    private final class Topo2LinkLoadHistory extends RequestHandler {
+
+        private Topo2LinkLoadHistory() {
+            super(REQ_LINK_LOAD_HISTORY);
+        }
+
+        @Override
+        public void process(ObjectNode payload) {
+            String mode = string(payload, TRAFFIC_TYPE);
+            log.debug("LINK LOAD HISTORY: {}", mode);
+            Mode trafficMode;
+
+            switch (mode) {
+                case FLOW_STATS_BYTES:
+                    trafficMode = Mode.ALL_FLOW_TRAFFIC_BYTES;
+                    break;
+
+                case PORT_STATS_BIT_SEC:
+                    trafficMode = Mode.ALL_PORT_TRAFFIC_BIT_PS;
+                    break;
+
+                case PORT_STATS_PKT_SEC:
+                    trafficMode = Mode.ALL_PORT_TRAFFIC_PKT_PS;
+                    break;
+
+                default:
+                    log.warn("Unknown traffic monitor type: " + mode);
+                    return;
+            }
+
+            ObjectNode history = linkLoadHistory(traffic2, trafficMode, payload);
+            history.put(TRAFFIC_TYPE, mode);
+            sendMessage(LINK_LOAD_HISTORY, history);
+        }
+    }
+
     private final class Topo2CancelTraffic extends RequestHandler {
         private Topo2CancelTraffic() {
             super(CANCEL_TRAFFIC);
@@ -15,12 +15,67 @@
  */
 package org.onosproject.ui.impl.topo;
 
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.onosproject.net.ConnectPoint;
+import org.onosproject.net.statistic.LoadSample;
 import org.onosproject.ui.UiMessageHandler;
+import org.onosproject.ui.impl.TrafficMonitorBase;
+import org.onosproject.ui.impl.TrafficMonitorBase.Mode;
 import org.onosproject.ui.topo.Highlights;
 
+import java.util.List;
+
+import static org.onosproject.net.ConnectPoint.deviceConnectPoint;
+import static org.onosproject.ui.JsonUtils.number;
+import static org.onosproject.ui.JsonUtils.string;
+
 /**
  * Base superclass for traffic message handler (both 'classic' and 'topo2' versions).
  */
 public abstract class TopoologyTrafficMessageHandlerAbstract extends UiMessageHandler {
+
+    private static final String SOURCE_ID = "sourceId";
+    private static final String SOURCE_PORT = "sourcePort";
+    private static final String TARGET_ID = "targetId";
+    private static final String TARGET_PORT = "targetPort";
+    private static final String SINCE = "since";
+    private static final String SRC = "src";
+    private static final String DST = "dst";
+    private static final String TIME = "time";
+    private static final String INTERVAL = "interval";
+    private static final String RATE = "rate";
+    private static final String SLASH = "/";
+
     public abstract void sendHighlights(Highlights highlights);
+
+    /**
+     * Produces the load history of both ends of the link given in the
+     * request payload, for the given traffic mode.
+     *
+     * @param monitor traffic monitor
+     * @param mode    one of the all traffic modes
+     * @param payload request payload, with the link ends and the optional
+     *                epoch time in milliseconds of the oldest sample
+     * @return load history payload
+     */
+    protected ObjectNode linkLoadHistory(TrafficMonitorBase monitor, Mode mode, ObjectNode payload) {
+        ConnectPoint src = deviceConnectPoint(string(payload, SOURCE_ID) + SLASH + string(payload, SOURCE_PORT));
+        ConnectPoint dst = deviceConnectPoint(string(payload, TARGET_ID) + SLASH + string(payload, TARGET_PORT));
+        long since = number(payload, SINCE);
+
+        ObjectNode result = objectNode();
+        result.set(SRC, loadSamples(monitor.getPortLoadHistory(src, mode, since)));
+        result.set(DST, loadSamples(monitor.getPortLoadHistory(dst, mode, since)));
+        return result;
+    }
+
+    private ArrayNode loadSamples(List<LoadSample> samples) {
+        ArrayNode array = arrayNode();
+        samples.forEach(sample -> array.addObject()
+                .put(TIME, sample.time())
+                .put(INTERVAL, sample.interval())
+                .put(RATE, sample.rate()));
+        return array;
+    }
 }